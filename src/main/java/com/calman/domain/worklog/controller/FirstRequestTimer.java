@@ -0,0 +1,61 @@
+package com.calman.domain.worklog.controller;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 기동 후 첫 요청 응답 시간 기록 (기동 준비 효과 확인용)
+ * - 기동 준비 요청(WARMUP_HEADER)과 /actuator 요청(헬스 체크)은 제외
+ * - 메트릭: worklog.warmup.first.request (ms, 아직 요청이 없으면 -1, WorkLogWarmup 에서 등록)
+ */
+@Slf4j
+@Component
+public class FirstRequestTimer extends OncePerRequestFilter {
+
+  /**
+   * 기동 준비 요청 표시 헤더
+   */
+  static final String WARMUP_HEADER = "X-Calman-Warmup";
+
+  private final AtomicBoolean recorded = new AtomicBoolean();
+  private final AtomicLong firstRequestMillis = new AtomicLong(-1);
+
+  /**
+   * 기동 후 첫 요청의 응답 시간 (ms, 아직 요청이 없으면 -1)
+   */
+  public long getFirstRequestMillis() {
+    return firstRequestMillis.get();
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return recorded.get() || request.getHeader(WARMUP_HEADER) != null
+        || request.getRequestURI().startsWith(request.getContextPath() + "/actuator");
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+      throws ServletException, IOException {
+    long start = System.nanoTime();
+    try {
+      chain.doFilter(request, response);
+    } finally {
+      // 동시에 들어온 첫 요청 중 먼저 끝난 요청만 기록
+      if (recorded.compareAndSet(false, true)) {
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        firstRequestMillis.set(elapsed);
+        log.info("기동 후 첫 요청: uri={}, elapsed={}ms", request.getRequestURI(), elapsed);
+      }
+    }
+  }
+}
@@ -1,6 +1,11 @@
 package com.calman.domain.worklog.controller;
 
+import com.calman.domain.worklog.service.WorkLogEntityCache;
+import com.calman.domain.worklog.service.WorkLogListCache;
+import com.calman.domain.worklog.service.WorkLogSegmentStore;
+import com.calman.global.config.H2DataSourceConfig;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.http.ResponseEntity;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -22,13 +27,19 @@ import java.util.stream.Collectors;
  * 테스트 데이터 관리를 위한 컨트롤러
  * - 테스트 데이터 로딩
  * - 데이터 전체 삭제
+ * - 서비스를 거치지 않고 SQL 로 변경하므로 실행 후 세그먼트와 목록/ID 캐시 전체 무효화
+ * - data-sqlite.sql 은 SQLite 문법(INSERT OR IGNORE)이고 wl_id 를 자동 증가에 맡기므로 h2 프로파일에서는 등록하지 않음
  */
 @RestController
+@Profile("!" + H2DataSourceConfig.PROFILE)
 @RequestMapping("/api")
 @RequiredArgsConstructor
 public class TestDummyController {
 
   private final JdbcTemplate jdbcTemplate;
+  private final WorkLogSegmentStore segmentStore;
+  private final WorkLogListCache listCache;
+  private final WorkLogEntityCache entityCache;
 
   /**
    * 테스트 데이터 삽입 엔드포인트
@@ -55,7 +66,8 @@ public class TestDummyController {
 
       // 각 INSERT 문 실행
       for (String query : queries) {
-        String trimmedQuery = query.trim();
+        // 주석만 있는 줄은 제외 (파일 머리 주석 때문에 첫 문장이 건너뛰어지지 않도록)
+        String trimmedQuery = query.replaceAll("(?m)^\\s*--.*$", "").trim();
         if (trimmedQuery.isEmpty()) {
           continue;
         }
@@ -67,6 +79,9 @@ public class TestDummyController {
           totalInserted++;
         }
       }
+      segmentStore.reopenAll();
+      listCache.invalidateAll();
+      entityCache.evictAll();
 
       result.put("success", true);
       result.put("message", "테스트 데이터가 성공적으로 삽입되었습니다.");
@@ -98,6 +113,9 @@ public class TestDummyController {
     try {
       // DELETE 쿼리 실행
       int deletedCount = jdbcTemplate.update("DELETE FROM work_logs");
+      segmentStore.reopenAll();
+      listCache.invalidateAll();
+      entityCache.evictAll();
 
       result.put("success", true);
       result.put("message", "모든 작업 로그 데이터가 성공적으로 삭제되었습니다.");
@@ -2,19 +2,27 @@ package com.calman.domain.worklog.controller;
 
 import com.calman.domain.worklog.dto.WorkLogDTO;
 import com.calman.domain.worklog.service.WorkLogService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * 작업 로그 REST API 컨트롤러
+ * - 목록/상세 조회는 강한 ETag 를 응답하고, If-None-Match 가 같으면 본문 없이 304 응답
+ *   (목록 ETag 는 변경 버전으로 계산하므로 304 응답은 테이블을 읽지 않음, gzip 응답의 ETag 는 "-gz" 를 붙여 구분)
+ * - 목록 응답 본문은 WorkLogResponseCache 에서 ETag 별로 직렬화/gzip 압축한 바이트를 재사용
  */
 @Slf4j
 @RestController
@@ -23,6 +31,7 @@ import java.util.Map;
 public class WorkLogApiController {
 
   private final WorkLogService workLogService;
+  private final WorkLogResponseCache responseCache;
 
   /**
    * 작업 로그 목록 조회 - 모든 작업 로그 데이터를 JSON 형식으로 반환
@@ -35,22 +44,33 @@ public class WorkLogApiController {
    * - productCode: 제품 코드
    * - productName: 제품 이름
    * - quantity: 수량
-   * - completedAt: 완료 일시 (완료인 경우)
+   * - completed: 완료 여부 (완료 일시는 GET /api/worklogs/{id} 에서 조회)
    * - createdAt: 생성일시
+   * - version: 수정 충돌 확인용 버전
    *
-   * @return 모든 작업 로그 목록을 포함한 JSON 응답
+   * @return 모든 작업 로그 목록을 포함한 JSON 응답 (If-None-Match 가 현재 ETag 와 같으면 304)
    */
   @GetMapping("/worklogs")
-  public ResponseEntity<Map<String, Object>> getWorkLogs(
+  public ResponseEntity<byte[]> getWorkLogs(
       @RequestParam(required = false) String carModel,
       @RequestParam(required = false) String productCode,
       @RequestParam(required = false) String status,
       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
       @RequestParam(required = false) String sortField,
-      @RequestParam(required = false, defaultValue = "DESC") String sortDirection
+      @RequestParam(required = false, defaultValue = "DESC") String sortDirection,
+      WebRequest webRequest,
+      HttpServletRequest request
   ) {
-    Map<String, Object> result = workLogService.getWorkLogs(
+    // 목록을 조회하기 전에 ETag 확인 (같으면 304, 다르면 응답에 ETag 헤더 추가)
+    String eTag = workLogService.getWorkLogsETag(
+        carModel, productCode, status, startDate, endDate, sortField, sortDirection);
+    if (webRequest.checkNotModified(responseCache.eTag(eTag, request))) {
+      return null;
+    }
+
+    // 같은 ETag 의 응답은 직렬화/압축된 바이트 재사용
+    return responseCache.respond(eTag, request, () -> workLogService.getWorkLogs(
         carModel,
         productCode,
         status,
@@ -58,9 +78,7 @@ public class WorkLogApiController {
         endDate,
         sortField,
         sortDirection
-    );
-
-    return ResponseEntity.ok(result);
+    ));
   }
 /**
  *  (OLD)작업 로그 목록 조회
@@ -86,14 +104,16 @@ public class WorkLogApiController {
    * @param status 상태 필터 ('completed', 'incomplete', null)
    * @param sortField 정렬 필드
    * @param sortDirection 정렬 방향 ('ASC' 또는 'DESC')
-   * @return 해당 날짜의 작업 로그 목록
+   * @return 해당 날짜의 작업 로그 목록 (If-None-Match 가 현재 ETag 와 같으면 304)
    */
   @GetMapping("/worklogs/date/{date}")
-  public ResponseEntity<Map<String, Object>> getWorkLogsByDate(
+  public ResponseEntity<byte[]> getWorkLogsByDate(
       @PathVariable @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date,
       @RequestParam(required = false) String status,
       @RequestParam(required = false) String sortField,
-      @RequestParam(required = false, defaultValue = "ASC") String sortDirection
+      @RequestParam(required = false, defaultValue = "ASC") String sortDirection,
+      WebRequest webRequest,
+      HttpServletRequest request
   ) {
     // 날짜 파라미터 검증
     LocalDate validDate = date;
@@ -103,16 +123,73 @@ public class WorkLogApiController {
       log.warn("날짜 파라미터가 null입니다. 현재 날짜로 대체: {}", validDate);
     }
 
+    // 목록을 조회하기 전에 ETag 확인
+    String eTag = workLogService.getWorkLogsByExactDateETag(validDate, status, sortField, sortDirection);
+    if (webRequest.checkNotModified(responseCache.eTag(eTag, request))) {
+      return null;
+    }
+
     // 유효한 날짜로 조회 (정렬 필드와 방향, 상태 필터 함께 전달)
-    Map<String, Object> result = workLogService.getWorkLogsByExactDate(validDate, status, sortField, sortDirection);
+    LocalDate day = validDate;
+    return responseCache.respond(eTag, request,
+        () -> workLogService.getWorkLogsByExactDate(day, status, sortField, sortDirection));
+  }
+
+  /**
+   * 여러 작업 로그 한 번에 조회
+   *
+   * @param ids 조회할 작업 로그 ID 목록 (예: ?ids=1,2,3)
+   * @return 작업 로그 목록 (존재하지 않는 ID 는 제외)
+   */
+  @GetMapping("/worklogs/bulk")
+  public ResponseEntity<Map<String, Object>> getWorkLogsByIds(@RequestParam List<Long> ids) {
+    List<WorkLogDTO> workLogs = workLogService.getWorkLogsByIds(ids);
+
+    Map<String, Object> result = new HashMap<>();
+    result.put("workLogs", workLogs);
+    result.put("totalCount", workLogs.size());
+
     return ResponseEntity.ok(result);
   }
 
+  /**
+   * 차종으로 작업 로그 조회
+   *
+   * @param carModel 차종 (정확히 일치)
+   * @return 작업 로그 목록 (작업시간 순)
+   */
+  @GetMapping("/worklogs/by-car-model/{carModel}")
+  public ResponseEntity<List<WorkLogDTO>> getWorkLogsByCarModel(@PathVariable String carModel) {
+    return ResponseEntity.ok(workLogService.getWorkLogsByCarModel(carModel));
+  }
+
+  /**
+   * 제품 코드로 작업 로그 조회
+   *
+   * @param productCode 제품 코드 (정확히 일치)
+   * @return 작업 로그 목록 (작업시간 순)
+   */
+  @GetMapping("/worklogs/by-product-code/{productCode}")
+  public ResponseEntity<List<WorkLogDTO>> getWorkLogsByProductCode(@PathVariable String productCode) {
+    return ResponseEntity.ok(workLogService.getWorkLogsByProductCode(productCode));
+  }
+
+  /**
+   * 상태별 작업 로그 조회
+   *
+   * @param status 상태 (completed, incomplete)
+   * @return 작업 로그 목록 (작업시간 순)
+   */
+  @GetMapping("/worklogs/by-status/{status}")
+  public ResponseEntity<List<WorkLogDTO>> getWorkLogsByStatus(@PathVariable String status) {
+    return ResponseEntity.ok(workLogService.getWorkLogsByStatus(status));
+  }
+
   /**
    * 작업 로그 상세 조회
    *
    * @param id 작업 로그 ID
-   * @return 작업 로그 상세 정보
+   * @return 작업 로그 상세 정보 (ETag 는 ID + 버전, If-None-Match 가 같으면 304)
    */
   @GetMapping("/worklogs/{id}")
   public ResponseEntity<?> getWorkLogById(@PathVariable Long id) {
@@ -122,7 +199,10 @@ public class WorkLogApiController {
       error.put("error", "작업 로그를 찾을 수 없습니다.");
       return ResponseEntity.notFound().build();
     }
-    return ResponseEntity.ok(workLog);
+    if (workLog.getVersion() == null) {
+      return ResponseEntity.ok(workLog);
+    }
+    return ResponseEntity.ok().eTag(quote(workLog.getId() + "-" + workLog.getVersion())).body(workLog);
   }
 
   /**
@@ -143,25 +223,45 @@ public class WorkLogApiController {
     return ResponseEntity.ok(response);
   }
 
+  /**
+   * 작업 로그 일괄 생성 (INSERT 문 하나, 하나의 트랜잭션)
+   *
+   * @param requests 작업 로그 생성 요청 목록 (최대 1000개)
+   * @return 생성된 작업 로그 ID 목록 (요청 순서)
+   */
+  @PostMapping("/worklogs/batch")
+  public ResponseEntity<Map<String, Object>> createWorkLogs(@RequestBody List<WorkLogDTO.CreateRequest> requests) {
+    List<Long> ids = workLogService.createWorkLogs(requests);
+
+    Map<String, Object> response = new HashMap<>();
+    response.put("success", true);
+    response.put("ids", ids);
+    response.put("affectedCount", ids.size());
+    response.put("message", ids.size() + "건의 작업 로그가 생성되었습니다.");
+
+    return ResponseEntity.ok(response);
+  }
+
   /**
    * 작업 로그 수정
    *
    * @param id 수정할 작업 로그 ID
-   * @param request 수정 요청 정보
-   * @return 수정 결과
+   * @param request 수정 요청 정보 (version 포함 시 다른 사용자가 먼저 수정했으면 409 응답)
+   * @return 수정 결과와 변경된 작업 로그
    */
   @PutMapping("/worklogs/{id}")
   public ResponseEntity<Map<String, Object>> updateWorkLog(
       @PathVariable Long id,
       @RequestBody WorkLogDTO.UpdateRequest request
   ) {
-    boolean updated = workLogService.updateWorkLog(id, request);
+    WorkLogDTO updated = workLogService.updateWorkLog(id, request);
 
     Map<String, Object> response = new HashMap<>();
-    response.put("success", updated);
+    response.put("success", updated != null);
 
-    if (updated) {
+    if (updated != null) {
       response.put("message", "작업 로그가 성공적으로 수정되었습니다.");
+      response.put("workLog", updated);
       return ResponseEntity.ok(response);
     } else {
       response.put("message", "작업 로그 수정에 실패했습니다.");
@@ -169,24 +269,54 @@ public class WorkLogApiController {
     }
   }
 
+  /**
+   * 작업 로그 부분 수정 (JSON merge patch)
+   * - 전달된 필드만 변경 (workDatetime, carModel, productColor, productCode, productName, quantity, completed)
+   * - 예: {"quantity": 12, "version": 3}
+   *
+   * @param id 수정할 작업 로그 ID
+   * @param patch 변경할 필드 (version 포함 시 다른 사용자가 먼저 수정했으면 409 응답)
+   * @return 수정 결과와 변경된 작업 로그
+   */
+  @PatchMapping(value = "/worklogs/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+  public ResponseEntity<Map<String, Object>> patchWorkLog(
+      @PathVariable Long id,
+      @RequestBody Map<String, Object> patch
+  ) {
+    WorkLogDTO updated = workLogService.patchWorkLog(id, patch);
+
+    Map<String, Object> response = new HashMap<>();
+    response.put("success", updated != null);
+
+    if (updated != null) {
+      response.put("message", "작업 로그가 성공적으로 수정되었습니다.");
+      response.put("workLog", updated);
+      return ResponseEntity.ok(response);
+    } else {
+      response.put("message", "작업 로그를 찾을 수 없습니다.");
+      return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+    }
+  }
+
   /**
    * 작업 로그 상태 업데이트
    *
    * @param id 수정할 작업 로그 ID
-   * @param request 상태 업데이트 요청 정보
-   * @return 수정 결과
+   * @param request 상태 업데이트 요청 정보 (version 포함 시 다른 사용자가 먼저 수정했으면 409 응답)
+   * @return 수정 결과와 변경된 작업 로그
    */
   @PutMapping("/worklogs/{id}/status")
   public ResponseEntity<Map<String, Object>> updateWorkLogStatus(
       @PathVariable Long id,
       @RequestBody WorkLogDTO.StatusUpdateRequest request
   ) {
-    boolean updated = workLogService.updateWorkLogCompletionStatus(id, request.isCompleted());
+    WorkLogDTO updated = workLogService.updateWorkLogCompletionStatus(id, request.isCompleted(), request.getVersion());
 
     Map<String, Object> response = new HashMap<>();
-    response.put("success", updated);
+    response.put("success", updated != null);
 
-    if (updated) {
+    if (updated != null) {
+      response.put("workLog", updated);
       String message = request.isCompleted() ?
           "작업이 완료 상태로 변경되었습니다." : "작업이 미완료 상태로 변경되었습니다.";
       response.put("message", message);
@@ -218,4 +348,48 @@ public class WorkLogApiController {
       return ResponseEntity.badRequest().body(response);
     }
   }
-}
\ No newline at end of file
+
+  /**
+   * 작업 로그 완료 상태 일괄 변경
+   *
+   * @param request ID 목록 또는 필터 조건(date, carModel, productCode, status)과 변경할 완료 여부
+   * @return 상태가 변경된 작업 로그 ID 목록
+   */
+  @PutMapping("/worklogs/bulk/status")
+  public ResponseEntity<Map<String, Object>> updateWorkLogsStatus(@RequestBody WorkLogDTO.BulkRequest request) {
+    List<Long> updatedIds = workLogService.updateWorkLogsCompletionStatus(request);
+
+    Map<String, Object> response = new HashMap<>();
+    response.put("success", true);
+    response.put("affectedIds", updatedIds);
+    response.put("affectedCount", updatedIds.size());
+    response.put("message", updatedIds.size() + "건의 작업이 "
+        + (request.isCompleted() ? "완료" : "미완료") + " 상태로 변경되었습니다.");
+
+    return ResponseEntity.ok(response);
+  }
+
+  /**
+   * 작업 로그 일괄 삭제
+   *
+   * @param request ID 목록 또는 필터 조건(date, carModel, productCode, status)
+   * @return 삭제된 작업 로그 ID 목록
+   */
+  @PostMapping("/worklogs/bulk/delete")
+  public ResponseEntity<Map<String, Object>> deleteWorkLogs(@RequestBody WorkLogDTO.BulkRequest request) {
+    List<Long> deletedIds = workLogService.deleteWorkLogs(request);
+
+    Map<String, Object> response = new HashMap<>();
+    response.put("success", true);
+    response.put("affectedIds", deletedIds);
+    response.put("affectedCount", deletedIds.size());
+    response.put("message", deletedIds.size() + "건의 작업 로그가 삭제되었습니다.");
+
+    return ResponseEntity.ok(response);
+  }
+
+  // 강한 ETag 형식 ("값")
+  private static String quote(String eTag) {
+    return "\"" + eTag + "\"";
+  }
+}
@@ -154,7 +154,7 @@ public class WorkLogController {
       @ModelAttribute WorkLogDTO.UpdateRequest workLog,
       RedirectAttributes redirectAttributes
   ) {
-    boolean updated = workLogService.updateWorkLog(id, workLog);
+    boolean updated = workLogService.updateWorkLog(id, workLog) != null;
     if (updated) {
       redirectAttributes.addFlashAttribute("successMessage", "작업 로그가 성공적으로 수정되었습니다.");
     } else {
@@ -172,7 +172,7 @@ public class WorkLogController {
       @ModelAttribute StatusUpdateRequest statusRequest,
       RedirectAttributes redirectAttributes
   ) {
-    boolean updated = workLogService.updateWorkLogCompletionStatus(id, statusRequest.isCompleted());
+    boolean updated = workLogService.updateWorkLogCompletionStatus(id, statusRequest.isCompleted()) != null;
     if (updated) {
       String message = statusRequest.isCompleted() ?
           "작업이 완료 상태로 변경되었습니다." : "작업이 미완료 상태로 변경되었습니다.";
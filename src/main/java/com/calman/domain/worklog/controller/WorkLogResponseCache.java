@@ -0,0 +1,168 @@
+package com.calman.domain.worklog.controller;
+
+import com.calman.global.config.WorkLogCacheProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 직렬화/압축된 목록 응답 캐시 (calman.cache.response)
+ * - 목록 응답(Map)을 JSON 바이트와 gzip 바이트로 한 번만 만들어 두고, Accept-Encoding 에 맞는 바이트를 그대로 응답
+ *   (캐시 적중 시에도 매번 하던 Jackson 직렬화/날짜 포맷/압축을 생략)
+ * - 키는 요청 URI + 목록 ETag 이므로 변경으로 변경 버전이 바뀌면 이전 응답은 다시 사용되지 않고 크기/만료 시간으로 제거
+ * - 강한 ETag 는 표현(content coding)마다 달라야 하므로 gzip 을 받을 수 있는 요청의 ETag 에는 "-gz" 를 붙임
+ *   (압축 이득이 없어 원본으로 응답해도 같은 ETag 는 항상 같은 바이트)
+ * - 메트릭: cache.gets{cache=worklog.response,result=hit|miss}, cache.evictions
+ */
+@Component
+public class WorkLogResponseCache {
+
+  static final String CACHE_NAME = "worklog.response";
+
+  private static final String GZIP = "gzip";
+  private static final String GZIP_ETAG_SUFFIX = "-gz";
+
+  private final Cache<Key, Body> cache;
+  private final ObjectMapper objectMapper;
+  private final int minCompressSize;
+
+  public WorkLogResponseCache(WorkLogCacheProperties properties, ObjectMapper objectMapper,
+      MeterRegistry meterRegistry) {
+    WorkLogCacheProperties.ResponseCache settings = properties.getResponse();
+    this.objectMapper = objectMapper;
+    this.minCompressSize = settings.getMinCompressSize();
+    if (settings.isEnabled()) {
+      cache = Caffeine.newBuilder()
+          .maximumWeight(settings.getMaximumBytes())
+          .weigher((Key key, Body body) -> body.size())
+          .expireAfterWrite(settings.getExpireAfterWrite())
+          .recordStats()
+          .build();
+      CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    } else {
+      cache = null;
+    }
+  }
+
+  /**
+   * 요청의 Accept-Encoding 에 맞는 강한 ETag (If-None-Match 비교와 응답 헤더에 사용)
+   * @param eTag 목록 ETag (따옴표 없는 값)
+   * @param request 요청 (Accept-Encoding)
+   * @return 따옴표로 감싼 ETag (gzip 을 받을 수 있으면 "값-gz")
+   */
+  public String eTag(String eTag, HttpServletRequest request) {
+    boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+    return "\"" + eTag + (gzip ? GZIP_ETAG_SUFFIX : "") + "\"";
+  }
+
+  /**
+   * 캐시된 응답 바이트로 응답 (없으면 직렬화/압축 후 저장)
+   * @param eTag 목록 ETag (데이터를 조회하기 전에 계산한 값, 따옴표 없는 값)
+   * @param request 요청 (URI, Accept-Encoding)
+   * @param loader 응답 본문 조회
+   * @return JSON 응답 (gzip 을 받을 수 있으면 Content-Encoding: gzip, ETag 는 eTag(eTag, request))
+   */
+  public ResponseEntity<byte[]> respond(String eTag, HttpServletRequest request, Supplier<?> loader) {
+    Body body = cache != null ? cachedBody(new Key(requestKey(request), eTag), loader) : serialize(loader.get());
+
+    ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .eTag(eTag(eTag, request))
+        .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    if (body.gzip() != null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+      return response.header(HttpHeaders.CONTENT_ENCODING, GZIP)
+          .contentLength(body.gzip().length)
+          .body(body.gzip());
+    }
+    return response.contentLength(body.json().length).body(body.json());
+  }
+
+  // 조회는 캐시 잠금 밖에서 (Cache.get 의 계산 함수 안에서 DB 를 조회하면 같은 구간의 다른 키가 대기)
+  private Body cachedBody(Key key, Supplier<?> loader) {
+    Body body = cache.getIfPresent(key);
+    if (body == null) {
+      body = serialize(loader.get());
+      cache.put(key, body);
+    }
+    return body;
+  }
+
+  private Body serialize(Object value) {
+    byte[] json;
+    try {
+      json = objectMapper.writeValueAsBytes(value);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("목록 응답 직렬화 실패", e);
+    }
+    // 캐시하지 않으면 매번 압축하는 비용이 더 크므로 원본만 사용
+    if (cache == null || json.length < minCompressSize) {
+      return new Body(json, null);
+    }
+    byte[] gzip = gzip(json);
+    return new Body(json, gzip.length < json.length ? gzip : null);
+  }
+
+  private static byte[] gzip(byte[] json) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+      gzip.write(json);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return out.toByteArray();
+  }
+
+  // 같은 URI 라도 쿼리 문자열이 다르면 다른 응답
+  private static String requestKey(HttpServletRequest request) {
+    String query = request.getQueryString();
+    return query != null ? request.getRequestURI() + "?" + query : request.getRequestURI();
+  }
+
+  // Accept-Encoding 에 gzip 이 있고 q=0 이 아니면 사용 (예: "gzip, deflate, br", "gzip;q=0.8")
+  static boolean acceptsGzip(String acceptEncoding) {
+    if (acceptEncoding == null) {
+      return false;
+    }
+    for (String coding : acceptEncoding.split(",")) {
+      String[] parts = coding.trim().split(";");
+      String name = parts[0].trim().toLowerCase(Locale.ROOT);
+      if (!GZIP.equals(name) && !"x-gzip".equals(name)) {
+        continue;
+      }
+      for (int i = 1; i < parts.length; i++) {
+        String parameter = parts[i].trim().replace(" ", "");
+        if (parameter.startsWith("q=") && parameter.substring(2).matches("0(\\.0*)?")) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return false;
+  }
+
+  private record Key(String request, String eTag) {
+  }
+
+  // 원본 JSON 과 gzip (압축 이득이 없거나 작은 응답은 null)
+  private record Body(byte[] json, byte[] gzip) {
+
+    int size() {
+      return json.length + (gzip != null ? gzip.length : 0);
+    }
+  }
+}
@@ -0,0 +1,221 @@
+package com.calman.domain.worklog.controller;
+
+import com.calman.DateTimeUtils;
+import com.calman.domain.worklog.dto.WorkLogDTO;
+import com.calman.domain.worklog.dto.WorkLogQuery;
+import com.calman.domain.worklog.mapper.WorkLogMapper;
+import com.calman.domain.worklog.service.WorkLogService;
+import com.calman.domain.worklog.service.WorkLogShardRouter;
+import com.calman.global.config.WarmupProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기동 준비 (calman.warmup)
+ * - ApplicationReadyEvent 에서 실행하므로 끝날 때까지 준비 완료(ReadinessState.ACCEPTING_TRAFFIC)를 알리지 않음
+ *   (캐시 스냅샷 복원 다음 순서)
+ * - 단계: indexes(최근 날짜 범위의 지문 조회로 작업시간 인덱스/행 페이지 읽기) → queries(오늘과 최근 날짜의 상태별 목록,
+ *   상세 1건) → serialize(목록/상세 응답 JSON 직렬화) → http(자기 자신에게 화면/API 요청, worklogs.html 렌더링과
+ *   응답 압축, DispatcherServlet 초기화 포함)
+ * - 단계를 시작하기 전에 time-budget 을 확인해 지나면 남은 단계는 건너뜀, 실패한 단계는 로그만 남기고 계속
+ * - 메트릭: worklog.warmup{step} (단계별 소요 시간), worklog.warmup.first.request (FirstRequestTimer 가 잰 첫 요청 ms)
+ */
+@Slf4j
+@Component
+public class WorkLogWarmup {
+
+  private static final String[] STATUSES = {null, WorkLogQuery.STATUS_COMPLETED, WorkLogQuery.STATUS_INCOMPLETE};
+
+  private final WarmupProperties settings;
+  private final WorkLogService workLogService;
+  private final WorkLogMapper workLogMapper;
+  private final WorkLogShardRouter shardRouter;
+  private final ObjectMapper objectMapper;
+  private final MeterRegistry meterRegistry;
+  private final TransactionTemplate readTemplate;
+  private final String contextPath;
+
+  public WorkLogWarmup(WarmupProperties settings, WorkLogService workLogService, WorkLogMapper workLogMapper,
+      WorkLogShardRouter shardRouter, ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+      FirstRequestTimer firstRequestTimer, MeterRegistry meterRegistry,
+      @Value("${server.servlet.context-path:}") String contextPath) {
+    this.settings = settings;
+    this.workLogService = workLogService;
+    this.workLogMapper = workLogMapper;
+    this.shardRouter = shardRouter;
+    this.objectMapper = objectMapper;
+    this.meterRegistry = meterRegistry;
+    this.readTemplate = new TransactionTemplate(transactionManager);
+    this.readTemplate.setReadOnly(true);
+    this.contextPath = contextPath.endsWith("/") ? contextPath.substring(0, contextPath.length() - 1) : contextPath;
+
+    meterRegistry.gauge("worklog.warmup.first.request", firstRequestTimer, FirstRequestTimer::getFirstRequestMillis);
+  }
+
+  /**
+   * 기동 완료 직후 준비 실행 (캐시 스냅샷 복원 다음, 준비 완료 전)
+   */
+  @Order(1)
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady(ApplicationReadyEvent event) {
+    if (settings.isEnabled()) {
+      warmUp(serverPort(event.getApplicationContext()));
+    }
+  }
+
+  /**
+   * 준비 단계 실행
+   * @param port 내장 서버 포트 (서버가 없으면 -1, http 단계 생략)
+   * @return 실행한 단계별 소요 시간 (ms, 실행 순서)
+   */
+  Map<String, Long> warmUp(int port) {
+    long start = System.nanoTime();
+    long deadline = start + settings.getTimeBudget().toNanos();
+    Map<String, Long> elapsed = new LinkedHashMap<>();
+    List<String> skipped = new ArrayList<>();
+    LocalDate today = LocalDate.now();
+    Samples samples = new Samples();
+
+    step("indexes", deadline, elapsed, skipped, () -> touchIndexes(today));
+    step("queries", deadline, elapsed, skipped, () -> runQueries(today, deadline, samples));
+    step("serialize", deadline, elapsed, skipped, () -> serialize(samples));
+    if (settings.isHttp() && port > 0) {
+      step("http", deadline, elapsed, skipped, () -> requestPages(port, today, deadline));
+    }
+
+    long total = System.nanoTime() - start;
+    meterRegistry.timer("worklog.warmup", "step", "total").record(total, TimeUnit.NANOSECONDS);
+    log.info("기동 준비 완료: elapsed={}ms, steps={}, skipped={}", TimeUnit.NANOSECONDS.toMillis(total), elapsed,
+        skipped);
+    return elapsed;
+  }
+
+  // 시간 제한 안이면 실행하고 소요 시간 기록 (실패해도 기동은 계속)
+  private void step(String name, long deadline, Map<String, Long> elapsed, List<String> skipped, Runnable action) {
+    if (System.nanoTime() >= deadline) {
+      skipped.add(name);
+      return;
+    }
+    long start = System.nanoTime();
+    try {
+      action.run();
+    } catch (RuntimeException e) {
+      log.warn("기동 준비 단계 실패: step={}, {}", name, e.getMessage());
+    } finally {
+      long nanos = System.nanoTime() - start;
+      meterRegistry.timer("worklog.warmup", "step", name).record(nanos, TimeUnit.NANOSECONDS);
+      elapsed.put(name, TimeUnit.NANOSECONDS.toMillis(nanos));
+    }
+  }
+
+  // 최근 날짜 범위의 지문 조회 (작업시간 인덱스 범위 + 행 페이지를 읽어 페이지 캐시에 올림)
+  private void touchIndexes(LocalDate today) {
+    LocalDateTime start = today.minusDays(Math.max(settings.getDays(), 1) - 1L).atStartOfDay();
+    WorkLogQuery query = WorkLogQuery.of(null, null, null, start, DateTimeUtils.getDateTimeRange(today)[1],
+        null, null, false);
+    if (shardRouter.isEnabled()) {
+      shardRouter.fanOut(shard -> workLogMapper.selectWorkLogFingerprint(query));
+    } else {
+      readTemplate.execute(status -> workLogMapper.selectWorkLogFingerprint(query));
+    }
+  }
+
+  // 오늘부터 최근 날짜의 상태별 목록 (목록 캐시도 채움) + 오늘 첫 작업 로그 상세
+  private void runQueries(LocalDate today, long deadline, Samples samples) {
+    for (int i = 0; i < settings.getDays() && System.nanoTime() < deadline; i++) {
+      for (String status : STATUSES) {
+        Map<String, Object> result = workLogService.getWorkLogsByExactDate(today.minusDays(i), status, null, "ASC");
+        if (samples.list == null) {
+          samples.list = result;
+        }
+      }
+    }
+    if (samples.list != null && samples.list.get("workLogs") instanceof List<?> workLogs && !workLogs.isEmpty()
+        && workLogs.get(0) instanceof WorkLogDTO.ListResponse first) {
+      samples.detail = workLogService.getWorkLogDetailById(first.getId());
+    }
+  }
+
+  private void serialize(Samples samples) {
+    try {
+      objectMapper.writeValueAsBytes(samples.list != null ? samples.list : Map.of("workLogs", List.of()));
+      if (samples.detail != null) {
+        objectMapper.writeValueAsBytes(samples.detail);
+      }
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("응답 직렬화 실패", e);
+    }
+  }
+
+  // 오늘 목록 화면(worklogs.html)과 API(gzip) 요청, 각 요청의 첫 응답 시간을 로그로 남김
+  private void requestPages(int port, LocalDate today, long deadline) {
+    String base = "http://localhost:" + port + contextPath;
+    HttpClient client = HttpClient.newBuilder().connectTimeout(remaining(deadline)).build();
+    for (String path : List.of("/worklogs/date/" + today, "/api/worklogs/date/" + today)) {
+      if (System.nanoTime() >= deadline) {
+        return;
+      }
+      HttpRequest request = HttpRequest.newBuilder(URI.create(base + path))
+          .timeout(remaining(deadline))
+          .header(FirstRequestTimer.WARMUP_HEADER, "true")
+          .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+          .GET()
+          .build();
+      long start = System.nanoTime();
+      try {
+        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        log.info("기동 준비 요청: uri={}, status={}, elapsed={}ms", path, status,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+      } catch (IOException e) {
+        log.warn("기동 준비 요청 실패: uri={}, {}", path, e.getMessage());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  private static Duration remaining(long deadline) {
+    return Duration.ofNanos(Math.max(deadline - System.nanoTime(), TimeUnit.MILLISECONDS.toNanos(1)));
+  }
+
+  // 내장 서버 포트 (MOCK 웹 환경 등 서버가 없으면 -1)
+  private static int serverPort(ApplicationContext context) {
+    if (context instanceof WebServerApplicationContext web && web.getWebServer() != null) {
+      return web.getWebServer().getPort();
+    }
+    return -1;
+  }
+
+  // 조회 단계에서 얻은 직렬화용 응답
+  private static class Samples {
+    Map<String, Object> list;
+    WorkLogDTO.DetailResponse detail;
+  }
+}
@@ -0,0 +1,20 @@
+package com.calman.domain.worklog.dto;
+
+/**
+ * 카탈로그 ID 로 차종/제품 이름을 채우는 조회 결과 (WorkLogCatalogService.fill)
+ * - WorkLogDTO, WorkLogDTO.ListResponse 가 구현 (Lombok 접근자)
+ */
+public interface WorkLogCatalogReference {
+
+  Long getCarModelId();
+
+  Long getProductId();
+
+  void setCarModel(String carModel);
+
+  void setProductColor(String productColor);
+
+  void setProductCode(String productCode);
+
+  void setProductName(String productName);
+}
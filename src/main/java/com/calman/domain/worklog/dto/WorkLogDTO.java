@@ -2,19 +2,22 @@ package com.calman.domain.worklog.dto;
 
 import com.calman.DateTimeUtils;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class WorkLogDTO {
+public class WorkLogDTO implements WorkLogCatalogReference {
 
   private Long id;
 
@@ -33,6 +36,14 @@ public class WorkLogDTO {
   @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
   private LocalDateTime createdAt;
 
+  private Integer version;  // 낙관적 잠금용 버전 (수정할 때마다 증가)
+
+  @JsonIgnore
+  private Long carModelId;  // 저장용 차종 카탈로그 ID (WorkLogCatalogService 에서 조회)
+
+  @JsonIgnore
+  private Long productId;   // 저장용 제품 카탈로그 ID (WorkLogCatalogService 에서 조회)
+
   // 새 작업 로그 생성을 위한 요청 DTO
   @Data
   @NoArgsConstructor
@@ -73,6 +84,7 @@ public class WorkLogDTO {
     private String productCode;
     private String productName;
     private Integer quantity;
+    private Integer version;      // 조회 시점의 버전 (없으면 버전 확인 없이 수정)
 
     // 내부 변환용 메서드
     public LocalDateTime getWorkDatetimeAsLocalDateTime() {
@@ -80,11 +92,11 @@ public class WorkLogDTO {
     }
   }
 
-  // 목록 뷰용 응답 DTO (더 적은 필드 포함)
+  // 목록 뷰용 응답 DTO (더 적은 필드 포함, 완료 시간 대신 완료 여부만 SQL 에서 계산)
   @Data
   @NoArgsConstructor
   @AllArgsConstructor
-  public static class ListResponse {
+  public static class ListResponse implements WorkLogCatalogReference {
     private Long id;
 
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
@@ -97,7 +109,22 @@ public class WorkLogDTO {
     private Integer quantity;
     private boolean completed;
 
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime createdAt;  // 목록의 생성일 컬럼에 표시
+
+    private Integer version;          // 목록에서 바로 상태 변경/수정할 때 충돌 확인용
+
+    @JsonIgnore
+    private Long carModelId;
+
+    @JsonIgnore
+    private Long productId;
+
+    @JsonIgnore
+    private Object sortKey;           // 카탈로그 항목/완료 시간 정렬 키 (샤드별 결과 병합용)
+
     // 화면 표시용 문자열 리턴 추가
+    @JsonIgnore
     public String getFormattedWorkDatetime() {
       return DateTimeUtils.formatForDisplay(workDatetime);
     }
@@ -127,6 +154,8 @@ public class WorkLogDTO {
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime createdAt;
 
+    private Integer version;
+
     // 화면 표시용 문자열 리턴 추가
     public String getFormattedWorkDatetime() {
       return DateTimeUtils.formatForDisplay(workDatetime);
@@ -155,5 +184,53 @@ public class WorkLogDTO {
   @AllArgsConstructor
   public static class StatusUpdateRequest {
     private boolean completed;
+    private Integer version;  // 조회 시점의 버전 (없으면 버전 확인 없이 변경)
+  }
+
+  // 일괄 상태 변경/삭제 요청 (ID 목록 또는 필터 조건 중 하나 이상 필요, 둘 다 있으면 AND)
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class BulkRequest {
+    private List<Long> ids;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate date;      // 작업일 (해당 날짜 전체)
+
+    private String carModel;     // 차종 (정확히 일치)
+    private String productCode;  // 제품 코드 (정확히 일치)
+    private String status;       // 상태 ('completed', 'incomplete')
+    private boolean completed;   // 일괄 상태 변경 시 변경할 완료 여부
+
+    public boolean hasIds() {
+      return ids != null && !ids.isEmpty();
+    }
+
+    public boolean hasFilter() {
+      return date != null
+          || (carModel != null && !carModel.isBlank())
+          || (productCode != null && !productCode.isBlank())
+          || (status != null && !status.isBlank());
+    }
+  }
+
+  // 차종 카탈로그 항목
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class CarModel {
+    private Long id;
+    private String name;
+  }
+
+  // 제품 카탈로그 항목 (제품 코드/이름/색상 조합)
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Product {
+    private Long id;
+    private String code;
+    private String name;
+    private String color;
   }
-}
\ No newline at end of file
+}
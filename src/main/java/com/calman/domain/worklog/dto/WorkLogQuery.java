@@ -0,0 +1,184 @@
+package com.calman.domain.worklog.dto;
+
+import com.calman.global.mybatis.SqlVariant;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 작업 로그 목록 조회 조건 (WorkLogMapper.selectWorkLogList, selectWorkLogFingerprint)
+ * - 생성 시 정렬 필드/방향/상태를 허용된 값으로 정규화하므로 SQL 변형 수가 유한함
+ *   (필터 유무 2^4 x 상태 3 x 정렬 필드 8 x 방향 2 x 아카이브 포함 2 = 1536)
+ * - 변형별 SQL 은 기동 시 미리 생성 (PrecompiledLanguageDriver)
+ * - 정규화된 값으로 비교하므로 목록 캐시 키로 사용 (WorkLogListCache)
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class WorkLogQuery implements SqlVariant {
+
+  /**
+   * 허용된 정렬 필드 (순서가 변형 번호에 포함되므로 변경 시 주의)
+   */
+  public static final List<String> SORT_FIELDS = List.of(
+      "wl_work_datetime", "wl_car_model", "wl_product_color", "wl_product_code",
+      "wl_product_name", "wl_quantity", "wl_created_at", "wl_completed_at");
+
+  public static final String STATUS_COMPLETED = "completed";
+  public static final String STATUS_INCOMPLETE = "incomplete";
+
+  private final String carModel;
+  private final String productCode;
+  private final String status;
+  private final LocalDateTime startDate;
+  private final LocalDateTime endDate;
+  private final String sortField;
+  private final String sortDirection;
+  private final boolean includeArchive;
+
+  private WorkLogQuery(String carModel, String productCode, String status, LocalDateTime startDate,
+      LocalDateTime endDate, String sortField, String sortDirection, boolean includeArchive) {
+    this.carModel = emptyToNull(carModel);
+    this.productCode = emptyToNull(productCode);
+    this.status = STATUS_COMPLETED.equals(status) || STATUS_INCOMPLETE.equals(status) ? status : null;
+    this.startDate = startDate;
+    this.endDate = endDate;
+    this.sortField = SORT_FIELDS.contains(sortField) ? sortField : SORT_FIELDS.get(0);
+    this.sortDirection = "DESC".equals(sortDirection) ? "DESC" : "ASC";
+    this.includeArchive = includeArchive;
+  }
+
+  /**
+   * 목록 조회 조건 생성
+   * @param carModel 차종 (부분 일치, 비어 있으면 조건 없음)
+   * @param productCode 제품 코드 (부분 일치, 비어 있으면 조건 없음)
+   * @param status 상태 (completed, incomplete, 그 외에는 조건 없음)
+   * @param startDate 시작 일시
+   * @param endDate 종료 일시
+   * @param sortField 정렬 필드 (허용되지 않은 값이면 작업시간)
+   * @param sortDirection 정렬 방향 (DESC 가 아니면 ASC)
+   * @param includeArchive 아카이브 테이블 포함 여부
+   */
+  public static WorkLogQuery of(String carModel, String productCode, String status, LocalDateTime startDate,
+      LocalDateTime endDate, String sortField, String sortDirection, boolean includeArchive) {
+    return new WorkLogQuery(
+        carModel, productCode, status, startDate, endDate, sortField, sortDirection, includeArchive);
+  }
+
+  /**
+   * 차종 부분 일치 LIKE 패턴 (DB 마다 다른 문자열 연결 문법을 쓰지 않도록 바인딩 값으로 생성)
+   */
+  public String getCarModelPattern() {
+    return carModel != null ? "%" + carModel + "%" : null;
+  }
+
+  /**
+   * 제품 코드 부분 일치 LIKE 패턴
+   */
+  public String getProductCodePattern() {
+    return productCode != null ? "%" + productCode + "%" : null;
+  }
+
+  /**
+   * 아카이브를 제외한 같은 조건 (아카이브가 없는 샤드 조회용)
+   */
+  public WorkLogQuery withoutArchive() {
+    if (!includeArchive) {
+      return this;
+    }
+    return new WorkLogQuery(carModel, productCode, status, startDate, endDate, sortField, sortDirection, false);
+  }
+
+  /**
+   * 같은 조건의 다른 정렬 (정렬 필드/방향은 다시 정규화)
+   */
+  public WorkLogQuery withSort(String sortField, String sortDirection) {
+    return new WorkLogQuery(carModel, productCode, status, startDate, endDate, sortField, sortDirection,
+        includeArchive);
+  }
+
+  /**
+   * selectWorkLogList 의 ORDER BY 와 같은 순서 (NULL 은 ASC 에서 처음, DESC 에서 마지막)
+   * - 카탈로그 항목/완료 시간 정렬은 조회한 정렬 키(wl_sort_key)로 비교
+   */
+  public Comparator<WorkLogDTO.ListResponse> listComparator() {
+    Comparator<WorkLogDTO.ListResponse> comparator = switch (sortField) {
+      case "wl_quantity" -> Comparator.comparing(
+          WorkLogDTO.ListResponse::getQuantity, Comparator.nullsFirst(Comparator.naturalOrder()));
+      case "wl_created_at" -> Comparator.comparing(
+          WorkLogDTO.ListResponse::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder()));
+      case "wl_work_datetime" -> Comparator.comparing(
+          WorkLogDTO.ListResponse::getWorkDatetime, Comparator.nullsFirst(Comparator.naturalOrder()));
+      default -> Comparator.comparing(WorkLogDTO.ListResponse::getSortKey, WorkLogQuery::compareSortKeys);
+    };
+    return "DESC".equals(sortDirection) ? comparator.reversed() : comparator;
+  }
+
+  @Override
+  public int variantKey() {
+    int key = SORT_FIELDS.indexOf(sortField);
+    key = key << 1 | ("DESC".equals(sortDirection) ? 1 : 0);
+    key = key << 2 | (status == null ? 0 : STATUS_COMPLETED.equals(status) ? 1 : 2);
+    key = key << 1 | (carModel != null ? 1 : 0);
+    key = key << 1 | (productCode != null ? 1 : 0);
+    key = key << 1 | (startDate != null ? 1 : 0);
+    key = key << 1 | (endDate != null ? 1 : 0);
+    key = key << 1 | (includeArchive ? 1 : 0);
+    return key;
+  }
+
+  /**
+   * 모든 SQL 변형의 대표 조건 (값 자체는 SQL 에 영향이 없음)
+   */
+  public static List<WorkLogQuery> variants() {
+    List<WorkLogQuery> variants = new ArrayList<>();
+    String[] statuses = {null, STATUS_COMPLETED, STATUS_INCOMPLETE};
+    for (String sortField : SORT_FIELDS) {
+      for (String sortDirection : new String[] {"ASC", "DESC"}) {
+        for (String status : statuses) {
+          for (int filters = 0; filters < 32; filters++) {
+            variants.add(new WorkLogQuery(
+                (filters & 1) != 0 ? "-" : null,
+                (filters & 2) != 0 ? "-" : null,
+                status,
+                (filters & 4) != 0 ? LocalDateTime.MIN : null,
+                (filters & 8) != 0 ? LocalDateTime.MAX : null,
+                sortField,
+                sortDirection,
+                (filters & 16) != 0));
+          }
+        }
+      }
+    }
+    return variants;
+  }
+
+  /**
+   * SQLite 정렬 순서: NULL < 숫자 < 문자열 (문자열은 BINARY 비교, 같은 타입의 날짜 등은 자연 순서)
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public static int compareSortKeys(Object left, Object right) {
+    if (left == null || right == null) {
+      return left == null ? (right == null ? 0 : -1) : 1;
+    }
+    if (left instanceof Number l && right instanceof Number r) {
+      return Long.compare(l.longValue(), r.longValue());
+    }
+    if (left instanceof Number || right instanceof Number) {
+      return left instanceof Number ? -1 : 1;
+    }
+    if (left instanceof Comparable comparable && left.getClass() == right.getClass()) {
+      return comparable.compareTo(right);
+    }
+    return left.toString().compareTo(right.toString());
+  }
+
+  private static String emptyToNull(String value) {
+    return value == null || value.isEmpty() ? null : value;
+  }
+}
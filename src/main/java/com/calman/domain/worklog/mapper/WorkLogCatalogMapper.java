@@ -0,0 +1,59 @@
+package com.calman.domain.worklog.mapper;
+
+import com.calman.domain.worklog.dto.WorkLogDTO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 차종/제품 카탈로그 매퍼 인터페이스
+ */
+@Mapper
+public interface WorkLogCatalogMapper {
+  /**
+   * 전체 차종 조회
+   * @return 차종 목록
+   */
+  List<WorkLogDTO.CarModel> selectCarModels();
+
+  /**
+   * 전체 제품 조회
+   * @return 제품 목록
+   */
+  List<WorkLogDTO.Product> selectProducts();
+
+  /**
+   * ID 로 차종 조회
+   * @param id 차종 ID
+   * @return 차종 (없으면 null)
+   */
+  WorkLogDTO.CarModel selectCarModelById(@Param("id") Long id);
+
+  /**
+   * ID 로 제품 조회
+   * @param id 제품 ID
+   * @return 제품 (없으면 null)
+   */
+  WorkLogDTO.Product selectProductById(@Param("id") Long id);
+
+  /**
+   * 차종 등록 (이미 있으면 기존 ID 반환)
+   * @param name 차종
+   * @return 차종 ID
+   */
+  Long upsertCarModel(@Param("name") String name);
+
+  /**
+   * 제품 등록 (같은 코드/이름/색상 조합이 있으면 기존 ID 반환)
+   * @param code 제품 코드
+   * @param name 제품 이름
+   * @param color 제품 색상
+   * @return 제품 ID
+   */
+  Long upsertProduct(
+      @Param("code") String code,
+      @Param("name") String name,
+      @Param("color") String color
+  );
+}
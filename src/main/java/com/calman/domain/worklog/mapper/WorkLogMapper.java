@@ -1,6 +1,7 @@
 package com.calman.domain.worklog.mapper;
 
 import com.calman.domain.worklog.dto.WorkLogDTO;
+import com.calman.domain.worklog.dto.WorkLogQuery;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
@@ -16,11 +17,25 @@ import java.util.Map;
 public interface WorkLogMapper {
   /**
    * 새 작업 로그 생성
-   * @param workLog 작업 로그 정보
+   * @param workLog 작업 로그 정보 (ID 포함)
    * @return 영향받은 행 수
    */
   int insertWorkLog(WorkLogDTO workLog);
 
+  /**
+   * 작업 로그 일괄 생성 (INSERT 문 하나)
+   * @param workLogs 작업 로그 목록 (ID 포함)
+   * @return 영향받은 행 수
+   */
+  int insertWorkLogs(@Param("workLogs") List<WorkLogDTO> workLogs);
+
+  /**
+   * 사용 중인 가장 큰 작업 로그 ID 조회
+   * @param includeArchive 아카이브 테이블 포함 여부
+   * @return 가장 큰 ID (없으면 null)
+   */
+  Long selectMaxWorkLogId(@Param("includeArchive") boolean includeArchive);
+
   /**
    * ID로 작업 로그 조회
    * @param id 작업 로그 ID
@@ -29,18 +44,45 @@ public interface WorkLogMapper {
   WorkLogDTO selectWorkLogById(@Param("id") Long id);
 
   /**
-   * 필터링으로 작업 로그 목록 조회
-   * @param params 검색 조건 (carModel, productCode, productColor, productName, status, startDate, endDate, sortField, sortDirection 등)
-   * @return 작업 로그 목록
+   * 목록 화면용 작업 로그 조회 (표시 컬럼만, 완료 여부는 SQL 에서 계산, 조건 조합별 SQL 은 미리 생성)
+   * @param query 검색 조건
+   * @return 작업 로그 목록 항목 (차종/제품은 카탈로그 ID 만 채워짐)
    */
-  List<WorkLogDTO> selectWorkLogs(Map<String, Object> params);
+  List<WorkLogDTO.ListResponse> selectWorkLogList(WorkLogQuery query);
 
   /**
-   * 작업 로그 업데이트
-   * @param workLog 수정할 정보
-   * @return 영향받은 행 수
+   * 기간 내 작업 로그 지문 (행 수:가장 큰 ID:버전 합:ID 나머지 합:행 내용 합, 세그먼트/캐시 스냅샷 검증용)
+   * @param query 기간 조건 (아카이브 포함 여부)
+   * @return 지문 문자열
    */
-  int updateWorkLog(WorkLogDTO workLog);
+  String selectWorkLogFingerprint(WorkLogQuery query);
+
+  /**
+   * 작업 로그 업데이트 (UPDATE ... RETURNING, version 이 있으면 일치할 때만 변경)
+   * @param workLog 수정할 정보 (workDatetime 이 null 이면 기존 값 유지)
+   * @return 변경된 작업 로그 (대상이 없거나 버전이 다르면 null)
+   */
+  WorkLogDTO updateWorkLog(WorkLogDTO workLog);
+
+  /**
+   * 작업 로그 부분 수정 (전달된 컬럼만 변경, UPDATE ... RETURNING)
+   * @param id 작업 로그 ID
+   * @param changes 변경할 필드 (workDatetime, carModelId, productId, quantity, completedAt)
+   * @param version 기대하는 현재 버전 (null 이면 버전 확인 안함)
+   * @return 변경된 작업 로그 (대상이 없거나 버전이 다르면 null)
+   */
+  WorkLogDTO patchWorkLog(
+      @Param("id") Long id,
+      @Param("changes") Map<String, Object> changes,
+      @Param("version") Integer version
+  );
+
+  /**
+   * 작업 로그의 현재 버전 조회
+   * @param id 작업 로그 ID
+   * @return 현재 버전 (없으면 null)
+   */
+  Integer selectWorkLogVersion(@Param("id") Long id);
 
   /**
    * 작업 로그 소프트 삭제 (isDeleted 플래그 설정)
@@ -53,40 +95,58 @@ public interface WorkLogMapper {
    * 날짜 범위로 작업 로그 조회
    * @param startDate 시작 날짜
    * @param endDate 종료 날짜
+   * @param includeArchive 아카이브 테이블 포함 여부
    * @return 작업 로그 목록
    */
   List<WorkLogDTO> selectWorkLogsByDateRange(
       @Param("startDate") LocalDateTime startDate,
-      @Param("endDate") LocalDateTime endDate
+      @Param("endDate") LocalDateTime endDate,
+      @Param("includeArchive") boolean includeArchive
   );
 
   /**
    * 정확한 날짜로 작업 로그 조회
    * @param exactDate 조회할 날짜
+   * @param includeArchive 아카이브 테이블 포함 여부
    * @return 작업 로그 목록
    */
-  List<WorkLogDTO> selectWorkLogsByExactDate(@Param("exactDate") LocalDate exactDate);
+  List<WorkLogDTO> selectWorkLogsByExactDate(
+      @Param("exactDate") LocalDate exactDate,
+      @Param("includeArchive") boolean includeArchive
+  );
 
   /**
    * 차량 모델로 작업 로그 조회
    * @param carModel 차량 모델명
+   * @param includeArchive 아카이브 테이블 포함 여부
    * @return 작업 로그 목록
    */
-  List<WorkLogDTO> selectWorkLogsByCarModel(@Param("carModel") String carModel);
+  List<WorkLogDTO> selectWorkLogsByCarModel(
+      @Param("carModel") String carModel,
+      @Param("includeArchive") boolean includeArchive
+  );
 
   /**
    * 제품 코드로 작업 로그 조회
    * @param productCode 제품 코드
+   * @param includeArchive 아카이브 테이블 포함 여부
    * @return 작업 로그 목록
    */
-  List<WorkLogDTO> selectWorkLogsByProductCode(@Param("productCode") String productCode);
+  List<WorkLogDTO> selectWorkLogsByProductCode(
+      @Param("productCode") String productCode,
+      @Param("includeArchive") boolean includeArchive
+  );
 
   /**
    * 상태별 작업 로그 조회
    * @param status 상태 (completed, incomplete)
+   * @param includeArchive 아카이브 테이블 포함 여부
    * @return 작업 로그 목록
    */
-  List<WorkLogDTO> selectWorkLogsByStatus(@Param("status") String status);
+  List<WorkLogDTO> selectWorkLogsByStatus(
+      @Param("status") String status,
+      @Param("includeArchive") boolean includeArchive
+  );
 
   /**
    * 작업자 ID로 작업 로그 조회
@@ -96,13 +156,95 @@ public interface WorkLogMapper {
   List<WorkLogDTO> selectWorkLogsByUserId(@Param("userId") Long userId);
 
   /**
-   * 작업 로그 완료 상태 업데이트
+   * 작업 로그 완료 상태 업데이트 (UPDATE ... RETURNING, version 이 있으면 일치할 때만 변경)
    * @param id 작업 로그 ID
    * @param completedAt 완료 시간 (미완료인 경우 null)
-   * @return 영향받은 행 수
+   * @param version 기대하는 현재 버전 (null 이면 버전 확인 안함)
+   * @return 변경된 작업 로그 (대상이 없거나 버전이 다르면 null)
    */
-  int updateWorkLogCompletionStatus(
+  WorkLogDTO updateWorkLogCompletionStatus(
       @Param("id") Long id,
-      @Param("completedAt") LocalDateTime completedAt
+      @Param("completedAt") LocalDateTime completedAt,
+      @Param("version") Integer version
+  );
+
+  /**
+   * ID 목록으로 작업 로그 조회
+   * @param ids 작업 로그 ID 목록
+   * @return 작업 로그 목록 (작업시간 오름차순)
+   */
+  List<WorkLogDTO> selectWorkLogsByIds(@Param("ids") List<Long> ids);
+
+  /**
+   * 작업 로그 일괄 완료 상태 변경 (UPDATE ... RETURNING)
+   * @param params 대상 조건 (ids, startDate, endDate, carModel, productCode, status) 및 completedAt
+   * @return 상태가 변경된 작업 로그 ID 목록
+   */
+  List<Long> updateWorkLogsCompletionStatus(Map<String, Object> params);
+
+  /**
+   * 작업 로그 일괄 삭제 (DELETE ... RETURNING)
+   * @param params 대상 조건 (ids, startDate, endDate, carModel, productCode, status)
+   * @return 삭제된 작업 로그 ID 목록
+   */
+  List<Long> deleteWorkLogs(Map<String, Object> params);
+
+  /**
+   * 아카이브 대상 작업 로그 ID 조회 (완료되었고 작업시간이 기준 시각 이전)
+   * @param cutoff 기준 시각
+   * @param limit 최대 조회 건수
+   * @return 작업 로그 ID 목록 (작업시간 오름차순)
+   */
+  List<Long> selectArchivableWorkLogIds(
+      @Param("cutoff") LocalDateTime cutoff,
+      @Param("limit") int limit
   );
-}
\ No newline at end of file
+
+  /**
+   * 작업 로그를 아카이브 테이블로 복사 (이미 복사된 행은 무시)
+   * @param ids 복사할 작업 로그 ID 목록
+   * @return 복사된 행 수
+   */
+  int copyWorkLogsToArchive(@Param("ids") List<Long> ids);
+
+  /**
+   * 아카이브에 존재하는 작업 로그만 원본 테이블에서 삭제
+   * @param ids 삭제할 작업 로그 ID 목록
+   * @return 삭제된 행 수
+   */
+  int deleteArchivedFromHot(@Param("ids") List<Long> ids);
+
+  /**
+   * 아카이브에 저장된 가장 늦은 작업시간 조회
+   * @return 가장 늦은 작업시간 (아카이브가 비어 있으면 null)
+   */
+  LocalDateTime selectArchiveHorizon();
+
+  /**
+   * 아카이브에서 ID로 작업 로그 조회
+   * @param id 작업 로그 ID
+   * @return 작업 로그 정보
+   */
+  WorkLogDTO selectArchivedWorkLogById(@Param("id") Long id);
+
+  /**
+   * 아카이브에서 ID 목록으로 작업 로그 조회
+   * @param ids 작업 로그 ID 목록
+   * @return 작업 로그 목록
+   */
+  List<WorkLogDTO> selectArchivedWorkLogsByIds(@Param("ids") List<Long> ids);
+
+  /**
+   * 아카이브에서 작업 로그 일괄 삭제
+   * @param params 대상 조건 (ids, startDate, endDate, carModel, productCode, status)
+   * @return 삭제된 작업 로그 ID 목록
+   */
+  List<Long> deleteArchivedWorkLogs(Map<String, Object> params);
+
+  /**
+   * 아카이브에서 작업 로그 삭제
+   * @param id 삭제할 작업 로그 ID
+   * @return 영향받은 행 수
+   */
+  int deleteArchivedWorkLog(@Param("id") Long id);
+}
@@ -0,0 +1,17 @@
+package com.calman.domain.worklog.service;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 샤드를 결정하는 서비스 메소드 파라미터 (작업 로그 ID 또는 생성 요청)
+ * - WorkLogShardAspect 가 트랜잭션 시작 전에 이 값으로 샤드를 선택
+ */
+@Documented
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ShardKey {
+}
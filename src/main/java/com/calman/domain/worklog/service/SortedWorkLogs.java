@@ -0,0 +1,133 @@
+package com.calman.domain.worklog.service;
+
+import com.calman.domain.worklog.dto.WorkLogDTO;
+import com.calman.domain.worklog.dto.WorkLogQuery;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * 같은 조건의 작업 로그 목록과 정렬 필드별 순서 (WorkLogListCache 항목)
+ * - 행은 한 번만 배열로 보관하고, 정렬 필드별 오름차순 순열을 처음 요청될 때 계산 (내림차순은 역순으로 읽음)
+ * - 정렬 순서는 selectWorkLogList 의 ORDER BY 와 같음 (NULL 은 ASC 에서 처음, DESC 에서 마지막)
+ * - 조회한 정렬의 순열은 조회 순서 그대로 사용하고, 캐시할 행은 완료 시간 오름차순으로 조회
+ *   (완료 시간은 목록 컬럼이 아니므로 정렬 키(wl_sort_key)로 함께 조회해 두어야 다른 정렬에서도 비교 가능)
+ */
+final class SortedWorkLogs {
+
+  /**
+   * 캐시할 행을 조회할 때의 정렬 (정렬 키에 완료 시간이 채워지도록)
+   */
+  static final String LOAD_SORT_FIELD = "wl_completed_at";
+
+  private static final int FIELDS = WorkLogQuery.SORT_FIELDS.size();
+
+  private final WorkLogDTO.ListResponse[] rows;
+  private final AtomicReferenceArray<int[]> permutations = new AtomicReferenceArray<>(FIELDS);
+  private final AtomicReferenceArray<List<WorkLogDTO.ListResponse>> views = new AtomicReferenceArray<>(FIELDS * 2);
+
+  /**
+   * @param rows 조회한 목록 (카탈로그 정보까지 채운 행)
+   * @param loadedAs 목록을 조회한 조건 (조회한 정렬의 순열은 계산하지 않음)
+   */
+  SortedWorkLogs(List<WorkLogDTO.ListResponse> rows, WorkLogQuery loadedAs) {
+    this.rows = rows.toArray(new WorkLogDTO.ListResponse[0]);
+    int length = this.rows.length;
+    boolean descending = "DESC".equals(loadedAs.getSortDirection());
+    permutations.set(WorkLogQuery.SORT_FIELDS.indexOf(loadedAs.getSortField()),
+        IntStream.range(0, length).map(i -> descending ? length - 1 - i : i).toArray());
+  }
+
+  int size() {
+    return rows.length;
+  }
+
+  /**
+   * 조회한 순서 그대로의 행 (캐시 스냅샷 저장용, 변경 불가)
+   */
+  List<WorkLogDTO.ListResponse> rows() {
+    return Collections.unmodifiableList(Arrays.asList(rows));
+  }
+
+  /**
+   * 조회 조건의 정렬 순서로 본 목록 (변경 불가, 복사하지 않음)
+   */
+  List<WorkLogDTO.ListResponse> sorted(WorkLogQuery query) {
+    int field = WorkLogQuery.SORT_FIELDS.indexOf(query.getSortField());
+    boolean descending = "DESC".equals(query.getSortDirection());
+    int slot = field * 2 + (descending ? 1 : 0);
+    List<WorkLogDTO.ListResponse> view = views.get(slot);
+    if (view == null) {
+      views.compareAndSet(slot, null, new View(rows, permutation(field), descending));
+      view = views.get(slot);
+    }
+    return view;
+  }
+
+  // 정렬 필드의 오름차순 순열 (동시에 계산되면 먼저 저장된 것을 사용)
+  private int[] permutation(int field) {
+    int[] permutation = permutations.get(field);
+    if (permutation == null) {
+      permutations.compareAndSet(field, null, sort(WorkLogQuery.SORT_FIELDS.get(field)));
+      permutation = permutations.get(field);
+    }
+    return permutation;
+  }
+
+  // 정렬 키를 한 번만 꺼낸 뒤 인덱스를 안정 정렬 (같은 값은 조회 순서 유지)
+  private int[] sort(String sortField) {
+    Function<WorkLogDTO.ListResponse, Object> sortKey = sortKey(sortField);
+    Object[] keys = new Object[rows.length];
+    for (int i = 0; i < rows.length; i++) {
+      keys[i] = sortKey.apply(rows[i]);
+    }
+    Integer[] order = new Integer[rows.length];
+    Arrays.setAll(order, i -> i);
+    Arrays.sort(order, (left, right) -> WorkLogQuery.compareSortKeys(keys[left], keys[right]));
+    return Arrays.stream(order).mapToInt(Integer::intValue).toArray();
+  }
+
+  // 카탈로그 항목은 채워진 이름/코드로, 완료 시간은 조회한 정렬 키로 비교 (WorkLogSegmentStore 정렬에도 사용)
+  static Function<WorkLogDTO.ListResponse, Object> sortKey(String sortField) {
+    return switch (sortField) {
+      case "wl_car_model" -> WorkLogDTO.ListResponse::getCarModel;
+      case "wl_product_color" -> WorkLogDTO.ListResponse::getProductColor;
+      case "wl_product_code" -> WorkLogDTO.ListResponse::getProductCode;
+      case "wl_product_name" -> WorkLogDTO.ListResponse::getProductName;
+      case "wl_quantity" -> WorkLogDTO.ListResponse::getQuantity;
+      case "wl_created_at" -> WorkLogDTO.ListResponse::getCreatedAt;
+      case LOAD_SORT_FIELD -> WorkLogDTO.ListResponse::getSortKey;
+      default -> WorkLogDTO.ListResponse::getWorkDatetime;
+    };
+  }
+
+  // 순열 순서로 읽는 목록 (내림차순은 뒤에서부터)
+  private static final class View extends AbstractList<WorkLogDTO.ListResponse> implements RandomAccess {
+
+    private final WorkLogDTO.ListResponse[] rows;
+    private final int[] permutation;
+    private final boolean descending;
+
+    View(WorkLogDTO.ListResponse[] rows, int[] permutation, boolean descending) {
+      this.rows = rows;
+      this.permutation = permutation;
+      this.descending = descending;
+    }
+
+    @Override
+    public WorkLogDTO.ListResponse get(int index) {
+      return rows[permutation[descending ? permutation.length - 1 - index : index]];
+    }
+
+    @Override
+    public int size() {
+      return permutation.length;
+    }
+  }
+}
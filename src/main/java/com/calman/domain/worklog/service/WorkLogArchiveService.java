@@ -0,0 +1,135 @@
+package com.calman.domain.worklog.service;
+
+import com.calman.domain.worklog.mapper.WorkLogMapper;
+import com.calman.global.config.ArchiveProperties;
+import com.calman.global.sqlite.SqliteBusyDetector;
+import com.calman.global.sqlite.SqliteSchemaMigrator;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 작업 로그 아카이브 서비스
+ * - 보존 기간이 지난 완료 작업 로그를 아카이브 DB(archive.work_logs)로 이동
+ * - 배치마다 복사/삭제를 별도 트랜잭션으로 실행 (ATTACH 된 DB 간 커밋은 WAL 에서 원자적이지 않으므로
+ *   아카이브에 복사가 확인된 행만 삭제하여 중간에 실패해도 유실되지 않도록 함)
+ * - 배치 크기와 배치 간 대기로 쓰기 잠금 점유 시간을 제한
+ * - 아카이브된 가장 늦은 작업시간(horizon)을 기억해 조회 시 UNION 필요 여부를 판단
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@DependsOnDatabaseInitialization
+public class WorkLogArchiveService {
+
+  private final WorkLogMapper workLogMapper;
+  private final ArchiveProperties properties;
+  private final DataSource dataSource;
+  private final TransactionTemplate transactionTemplate;
+  private final ObjectProvider<SqliteSchemaMigrator> schemaMigrator;  // h2 프로파일에는 없음 (아카이브 사용 불가)
+  private final WorkLogListCache listCache;
+
+  private final AtomicReference<LocalDateTime> horizon = new AtomicReference<>();
+
+  @PostConstruct
+  public void initialize() {
+    if (!properties.isEnabled()) {
+      return;
+    }
+
+    ResourceDatabasePopulator populator =
+        new ResourceDatabasePopulator(new ClassPathResource("schema/worklogs-archive.sql"));
+    populator.execute(dataSource);
+    schemaMigrator.getObject().migrate(ArchiveProperties.SCHEMA_NAME, "classpath:schema/migration/archive/");
+
+    horizon.set(workLogMapper.selectArchiveHorizon());
+    log.info("아카이브 연결 완료: path={}, horizon={}", properties.getPath(), horizon.get());
+  }
+
+  /**
+   * 아카이브 사용 여부
+   */
+  public boolean isEnabled() {
+    return properties.isEnabled();
+  }
+
+  /**
+   * 주어진 시작 시각부터의 조회가 아카이브 구간에 걸치는지 확인
+   * @param startDate 조회 시작 시각 (null 이면 전체 기간)
+   * @return 아카이브 테이블도 조회해야 하면 true
+   */
+  public boolean reachesArchive(LocalDateTime startDate) {
+    if (!properties.isEnabled()) {
+      return false;
+    }
+    LocalDateTime archivedUntil = horizon.get();
+    return archivedUntil != null && (startDate == null || !startDate.isAfter(archivedUntil));
+  }
+
+  /**
+   * 보존 기간이 지난 완료 작업 로그를 아카이브로 이동 (트래픽이 적은 새벽 시간대 실행)
+   * @return 이동한 행 수
+   */
+  @Scheduled(cron = "${calman.archive.cron:0 30 2 * * *}")
+  public int archiveCompletedWorkLogs() {
+    if (!properties.isEnabled()) {
+      return 0;
+    }
+
+    LocalDateTime cutoff = LocalDateTime.now().minus(properties.getRetention());
+    long start = System.nanoTime();
+    int moved = 0;
+
+    try {
+      for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+        List<Long> ids = transactionTemplate.execute(status ->
+            workLogMapper.selectArchivableWorkLogIds(cutoff, properties.getBatchSize()));
+        if (ids == null || ids.isEmpty()) {
+          break;
+        }
+
+        // 1) 아카이브로 복사 후 커밋
+        transactionTemplate.executeWithoutResult(status -> workLogMapper.copyWorkLogsToArchive(ids));
+        // 2) 복사가 확인된 행만 원본에서 삭제
+        Integer deleted = transactionTemplate.execute(status -> workLogMapper.deleteArchivedFromHot(ids));
+        moved += deleted != null ? deleted : 0;
+
+        if (ids.size() < properties.getBatchSize()) {
+          break;
+        }
+        // 다른 writer 가 잠금을 얻을 수 있도록 대기
+        TimeUnit.NANOSECONDS.sleep(properties.getBatchPause().toNanos());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (RuntimeException e) {
+      if (!SqliteBusyDetector.isBusy(e)) {
+        throw e;
+      }
+      // 쓰기 경합이 있으면 이번 실행은 중단하고 다음 실행에서 이어서 처리
+      log.info("쓰기 경합으로 아카이브 중단: moved={}", moved);
+    }
+
+    if (moved > 0) {
+      horizon.set(workLogMapper.selectArchiveHorizon());
+      // 아카이브 포함 여부가 바뀐 조회 조건이 생기므로 목록 캐시 전체 무효화
+      listCache.invalidateAll();
+    }
+    log.info("작업 로그 아카이브 완료: moved={}, cutoff={}, elapsed={}ms, horizon={}",
+        moved, cutoff, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), horizon.get());
+    return moved;
+  }
+}
@@ -0,0 +1,357 @@
+package com.calman.domain.worklog.service;
+
+import com.calman.domain.worklog.dto.WorkLogDTO;
+import com.calman.domain.worklog.dto.WorkLogQuery;
+import com.calman.domain.worklog.mapper.WorkLogMapper;
+import com.calman.global.config.ShardingProperties;
+import com.calman.global.config.WorkLogCacheProperties;
+import com.calman.global.mybatis.EpochMillisLocalDateTimeTypeHandler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 캐시 스냅샷 (calman.cache.snapshot)
+ * - 정상 종료 시 자주 사용된 목록 캐시 항목(행 조회 조건 + 행)을 파일 하나로 저장하고,
+ *   기동 시 메모리 매핑으로 읽어 검증한 항목만 목록 캐시에 다시 넣음 (재배포 직후 DB 조회 집중 방지)
+ * - 검증: 목록마다 같은 조건의 DB 지문(행 수:가장 큰 ID:버전 합:ID 나머지 합:행 내용 합)을 조회해 저장된 행으로 계산한
+ *   지문과 비교 (SQLite 파일의 변경 카운터는 WAL 모드에서 커밋마다 바뀌지 않으므로 조건별 지문 사용)
+ * - 아카이브 포함 여부가 바뀐 목록, 형식이 다르거나 max-age 보다 오래된 파일은 버리고 DB 에서 다시 조회
+ * - 파일은 읽은 뒤 삭제하므로 비정상 종료 후에는 이전 스냅샷을 다시 복원하지 않음
+ * - 행 형식은 세그먼트와 같음 (WorkLogSegment.putRow/getRow, 차종/제품은 카탈로그 ID 로 저장)
+ * - 메트릭: worklog.cache.snapshot{result=saved|restored|stale}
+ */
+@Slf4j
+@Component
+@DependsOnDatabaseInitialization
+public class WorkLogCacheSnapshot {
+
+  private static final int MAGIC = 0x574C4353;  // "WLCS"
+  private static final int FORMAT_VERSION = 1;
+  // selectWorkLogFingerprint 의 나머지 연산과 같은 값
+  private static final long ID_MODULUS = 1_000_003;
+
+  private final WorkLogCacheProperties.Snapshot settings;
+  private final WorkLogListCache listCache;
+  private final WorkLogMapper workLogMapper;
+  private final WorkLogShardRouter shardRouter;
+  private final WorkLogArchiveService archiveService;
+  private final WorkLogCatalogService catalogService;
+  private final TransactionTemplate readTemplate;
+
+  private final Counter saved;
+  private final Counter restored;
+  private final Counter stale;
+
+  public WorkLogCacheSnapshot(WorkLogCacheProperties properties, WorkLogListCache listCache,
+      WorkLogMapper workLogMapper, WorkLogShardRouter shardRouter, WorkLogArchiveService archiveService,
+      WorkLogCatalogService catalogService, PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry) {
+    this.settings = properties.getSnapshot();
+    this.listCache = listCache;
+    this.workLogMapper = workLogMapper;
+    this.shardRouter = shardRouter;
+    this.archiveService = archiveService;
+    this.catalogService = catalogService;
+    this.readTemplate = new TransactionTemplate(transactionManager);
+    this.readTemplate.setReadOnly(true);
+
+    saved = counter(meterRegistry, "saved", "종료 시 스냅샷에 저장한 목록 수");
+    restored = counter(meterRegistry, "restored", "기동 시 스냅샷에서 복원한 목록 수");
+    stale = counter(meterRegistry, "stale", "DB 와 달라 복원하지 않은 목록 수");
+  }
+
+  /**
+   * 스냅샷 파일의 목록을 검증 후 목록 캐시에 복원 (기동 완료 직후, 다른 기동 작업보다 먼저)
+   * @return 복원한 목록 수
+   */
+  @Order(0)
+  @EventListener(ApplicationReadyEvent.class)
+  public int restore() {
+    Path file = Paths.get(settings.getPath());
+    if (!settings.isEnabled() || !listCache.isEnabled() || !Files.exists(file)) {
+      return 0;
+    }
+    long start = System.nanoTime();
+    Map<WorkLogQuery, List<WorkLogDTO.ListResponse>> entries;
+    try {
+      entries = read(file, settings.getMaxAge());
+    } catch (IOException e) {
+      log.warn("캐시 스냅샷을 읽을 수 없어 사용하지 않음: {}", e.getMessage());
+      entries = Map.of();
+    } finally {
+      delete(file);
+    }
+
+    int count = 0;
+    for (Map.Entry<WorkLogQuery, List<WorkLogDTO.ListResponse>> entry : entries.entrySet()) {
+      WorkLogQuery query = entry.getKey();
+      List<WorkLogDTO.ListResponse> rows = entry.getValue();
+      // 검증 전에 세대를 읽어 두어 검증 이후의 변경은 preload 에서 걸러짐
+      long observed = listCache.generation();
+      if (query.isIncludeArchive() != archiveService.reachesArchive(query.getStartDate())
+          || !fingerprint(rows).equals(databaseFingerprint(query))) {
+        stale.increment();
+        continue;
+      }
+      listCache.preload(observed, query, catalogService.fill(rows));
+      restored.increment();
+      count++;
+    }
+    log.info("캐시 스냅샷 복원 완료: restored={}, stale={}, elapsed={}ms", count, entries.size() - count,
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    return count;
+  }
+
+  /**
+   * 자주 사용된 목록 캐시 항목을 스냅샷 파일로 저장 (정상 종료 시)
+   */
+  @PreDestroy
+  public void save() {
+    if (!settings.isEnabled() || !listCache.isEnabled()) {
+      return;
+    }
+    Map<WorkLogQuery, List<WorkLogDTO.ListResponse>> entries = listCache.hottest(settings.getMaxEntries());
+    try {
+      int written = write(Paths.get(settings.getPath()), entries);
+      saved.increment(written);
+      log.info("캐시 스냅샷 저장 완료: path={}, entries={}", settings.getPath(), written);
+    } catch (IOException e) {
+      log.warn("캐시 스냅샷 저장 실패: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * 스냅샷 파일 쓰기 (임시 파일에 쓴 뒤 이름 변경)
+   * @return 저장한 목록 수 (행을 저장할 수 없는 목록은 제외)
+   */
+  static int write(Path file, Map<WorkLogQuery, List<WorkLogDTO.ListResponse>> entries) throws IOException {
+    List<ByteBuffer> buffers = new ArrayList<>();
+    ByteBuffer header = ByteBuffer.allocate(Integer.BYTES * 2 + Long.BYTES + Integer.BYTES);
+    buffers.add(header);
+    int written = 0;
+    for (Map.Entry<WorkLogQuery, List<WorkLogDTO.ListResponse>> entry : entries.entrySet()) {
+      try {
+        buffers.add(encode(entry.getKey(), entry.getValue()));
+        written++;
+      } catch (IllegalArgumentException e) {
+        // 완료 시간 정렬 키가 없는 행 (요청한 정렬 그대로 캐시한 경우 등)
+        log.debug("스냅샷에서 제외: query={}", entry.getKey());
+      }
+    }
+    header.putInt(MAGIC).putInt(FORMAT_VERSION).putLong(System.currentTimeMillis()).putInt(written).flip();
+
+    Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+    try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+        StandardOpenOption.TRUNCATE_EXISTING)) {
+      for (ByteBuffer buffer : buffers) {
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+      }
+    }
+    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    return written;
+  }
+
+  /**
+   * 스냅샷 파일 읽기 (메모리 매핑, 행은 복사해서 반환하므로 파일은 바로 삭제 가능)
+   * @param maxAge 이보다 오래된 스냅샷은 빈 결과
+   * @throws IOException 파일을 읽을 수 없거나 형식이 다른 경우
+   */
+  static Map<WorkLogQuery, List<WorkLogDTO.ListResponse>> read(Path file, Duration maxAge) throws IOException {
+    MappedByteBuffer buffer;
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+    try {
+      if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+        throw new IOException("캐시 스냅샷 형식이 아닙니다: " + file);
+      }
+      long createdAt = buffer.getLong();
+      if (System.currentTimeMillis() - createdAt > maxAge.toMillis()) {
+        log.info("오래된 캐시 스냅샷은 사용하지 않음: createdAt={}", createdAt);
+        return Map.of();
+      }
+      int count = buffer.getInt();
+      Map<WorkLogQuery, List<WorkLogDTO.ListResponse>> entries = new LinkedHashMap<>();
+      for (int i = 0; i < count; i++) {
+        WorkLogQuery query = WorkLogQuery.of(getString(buffer), getString(buffer), getString(buffer),
+            getDateTime(buffer), getDateTime(buffer), getString(buffer), getString(buffer), buffer.get() != 0);
+        int rowCount = buffer.getInt();
+        List<WorkLogDTO.ListResponse> rows = new ArrayList<>(rowCount);
+        for (int row = 0; row < rowCount; row++) {
+          rows.add(WorkLogSegment.getRow(buffer, buffer.position()));
+          buffer.position(buffer.position() + WorkLogSegment.ROW_BYTES);
+        }
+        entries.put(query, rows);
+      }
+      if (buffer.hasRemaining()) {
+        throw new IOException("캐시 스냅샷 크기가 맞지 않습니다: " + file);
+      }
+      return entries;
+    } catch (IndexOutOfBoundsException | BufferUnderflowException | IllegalArgumentException | DateTimeException e) {
+      throw new IOException("캐시 스냅샷이 손상되었습니다: " + file, e);
+    }
+  }
+
+  /**
+   * 행으로 계산한 지문 (selectWorkLogFingerprint 와 같은 형식, 행 내용 값은 workLogContent 와 같은 식)
+   * - 완료 시간은 행 조회 정렬(SortedWorkLogs.LOAD_SORT_FIELD)의 정렬 키에서 가져옴
+   */
+  static String fingerprint(List<WorkLogDTO.ListResponse> rows) {
+    long maxId = 0;
+    long versions = 0;
+    long ids = 0;
+    long contents = 0;
+    for (WorkLogDTO.ListResponse row : rows) {
+      maxId = Math.max(maxId, row.getId());
+      versions += row.getVersion() != null ? row.getVersion() : 0;
+      ids += row.getId() % ID_MODULUS;
+      contents += (row.getId() % ID_MODULUS) * (content(row) % ID_MODULUS) % ID_MODULUS;
+    }
+    return rows.size() + ":" + maxId + ":" + versions + ":" + ids + ":" + contents;
+  }
+
+  private static long content(WorkLogDTO.ListResponse row) {
+    long workDatetime = EpochMillisLocalDateTimeTypeHandler.toEpochMillis(row.getWorkDatetime());
+    long completedAt = row.isCompleted() && row.getSortKey() instanceof Number millis ? millis.longValue() : 0;
+    return (((workDatetime * 31 + value(row.getCarModelId())) * 31 + value(row.getProductId())) * 31
+        + value(row.getQuantity())) * 31 + completedAt;
+  }
+
+  private static long value(Number number) {
+    return number != null ? number.longValue() : 0;
+  }
+
+  // 같은 조건의 DB 지문 (샤드 사용 시 샤드별 지문을 합산)
+  private String databaseFingerprint(WorkLogQuery query) {
+    if (!shardRouter.isEnabled()) {
+      return readTemplate.execute(status -> workLogMapper.selectWorkLogFingerprint(query));
+    }
+    long count = 0;
+    long maxId = 0;
+    long versions = 0;
+    long ids = 0;
+    long contents = 0;
+    for (String fingerprint : shardRouter.fanOut(shard -> workLogMapper.selectWorkLogFingerprint(
+        archiveService.isEnabled() && ShardingProperties.MAIN_SHARD.equals(shard) ? query : query.withoutArchive()))) {
+      String[] parts = fingerprint.split(":");
+      count += Long.parseLong(parts[0]);
+      maxId = Math.max(maxId, Long.parseLong(parts[1]));
+      versions += Long.parseLong(parts[2]);
+      ids += Long.parseLong(parts[3]);
+      contents += Long.parseLong(parts[4]);
+    }
+    return count + ":" + maxId + ":" + versions + ":" + ids + ":" + contents;
+  }
+
+  // 조회 조건 + 행 수 + 고정 길이 행
+  private static ByteBuffer encode(WorkLogQuery query, List<WorkLogDTO.ListResponse> rows) {
+    byte[][] strings = {
+        bytes(query.getCarModel()), bytes(query.getProductCode()), bytes(query.getStatus()),
+        bytes(query.getSortField()), bytes(query.getSortDirection())};
+    int size = (Long.BYTES + Integer.BYTES + 1) * 2 + 1 + Integer.BYTES + rows.size() * WorkLogSegment.ROW_BYTES;
+    for (byte[] string : strings) {
+      size += Integer.BYTES + (string != null ? string.length : 0);
+    }
+
+    ByteBuffer out = ByteBuffer.allocate(size);
+    putString(out, strings[0]);
+    putString(out, strings[1]);
+    putString(out, strings[2]);
+    putDateTime(out, query.getStartDate());
+    putDateTime(out, query.getEndDate());
+    putString(out, strings[3]);
+    putString(out, strings[4]);
+    out.put((byte) (query.isIncludeArchive() ? 1 : 0));
+    out.putInt(rows.size());
+    for (WorkLogDTO.ListResponse row : rows) {
+      WorkLogSegment.putRow(out, row);
+    }
+    return out.flip();
+  }
+
+  private static byte[] bytes(String value) {
+    return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+  }
+
+  // 길이(-1 이면 null) + UTF-8
+  private static void putString(ByteBuffer out, byte[] value) {
+    out.putInt(value != null ? value.length : -1);
+    if (value != null) {
+      out.put(value);
+    }
+  }
+
+  private static String getString(ByteBuffer buffer) {
+    int length = buffer.getInt();
+    if (length < 0) {
+      return null;
+    }
+    if (length > buffer.remaining()) {
+      throw new BufferUnderflowException();
+    }
+    byte[] value = new byte[length];
+    buffer.get(value);
+    return new String(value, StandardCharsets.UTF_8);
+  }
+
+  // 존재 여부 + epoch 초 + 나노초 (조회 조건은 캐시 키이므로 나노초까지 그대로 보관)
+  private static void putDateTime(ByteBuffer out, LocalDateTime value) {
+    out.put((byte) (value != null ? 1 : 0));
+    out.putLong(value != null ? value.toEpochSecond(ZoneOffset.UTC) : 0);
+    out.putInt(value != null ? value.getNano() : 0);
+  }
+
+  private static LocalDateTime getDateTime(ByteBuffer buffer) {
+    boolean present = buffer.get() != 0;
+    long seconds = buffer.getLong();
+    int nanos = buffer.getInt();
+    return present ? LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC) : null;
+  }
+
+  private static void delete(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      log.warn("캐시 스냅샷 삭제 실패: {}", file);
+    }
+  }
+
+  private static Counter counter(MeterRegistry meterRegistry, String result, String description) {
+    return Counter.builder("worklog.cache.snapshot")
+        .description(description)
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
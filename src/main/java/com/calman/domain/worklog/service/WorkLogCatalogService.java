@@ -0,0 +1,220 @@
+package com.calman.domain.worklog.service;
+
+import com.calman.domain.worklog.dto.WorkLogCatalogReference;
+import com.calman.domain.worklog.dto.WorkLogDTO;
+import com.calman.domain.worklog.mapper.WorkLogCatalogMapper;
+import com.calman.global.config.ShardingProperties;
+import com.calman.global.datasource.ShardContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 차종/제품 카탈로그 서비스
+ * - 작업 로그는 차종/제품 텍스트 대신 카탈로그 ID 를 저장하므로, 저장 전에 이름을 ID 로 변환하고
+ *   조회 결과의 ID 는 다시 이름으로 채워 기존 WorkLogDTO 형태를 유지
+ * - 카탈로그는 작고 거의 늘어나지 않으므로 전체를 메모리에 두고, 캐시에 없는 항목만 DB 에서 조회/등록
+ * - 트랜잭션 안에서 새로 알게 된 항목은 커밋된 뒤에 캐시에 넣음 (롤백된 ID 가 재사용될 수 있으므로)
+ * - 카탈로그는 main 샤드(기본 DB)에만 있고 다른 샤드 커넥션은 읽기 전용으로 ATTACH 하므로,
+ *   다른 샤드에 저장할 차종/제품은 샤드를 지정하기 전에 register 로 main 에 등록 (WorkLogShardAspect)
+ */
+@Slf4j
+@Service
+public class WorkLogCatalogService {
+
+  private final WorkLogCatalogMapper catalogMapper;
+  private final TransactionTemplate registerTemplate;
+
+  private final Map<String, Long> carModelIds = new ConcurrentHashMap<>();
+  private final Map<Long, String> carModelNames = new ConcurrentHashMap<>();
+  private final Map<ProductKey, Long> productIds = new ConcurrentHashMap<>();
+  private final Map<Long, WorkLogDTO.Product> products = new ConcurrentHashMap<>();
+
+  public WorkLogCatalogService(WorkLogCatalogMapper catalogMapper, PlatformTransactionManager transactionManager) {
+    this.catalogMapper = catalogMapper;
+    // 샤드 요청 전에 main 쓰기 커넥션에서 바로 커밋하도록 항상 새 트랜잭션
+    this.registerTemplate = new TransactionTemplate(transactionManager);
+    this.registerTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  /**
+   * 기동 완료 후 전체 카탈로그를 캐시에 적재
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void load() {
+    catalogMapper.selectCarModels().forEach(this::putCarModel);
+    catalogMapper.selectProducts().forEach(this::putProduct);
+    log.info("카탈로그 캐시 적재 완료: carModels={}, products={}", carModelNames.size(), products.size());
+  }
+
+  /**
+   * 차종 ID 조회 (없으면 등록, 쓰기 트랜잭션 안에서 호출, 다른 샤드는 register 로 미리 등록)
+   * @param carModel 차종
+   * @return 차종 ID
+   * @throws IllegalArgumentException 차종이 비어 있는 경우
+   */
+  public Long carModelId(String carModel) {
+    String name = require("차종", carModel);
+    Long id = carModelIds.get(name);
+    if (id == null) {
+      id = catalogMapper.upsertCarModel(name);
+      WorkLogDTO.CarModel created = new WorkLogDTO.CarModel(id, name);
+      afterCommit(() -> putCarModel(created));
+    }
+    return id;
+  }
+
+  /**
+   * 제품 ID 조회 (같은 코드/이름/색상 조합이 없으면 등록, 쓰기 트랜잭션 안에서 호출, 다른 샤드는 register 로 미리 등록)
+   * @param productCode 제품 코드
+   * @param productName 제품 이름
+   * @param productColor 제품 색상
+   * @return 제품 ID
+   * @throws IllegalArgumentException 값이 비어 있는 경우
+   */
+  public Long productId(String productCode, String productName, String productColor) {
+    ProductKey key = new ProductKey(
+        require("제품 코드", productCode), require("제품 이름", productName), require("제품 색상", productColor));
+    Long id = productIds.get(key);
+    if (id == null) {
+      id = catalogMapper.upsertProduct(key.code(), key.name(), key.color());
+      WorkLogDTO.Product created = new WorkLogDTO.Product(id, key.code(), key.name(), key.color());
+      afterCommit(() -> putProduct(created));
+    }
+    return id;
+  }
+
+  /**
+   * 캐시에 없는 차종/제품을 main 샤드에 등록 (다른 샤드의 트랜잭션을 시작하기 전에 호출)
+   * - main 쓰기 커넥션에서 별도 트랜잭션으로 커밋하고 캐시에 넣으므로, 이후 샤드 트랜잭션의
+   *   carModelId/productId 는 캐시에서 응답 (샤드 쓰기 커넥션을 잡은 채 main 쓰기 락을 기다리지 않음)
+   * - 비어 있는 값은 무시하고, 제품은 코드/이름/색상이 모두 있을 때만 등록
+   * @param carModel 차종 (null 이면 무시)
+   * @param productCode 제품 코드
+   * @param productName 제품 이름
+   * @param productColor 제품 색상
+   */
+  public void register(String carModel, String productCode, String productName, String productColor) {
+    boolean registerCarModel = carModel != null && !carModelIds.containsKey(carModel);
+    boolean registerProduct = productCode != null && productName != null && productColor != null
+        && !productIds.containsKey(new ProductKey(productCode, productName, productColor));
+    if (!registerCarModel && !registerProduct) {
+      return;
+    }
+
+    ShardContext.call(ShardingProperties.MAIN_SHARD, () -> registerTemplate.execute(status -> {
+      if (registerCarModel) {
+        carModelId(carModel);
+      }
+      if (registerProduct) {
+        productId(productCode, productName, productColor);
+      }
+      return null;
+    }));
+  }
+
+  /**
+   * 조회 결과의 카탈로그 ID 를 차종/제품 정보로 채움
+   * @param workLog 작업 로그 또는 목록 항목 (null 이면 무시)
+   * @return 전달한 작업 로그
+   */
+  public <T extends WorkLogCatalogReference> T fill(T workLog) {
+    if (workLog == null) {
+      return null;
+    }
+    if (workLog.getCarModelId() != null) {
+      workLog.setCarModel(carModelName(workLog.getCarModelId()));
+    }
+    if (workLog.getProductId() != null) {
+      WorkLogDTO.Product product = product(workLog.getProductId());
+      if (product != null) {
+        workLog.setProductCode(product.getCode());
+        workLog.setProductName(product.getName());
+        workLog.setProductColor(product.getColor());
+      }
+    }
+    return workLog;
+  }
+
+  /**
+   * 조회 결과 목록의 카탈로그 ID 를 차종/제품 정보로 채움
+   * @param workLogs 작업 로그 목록
+   * @return 전달한 작업 로그 목록
+   */
+  public <T extends Collection<? extends WorkLogCatalogReference>> T fill(T workLogs) {
+    for (WorkLogCatalogReference workLog : workLogs) {
+      fill(workLog);
+    }
+    return workLogs;
+  }
+
+  private String carModelName(Long id) {
+    String name = carModelNames.get(id);
+    if (name == null) {
+      WorkLogDTO.CarModel carModel = catalogMapper.selectCarModelById(id);
+      if (carModel == null) {
+        return null;
+      }
+      afterCommit(() -> putCarModel(carModel));
+      name = carModel.getName();
+    }
+    return name;
+  }
+
+  private WorkLogDTO.Product product(Long id) {
+    WorkLogDTO.Product product = products.get(id);
+    if (product == null) {
+      product = catalogMapper.selectProductById(id);
+      if (product != null) {
+        WorkLogDTO.Product loaded = product;
+        afterCommit(() -> putProduct(loaded));
+      }
+    }
+    return product;
+  }
+
+  private void putCarModel(WorkLogDTO.CarModel carModel) {
+    carModelIds.put(carModel.getName(), carModel.getId());
+    carModelNames.put(carModel.getId(), carModel.getName());
+  }
+
+  private void putProduct(WorkLogDTO.Product product) {
+    productIds.put(new ProductKey(product.getCode(), product.getName(), product.getColor()), product.getId());
+    products.put(product.getId(), product);
+  }
+
+  // 트랜잭션이 없거나 읽기 전용이면 바로 실행, 쓰기 트랜잭션이면 커밋 후 실행
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()
+        || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+
+  private static String require(String field, String value) {
+    if (value == null) {
+      throw new IllegalArgumentException(field + " 값은 비울 수 없습니다.");
+    }
+    return value;
+  }
+
+  private record ProductKey(String code, String name, String color) {
+  }
+}
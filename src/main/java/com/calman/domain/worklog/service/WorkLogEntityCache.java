@@ -0,0 +1,205 @@
+package com.calman.domain.worklog.service;
+
+import com.calman.domain.worklog.dto.WorkLogDTO;
+import com.calman.global.config.WorkLogCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * ID 별 작업 로그 캐시 (calman.cache.entity)
+ * - 조회 결과(카탈로그 정보까지 채운 행)를 크기/만료 시간 제한으로 보관하고, 호출한 쪽에는 복사본을 반환
+ * - 수정/상태 변경은 커밋 후 변경된 행을 그대로 저장 (write-through), 삭제/일괄 처리는 커밋 후 제거
+ * - 저장은 버전(wl_version)이 더 높은 행만 반영하므로 늦게 끝난 조회가 새 행을 덮어쓰지 않고,
+ *   조회/변경 중에 제거가 있었으면 그 결과는 남기지 않음 (삭제된 행이 다시 캐시되는 경우 방지)
+ * - 새로 생성된 ID 는 캐시에 있을 수 없으므로 생성/일괄 적재는 갱신할 항목이 없음
+ * - 메트릭: cache.gets{cache=worklog.entity,result=hit|miss}, cache.evictions
+ */
+@Component
+public class WorkLogEntityCache {
+
+  static final String CACHE_NAME = "worklog.entity";
+
+  private final Cache<Long, WorkLogDTO> cache;
+  private final AtomicLong generation = new AtomicLong();
+  private final ReadWriteLock storeLock = new ReentrantReadWriteLock();
+
+  public WorkLogEntityCache(WorkLogCacheProperties properties, MeterRegistry meterRegistry) {
+    WorkLogCacheProperties.EntityCache settings = properties.getEntity();
+    if (settings.isEnabled()) {
+      cache = Caffeine.newBuilder()
+          .maximumSize(settings.getMaximumSize())
+          .expireAfterWrite(settings.getExpireAfterWrite())
+          .recordStats()
+          .build();
+      CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    } else {
+      cache = null;
+    }
+  }
+
+  /**
+   * 캐시 사용 여부
+   */
+  public boolean isEnabled() {
+    return cache != null;
+  }
+
+  /**
+   * 캐시된 작업 로그 조회 (없으면 조회 후 저장, 없는 ID 는 캐시하지 않음)
+   * @param id 작업 로그 ID
+   * @param loader DB 조회 (카탈로그 정보까지 채운 행)
+   * @return 작업 로그 복사본 (없으면 null)
+   */
+  public WorkLogDTO get(Long id, Function<Long, WorkLogDTO> loader) {
+    if (cache == null || id == null) {
+      return loader.apply(id);
+    }
+    WorkLogDTO cached = cache.getIfPresent(id);
+    if (cached != null) {
+      return copy(cached);
+    }
+
+    long observed = generation.get();
+    WorkLogDTO loaded = loader.apply(id);
+    if (loaded == null) {
+      return null;
+    }
+    WorkLogDTO stored = copy(loaded);
+    storeLock.readLock().lock();
+    try {
+      // 조회 중에 제거가 있었으면 제거 전에 읽은 행일 수 있으므로 저장하지 않음
+      if (generation.get() == observed) {
+        store(stored);
+      }
+    } finally {
+      storeLock.readLock().unlock();
+    }
+    return loaded;
+  }
+
+  /**
+   * 변경된 작업 로그 저장 (트랜잭션 안이면 커밋 후)
+   * @param workLog 변경 후 행 (카탈로그 정보까지 채운 행, null 이면 무시)
+   */
+  public void put(WorkLogDTO workLog) {
+    if (cache == null || workLog == null || workLog.getId() == null) {
+      return;
+    }
+    WorkLogDTO stored = copy(workLog);
+    long observed = generation.get();
+    afterCommit(() -> {
+      storeLock.readLock().lock();
+      try {
+        if (generation.get() == observed) {
+          store(stored);
+        } else {
+          // 변경 후 다른 트랜잭션의 삭제가 지나갔을 수 있으므로 저장하지 않고 기존 항목도 제거
+          cache.invalidate(stored.getId());
+        }
+      } finally {
+        storeLock.readLock().unlock();
+      }
+    });
+  }
+
+  /**
+   * 작업 로그 제거 (트랜잭션 안이면 트랜잭션이 끝난 뒤)
+   * @param ids 삭제되었거나 일괄 변경된 작업 로그 ID
+   */
+  public void evict(Collection<Long> ids) {
+    if (cache == null || ids.isEmpty()) {
+      return;
+    }
+    List<Long> evicted = List.copyOf(ids);
+    afterCompletion(() -> evictLocked(() -> cache.invalidateAll(evicted)));
+  }
+
+  /**
+   * 전체 제거 (서비스를 거치지 않은 대량 변경)
+   */
+  public void evictAll() {
+    if (cache == null) {
+      return;
+    }
+    afterCompletion(() -> evictLocked(cache::invalidateAll));
+  }
+
+  // 세대를 올린 뒤 제거 (이후 저장은 이 제거 전에 읽은 행을 버림)
+  private void evictLocked(Runnable eviction) {
+    storeLock.writeLock().lock();
+    try {
+      generation.incrementAndGet();
+      eviction.run();
+    } finally {
+      storeLock.writeLock().unlock();
+    }
+  }
+
+  // 버전이 같거나 더 높은 행만 반영
+  private void store(WorkLogDTO workLog) {
+    cache.asMap().merge(workLog.getId(), workLog, (current, candidate) -> version(candidate) >= version(current)
+        ? candidate : current);
+  }
+
+  private static int version(WorkLogDTO workLog) {
+    return workLog.getVersion() != null ? workLog.getVersion() : -1;
+  }
+
+  // 캐시 항목은 호출한 쪽에서 변경할 수 없도록 복사해서 보관/반환
+  private static WorkLogDTO copy(WorkLogDTO workLog) {
+    return WorkLogDTO.builder()
+        .id(workLog.getId())
+        .workDatetime(workLog.getWorkDatetime())
+        .carModel(workLog.getCarModel())
+        .productColor(workLog.getProductColor())
+        .productCode(workLog.getProductCode())
+        .productName(workLog.getProductName())
+        .quantity(workLog.getQuantity())
+        .completedAt(workLog.getCompletedAt())
+        .createdAt(workLog.getCreatedAt())
+        .version(workLog.getVersion())
+        .carModelId(workLog.getCarModelId())
+        .productId(workLog.getProductId())
+        .build();
+  }
+
+  // 롤백된 변경은 저장하지 않도록 커밋 후 실행
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+
+  // 커밋/롤백과 관계없이 트랜잭션이 끝난 뒤 실행 (샤드별로 먼저 커밋된 변경이 있을 수 있으므로 롤백에도 제거)
+  private static void afterCompletion(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        action.run();
+      }
+    });
+  }
+}
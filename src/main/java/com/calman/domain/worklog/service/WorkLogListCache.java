@@ -0,0 +1,383 @@
+package com.calman.domain.worklog.service;
+
+import com.calman.domain.worklog.dto.WorkLogDTO;
+import com.calman.domain.worklog.dto.WorkLogQuery;
+import com.calman.global.config.WorkLogCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * 작업 로그 목록 조회 결과 캐시 (calman.cache.list)
+ * - 정렬을 제외한 조회 조건(WorkLogQuery)을 키로 카탈로그 정보까지 채운 목록을 보관 (행 수 기준 크기 제한)
+ * - 정렬만 다른 조회는 DB 를 다시 조회하지 않고 보관한 행의 정렬 필드별 순열로 응답 (SortedWorkLogs)
+ * - 변경 시 변경된 행의 작업 날짜/차종이 조회 범위에 포함되는 결과만 무효화
+ * - 무효화는 트랜잭션이 끝난 뒤 실행하고, 조회 중에 무효화가 있었으면 그 조회 결과는 캐시에 남기지 않음
+ *   (변경 전 스냅샷으로 읽은 결과가 무효화 이후에 저장되는 경우 방지, 저장과 무효화는 잠금으로 순서를 보장)
+ * - 캐시에 없는 같은 조건의 동시 조회는 먼저 시작한 조회 하나만 실행하고 결과를 공유 (calman.cache.list.coalesce)
+ *   (조회를 시작한 뒤 무효화가 있었으면 공유하지 않고 새로 조회하므로 변경 후 시작한 조회가 변경 전 결과를 받지 않음)
+ * - 무효화할 때마다 변경 버전(날짜별, 날짜를 알 수 없는 변경은 전체)을 올려 목록 응답의 ETag 로 사용
+ *   (캐시를 꺼도 버전은 유지, 버전은 캐시 항목을 제거한 뒤 올리므로 새 버전으로 이전 목록을 받는 경우 없음)
+ * - 메트릭: cache.gets{cache=worklog.list,result=hit|miss}, cache.evictions, worklog.list.cache.load,
+ *   worklog.list.cache.invalidations, worklog.list.queries{result=executed|coalesced}
+ */
+@Slf4j
+@Component
+public class WorkLogListCache {
+
+  static final String CACHE_NAME = "worklog.list";
+
+  /**
+   * 날짜별 변경 버전으로 ETag 를 만드는 최대 조회 기간 (더 길거나 기간 제한이 없으면 전체 변경 버전)
+   */
+  static final int MAX_VERSIONED_DAYS = 62;
+
+  private final Cache<WorkLogQuery, SortedWorkLogs> cache;
+  private final AtomicLong generation = new AtomicLong();
+  private final ReadWriteLock storeLock = new ReentrantReadWriteLock();
+  // 변경 버전 (재시작 시 0 부터 다시 세므로 ETag 에 기동 시각을 함께 포함)
+  private final long epoch = System.currentTimeMillis();
+  private final AtomicLong changeSequence = new AtomicLong();
+  private final Map<LocalDate, Long> dayVersions = new ConcurrentHashMap<>();
+  private volatile long wildcardVersion;
+  // 실행 중인 조회 (조건별 하나)
+  private final Map<WorkLogQuery, InFlight> inFlight = new ConcurrentHashMap<>();
+  private final boolean coalesce;
+  private final Timer loadTimer;
+  private final Counter invalidations;
+  private final Counter executedQueries;
+  private final Counter coalescedQueries;
+
+  public WorkLogListCache(WorkLogCacheProperties properties, MeterRegistry meterRegistry) {
+    WorkLogCacheProperties.ListCache settings = properties.getList();
+    if (settings.isEnabled()) {
+      cache = Caffeine.newBuilder()
+          .maximumWeight(settings.getMaximumRows())
+          .weigher((WorkLogQuery query, SortedWorkLogs workLogs) -> workLogs.size() + 1)
+          .expireAfterWrite(settings.getExpireAfterWrite())
+          .recordStats()
+          .build();
+      CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    } else {
+      cache = null;
+    }
+    loadTimer = Timer.builder("worklog.list.cache.load")
+        .description("목록 캐시에 없어 DB 에서 조회한 시간")
+        .register(meterRegistry);
+    invalidations = Counter.builder("worklog.list.cache.invalidations")
+        .description("목록 캐시에서 무효화된 조회 결과 수")
+        .register(meterRegistry);
+    coalesce = settings.isCoalesce();
+    executedQueries = Counter.builder("worklog.list.queries")
+        .description("캐시에 없어 실행한 목록 조회 수")
+        .tag("result", "executed")
+        .register(meterRegistry);
+    coalescedQueries = Counter.builder("worklog.list.queries")
+        .description("실행 중인 같은 조건의 조회 결과를 공유한 목록 조회 수")
+        .tag("result", "coalesced")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 캐시 사용 여부
+   */
+  public boolean isEnabled() {
+    return cache != null;
+  }
+
+  /**
+   * 캐시된 목록 조회 (없으면 조회 후 저장, 같은 조건의 조회가 실행 중이면 그 결과를 기다림)
+   * @param query 정규화된 조회 조건
+   * @param loader DB 조회 (전달한 조건의 정렬 순서로 카탈로그 정보까지 채운 목록)
+   * @return 조회 조건의 정렬 순서로 본 목록 (변경 불가)
+   */
+  public List<WorkLogDTO.ListResponse> get(WorkLogQuery query,
+      Function<WorkLogQuery, List<WorkLogDTO.ListResponse>> loader) {
+    return rows(rowsKey(query), loader).sorted(query);
+  }
+
+  /**
+   * 조회 조건의 행이 캐시에 있는지 (적중/실패 통계와 만료 순서에 영향 없음, 미리 읽기 판단용)
+   */
+  public boolean isCached(WorkLogQuery query) {
+    return cache != null && cache.asMap().containsKey(rowsKey(query));
+  }
+
+  /**
+   * 자주 사용된 순서의 캐시된 행 (캐시 스냅샷 저장용, 행 조회 조건 -> 조회한 순서의 행)
+   */
+  Map<WorkLogQuery, List<WorkLogDTO.ListResponse>> hottest(int limit) {
+    if (cache == null) {
+      return Map.of();
+    }
+    Map<WorkLogQuery, List<WorkLogDTO.ListResponse>> hottest = new LinkedHashMap<>();
+    cache.policy().eviction()
+        .map(eviction -> eviction.hottest(limit))
+        .orElse(Map.of())
+        .forEach((query, workLogs) -> hottest.put(query, workLogs.rows()));
+    return hottest;
+  }
+
+  /**
+   * 현재 무효화 세대 (preload 전에 읽어 두고 전달)
+   */
+  long generation() {
+    return generation.get();
+  }
+
+  /**
+   * 다른 곳에서 읽은 행 저장 (캐시 스냅샷 복원, 세대를 읽은 뒤 무효화가 있었으면 저장하지 않음)
+   * @param observed 행을 검증하기 전에 읽은 generation()
+   * @param rowsQuery 행 조회 조건 (rowsKey)
+   * @param rows 행 조회 조건의 정렬 순서로 카탈로그 정보까지 채운 행
+   */
+  void preload(long observed, WorkLogQuery rowsQuery, List<WorkLogDTO.ListResponse> rows) {
+    if (cache != null) {
+      SortedWorkLogs workLogs = new SortedWorkLogs(rows, rowsQuery);
+      storeIfUnchanged(observed, () -> cache.put(rowsQuery, workLogs));
+    }
+  }
+
+  // 행을 조회/보관하는 조건 (정렬 제외, 캐시를 끄면 다시 정렬할 일이 없으므로 요청한 정렬 그대로)
+  WorkLogQuery rowsKey(WorkLogQuery query) {
+    return cache != null ? query.withSort(SortedWorkLogs.LOAD_SORT_FIELD, "ASC") : query;
+  }
+
+  // 정렬을 제외한 같은 조건의 행 (캐시에 없으면 조회)
+  private SortedWorkLogs rows(WorkLogQuery query, Function<WorkLogQuery, List<WorkLogDTO.ListResponse>> loader) {
+    if (cache != null) {
+      SortedWorkLogs cached = cache.getIfPresent(query);
+      if (cached != null) {
+        return cached;
+      }
+    }
+    if (!coalesce) {
+      return load(generation.get(), query, loader);
+    }
+
+    // 같은 조건의 조회가 실행 중이고 그 뒤로 무효화가 없었으면 결과 공유, 아니면 직접 조회
+    long observed = generation.get();
+    InFlight own = new InFlight(observed, new CompletableFuture<>());
+    InFlight current = inFlight.compute(query,
+        (key, running) -> running != null && running.generation() == observed ? running : own);
+    if (current != own) {
+      coalescedQueries.increment();
+      return await(current.result());
+    }
+    try {
+      SortedWorkLogs workLogs = load(observed, query, loader);
+      own.result().complete(workLogs);
+      return workLogs;
+    } catch (RuntimeException | Error e) {
+      own.result().completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(query, own);
+    }
+  }
+
+  /**
+   * 변경된 날짜/차종을 포함하는 목록 무효화 (트랜잭션 안이면 트랜잭션이 끝난 뒤)
+   * @param scopes 변경된 행의 날짜/차종
+   */
+  public void invalidate(Collection<Scope> scopes) {
+    if (scopes.isEmpty()) {
+      return;
+    }
+    Set<Scope> affected = Set.copyOf(scopes);
+    afterCompletion(() -> invalidateLocked(affected, () -> {
+      if (cache != null) {
+        int before = cache.asMap().size();
+        cache.asMap().keySet().removeIf(query -> affected.stream().anyMatch(scope -> scope.affects(query)));
+        invalidations.increment(Math.max(0, before - cache.asMap().size()));
+      }
+    }));
+  }
+
+  /**
+   * 전체 무효화 (서비스를 거치지 않은 대량 변경, 아카이브 이동 등)
+   */
+  public void invalidateAll() {
+    afterCompletion(() -> invalidateLocked(Set.of(new Scope(null, null)), () -> {
+      if (cache != null) {
+        invalidations.increment(cache.asMap().size());
+        cache.invalidateAll();
+        log.debug("목록 캐시 전체 무효화");
+      }
+    }));
+  }
+
+  /**
+   * 목록 응답의 ETag (조회 조건 + 조회 기간의 변경 버전, DB 를 조회하지 않음)
+   * - 데이터를 조회하기 전에 계산해야 함 (조회 중 변경이 있으면 이전 ETag 와 새 목록이 짝지어져 다음 요청에서 다시 조회)
+   * @param query 정규화된 조회 조건
+   * @return 따옴표 없는 강한 ETag 값
+   */
+  public String versionTag(WorkLogQuery query) {
+    return Long.toString(epoch, 36) + "-" + Long.toString(changeVersion(query), 36)
+        + "-" + Integer.toHexString(query.hashCode());
+  }
+
+  // 조회 기간에 포함된 날짜의 마지막 변경 버전 (기간이 길거나 제한이 없으면 전체 변경 버전)
+  long changeVersion(WorkLogQuery query) {
+    if (query.getStartDate() == null || query.getEndDate() == null) {
+      return changeSequence.get();
+    }
+    LocalDate first = query.getStartDate().toLocalDate();
+    LocalDate last = query.getEndDate().toLocalDate();
+    if (last.isBefore(first)) {
+      return wildcardVersion;
+    }
+    if (ChronoUnit.DAYS.between(first, last) >= MAX_VERSIONED_DAYS) {
+      return changeSequence.get();
+    }
+    long version = wildcardVersion;
+    for (LocalDate day = first; !day.isAfter(last); day = day.plusDays(1)) {
+      version = Math.max(version, dayVersions.getOrDefault(day, 0L));
+    }
+    return version;
+  }
+
+  // DB 조회 후 조회를 시작한 뒤 무효화가 없었으면 캐시에 저장
+  private SortedWorkLogs load(long observed, WorkLogQuery query,
+      Function<WorkLogQuery, List<WorkLogDTO.ListResponse>> loader) {
+    executedQueries.increment();
+    long start = System.nanoTime();
+    SortedWorkLogs workLogs = new SortedWorkLogs(loader.apply(query), query);
+    loadTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    if (cache != null) {
+      storeIfUnchanged(observed, () -> cache.put(query, workLogs));
+    }
+    return workLogs;
+  }
+
+  // 공유한 조회의 결과 (실패하면 같은 예외)
+  private static SortedWorkLogs await(CompletableFuture<SortedWorkLogs> result) {
+    try {
+      return result.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  // 조회를 시작한 뒤 무효화가 없었을 때만 저장 (저장끼리는 동시에, 무효화와는 번갈아 실행)
+  private void storeIfUnchanged(long observed, Runnable store) {
+    storeLock.readLock().lock();
+    try {
+      if (generation.get() == observed) {
+        store.run();
+      }
+    } finally {
+      storeLock.readLock().unlock();
+    }
+  }
+
+  // 세대를 올린 뒤 무효화 (이후 저장은 이 무효화 전에 시작한 조회 결과를 버림), 캐시 항목을 제거한 뒤 변경 버전 증가
+  private void invalidateLocked(Set<Scope> scopes, Runnable invalidation) {
+    storeLock.writeLock().lock();
+    try {
+      generation.incrementAndGet();
+      invalidation.run();
+      long version = changeSequence.incrementAndGet();
+      for (Scope scope : scopes) {
+        if (scope.day() == null) {
+          wildcardVersion = version;
+        } else {
+          dayVersions.put(scope.day(), version);
+        }
+      }
+    } finally {
+      storeLock.writeLock().unlock();
+    }
+  }
+
+  // 커밋/롤백과 관계없이 트랜잭션이 끝난 뒤 실행 (샤드별로 먼저 커밋된 변경이 있을 수 있으므로 롤백에도 무효화)
+  private static void afterCompletion(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        action.run();
+      }
+    });
+  }
+
+  // 실행 중인 조회 (시작 시점의 세대, 결과)
+  private record InFlight(long generation, CompletableFuture<SortedWorkLogs> result) {
+  }
+
+  /**
+   * 변경된 행의 범위 (작업 날짜, 차종)
+   * @param day 작업 날짜 (null 이면 모든 날짜)
+   * @param carModel 차종 이름 (null 이면 모든 차종)
+   */
+  public record Scope(LocalDate day, String carModel) {
+
+    /**
+     * 작업 로그의 현재 날짜/차종
+     */
+    public static Scope of(WorkLogDTO workLog) {
+      return new Scope(workLog.getWorkDatetime() != null ? workLog.getWorkDatetime().toLocalDate() : null,
+          workLog.getCarModel());
+    }
+
+    /**
+     * 이 범위의 변경이 조회 결과에 영향을 주는지 확인 (판단할 수 없으면 영향 있음)
+     */
+    boolean affects(WorkLogQuery query) {
+      if (day != null) {
+        LocalDateTime dayStart = day.atStartOfDay();
+        LocalDateTime nextDayStart = day.plusDays(1).atStartOfDay();
+        if (query.getStartDate() != null && !query.getStartDate().isBefore(nextDayStart)) {
+          return false;
+        }
+        if (query.getEndDate() != null && query.getEndDate().isBefore(dayStart)) {
+          return false;
+        }
+      }
+      return carModel == null || query.getCarModel() == null || matchesCarModel(query.getCarModel());
+    }
+
+    // 차종 필터는 LIKE 부분 일치 (SQLite LIKE 는 ASCII 대소문자 구분 없음, 와일드카드가 있으면 영향 있음으로 판단)
+    private boolean matchesCarModel(String filter) {
+      if (filter.indexOf('%') >= 0 || filter.indexOf('_') >= 0) {
+        return true;
+      }
+      return carModel.toLowerCase(Locale.ROOT).contains(filter.toLowerCase(Locale.ROOT));
+    }
+  }
+}
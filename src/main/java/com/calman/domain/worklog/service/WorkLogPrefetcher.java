@@ -0,0 +1,279 @@
+package com.calman.domain.worklog.service;
+
+import com.calman.domain.worklog.dto.WorkLogDTO;
+import com.calman.domain.worklog.dto.WorkLogQuery;
+import com.calman.global.config.WorkLogCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 이웃 날짜 목록 미리 읽기 (calman.cache.prefetch)
+ * - 날짜 선택기로 하루씩 이동하며 조회하는 패턴에 맞춰, 하루 목록을 조회하면 앞뒤 날짜의 같은 조건 목록을
+ *   많이 사용된 상태/정렬 조합으로 백그라운드에서 목록 캐시에 미리 적재
+ * - 요청 처리와 경쟁하지 않도록 스레드 하나와 크기 제한 대기열로만 실행하고, 실행 직전에 읽기 풀에 여유가 없거나
+ *   쓰기 커넥션이 사용 중(입력/일괄 처리 중)이면 건너뜀
+ * - 목록 캐시의 저장 규칙(조회 중 무효화 시 저장 안 함, 동시 조회 공유)을 그대로 따르므로 변경 전 결과를 남기지 않음
+ * - 메트릭: worklog.prefetch{result=loaded|cached|busy|dropped}, worklog.prefetch.used,
+ *   worklog.prefetch.hit.ratio (미리 읽은 목록 중 요청에 사용된 비율)
+ */
+@Slf4j
+@Component
+public class WorkLogPrefetcher {
+
+  // 상태/정렬 사용 횟수를 절반으로 줄이는 기준 (최근 사용 패턴을 반영)
+  private static final long DECAY_THRESHOLD = 10_000;
+
+  private final WorkLogCacheProperties.Prefetch settings;
+  private final WorkLogListCache listCache;
+  private final WorkLogArchiveService archiveService;
+  private final TransactionTemplate readTemplate;
+  private final HikariDataSource readerPool;  // h2 프로파일에는 없음 (대기열 제한만 적용)
+  private final HikariDataSource writerPool;
+  private final ThreadPoolExecutor executor;
+
+  private final Map<Combination, LongAdder> usage = new ConcurrentHashMap<>();
+  private final LongAdder totalUsage = new LongAdder();
+  // 미리 읽었지만 아직 요청에 사용되지 않은 목록 (행 조회 조건)
+  private final Cache<WorkLogQuery, Boolean> prefetched;
+  // 대기/실행 중인 날짜별 미리 읽기 (같은 날짜를 중복으로 대기열에 넣지 않음)
+  private final Set<WorkLogQuery> pending = ConcurrentHashMap.newKeySet();
+
+  private final Counter loaded;
+  private final Counter alreadyCached;
+  private final Counter busy;
+  private final Counter dropped;
+  private final Counter used;
+
+  public WorkLogPrefetcher(WorkLogCacheProperties properties, WorkLogListCache listCache,
+      WorkLogArchiveService archiveService, PlatformTransactionManager transactionManager,
+      @Qualifier("readerDataSource") ObjectProvider<HikariDataSource> readerPool,
+      @Qualifier("writerDataSource") ObjectProvider<HikariDataSource> writerPool,
+      MeterRegistry meterRegistry) {
+    this.settings = properties.getPrefetch();
+    this.listCache = listCache;
+    this.archiveService = archiveService;
+    this.readTemplate = new TransactionTemplate(transactionManager);
+    this.readTemplate.setReadOnly(true);
+    this.readerPool = readerPool.getIfAvailable();
+    this.writerPool = writerPool.getIfAvailable();
+    this.prefetched = Caffeine.newBuilder()
+        .maximumSize(1_000)
+        .expireAfterWrite(properties.getList().getExpireAfterWrite())
+        .build();
+
+    if (settings.isEnabled() && listCache.isEnabled()) {
+      executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+          new ArrayBlockingQueue<>(Math.max(1, settings.getQueueSize())),
+          runnable -> {
+            Thread thread = new Thread(runnable, "worklog-prefetch");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+          });
+    } else {
+      executor = null;
+    }
+
+    loaded = counter(meterRegistry, "loaded", "미리 읽어 목록 캐시에 적재한 목록 수");
+    alreadyCached = counter(meterRegistry, "cached", "이미 캐시에 있어 미리 읽지 않은 목록 수");
+    busy = counter(meterRegistry, "busy", "읽기 풀 여유가 없거나 쓰기 중이라 건너뛴 미리 읽기 수");
+    dropped = counter(meterRegistry, "dropped", "대기열이 가득 차 버린 미리 읽기 수");
+    used = Counter.builder("worklog.prefetch.used")
+        .description("미리 읽은 목록을 요청에 사용한 수")
+        .register(meterRegistry);
+    Gauge.builder("worklog.prefetch.hit.ratio", this, WorkLogPrefetcher::hitRatio)
+        .description("미리 읽은 목록 중 요청에 사용된 비율")
+        .register(meterRegistry);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * 목록 요청 기록 (목록 캐시 조회 전에 호출)
+   * - 미리 읽은 목록이 아직 캐시에 있으면 적중으로 기록
+   * - 하루 목록이면 앞뒤 날짜를 대기열에 추가
+   * @param query 요청한 조회 조건
+   * @param loader 목록 캐시에 없을 때의 조회 (WorkLogService 와 같은 조회)
+   */
+  public void observe(WorkLogQuery query, Function<WorkLogQuery, List<WorkLogDTO.ListResponse>> loader) {
+    if (executor == null) {
+      return;
+    }
+    WorkLogQuery rowsKey = listCache.rowsKey(query);
+    if (prefetched.asMap().remove(rowsKey) != null && listCache.isCached(query)) {
+      used.increment();
+    }
+    recordUsage(query);
+
+    if (query.getStartDate() == null || query.getEndDate() == null
+        || !query.getStartDate().toLocalDate().equals(query.getEndDate().toLocalDate())) {
+      return;
+    }
+    LocalDate day = query.getStartDate().toLocalDate();
+    LocalDate today = LocalDate.now();
+    for (int offset = 1; offset <= settings.getDays(); offset++) {
+      submit(neighbor(query, -offset), loader);
+      if (!day.plusDays(offset).isAfter(today)) {
+        submit(neighbor(query, offset), loader);
+      }
+    }
+  }
+
+  /**
+   * 미리 읽은 목록 중 요청에 사용된 비율 (미리 읽은 목록이 없으면 0)
+   */
+  public double hitRatio() {
+    double count = loaded.count();
+    return count > 0 ? used.count() / count : 0;
+  }
+
+  // 같은 날짜는 대기/실행 중이면 다시 넣지 않음 (대기열이 가득 차면 버림)
+  private void submit(WorkLogQuery dayQuery, Function<WorkLogQuery, List<WorkLogDTO.ListResponse>> loader) {
+    WorkLogQuery key = listCache.rowsKey(dayQuery);
+    if (!pending.add(key)) {
+      return;
+    }
+    try {
+      executor.execute(() -> {
+        try {
+          prefetch(dayQuery, loader);
+        } catch (RuntimeException e) {
+          log.debug("미리 읽기 실패: query={}", dayQuery, e);
+        } finally {
+          pending.remove(key);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      dropped.increment();
+      pending.remove(key);
+    }
+  }
+
+  // 요청한 조합 + 많이 사용된 조합 순으로 미리 읽기 (정렬만 다른 조합은 같은 행이므로 한 번만 조회)
+  private void prefetch(WorkLogQuery dayQuery, Function<WorkLogQuery, List<WorkLogDTO.ListResponse>> loader) {
+    Set<WorkLogQuery> seen = new HashSet<>();
+    for (Combination combination : combinations(dayQuery)) {
+      WorkLogQuery query = combination.apply(dayQuery);
+      if (!seen.add(listCache.rowsKey(query))) {
+        continue;
+      }
+      if (listCache.isCached(query)) {
+        alreadyCached.increment();
+        continue;
+      }
+      if (!hasSpareCapacity()) {
+        busy.increment();
+        return;
+      }
+      readTemplate.executeWithoutResult(status -> listCache.get(query, loader));
+      if (listCache.isCached(query)) {
+        prefetched.put(listCache.rowsKey(query), Boolean.TRUE);
+        loaded.increment();
+      }
+    }
+  }
+
+  // 읽기 풀에 대기 중인 요청이 없고 남겨 둘 커넥션보다 여유가 있으며, 쓰기 커넥션이 사용 중이 아닐 때만
+  private boolean hasSpareCapacity() {
+    HikariPoolMXBean reader = readerPool != null ? readerPool.getHikariPoolMXBean() : null;
+    if (reader != null && (reader.getThreadsAwaitingConnection() > 0
+        || readerPool.getMaximumPoolSize() - reader.getActiveConnections() <= settings.getReaderReserve())) {
+      return false;
+    }
+    HikariPoolMXBean writer = writerPool != null ? writerPool.getHikariPoolMXBean() : null;
+    return writer == null || writer.getActiveConnections() == 0;
+  }
+
+  // 요청한 조합을 먼저, 나머지는 사용 횟수 순 (설정한 조합 수까지)
+  private List<Combination> combinations(WorkLogQuery query) {
+    Combination requested = Combination.of(query);
+    List<Combination> combinations = new ArrayList<>();
+    combinations.add(requested);
+    usage.entrySet().stream()
+        .filter(entry -> !entry.getKey().equals(requested))
+        .sorted(Comparator.comparingLong((Map.Entry<Combination, LongAdder> entry) -> entry.getValue().sum())
+            .reversed())
+        .limit(Math.max(0, settings.getCombinations() - 1))
+        .forEach(entry -> combinations.add(entry.getKey()));
+    return combinations;
+  }
+
+  private void recordUsage(WorkLogQuery query) {
+    usage.computeIfAbsent(Combination.of(query), combination -> new LongAdder()).increment();
+    totalUsage.increment();
+    if (totalUsage.sum() > DECAY_THRESHOLD) {
+      synchronized (usage) {
+        if (totalUsage.sum() > DECAY_THRESHOLD) {
+          totalUsage.reset();
+          usage.values().forEach(count -> {
+            long half = count.sumThenReset() / 2;
+            count.add(half);
+            totalUsage.add(half);
+          });
+        }
+      }
+    }
+  }
+
+  // 같은 조건의 다른 날짜 (시각은 그대로 이동)
+  private WorkLogQuery neighbor(WorkLogQuery query, int days) {
+    return WorkLogQuery.of(query.getCarModel(), query.getProductCode(), query.getStatus(),
+        query.getStartDate().plusDays(days), query.getEndDate().plusDays(days),
+        query.getSortField(), query.getSortDirection(),
+        archiveService.reachesArchive(query.getStartDate().plusDays(days)));
+  }
+
+  private static Counter counter(MeterRegistry meterRegistry, String result, String description) {
+    return Counter.builder("worklog.prefetch")
+        .description(description)
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  /**
+   * 상태/정렬 조합
+   */
+  private record Combination(String status, String sortField, String sortDirection) {
+
+    static Combination of(WorkLogQuery query) {
+      return new Combination(query.getStatus(), query.getSortField(), query.getSortDirection());
+    }
+
+    WorkLogQuery apply(WorkLogQuery query) {
+      return WorkLogQuery.of(query.getCarModel(), query.getProductCode(), status, query.getStartDate(),
+          query.getEndDate(), sortField, sortDirection, query.isIncludeArchive());
+    }
+  }
+}
@@ -0,0 +1,234 @@
+package com.calman.domain.worklog.service;
+
+import com.calman.domain.worklog.dto.WorkLogDTO;
+import com.calman.global.mybatis.EpochMillisLocalDateTimeTypeHandler;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 하루치 작업 로그 세그먼트 파일 (변경 불가, 메모리 매핑으로 읽음)
+ * - 구조: 헤더(매직, 형식 버전, 날짜, 지문, 행 수) + 시간대 색인(0~24시 첫 행 번호) + 고정 길이 행(작업시간, ID 순)
+ * - 행: ID, 작업시간, 차종 ID, 제품 ID, 완료 시간, 생성 시간(epoch millis), 수량, 버전 (NULL 은 MIN_VALUE)
+ * - 차종/제품 이름은 카탈로그 ID 로만 보관 (조회 후 WorkLogCatalogService.fill)
+ * - 지문은 세그먼트를 만들 때의 행 수/ID/버전 요약으로, 기동 시/주기적으로 DB 와 비교해 서비스를 거치지 않은 변경을 찾음
+ */
+final class WorkLogSegment {
+
+  private static final int MAGIC = 0x574C5347;  // "WLSG"
+  private static final int FORMAT_VERSION = 1;
+  private static final int HOURS = 24;
+  static final int ROW_BYTES = Long.BYTES * 6 + Integer.BYTES * 2;
+
+  private static final long NULL_LONG = Long.MIN_VALUE;
+  private static final int NULL_INT = Integer.MIN_VALUE;
+
+  private final Path file;
+  private final LocalDate day;
+  private final String fingerprint;
+  private final MappedByteBuffer buffer;
+  private final int rowCount;
+  private final int[] hourIndex;
+  private final int rowsOffset;
+
+  private WorkLogSegment(Path file, LocalDate day, String fingerprint, MappedByteBuffer buffer, int rowCount,
+      int[] hourIndex, int rowsOffset) {
+    this.file = file;
+    this.day = day;
+    this.fingerprint = fingerprint;
+    this.buffer = buffer;
+    this.rowCount = rowCount;
+    this.hourIndex = hourIndex;
+    this.rowsOffset = rowsOffset;
+  }
+
+  /**
+   * 세그먼트 파일 생성 (임시 파일에 쓴 뒤 이름 변경)
+   * @param file 세그먼트 파일 경로
+   * @param day 날짜
+   * @param fingerprint 만들 때의 DB 지문
+   * @param workLogs 해당 날짜의 전체 작업 로그 (정렬 키에 완료 시간 epoch millis)
+   */
+  static void write(Path file, LocalDate day, String fingerprint, List<WorkLogDTO.ListResponse> workLogs)
+      throws IOException {
+    List<WorkLogDTO.ListResponse> rows = new ArrayList<>(workLogs);
+    rows.sort(Comparator.comparing(WorkLogDTO.ListResponse::getWorkDatetime)
+        .thenComparing(WorkLogDTO.ListResponse::getId));
+
+    byte[] fingerprintBytes = fingerprint.getBytes(StandardCharsets.UTF_8);
+    int headerBytes = Integer.BYTES * 2 + Long.BYTES + Integer.BYTES + fingerprintBytes.length + Integer.BYTES
+        + Integer.BYTES * (HOURS + 1);
+    ByteBuffer out = ByteBuffer.allocate(headerBytes + rows.size() * ROW_BYTES);
+    out.putInt(MAGIC).putInt(FORMAT_VERSION).putLong(day.toEpochDay());
+    out.putInt(fingerprintBytes.length).put(fingerprintBytes);
+    out.putInt(rows.size());
+
+    // 시간대별 첫 행 번호 (hour 시 이후 첫 행, 마지막 항목은 행 수)
+    int row = 0;
+    for (int hour = 0; hour <= HOURS; hour++) {
+      while (row < rows.size() && rows.get(row).getWorkDatetime().getHour() < hour) {
+        row++;
+      }
+      out.putInt(hour == HOURS ? rows.size() : row);
+    }
+
+    for (WorkLogDTO.ListResponse workLog : rows) {
+      if (!day.equals(workLog.getWorkDatetime().toLocalDate())) {
+        throw new IllegalArgumentException("다른 날짜의 작업 로그: id=" + workLog.getId());
+      }
+      putRow(out, workLog);
+    }
+
+    Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+    Files.write(temp, out.array());
+    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /**
+   * 세그먼트 파일을 메모리 매핑으로 열기
+   * @throws IOException 파일을 읽을 수 없거나 형식이 다른 경우
+   */
+  static WorkLogSegment open(Path file) throws IOException {
+    MappedByteBuffer buffer;
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+    try {
+      if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION) {
+        throw new IOException("세그먼트 형식이 아닙니다: " + file);
+      }
+      LocalDate day = LocalDate.ofEpochDay(buffer.getLong(8));
+      int fingerprintLength = buffer.getInt(16);
+      byte[] fingerprintBytes = new byte[fingerprintLength];
+      buffer.get(20, fingerprintBytes);
+      int offset = 20 + fingerprintLength;
+      int rowCount = buffer.getInt(offset);
+      offset += Integer.BYTES;
+      int[] hourIndex = new int[HOURS + 1];
+      for (int hour = 0; hour <= HOURS; hour++) {
+        hourIndex[hour] = buffer.getInt(offset);
+        offset += Integer.BYTES;
+      }
+      if (buffer.capacity() != offset + (long) rowCount * ROW_BYTES) {
+        throw new IOException("세그먼트 크기가 맞지 않습니다: " + file);
+      }
+      return new WorkLogSegment(file, day, new String(fingerprintBytes, StandardCharsets.UTF_8), buffer, rowCount,
+          hourIndex, offset);
+    } catch (IndexOutOfBoundsException e) {
+      throw new IOException("세그먼트가 손상되었습니다: " + file, e);
+    }
+  }
+
+  Path file() {
+    return file;
+  }
+
+  LocalDate day() {
+    return day;
+  }
+
+  String fingerprint() {
+    return fingerprint;
+  }
+
+  int size() {
+    return rowCount;
+  }
+
+  /**
+   * 작업시간이 범위 안인 행 (시간대 색인으로 읽을 구간을 좁힘, 작업시간 순)
+   * @param from 시작 일시 (null 이면 하루 시작)
+   * @param to 종료 일시 (null 이면 하루 끝)
+   * @return 카탈로그 ID 만 채워진 목록 항목 (정렬 키에 완료 시간 epoch millis)
+   */
+  List<WorkLogDTO.ListResponse> read(LocalDateTime from, LocalDateTime to) {
+    int first = from != null && from.toLocalDate().equals(day) ? hourIndex[from.getHour()] : 0;
+    int last = to != null && to.toLocalDate().equals(day) ? hourIndex[to.getHour() + 1] : rowCount;
+    long fromMillis = from != null ? EpochMillisLocalDateTimeTypeHandler.toEpochMillis(from) : Long.MIN_VALUE;
+    long toMillis = to != null ? EpochMillisLocalDateTimeTypeHandler.toEpochMillis(to) : Long.MAX_VALUE;
+
+    List<WorkLogDTO.ListResponse> rows = new ArrayList<>(Math.max(0, last - first));
+    for (int row = first; row < last; row++) {
+      int at = rowsOffset + row * ROW_BYTES;
+      long workDatetime = buffer.getLong(at + 8);
+      if (workDatetime < fromMillis || workDatetime > toMillis) {
+        continue;
+      }
+      rows.add(getRow(buffer, at));
+    }
+    return rows;
+  }
+
+  /**
+   * 고정 길이 행 쓰기 (ROW_BYTES, 캐시 스냅샷과 같은 형식)
+   * @param out 쓸 위치의 버퍼
+   * @param workLog 정렬 키에 완료 시간 epoch millis 가 있는 목록 항목
+   */
+  static void putRow(ByteBuffer out, WorkLogDTO.ListResponse workLog) {
+    out.putLong(workLog.getId());
+    out.putLong(EpochMillisLocalDateTimeTypeHandler.toEpochMillis(workLog.getWorkDatetime()));
+    out.putLong(orNull(workLog.getCarModelId()));
+    out.putLong(orNull(workLog.getProductId()));
+    out.putLong(completedAt(workLog));
+    out.putLong(workLog.getCreatedAt() != null
+        ? EpochMillisLocalDateTimeTypeHandler.toEpochMillis(workLog.getCreatedAt()) : NULL_LONG);
+    out.putInt(workLog.getQuantity() != null ? workLog.getQuantity() : NULL_INT);
+    out.putInt(workLog.getVersion() != null ? workLog.getVersion() : NULL_INT);
+  }
+
+  /**
+   * 고정 길이 행 읽기
+   * @param buffer 행이 있는 버퍼
+   * @param at 행 시작 위치
+   * @return 카탈로그 ID 만 채워진 목록 항목 (정렬 키에 완료 시간 epoch millis)
+   */
+  static WorkLogDTO.ListResponse getRow(ByteBuffer buffer, int at) {
+    WorkLogDTO.ListResponse workLog = new WorkLogDTO.ListResponse();
+    workLog.setId(buffer.getLong(at));
+    workLog.setWorkDatetime(EpochMillisLocalDateTimeTypeHandler.fromEpochMillis(buffer.getLong(at + 8)));
+    workLog.setCarModelId(nullable(buffer.getLong(at + 16)));
+    workLog.setProductId(nullable(buffer.getLong(at + 24)));
+    long completedAt = buffer.getLong(at + 32);
+    workLog.setCompleted(completedAt != NULL_LONG);
+    workLog.setSortKey(completedAt != NULL_LONG ? completedAt : null);
+    long createdAt = buffer.getLong(at + 40);
+    workLog.setCreatedAt(createdAt != NULL_LONG ? EpochMillisLocalDateTimeTypeHandler.fromEpochMillis(createdAt)
+        : null);
+    int quantity = buffer.getInt(at + 48);
+    workLog.setQuantity(quantity != NULL_INT ? quantity : null);
+    int version = buffer.getInt(at + 52);
+    workLog.setVersion(version != NULL_INT ? version : null);
+    return workLog;
+  }
+
+  // 완료 시간은 목록 컬럼이 아니므로 완료 시간 정렬로 조회한 정렬 키에서 읽음
+  private static long completedAt(WorkLogDTO.ListResponse workLog) {
+    if (workLog.getSortKey() instanceof Number number) {
+      return number.longValue();
+    }
+    if (workLog.getSortKey() != null || workLog.isCompleted()) {
+      throw new IllegalArgumentException("완료 시간을 알 수 없는 작업 로그: id=" + workLog.getId());
+    }
+    return NULL_LONG;
+  }
+
+  private static long orNull(Long value) {
+    return value != null ? value : NULL_LONG;
+  }
+
+  private static Long nullable(long value) {
+    return value != NULL_LONG ? value : null;
+  }
+}
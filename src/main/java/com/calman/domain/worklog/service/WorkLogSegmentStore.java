@@ -0,0 +1,458 @@
+package com.calman.domain.worklog.service;
+
+import com.calman.domain.worklog.dto.WorkLogDTO;
+import com.calman.domain.worklog.dto.WorkLogQuery;
+import com.calman.domain.worklog.mapper.WorkLogMapper;
+import com.calman.domain.worklog.service.WorkLogListCache.Scope;
+import com.calman.global.config.SegmentProperties;
+import com.calman.global.config.ShardingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 마감된 날짜의 작업 로그 세그먼트 저장소 (calman.segment)
+ * - 날짜가 끝나고 closeAfter 가 지난 최근 retainDays 일을 하루 하나의 세그먼트 파일(WorkLogSegment)로 만들어 둠
+ * - 조회 기간의 모든 날짜에 세그먼트가 있으면 DB 대신 세그먼트에서 읽고 필터/정렬을 메모리에서 처리
+ *   (필터는 SQLite LIKE 와 같은 규칙: %, _ 와일드카드, ASCII 만 대소문자 무시)
+ * - 마감된 날짜가 서비스로 변경되면 트랜잭션이 끝난 뒤 그 날짜의 세그먼트를 버림(reopen, 목록 캐시 무효화보다 먼저)
+ *   다음 실행에서 다시 생성하며, 생성 중에 reopen 된 날짜는 저장하지 않음
+ * - 기동 시/매 실행마다 세그먼트의 지문을 DB 와 비교해 서비스를 거치지 않은 변경(SQL 직접 실행 등)이 있으면 다시 생성
+ * - 파일 이름은 날짜-생성시각(yyyy-MM-dd-millis.seg)으로 매번 새로 만들고, 이전 파일은 삭제 시도
+ *   (메모리 매핑된 파일은 Windows 에서 바로 삭제되지 않으므로 기동 시 날짜별 최신 파일만 남기고 정리)
+ * - 메트릭: worklog.segment.reads{result=hit|miss}, worklog.segment.reopens, worklog.segment.freeze,
+ *   worklog.segment.days
+ */
+@Slf4j
+@Service
+@DependsOnDatabaseInitialization
+public class WorkLogSegmentStore {
+
+  private static final String SUFFIX = ".seg";
+
+  private final SegmentProperties properties;
+  private final WorkLogMapper workLogMapper;
+  private final WorkLogShardRouter shardRouter;
+  private final WorkLogArchiveService archiveService;
+  private final WorkLogCatalogService catalogService;
+  private final WorkLogListCache listCache;
+  private final TransactionTemplate readTemplate;
+
+  private final Map<LocalDate, WorkLogSegment> segments = new ConcurrentHashMap<>();
+  // reopen 순번 (세그먼트 생성을 시작한 뒤 그 날짜가 reopen 되었으면 저장하지 않음)
+  private final AtomicLong reopenSequence = new AtomicLong();
+  private final Map<LocalDate, Long> lastReopen = new HashMap<>();
+  private long lastReopenAll;
+
+  private final Counter hits;
+  private final Counter misses;
+  private final Counter reopens;
+  private final Timer freezeTimer;
+
+  public WorkLogSegmentStore(SegmentProperties properties, WorkLogMapper workLogMapper,
+      WorkLogShardRouter shardRouter, WorkLogArchiveService archiveService, WorkLogCatalogService catalogService,
+      WorkLogListCache listCache, PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.workLogMapper = workLogMapper;
+    this.shardRouter = shardRouter;
+    this.archiveService = archiveService;
+    this.catalogService = catalogService;
+    this.listCache = listCache;
+    this.readTemplate = new TransactionTemplate(transactionManager);
+    this.readTemplate.setReadOnly(true);
+
+    hits = Counter.builder("worklog.segment.reads")
+        .description("세그먼트에서 읽은 목록 조회 수")
+        .tag("result", "hit")
+        .register(meterRegistry);
+    misses = Counter.builder("worklog.segment.reads")
+        .description("세그먼트가 없는 날짜가 있어 DB 에서 읽은 기간 조회 수")
+        .tag("result", "miss")
+        .register(meterRegistry);
+    reopens = Counter.builder("worklog.segment.reopens")
+        .description("변경으로 버린 세그먼트 수")
+        .register(meterRegistry);
+    freezeTimer = Timer.builder("worklog.segment.freeze")
+        .description("마감된 날짜의 세그먼트 확인/생성 시간")
+        .register(meterRegistry);
+    Gauge.builder("worklog.segment.days", segments, Map::size)
+        .description("세그먼트가 있는 날짜 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 세그먼트 파일 적재 (날짜별 최신 파일만, 지문이 DB 와 다르거나 보관 범위 밖이면 버림)
+   */
+  @PostConstruct
+  public void initialize() {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    Path directory = directory();
+    try {
+      Files.createDirectories(directory);
+    } catch (IOException e) {
+      throw new IllegalStateException("세그먼트 디렉토리를 만들 수 없습니다: " + directory, e);
+    }
+
+    Map<LocalDate, WorkLogSegment> newest = new HashMap<>();
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+      for (Path file : files) {
+        String name = file.getFileName().toString();
+        if (!name.endsWith(SUFFIX)) {
+          if (name.endsWith(SUFFIX + ".tmp")) {
+            delete(file);
+          }
+          continue;
+        }
+        WorkLogSegment segment;
+        try {
+          segment = WorkLogSegment.open(file);
+        } catch (IOException e) {
+          log.warn("세그먼트 파일을 읽을 수 없어 삭제: {}", e.getMessage());
+          delete(file);
+          continue;
+        }
+        WorkLogSegment previous = newest.get(segment.day());
+        if (previous == null || name.compareTo(previous.file().getFileName().toString()) > 0) {
+          newest.put(segment.day(), segment);
+          if (previous != null) {
+            delete(previous.file());
+          }
+        } else {
+          delete(file);
+        }
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("세그먼트 디렉토리를 읽을 수 없습니다: " + directory, e);
+    }
+
+    List<LocalDate> window = closedDays();
+    for (WorkLogSegment segment : newest.values()) {
+      if (window.contains(segment.day()) && segment.fingerprint().equals(fingerprint(segment.day()))) {
+        segments.put(segment.day(), segment);
+      } else {
+        delete(segment.file());
+      }
+    }
+    log.info("세그먼트 적재 완료: path={}, days={}, dropped={}", directory, segments.size(),
+        newest.size() - segments.size());
+  }
+
+  /**
+   * 세그먼트 사용 여부
+   */
+  public boolean isEnabled() {
+    return properties.isEnabled();
+  }
+
+  /**
+   * 마감된 날짜의 세그먼트 생성/확인 (지문이 다르면 다시 생성) 및 보관 범위 밖의 세그먼트 정리
+   * @return 새로 만든 세그먼트 수
+   */
+  @Scheduled(cron = "${calman.segment.cron:0 15 * * * *}")
+  public int freezeClosedDays() {
+    if (!properties.isEnabled()) {
+      return 0;
+    }
+    long start = System.nanoTime();
+    List<LocalDate> window = closedDays();
+    int built = 0;
+    for (LocalDate day : window) {
+      try {
+        if (freeze(day)) {
+          built++;
+        }
+      } catch (IOException | RuntimeException e) {
+        // 한 날짜의 실패로 나머지 날짜를 건너뛰지 않음 (다음 실행에서 다시 시도, 그동안 DB 에서 조회)
+        log.warn("세그먼트 생성 실패: day={}", day, e);
+      }
+    }
+
+    segments.keySet().stream().filter(day -> !window.contains(day)).toList()
+        .forEach(day -> retire(segments.remove(day)));
+    // 보관 범위보다 오래된 날짜의 reopen 기록은 더 이상 필요 없음
+    LocalDate oldest = window.isEmpty() ? LocalDate.MAX : window.get(window.size() - 1);
+    synchronized (this) {
+      lastReopen.keySet().removeIf(day -> day.isBefore(oldest));
+    }
+    freezeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    log.info("세그먼트 확인 완료: days={}, built={}, elapsed={}ms", segments.size(), built,
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    return built;
+  }
+
+  /**
+   * 조회 기간의 모든 날짜에 세그먼트가 있으면 세그먼트에서 목록 조회
+   * @param query 정규화된 조회 조건
+   * @return 조회 조건의 필터/정렬을 적용하고 카탈로그 정보까지 채운 목록 (세그먼트로 응답할 수 없으면 null)
+   */
+  public List<WorkLogDTO.ListResponse> read(WorkLogQuery query) {
+    if (!properties.isEnabled() || query.getStartDate() == null || query.getEndDate() == null
+        || query.getEndDate().isBefore(query.getStartDate())) {
+      return null;
+    }
+    LocalDate first = query.getStartDate().toLocalDate();
+    LocalDate last = query.getEndDate().toLocalDate();
+    List<WorkLogSegment> covering = new ArrayList<>();
+    for (LocalDate day = first; !day.isAfter(last); day = day.plusDays(1)) {
+      WorkLogSegment segment = segments.get(day);
+      if (segment == null) {
+        misses.increment();
+        return null;
+      }
+      covering.add(segment);
+    }
+
+    List<WorkLogDTO.ListResponse> workLogs = new ArrayList<>();
+    for (WorkLogSegment segment : covering) {
+      workLogs.addAll(segment.read(query.getStartDate(), query.getEndDate()));
+    }
+    catalogService.fill(workLogs);
+    workLogs.removeIf(filter(query).negate());
+
+    Comparator<WorkLogDTO.ListResponse> comparator =
+        Comparator.comparing(SortedWorkLogs.sortKey(query.getSortField()), WorkLogQuery::compareSortKeys);
+    workLogs.sort("DESC".equals(query.getSortDirection()) ? comparator.reversed() : comparator);
+    hits.increment();
+    return workLogs;
+  }
+
+  /**
+   * 변경된 날짜의 세그먼트 버림 (트랜잭션 안이면 트랜잭션이 끝난 뒤)
+   * - 목록 캐시 무효화보다 먼저 호출해야 무효화 후 다시 조회한 목록이 이전 세그먼트를 읽지 않음
+   * @param scopes 변경된 행의 날짜/차종 (날짜가 null 이면 모든 날짜)
+   */
+  public void reopen(Collection<Scope> scopes) {
+    if (!properties.isEnabled() || scopes.isEmpty()) {
+      return;
+    }
+    List<LocalDate> days = scopes.stream().map(Scope::day).distinct().toList();
+    afterCompletion(() -> {
+      List<WorkLogSegment> removed = new ArrayList<>();
+      synchronized (this) {
+        long sequence = reopenSequence.incrementAndGet();
+        for (LocalDate day : days) {
+          if (day == null) {
+            lastReopenAll = sequence;
+            removed.addAll(segments.values());
+            segments.clear();
+          } else {
+            lastReopen.put(day, sequence);
+            WorkLogSegment segment = segments.remove(day);
+            if (segment != null) {
+              removed.add(segment);
+            }
+          }
+        }
+      }
+      reopens.increment(removed.size());
+      removed.forEach(this::retire);
+    });
+  }
+
+  /**
+   * 모든 세그먼트 버림 (서비스를 거치지 않은 대량 변경)
+   */
+  public void reopenAll() {
+    reopen(List.of(new Scope(null, null)));
+  }
+
+  // 세그먼트가 없거나 지문이 다르면 다시 생성 (생성 중에 reopen 되었으면 버림)
+  private boolean freeze(LocalDate day) throws IOException {
+    long started = reopenSequence.get();
+    WorkLogSegment current = segments.get(day);
+    if (current != null && current.fingerprint().equals(fingerprint(day))) {
+      return false;
+    }
+
+    Snapshot snapshot = snapshot(day);
+    Path file = directory().resolve(day + "-" + System.currentTimeMillis() + SUFFIX);
+    WorkLogSegment.write(file, day, snapshot.fingerprint(), snapshot.workLogs());
+    WorkLogSegment segment = WorkLogSegment.open(file);
+
+    WorkLogSegment replaced;
+    synchronized (this) {
+      if (lastReopenAll > started || lastReopen.getOrDefault(day, 0L) > started) {
+        replaced = segment;
+      } else {
+        replaced = segments.put(day, segment);
+      }
+    }
+    if (replaced == segment) {
+      retire(segment);
+      return false;
+    }
+    if (replaced != null) {
+      retire(replaced);
+    }
+    // 이전 세그먼트와 달랐으면 서비스를 거치지 않은 변경이므로 그 날짜의 캐시된 목록도 무효화
+    if (current != null) {
+      log.info("세그먼트 지문이 달라 다시 생성: day={}", day);
+      listCache.invalidate(List.of(new Scope(day, null)));
+    }
+    return true;
+  }
+
+  // 하루 전체의 지문과 행 (샤드마다 같은 읽기 트랜잭션에서 지문과 행을 함께 조회)
+  private Snapshot snapshot(LocalDate day) {
+    WorkLogQuery query = dayQuery(day);
+    if (!shardRouter.isEnabled()) {
+      return readTemplate.execute(status -> new Snapshot(
+          workLogMapper.selectWorkLogFingerprint(query), workLogMapper.selectWorkLogList(query)));
+    }
+    List<Snapshot> shards = shardRouter.fanOut(shard -> {
+      WorkLogQuery shardQuery = isArchiveShard(shard) ? query : query.withoutArchive();
+      return new Snapshot(workLogMapper.selectWorkLogFingerprint(shardQuery),
+          workLogMapper.selectWorkLogList(shardQuery));
+    });
+    List<WorkLogDTO.ListResponse> workLogs = new ArrayList<>();
+    shards.forEach(shard -> workLogs.addAll(shard.workLogs()));
+    return new Snapshot(shards.stream().map(Snapshot::fingerprint).collect(Collectors.joining("/")), workLogs);
+  }
+
+  // 하루 전체의 DB 지문 (샤드 사용 시 샤드 순서대로 연결)
+  private String fingerprint(LocalDate day) {
+    WorkLogQuery query = dayQuery(day);
+    if (!shardRouter.isEnabled()) {
+      return readTemplate.execute(status -> workLogMapper.selectWorkLogFingerprint(query));
+    }
+    return String.join("/", shardRouter.fanOut(shard ->
+        workLogMapper.selectWorkLogFingerprint(isArchiveShard(shard) ? query : query.withoutArchive())));
+  }
+
+  // 아카이브로 이동해도 날짜의 내용은 같으므로 세그먼트는 원본과 아카이브를 함께 보관
+  // (완료 시간 정렬이면 정렬 키에 완료 시간이 채워짐)
+  private WorkLogQuery dayQuery(LocalDate day) {
+    return WorkLogQuery.of(null, null, null, day.atStartOfDay(), day.atTime(LocalTime.MAX),
+        SortedWorkLogs.LOAD_SORT_FIELD, "ASC", archiveService.isEnabled());
+  }
+
+  // 마감된 최근 날짜 (최신 날짜가 처음)
+  private List<LocalDate> closedDays() {
+    LocalDate newest = LocalDateTime.now().minus(properties.getCloseAfter()).toLocalDate().minusDays(1);
+    List<LocalDate> days = new ArrayList<>(properties.getRetainDays());
+    for (int i = 0; i < properties.getRetainDays(); i++) {
+      days.add(newest.minusDays(i));
+    }
+    return days;
+  }
+
+  // selectWorkLogList 의 workLogFilter 와 같은 조건
+  private static Predicate<WorkLogDTO.ListResponse> filter(WorkLogQuery query) {
+    Predicate<WorkLogDTO.ListResponse> filter = workLog -> true;
+    if (WorkLogQuery.STATUS_COMPLETED.equals(query.getStatus())) {
+      filter = filter.and(WorkLogDTO.ListResponse::isCompleted);
+    } else if (WorkLogQuery.STATUS_INCOMPLETE.equals(query.getStatus())) {
+      filter = filter.and(workLog -> !workLog.isCompleted());
+    }
+    if (query.getCarModelPattern() != null) {
+      Pattern carModel = likePattern(query.getCarModelPattern());
+      filter = filter.and(workLog -> workLog.getCarModel() != null
+          && carModel.matcher(workLog.getCarModel()).matches());
+    }
+    if (query.getProductCodePattern() != null) {
+      Pattern productCode = likePattern(query.getProductCodePattern());
+      filter = filter.and(workLog -> workLog.getProductCode() != null
+          && productCode.matcher(workLog.getProductCode()).matches());
+    }
+    return filter;
+  }
+
+  /**
+   * SQLite LIKE 패턴을 정규식으로 변환 (% 는 임의 문자열, _ 는 임의 한 문자, ASCII 만 대소문자 무시)
+   */
+  static Pattern likePattern(String like) {
+    StringBuilder regex = new StringBuilder();
+    StringBuilder literal = new StringBuilder();
+    for (int i = 0; i < like.length(); i++) {
+      char c = like.charAt(i);
+      if (c == '%' || c == '_') {
+        if (!literal.isEmpty()) {
+          regex.append(Pattern.quote(literal.toString()));
+          literal.setLength(0);
+        }
+        regex.append(c == '%' ? ".*" : ".");
+      } else {
+        literal.append(c);
+      }
+    }
+    if (!literal.isEmpty()) {
+      regex.append(Pattern.quote(literal.toString()));
+    }
+    return Pattern.compile(regex.toString(), Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+  }
+
+  private Path directory() {
+    return Paths.get(properties.getPath());
+  }
+
+  // 아카이브는 main 샤드(기본 DB)에만 ATTACH
+  private boolean isArchiveShard(String shard) {
+    return archiveService.isEnabled() && ShardingProperties.MAIN_SHARD.equals(shard);
+  }
+
+  // 사용하지 않는 세그먼트 파일 삭제 시도 (읽는 중인 매핑은 그대로 유효)
+  private void retire(WorkLogSegment segment) {
+    if (segment != null) {
+      delete(segment.file());
+    }
+  }
+
+  private static void delete(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      log.debug("세그먼트 파일 삭제 실패 (기동 시 정리): {}", file);
+    }
+  }
+
+  // 커밋/롤백과 관계없이 트랜잭션이 끝난 뒤 실행 (샤드별로 먼저 커밋된 변경이 있을 수 있으므로 롤백에도 실행)
+  private static void afterCompletion(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        action.run();
+      }
+    });
+  }
+
+  // 같은 트랜잭션에서 읽은 지문과 행
+  private record Snapshot(String fingerprint, List<WorkLogDTO.ListResponse> workLogs) {
+  }
+}
@@ -2,28 +2,76 @@ package com.calman.domain.worklog.service;
 
 import com.calman.DateTimeUtils;
 import com.calman.domain.worklog.dto.WorkLogDTO;
+import com.calman.domain.worklog.dto.WorkLogQuery;
+import com.calman.domain.worklog.service.WorkLogListCache.Scope;
 import com.calman.domain.worklog.mapper.WorkLogMapper;
+import com.calman.global.config.ShardingProperties;
+import com.calman.global.id.TimeOrderedIdGenerator;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 
 /**
  * 작업 로그 서비스
+ * - 샤드 사용 시(calman.sharding) @ShardKey 메소드는 WorkLogShardAspect 가 선택한 샤드에서 실행되고,
+ *   목록/일괄 처리는 WorkLogShardRouter 로 모든 샤드에 실행
+ * - 목록 조회 결과는 WorkLogListCache 에 보관하고, 변경 시 변경 전/후 행의 날짜/차종에 해당하는 결과만 무효화
+ * - 마감된 날짜만 조회하는 목록은 세그먼트(WorkLogSegmentStore)에서 읽고, 변경된 날짜의 세그먼트는 캐시 무효화 전에 버림
+ *   (캐시에 없는 같은 조건의 동시 조회는 하나만 실행하고 결과 공유)
+ * - ID 조회는 WorkLogEntityCache 에 보관하고, 수정/상태 변경 결과로 갱신, 삭제/일괄 처리 시 제거
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class WorkLogService {
 
+  /**
+   * 일괄 처리 요청당 최대 ID 개수
+   */
+  public static final int MAX_BULK_IDS = 1000;
+
   private final WorkLogMapper workLogMapper;
+  private final WorkLogArchiveService archiveService;
+  private final WorkLogCatalogService catalogService;
+  private final TimeOrderedIdGenerator idGenerator;
+  private final WorkLogShardRouter shardRouter;
+  private final WorkLogListCache listCache;
+  private final WorkLogEntityCache entityCache;
+  private final WorkLogSegmentStore segmentStore;
+  private final WorkLogPrefetcher prefetcher;
+
+  /**
+   * 기존 ID 이후부터 발급하도록 ID 생성기 초기화 (시계가 뒤로 간 경우에도 중복되지 않도록, 모든 샤드 포함)
+   */
+  @PostConstruct
+  public void initializeIdGenerator() {
+    Long maxId = shardRouter.isEnabled()
+        ? shardRouter.fanOut(shard -> workLogMapper.selectMaxWorkLogId(isArchiveShard(shard))).stream()
+            .filter(Objects::nonNull).max(Long::compare).orElse(null)
+        : workLogMapper.selectMaxWorkLogId(archiveService.isEnabled());
+    if (maxId != null) {
+      idGenerator.advanceTo(maxId);
+    }
+  }
 
   /**
    * 새 작업 로그 생성
@@ -31,27 +79,55 @@ public class WorkLogService {
    * @return 생성된 작업 로그 ID
    */
   @Transactional
-  public Long createWorkLog(WorkLogDTO.CreateRequest request) {
-    // 문자열 날짜를 LocalDateTime으로 변환
-    LocalDateTime workDateTime = request.getWorkDatetimeAsLocalDateTime();
+  public Long createWorkLog(@ShardKey WorkLogDTO.CreateRequest request) {
+    WorkLogDTO workLog = toWorkLog(request, idGenerator.nextId());
+    workLogMapper.insertWorkLog(workLog);
+    invalidateListCache(workLog);
+    return workLog.getId();
+  }
 
-    if (workDateTime == null) {
-      log.warn("날짜 변환 실패: {}", request.getWorkDatetime());
-      // 변환 실패 시 현재 시간 사용 또는 오류 처리 결정
-      workDateTime = LocalDateTime.now();
+  /**
+   * 작업 로그 일괄 생성 (ID 구간을 미리 발급해 INSERT 문 하나로 저장, 하나의 트랜잭션)
+   * - 샤드 사용 시 샤드별 INSERT 문 하나씩, 샤드마다 별도 트랜잭션
+   * @param requests 작업 로그 생성 요청 목록
+   * @return 생성된 작업 로그 ID 목록 (요청 순서, 시간 순서)
+   * @throws IllegalArgumentException 최대 개수를 넘거나 목록에 null 요청이 있는 경우
+   */
+  @Transactional
+  public List<Long> createWorkLogs(List<WorkLogDTO.CreateRequest> requests) {
+    if (requests == null || requests.isEmpty()) {
+      return List.of();
+    }
+    if (requests.size() > MAX_BULK_IDS) {
+      throw new IllegalArgumentException("한 번에 생성할 수 있는 작업 로그는 최대 " + MAX_BULK_IDS + "개입니다.");
+    }
+    // ID 구간을 발급하기 전에 확인 (JSON 배열의 null 원소)
+    for (int i = 0; i < requests.size(); i++) {
+      if (requests.get(i) == null) {
+        throw new IllegalArgumentException("생성 요청 목록의 " + (i + 1) + "번째 항목이 비어 있습니다.");
+      }
     }
 
-    WorkLogDTO workLog = WorkLogDTO.builder()
-        .workDatetime(workDateTime)  // LocalDateTime 사용
-        .carModel(request.getCarModel())
-        .productColor(request.getProductColor())
-        .productCode(request.getProductCode())
-        .productName(request.getProductName())
-        .quantity(request.getQuantity() != null ? request.getQuantity() : 1)
-        .build();
-
-    workLogMapper.insertWorkLog(workLog);
-    return workLog.getId();
+    long firstId = idGenerator.reserve(requests.size());
+    List<WorkLogDTO> workLogs = new ArrayList<>(requests.size());
+    for (int i = 0; i < requests.size(); i++) {
+      workLogs.add(toWorkLog(requests.get(i), firstId + i));
+    }
+    if (shardRouter.isEnabled()) {
+      Map<String, List<WorkLogDTO>> byShard = new LinkedHashMap<>();
+      for (int i = 0; i < requests.size(); i++) {
+        byShard.computeIfAbsent(shardRouter.shardOf(requests.get(i).getCarModel()), shard -> new ArrayList<>())
+            .add(workLogs.get(i));
+      }
+      byShard.forEach((shard, shardWorkLogs) -> {
+        shardRouter.write(shard, () -> workLogMapper.insertWorkLogs(shardWorkLogs));
+        shardRouter.remember(shard, shardWorkLogs.stream().map(WorkLogDTO::getId).toList());
+      });
+    } else {
+      workLogMapper.insertWorkLogs(workLogs);
+    }
+    invalidateReads(workLogs.stream().map(Scope::of).toList());
+    return workLogs.stream().map(WorkLogDTO::getId).toList();
   }
 
   /**
@@ -59,8 +135,9 @@ public class WorkLogService {
    * @param id 작업 로그 ID
    * @return 작업 로그 정보
    */
-  public WorkLogDTO getWorkLogById(Long id) {
-    return workLogMapper.selectWorkLogById(id);
+  @Transactional(readOnly = true)
+  public WorkLogDTO getWorkLogById(@ShardKey Long id) {
+    return findWorkLog(id);
   }
 
   /**
@@ -68,13 +145,14 @@ public class WorkLogService {
    * @param id 작업 로그 ID
    * @return 상세 정보가 포함된 작업 로그 응답 DTO
    */
-  public WorkLogDTO.DetailResponse getWorkLogDetailById(Long id) {
-    WorkLogDTO workLog = workLogMapper.selectWorkLogById(id);
+  @Transactional(readOnly = true)
+  public WorkLogDTO.DetailResponse getWorkLogDetailById(@ShardKey Long id) {
+    WorkLogDTO workLog = findWorkLog(id);
     if (workLog == null) {
       return null;
     }
 
-    return new WorkLogDTO.DetailResponse(
+    WorkLogDTO.DetailResponse detail = new WorkLogDTO.DetailResponse(
         workLog.getId(),
         workLog.getWorkDatetime(),
         workLog.getCarModel(),
@@ -85,11 +163,19 @@ public class WorkLogService {
         workLog.getCompletedAt(),
         workLog.getCreatedAt()
     );
+    detail.setVersion(workLog.getVersion());
+    return detail;
   }
 
   /**
-   * 필터링으로 작업 로그 목록 조회
+   * 필터링으로 작업 로그 목록 조회 (목록 화면용 컬럼만 조회, 전체 정보는 getWorkLogById)
+   * - 샤드 사용 시 모든 샤드를 병렬로 조회한 뒤 정렬 순서대로 병합
+   * - 같은 조건의 결과는 변경이 있을 때까지 캐시에서 반환 (목록은 변경 불가)
+   * - 정렬만 바꾼 조회는 캐시된 행의 정렬 필드별 순열로 응답
+   * - 조회 기간이 모두 마감된 날짜이면 DB 대신 세그먼트에서 조회
+   * - 하루 목록 조회는 앞뒤 날짜를 미리 읽도록 WorkLogPrefetcher 에 기록
    */
+  @Transactional(readOnly = true)
   public Map<String, Object> getWorkLogs(
       String carModel,
       String productCode,
@@ -99,28 +185,13 @@ public class WorkLogService {
       String sortField,
       String sortDirection) {
 
-    // 허용된 정렬 필드만 처리
-    if (sortField != null && !Arrays.asList(
-        "wl_work_datetime", "wl_car_model", "wl_product_color", "wl_product_code",
-        "wl_product_name", "wl_quantity", "wl_created_at", "wl_completed_at").contains(sortField)) {
-      sortField = "wl_work_datetime"; // 기본값
-    }
-
-    // 정렬 방향 기본값을 ASC로 설정
-    if (sortDirection == null) {
-      sortDirection = "ASC";
-    }
+    WorkLogQuery query = listQuery(carModel, productCode, status, startDate, endDate, sortField, sortDirection);
 
-    Map<String, Object> params = new HashMap<>();
-    params.put("carModel", carModel);
-    params.put("productCode", productCode);
-    params.put("status", status);
-    params.put("startDate", startDate);
-    params.put("endDate", endDate);
-    params.put("sortField", sortField);
-    params.put("sortDirection", sortDirection);
+    // 하루 목록이면 앞뒤 날짜를 백그라운드에서 미리 조회
+    prefetcher.observe(query, this::loadWorkLogList);
 
-    List<WorkLogDTO> workLogs = workLogMapper.selectWorkLogs(params);
+    // 정렬만 다른 조회는 캐시된 행을 다시 정렬 (DB 는 정렬을 제외한 조건별로 한 번만 조회)
+    List<WorkLogDTO.ListResponse> workLogs = listCache.get(query, this::loadWorkLogList);
 
     Map<String, Object> result = new HashMap<>();
     result.put("workLogs", workLogs);
@@ -129,6 +200,22 @@ public class WorkLogService {
     return result;
   }
 
+  /**
+   * 목록 응답의 ETag (조건 + 조회 기간의 변경 버전, DB 를 조회하지 않으므로 조건부 요청은 테이블을 읽지 않고 304 응답)
+   * - 목록을 조회하기 전에 계산 (getWorkLogs 와 같은 파라미터)
+   */
+  public String getWorkLogsETag(
+      String carModel,
+      String productCode,
+      String status,
+      LocalDateTime startDate,
+      LocalDateTime endDate,
+      String sortField,
+      String sortDirection) {
+    return listCache.versionTag(
+        listQuery(carModel, productCode, status, startDate, endDate, sortField, sortDirection));
+  }
+
   /**
    * 특정 날짜의 작업 로그 목록 조회
    * @param date 조회할 날짜
@@ -137,6 +224,7 @@ public class WorkLogService {
    * @param sortDirection 정렬 방향 ('ASC' 또는 'DESC')
    * @return 해당 날짜의 작업 로그 목록
    */
+  @Transactional(readOnly = true)
   public Map<String, Object> getWorkLogsByExactDate(LocalDate date, String status, String sortField, String sortDirection) {
     // 날짜 검증
     LocalDate validDate = date;
@@ -152,6 +240,14 @@ public class WorkLogService {
     return getWorkLogs(null, null, status, range[0], range[1], sortField, sortDirection);
   }
 
+  /**
+   * 특정 날짜 목록 응답의 ETag (getWorkLogsByExactDate 와 같은 파라미터)
+   */
+  public String getWorkLogsByExactDateETag(LocalDate date, String status, String sortField, String sortDirection) {
+    LocalDateTime[] range = DateTimeUtils.getDateTimeRange(date != null ? date : LocalDate.now());
+    return getWorkLogsETag(null, null, status, range[0], range[1], sortField, sortDirection);
+  }
+
   // 기존 메소드도 오버로드하여 이전 코드와의 호환성 유지
   public Map<String, Object> getWorkLogsByExactDate(LocalDate date, String sortField, String sortDirection) {
     // 상태 필터 없이 호출 (null)
@@ -165,48 +261,108 @@ public class WorkLogService {
   }
 
   /**
-   * 작업 로그 업데이트
+   * 작업 로그 업데이트 (단일 UPDATE ... RETURNING 문)
+   * - 요청에 version 이 있으면 현재 버전과 일치할 때만 변경하고, 다르면 충돌로 처리
    * @param id 업데이트할 작업 로그 ID
    * @param request 업데이트 요청 정보
-   * @return 성공 여부
+   * @return 변경된 작업 로그 (대상이 없으면 null)
+   * @throws OptimisticLockingFailureException 다른 사용자가 먼저 수정한 경우
    */
   @Transactional
-  public boolean updateWorkLog(Long id, WorkLogDTO.UpdateRequest request) {
-    WorkLogDTO existingWorkLog = workLogMapper.selectWorkLogById(id);
-    if (existingWorkLog == null) {
-      return false;
-    }
-
+  public WorkLogDTO updateWorkLog(@ShardKey Long id, WorkLogDTO.UpdateRequest request) {
     // 문자열 날짜를 LocalDateTime으로 변환
     LocalDateTime workDateTime = request.getWorkDatetimeAsLocalDateTime();
 
     if (workDateTime == null) {
+      // 변환 실패 시 기존 값 유지 (SQL 에서 COALESCE 처리)
       log.warn("날짜 변환 실패: {}", request.getWorkDatetime());
-      // 변환 실패 시 기존 값 유지
-      workDateTime = existingWorkLog.getWorkDatetime();
     }
 
-    // 필드 업데이트
-    existingWorkLog.setWorkDatetime(workDateTime);
-    existingWorkLog.setCarModel(request.getCarModel());
-    existingWorkLog.setProductColor(request.getProductColor());
-    existingWorkLog.setProductCode(request.getProductCode());
-    existingWorkLog.setProductName(request.getProductName());
-    existingWorkLog.setQuantity(request.getQuantity());
+    WorkLogDTO workLog = WorkLogDTO.builder()
+        .id(id)
+        .workDatetime(workDateTime)
+        .carModel(request.getCarModel())
+        .productColor(request.getProductColor())
+        .productCode(request.getProductCode())
+        .productName(request.getProductName())
+        .quantity(request.getQuantity())
+        .version(request.getVersion())
+        .carModelId(catalogService.carModelId(request.getCarModel()))
+        .productId(catalogService.productId(
+            request.getProductCode(), request.getProductName(), request.getProductColor()))
+        .build();
+
+    // 날짜/차종이 바뀌면 변경 전 목록도 무효화해야 하므로 캐시/세그먼트 사용 시 변경 전 행 조회
+    WorkLogDTO before = tracksScopes() ? findWorkLog(id) : null;
+    WorkLogDTO updated = catalogService.fill(workLogMapper.updateWorkLog(workLog));
+    if (updated == null) {
+      checkConflict(id, request.getVersion());
+      return null;
+    }
+    entityCache.put(updated);
+    invalidateUpdatedListCache(before, updated);
+    return updated;
+  }
+
+  /**
+   * 작업 로그 부분 수정 (JSON merge patch, 전달된 필드만 변경)
+   * - 지원 필드: workDatetime, carModel, productColor, productCode, productName, quantity, completed
+   * - version 이 있으면 현재 버전과 일치할 때만 변경하고, 다르면 충돌로 처리
+   * @param id 수정할 작업 로그 ID
+   * @param patch 변경할 필드 (필수 컬럼에 null 은 허용하지 않음)
+   * @return 변경된 작업 로그 (대상이 없으면 null)
+   * @throws IllegalArgumentException 지원하지 않는 필드이거나 값이 올바르지 않은 경우
+   * @throws OptimisticLockingFailureException 다른 사용자가 먼저 수정한 경우
+   */
+  @Transactional
+  public WorkLogDTO patchWorkLog(@ShardKey Long id, Map<String, Object> patch) {
+    Integer version = patchVersion(patch.get("version"));
+    Map<String, Object> changes = toPatchChanges(patch);
+
+    // 변경할 필드가 없으면 수정하지 않고 현재 상태 반환
+    if (changes.isEmpty()) {
+      return findWorkLog(id);
+    }
+    if (!resolveCatalogChanges(id, changes)) {
+      return null;
+    }
 
-    return workLogMapper.updateWorkLog(existingWorkLog) > 0;
+    WorkLogDTO before = tracksScopes()
+        && (changes.containsKey("workDatetime") || changes.containsKey("carModelId")) ? findWorkLog(id) : null;
+    WorkLogDTO updated = catalogService.fill(workLogMapper.patchWorkLog(id, changes, version));
+    if (updated == null) {
+      checkConflict(id, version);
+      return null;
+    }
+    entityCache.put(updated);
+    invalidateUpdatedListCache(before, updated);
+    return updated;
   }
 
   /**
-   * 작업 완료 상태 업데이트
+   * 작업 완료 상태 업데이트 (단일 UPDATE ... RETURNING 문)
    * @param id 작업 로그 ID
    * @param completed 완료 여부
-   * @return 성공 여부
+   * @param version 조회 시점의 버전 (null 이면 버전 확인 안함)
+   * @return 변경된 작업 로그 (대상이 없으면 null)
+   * @throws OptimisticLockingFailureException 다른 사용자가 먼저 수정한 경우
    */
   @Transactional
-  public boolean updateWorkLogCompletionStatus(Long id, boolean completed) {
+  public WorkLogDTO updateWorkLogCompletionStatus(@ShardKey Long id, boolean completed, Integer version) {
     LocalDateTime completedAt = completed ? LocalDateTime.now() : null;
-    return workLogMapper.updateWorkLogCompletionStatus(id, completedAt) > 0;
+    WorkLogDTO updated = catalogService.fill(workLogMapper.updateWorkLogCompletionStatus(id, completedAt, version));
+    if (updated == null) {
+      checkConflict(id, version);
+      return null;
+    }
+    entityCache.put(updated);
+    invalidateListCache(updated);
+    return updated;
+  }
+
+  // 기존 메소드도 오버로드하여 이전 코드와의 호환성 유지 (버전 확인 없음)
+  public WorkLogDTO updateWorkLogCompletionStatus(Long id, boolean completed) {
+    return updateWorkLogCompletionStatus(id, completed, null);
   }
 
   /**
@@ -215,8 +371,94 @@ public class WorkLogService {
    * @return 성공 여부
    */
   @Transactional
-  public boolean deleteWorkLog(Long id) {
-    return workLogMapper.deleteWorkLog(id) > 0;
+  public boolean deleteWorkLog(@ShardKey Long id) {
+    // 캐시의 행은 다른 트랜잭션이 막 변경한 직전 버전일 수 있으므로 삭제 범위는 DB 에서 조회
+    WorkLogDTO before = tracksScopes() ? loadWorkLog(id) : null;
+    // 아카이브로 이동된 작업 로그도 삭제 가능
+    boolean deleted = workLogMapper.deleteWorkLog(id) > 0
+        || (archiveService.isEnabled() && workLogMapper.deleteArchivedWorkLog(id) > 0);
+    if (deleted) {
+      entityCache.evict(List.of(id));
+      shardRouter.forget(List.of(id));
+      invalidateListCache(before);
+    }
+    return deleted;
+  }
+
+  /**
+   * ID 목록으로 작업 로그 조회 (원본에 없는 ID 는 아카이브에서 조회)
+   * @param ids 작업 로그 ID 목록
+   * @return 작업 로그 목록 (존재하지 않는 ID 는 제외)
+   */
+  @Transactional(readOnly = true)
+  public List<WorkLogDTO> getWorkLogsByIds(List<Long> ids) {
+    validateBulkIds(ids);
+    if (ids == null || ids.isEmpty()) {
+      return List.of();
+    }
+
+    List<WorkLogDTO> workLogs = new ArrayList<>(shardRouter.isEnabled()
+        ? WorkLogShardRouter.merge(shardRouter.fanOut(shard -> workLogMapper.selectWorkLogsByIds(ids)),
+            Comparator.comparing(WorkLogDTO::getWorkDatetime))
+        : workLogMapper.selectWorkLogsByIds(ids));
+    if (archiveService.isEnabled() && workLogs.size() < ids.size()) {
+      Set<Long> found = new HashSet<>();
+      workLogs.forEach(workLog -> found.add(workLog.getId()));
+      List<Long> missing = ids.stream().filter(id -> !found.contains(id)).distinct().toList();
+      if (!missing.isEmpty()) {
+        workLogs.addAll(workLogMapper.selectArchivedWorkLogsByIds(missing));
+      }
+    }
+    return catalogService.fill(workLogs);
+  }
+
+  /**
+   * 작업 완료 상태 일괄 변경 (단일 UPDATE 문, 하나의 트랜잭션)
+   * - 상태가 실제로 바뀌는 행만 변경하므로 이미 완료된 작업의 완료 시간은 유지
+   * - 샤드 사용 시 샤드마다 별도 트랜잭션
+   * @param request 대상 ID 목록 또는 필터 조건, 변경할 완료 여부
+   * @return 상태가 변경된 작업 로그 ID 목록
+   */
+  @Transactional
+  public List<Long> updateWorkLogsCompletionStatus(WorkLogDTO.BulkRequest request) {
+    Map<String, Object> params = toBulkParams(request);
+    params.put("completedAt", request.isCompleted() ? LocalDateTime.now() : null);
+    List<Scope> scopes = bulkScopes(request);
+    List<Long> updatedIds = shardRouter.isEnabled()
+        ? shardRouter.writeEach(shard -> workLogMapper.updateWorkLogsCompletionStatus(params))
+        : workLogMapper.updateWorkLogsCompletionStatus(params);
+    if (!updatedIds.isEmpty()) {
+      entityCache.evict(updatedIds);
+      invalidateReads(scopes);
+    }
+    return updatedIds;
+  }
+
+  /**
+   * 작업 로그 일괄 삭제 (단일 DELETE 문, 하나의 트랜잭션)
+   * - 샤드 사용 시 샤드마다 별도 트랜잭션 (아카이브 삭제는 main 과 같은 트랜잭션)
+   * @param request 대상 ID 목록 또는 필터 조건
+   * @return 삭제된 작업 로그 ID 목록
+   */
+  @Transactional
+  public List<Long> deleteWorkLogs(WorkLogDTO.BulkRequest request) {
+    Map<String, Object> params = toBulkParams(request);
+    List<Scope> scopes = bulkScopes(request);
+    List<Long> deletedIds = new ArrayList<>(shardRouter.isEnabled()
+        ? shardRouter.writeEach(shard -> workLogMapper.deleteWorkLogs(params))
+        : workLogMapper.deleteWorkLogs(params));
+
+    // 아카이브로 이동된 작업 로그도 같은 조건으로 삭제
+    LocalDateTime startDate = (LocalDateTime) params.get("startDate");
+    if (request.hasIds() ? archiveService.isEnabled() : archiveService.reachesArchive(startDate)) {
+      deletedIds.addAll(workLogMapper.deleteArchivedWorkLogs(params));
+    }
+    if (!deletedIds.isEmpty()) {
+      entityCache.evict(deletedIds);
+      shardRouter.forget(deletedIds);
+      invalidateReads(scopes);
+    }
+    return deletedIds;
   }
 
   /**
@@ -225,34 +467,282 @@ public class WorkLogService {
    * @param endDate 종료 날짜
    * @return 작업 로그 목록
    */
+  @Transactional(readOnly = true)
   public List<WorkLogDTO> getWorkLogsByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
-    return workLogMapper.selectWorkLogsByDateRange(startDate, endDate);
+    boolean includeArchive = archiveService.reachesArchive(startDate);
+    if (shardRouter.isEnabled()) {
+      return catalogService.fill(WorkLogShardRouter.merge(shardRouter.fanOut(shard ->
+              workLogMapper.selectWorkLogsByDateRange(startDate, endDate, includeArchive && isArchiveShard(shard))),
+          Comparator.comparing(WorkLogDTO::getWorkDatetime)));
+    }
+    return catalogService.fill(workLogMapper.selectWorkLogsByDateRange(startDate, endDate, includeArchive));
   }
 
   /**
-   * 차량 모델로 작업 로그 조회
+   * 차량 모델로 작업 로그 조회 (샤드 사용 시 모든 샤드를 조회해 작업시간 순으로 병합)
    * @param carModel 차량 모델명
    * @return 작업 로그 목록
    */
+  @Transactional(readOnly = true)
   public List<WorkLogDTO> getWorkLogsByCarModel(String carModel) {
-    return workLogMapper.selectWorkLogsByCarModel(carModel);
+    return selectFromShards(includeArchive -> workLogMapper.selectWorkLogsByCarModel(carModel, includeArchive));
   }
 
   /**
-   * 제품 코드로 작업 로그 조회
+   * 제품 코드로 작업 로그 조회 (샤드 사용 시 모든 샤드를 조회해 작업시간 순으로 병합)
    * @param productCode 제품 코드
    * @return 작업 로그 목록
    */
+  @Transactional(readOnly = true)
   public List<WorkLogDTO> getWorkLogsByProductCode(String productCode) {
-    return workLogMapper.selectWorkLogsByProductCode(productCode);
+    return selectFromShards(includeArchive -> workLogMapper.selectWorkLogsByProductCode(productCode, includeArchive));
   }
 
   /**
-   * 상태별 작업 로그 조회
+   * 상태별 작업 로그 조회 (샤드 사용 시 모든 샤드를 조회해 작업시간 순으로 병합)
    * @param status 상태 (completed, incomplete)
    * @return 작업 로그 목록
    */
+  @Transactional(readOnly = true)
   public List<WorkLogDTO> getWorkLogsByStatus(String status) {
-    return workLogMapper.selectWorkLogsByStatus(status);
+    return selectFromShards(includeArchive -> workLogMapper.selectWorkLogsByStatus(status, includeArchive));
+  }
+
+  // 기간 조건이 없는 작업시간 순 조회를 모든 샤드에서 실행해 병합 (샤드 미사용 시 현재 트랜잭션에서 한 번)
+  // - 아카이브된 작업 로그가 있으면 아카이브도 조회 (아카이브는 main 샤드에만 ATTACH)
+  private List<WorkLogDTO> selectFromShards(Function<Boolean, List<WorkLogDTO>> query) {
+    boolean includeArchive = archiveService.reachesArchive(null);
+    return catalogService.fill(shardRouter.isEnabled()
+        ? WorkLogShardRouter.merge(shardRouter.fanOut(shard -> query.apply(includeArchive && isArchiveShard(shard))),
+            Comparator.comparing(WorkLogDTO::getWorkDatetime))
+        : query.apply(includeArchive));
+  }
+
+  // 생성 요청을 저장용 작업 로그로 변환 (차종/제품은 카탈로그 ID 로 변환)
+  private WorkLogDTO toWorkLog(WorkLogDTO.CreateRequest request, long id) {
+    // 문자열 날짜를 LocalDateTime으로 변환
+    LocalDateTime workDateTime = request.getWorkDatetimeAsLocalDateTime();
+
+    if (workDateTime == null) {
+      log.warn("날짜 변환 실패: {}", request.getWorkDatetime());
+      // 변환 실패 시 현재 시간 사용 또는 오류 처리 결정
+      workDateTime = LocalDateTime.now();
+    }
+
+    return WorkLogDTO.builder()
+        .id(id)
+        .workDatetime(workDateTime)  // LocalDateTime 사용
+        .carModel(request.getCarModel())
+        .productColor(request.getProductColor())
+        .productCode(request.getProductCode())
+        .productName(request.getProductName())
+        .quantity(request.getQuantity() != null ? request.getQuantity() : 1)
+        .carModelId(catalogService.carModelId(request.getCarModel()))
+        .productId(catalogService.productId(
+            request.getProductCode(), request.getProductName(), request.getProductColor()))
+        .build();
+  }
+
+  // merge patch 요청을 컬럼 타입에 맞는 변경 목록으로 변환
+  private Map<String, Object> toPatchChanges(Map<String, Object> patch) {
+    Map<String, Object> changes = new HashMap<>();
+    for (Map.Entry<String, Object> entry : patch.entrySet()) {
+      String field = entry.getKey();
+      Object value = entry.getValue();
+      switch (field) {
+        case "version", "id" -> {
+          // 버전은 충돌 확인용, ID 는 경로 변수 사용
+        }
+        case "workDatetime" -> changes.put(field, parsePatchDateTime(requireValue(field, value)));
+        case "carModel", "productColor", "productCode", "productName" ->
+            changes.put(field, requireValue(field, value).toString());
+        case "quantity" -> {
+          if (!(requireValue(field, value) instanceof Number number)) {
+            throw new IllegalArgumentException("quantity 는 숫자여야 합니다.");
+          }
+          changes.put(field, number.intValue());
+        }
+        case "completed" -> {
+          if (!(requireValue(field, value) instanceof Boolean completed)) {
+            throw new IllegalArgumentException("completed 는 true 또는 false 여야 합니다.");
+          }
+          changes.put("completedAt", completed ? LocalDateTime.now() : null);
+        }
+        default -> throw new IllegalArgumentException("수정할 수 없는 필드입니다: " + field);
+      }
+    }
+    return changes;
+  }
+
+  // 차종/제품 변경을 카탈로그 ID 변경으로 변환 (제품은 코드/이름/색상 조합이므로 빠진 값은 현재 행에서 가져옴)
+  private boolean resolveCatalogChanges(Long id, Map<String, Object> changes) {
+    if (changes.containsKey("carModel")) {
+      changes.put("carModelId", catalogService.carModelId((String) changes.get("carModel")));
+    }
+    if (changes.containsKey("productCode") || changes.containsKey("productName")
+        || changes.containsKey("productColor")) {
+      WorkLogDTO current = catalogService.fill(workLogMapper.selectWorkLogById(id));
+      if (current == null) {
+        return false;
+      }
+      changes.put("productId", catalogService.productId(
+          (String) changes.getOrDefault("productCode", current.getProductCode()),
+          (String) changes.getOrDefault("productName", current.getProductName()),
+          (String) changes.getOrDefault("productColor", current.getProductColor())));
+    }
+    return true;
+  }
+
+  // 충돌 확인용 버전 (없거나 null 이면 확인하지 않음)
+  private static Integer patchVersion(Object value) {
+    if (value == null) {
+      return null;
+    }
+    if (!(value instanceof Number number)) {
+      throw new IllegalArgumentException("version 은 숫자여야 합니다.");
+    }
+    return number.intValue();
+  }
+
+  private static Object requireValue(String field, Object value) {
+    if (value == null) {
+      throw new IllegalArgumentException(field + " 값은 비울 수 없습니다.");
+    }
+    return value;
+  }
+
+  // 화면 형식(YY.MM.DD HH:mm) 또는 ISO 형식 허용
+  private static LocalDateTime parsePatchDateTime(Object value) {
+    String text = value.toString();
+    LocalDateTime dateTime = DateTimeUtils.parseFromDisplayFormat(text);
+    if (dateTime == null) {
+      try {
+        dateTime = LocalDateTime.parse(text);
+      } catch (DateTimeParseException e) {
+        throw new IllegalArgumentException("작업시간 형식이 올바르지 않습니다: " + text);
+      }
+    }
+    return dateTime;
+  }
+
+  // 수정된 행이 없을 때 대상이 존재하면 버전 충돌 (실패 경로에서만 추가 조회)
+  private void checkConflict(Long id, Integer expectedVersion) {
+    if (expectedVersion == null) {
+      return;
+    }
+    Integer currentVersion = workLogMapper.selectWorkLogVersion(id);
+    if (currentVersion != null) {
+      throw new OptimisticLockingFailureException(
+          "다른 사용자가 먼저 수정한 작업 로그입니다. (id=" + id + ", version=" + expectedVersion
+              + ", current=" + currentVersion + ")");
+    }
+  }
+
+  // 허용되지 않은 정렬 필드는 작업시간, 정렬 방향 기본값은 ASC (WorkLogQuery 에서 정규화)
+  private WorkLogQuery listQuery(String carModel, String productCode, String status, LocalDateTime startDate,
+      LocalDateTime endDate, String sortField, String sortDirection) {
+    return WorkLogQuery.of(carModel, productCode, status, startDate, endDate,
+        sortField, sortDirection, archiveService.reachesArchive(startDate));
+  }
+
+  // 목록 조회 (마감된 날짜만 조회하면 세그먼트에서, 아니면 DB 에서 카탈로그 정보까지 채워 조회)
+  private List<WorkLogDTO.ListResponse> loadWorkLogList(WorkLogQuery query) {
+    List<WorkLogDTO.ListResponse> workLogs = segmentStore.read(query);
+    if (workLogs != null) {
+      return workLogs;
+    }
+    return catalogService.fill(shardRouter.isEnabled()
+        ? WorkLogShardRouter.merge(shardRouter.fanOut(shard -> workLogMapper.selectWorkLogList(
+            isArchiveShard(shard) ? query : query.withoutArchive())), query.listComparator())
+        : workLogMapper.selectWorkLogList(query));
+  }
+
+  // ID 별 캐시에 없으면 DB 에서 조회
+  private WorkLogDTO findWorkLog(Long id) {
+    return entityCache.get(id, this::loadWorkLog);
+  }
+
+  // 원본 테이블에 없으면 아카이브에서 조회 (아카이브된 작업 로그는 조회/삭제만 가능)
+  private WorkLogDTO loadWorkLog(Long id) {
+    WorkLogDTO workLog = workLogMapper.selectWorkLogById(id);
+    if (workLog == null && archiveService.isEnabled()) {
+      workLog = workLogMapper.selectArchivedWorkLogById(id);
+    }
+    return catalogService.fill(workLog);
+  }
+
+  // 변경된 행의 날짜/차종에 해당하는 목록 캐시 무효화 (null 은 무시)
+  private void invalidateListCache(WorkLogDTO... workLogs) {
+    invalidateReads(Arrays.stream(workLogs).filter(Objects::nonNull).map(Scope::of).toList());
+  }
+
+  // 수정 전/후 행의 목록 캐시 무효화
+  // (캐시에서 읽은 수정 전 행이 직전 버전이 아니면 그 사이 다른 변경의 날짜/차종을 알 수 없으므로 전체 범위)
+  private void invalidateUpdatedListCache(WorkLogDTO before, WorkLogDTO updated) {
+    if (before != null && before.getVersion() != null && updated.getVersion() != null
+        && before.getVersion() + 1 != updated.getVersion()) {
+      invalidateReads(List.of(new Scope(null, null)));
+      return;
+    }
+    invalidateListCache(before, updated);
+  }
+
+  // 변경 범위(날짜/차종)가 필요한지 (목록 캐시나 세그먼트를 사용할 때만 변경 전 행 조회)
+  private boolean tracksScopes() {
+    return listCache.isEnabled() || segmentStore.isEnabled();
+  }
+
+  // 변경된 날짜의 세그먼트를 버린 뒤 목록 캐시 무효화 (트랜잭션이 끝난 뒤 등록 순서대로 실행)
+  private void invalidateReads(Collection<Scope> scopes) {
+    segmentStore.reopen(scopes);
+    listCache.invalidate(scopes);
+  }
+
+  // 일괄 처리 대상의 날짜/차종 (ID 지정 시 변경 전 행에서, 필터만 있으면 필터 조건으로, 일괄 처리는 날짜/차종을 바꾸지 않음)
+  private List<Scope> bulkScopes(WorkLogDTO.BulkRequest request) {
+    if (!tracksScopes()) {
+      return List.of();
+    }
+    if (request.hasIds()) {
+      return getWorkLogsByIds(request.getIds()).stream().map(Scope::of).toList();
+    }
+    return List.of(new Scope(request.getDate(), request.getCarModel()));
+  }
+
+  // 아카이브는 main 샤드(기본 DB)에만 ATTACH
+  private boolean isArchiveShard(String shard) {
+    return archiveService.isEnabled() && ShardingProperties.MAIN_SHARD.equals(shard);
+  }
+
+  // 일괄 처리 조건 검증 후 매퍼 파라미터로 변환 (조건 없는 전체 변경/삭제는 허용하지 않음)
+  private Map<String, Object> toBulkParams(WorkLogDTO.BulkRequest request) {
+    if (request == null || (!request.hasIds() && !request.hasFilter())) {
+      throw new IllegalArgumentException("대상 ID 목록 또는 필터 조건이 필요합니다.");
+    }
+    validateBulkIds(request.getIds());
+    String status = request.getStatus() != null && !request.getStatus().isBlank() ? request.getStatus() : null;
+    if (status != null && !WorkLogQuery.STATUS_COMPLETED.equals(status)
+        && !WorkLogQuery.STATUS_INCOMPLETE.equals(status)) {
+      throw new IllegalArgumentException("상태는 '" + WorkLogQuery.STATUS_COMPLETED + "' 또는 '"
+          + WorkLogQuery.STATUS_INCOMPLETE + "' 만 사용할 수 있습니다: " + request.getStatus());
+    }
+
+    Map<String, Object> params = new HashMap<>();
+    params.put("ids", request.getIds());
+    params.put("carModel", request.getCarModel());
+    params.put("productCode", request.getProductCode());
+    params.put("status", status);
+    if (request.getDate() != null) {
+      LocalDateTime[] range = DateTimeUtils.getDateTimeRange(request.getDate());
+      params.put("startDate", range[0]);
+      params.put("endDate", range[1]);
+    }
+    return params;
+  }
+
+  private void validateBulkIds(List<Long> ids) {
+    if (ids != null && ids.size() > MAX_BULK_IDS) {
+      throw new IllegalArgumentException("한 번에 처리할 수 있는 ID 는 최대 " + MAX_BULK_IDS + "개입니다.");
+    }
   }
-}
\ No newline at end of file
+}
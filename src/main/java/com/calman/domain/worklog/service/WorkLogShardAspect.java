@@ -0,0 +1,118 @@
+package com.calman.domain.worklog.service;
+
+import com.calman.domain.worklog.dto.WorkLogDTO;
+import com.calman.domain.worklog.mapper.WorkLogMapper;
+import com.calman.global.config.ShardingProperties;
+import com.calman.global.datasource.ShardContext;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 작업 로그 샤드 선택 Aspect
+ * - @ShardKey 파라미터가 있는 @Transactional 메소드는 트랜잭션 시작 전에 샤드를 지정
+ *   (SqliteBusyRetryAspect 안쪽, 트랜잭션 인터셉터 바깥에서 실행되므로 재시도마다 다시 선택)
+ * - 실제 커넥션은 첫 SQL 실행 시 얻으므로(LazyConnectionDataSourceProxy) 트랜잭션 전체가 같은 샤드를 사용
+ * - 이미 트랜잭션 안에서 호출된 경우에는 바깥 트랜잭션의 샤드를 그대로 사용
+ * - main 이 아닌 샤드는 카탈로그를 읽기 전용으로 ATTACH 하므로, 요청의 차종/제품을 샤드 지정 전에 main 에 등록
+ *   (샤드 → main 순서로 쓰기 커넥션을 잡지 않도록 트랜잭션 시작 전에 등록)
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class WorkLogShardAspect {
+
+  private final WorkLogShardRouter shardRouter;
+  private final WorkLogCatalogService catalogService;
+  private final WorkLogMapper workLogMapper;
+
+  @Around("within(com.calman.domain.worklog.service.WorkLogService) && "
+      + "@annotation(org.springframework.transaction.annotation.Transactional)")
+  public Object routeToShard(ProceedingJoinPoint joinPoint) throws Throwable {
+    if (!shardRouter.isEnabled() || TransactionSynchronizationManager.isActualTransactionActive()) {
+      return joinPoint.proceed();
+    }
+
+    Object key = shardKey(joinPoint);
+    if (key == null) {
+      return joinPoint.proceed();
+    }
+
+    String shard = shardRouter.resolve(key);
+    if (!ShardingProperties.MAIN_SHARD.equals(shard)) {
+      registerCatalog(shard, key, joinPoint.getArgs());
+    }
+
+    String previous = ShardContext.bind(shard);
+    try {
+      Object result = joinPoint.proceed();
+      // 생성한 작업 로그는 다음 ID 요청에서 샤드를 확인하지 않도록 위치 기억 (트랜잭션 커밋 후)
+      if (key instanceof WorkLogDTO.CreateRequest && result instanceof Long id) {
+        shardRouter.remember(shard, List.of(id));
+      }
+      return result;
+    } finally {
+      ShardContext.restore(previous);
+    }
+  }
+
+  // 요청의 차종/제품을 main 카탈로그에 등록 (생성/수정 요청, merge patch)
+  private void registerCatalog(String shard, Object key, Object[] args) {
+    for (Object arg : args) {
+      if (arg instanceof WorkLogDTO.CreateRequest request) {
+        catalogService.register(request.getCarModel(), request.getProductCode(), request.getProductName(),
+            request.getProductColor());
+      } else if (arg instanceof WorkLogDTO.UpdateRequest request) {
+        catalogService.register(request.getCarModel(), request.getProductCode(), request.getProductName(),
+            request.getProductColor());
+      } else if (arg instanceof Map<?, ?> patch && key instanceof Long id) {
+        registerPatchCatalog(shard, id, patch);
+      }
+    }
+  }
+
+  // 제품 필드 일부만 바꾸는 patch 는 나머지 값을 샤드의 현재 행에서 가져와 조합을 등록
+  private void registerPatchCatalog(String shard, Long id, Map<?, ?> patch) {
+    String carModel = Objects.toString(patch.get("carModel"), null);
+    String productCode = Objects.toString(patch.get("productCode"), null);
+    String productName = Objects.toString(patch.get("productName"), null);
+    String productColor = Objects.toString(patch.get("productColor"), null);
+    boolean partialProduct = (productCode != null || productName != null || productColor != null)
+        && (productCode == null || productName == null || productColor == null);
+    if (partialProduct) {
+      WorkLogDTO current = shardRouter.read(shard,
+          () -> catalogService.fill(workLogMapper.selectWorkLogById(id)));
+      if (current != null) {
+        productCode = productCode != null ? productCode : current.getProductCode();
+        productName = productName != null ? productName : current.getProductName();
+        productColor = productColor != null ? productColor : current.getProductColor();
+      }
+    }
+    catalogService.register(carModel, productCode, productName, productColor);
+  }
+
+  private static Object shardKey(ProceedingJoinPoint joinPoint) {
+    Annotation[][] annotations = ((MethodSignature) joinPoint.getSignature()).getMethod().getParameterAnnotations();
+    Object[] args = joinPoint.getArgs();
+    for (int i = 0; i < annotations.length; i++) {
+      for (Annotation annotation : annotations[i]) {
+        if (annotation instanceof ShardKey) {
+          return args[i];
+        }
+      }
+    }
+    return null;
+  }
+}
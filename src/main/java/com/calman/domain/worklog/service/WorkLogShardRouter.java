@@ -0,0 +1,322 @@
+package com.calman.domain.worklog.service;
+
+import com.calman.domain.worklog.dto.WorkLogDTO;
+import com.calman.domain.worklog.mapper.WorkLogMapper;
+import com.calman.global.config.ShardingProperties;
+import com.calman.global.datasource.ShardContext;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 작업 로그 샤드 라우터 (calman.sharding)
+ * - 생성 요청은 차종으로 샤드를 선택 (설정에 없는 차종은 main)
+ * - ID 로 처리하는 요청은 각 샤드의 기본 키를 확인해 행이 있는 샤드를 선택 (행은 생성된 샤드에 그대로 유지)
+ *   찾은 위치와 생성한 위치는 ID 별로 기억해 다음 요청은 샤드를 확인하지 않음
+ * - 목록 조회는 모든 샤드에 병렬로 실행한 뒤 정렬 순서대로 병합 (k-way merge)
+ * - 샤드마다 별도 트랜잭션이므로 여러 샤드에 걸친 일괄 처리는 샤드 단위로만 원자적
+ */
+@Slf4j
+@Component
+@DependsOnDatabaseInitialization
+public class WorkLogShardRouter {
+
+  private final ShardingProperties properties;
+  private final WorkLogMapper workLogMapper;
+  private final DataSource dataSource;
+  private final TransactionTemplate readTemplate;
+  private final TransactionTemplate writeTemplate;
+
+  private final List<String> shards = new ArrayList<>();
+  private final Map<String, String> shardByCarModel = new HashMap<>();
+  private final Cache<Long, String> locations;
+  private ExecutorService executor;
+
+  public WorkLogShardRouter(ShardingProperties properties, WorkLogMapper workLogMapper, DataSource dataSource,
+      PlatformTransactionManager transactionManager) {
+    this.properties = properties;
+    this.workLogMapper = workLogMapper;
+    this.dataSource = dataSource;
+
+    // 호출한 쪽 트랜잭션과 다른 샤드 커넥션을 사용하도록 항상 새 트랜잭션
+    this.readTemplate = new TransactionTemplate(transactionManager);
+    this.readTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.readTemplate.setReadOnly(true);
+    this.writeTemplate = new TransactionTemplate(transactionManager);
+    this.writeTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.locations = Caffeine.newBuilder().maximumSize(Math.max(0, properties.getLocationCacheSize())).build();
+
+    shards.add(ShardingProperties.MAIN_SHARD);
+    if (properties.isEnabled()) {
+      properties.getShards().forEach((name, shard) -> {
+        shards.add(name);
+        shard.getCarModels().forEach(carModel -> shardByCarModel.put(carModel, name));
+      });
+    }
+  }
+
+  /**
+   * 샤드 DB 스키마 생성 및 병렬 조회용 스레드 준비
+   */
+  @PostConstruct
+  public void initialize() {
+    if (!isEnabled()) {
+      return;
+    }
+
+    ResourceDatabasePopulator populator =
+        new ResourceDatabasePopulator(new ClassPathResource("schema/worklogs-shard.sql"));
+    for (String shard : shards.subList(1, shards.size())) {
+      ShardContext.call(shard, () -> {
+        populator.execute(dataSource);
+        return null;
+      });
+    }
+
+    AtomicInteger threadNumber = new AtomicInteger();
+    executor = Executors.newFixedThreadPool(Math.max(1, Math.min(properties.getFanOutThreads(), shards.size())),
+        runnable -> {
+          Thread thread = new Thread(runnable, "shard-fan-out-" + threadNumber.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        });
+    log.info("작업 로그 샤드 사용: shards={}, carModels={}", shards, shardByCarModel);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (executor != null) {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * 샤드 사용 여부 (main 외의 샤드가 있을 때만)
+   */
+  public boolean isEnabled() {
+    return shards.size() > 1;
+  }
+
+  /**
+   * 모든 샤드 이름 (main 이 처음)
+   */
+  public List<String> shards() {
+    return List.copyOf(shards);
+  }
+
+  /**
+   * 차종을 저장할 샤드
+   * @param carModel 차종 이름
+   * @return 샤드 이름 (설정에 없는 차종은 main)
+   */
+  public String shardOf(String carModel) {
+    return carModel != null ? shardByCarModel.getOrDefault(carModel, ShardingProperties.MAIN_SHARD)
+        : ShardingProperties.MAIN_SHARD;
+  }
+
+  /**
+   * 샤드 키(@ShardKey 파라미터)로 샤드 선택
+   * @param key 작업 로그 ID 또는 생성 요청
+   * @return 샤드 이름
+   */
+  public String resolve(Object key) {
+    if (key instanceof WorkLogDTO.CreateRequest request) {
+      return shardOf(request.getCarModel());
+    }
+    if (key instanceof Long id) {
+      return locate(id);
+    }
+    return ShardingProperties.MAIN_SHARD;
+  }
+
+  /**
+   * 작업 로그가 저장된 샤드 (기억한 위치가 없으면 기본 키 조회)
+   * @param id 작업 로그 ID
+   * @return 샤드 이름 (어느 샤드에도 없으면 아카이브 조회를 위해 main, 이 결과는 기억하지 않음)
+   */
+  public String locate(Long id) {
+    if (!isEnabled() || id == null) {
+      return ShardingProperties.MAIN_SHARD;
+    }
+    String located = locations.getIfPresent(id);
+    if (located != null) {
+      return located;
+    }
+    for (String shard : shards) {
+      Integer version = ShardContext.call(shard,
+          () -> readTemplate.execute(status -> workLogMapper.selectWorkLogVersion(id)));
+      if (version != null) {
+        locations.put(id, shard);
+        return shard;
+      }
+    }
+    return ShardingProperties.MAIN_SHARD;
+  }
+
+  /**
+   * 작업 로그를 저장한 샤드 기억 (생성 후 호출)
+   * @param shard 샤드 이름
+   * @param ids 작업 로그 ID 목록
+   */
+  public void remember(String shard, Collection<Long> ids) {
+    if (isEnabled()) {
+      ids.forEach(id -> locations.put(id, shard));
+    }
+  }
+
+  /**
+   * 삭제된 작업 로그의 위치 제거
+   * @param ids 작업 로그 ID 목록
+   */
+  public void forget(Collection<Long> ids) {
+    if (isEnabled()) {
+      locations.invalidateAll(ids);
+    }
+  }
+
+  /**
+   * 모든 샤드에서 병렬로 조회 (샤드마다 읽기 전용 트랜잭션)
+   * @param query 샤드 이름을 받아 조회하는 작업
+   * @return 샤드별 결과 (shards() 순서)
+   */
+  public <T> List<T> fanOut(Function<String, T> query) {
+    List<CompletableFuture<T>> futures = new ArrayList<>(shards.size());
+    for (String shard : shards) {
+      futures.add(CompletableFuture.supplyAsync(() -> ShardContext.call(shard,
+          () -> readTemplate.execute(status -> query.apply(shard))), executor));
+    }
+
+    List<T> results = new ArrayList<>(shards.size());
+    try {
+      for (CompletableFuture<T> future : futures) {
+        results.add(future.join());
+      }
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+    return results;
+  }
+
+  /**
+   * 지정한 샤드에서 조회 (읽기 전용 새 트랜잭션)
+   * @param shard 샤드 이름
+   * @param query 조회 작업
+   * @return 조회 결과
+   */
+  public <T> T read(String shard, Supplier<T> query) {
+    return ShardContext.call(shard, () -> readTemplate.execute(status -> query.get()));
+  }
+
+  /**
+   * 모든 샤드에서 차례로 변경 실행
+   * - main 은 호출한 쪽 트랜잭션에 참여하고, 나머지 샤드는 각자 새 트랜잭션으로 커밋
+   * @param action 샤드 이름을 받아 변경하는 작업
+   * @return 샤드별 결과를 이어 붙인 목록 (shards() 순서)
+   */
+  public <T> List<T> writeEach(Function<String, List<T>> action) {
+    List<T> results = new ArrayList<>();
+    for (String shard : shards) {
+      List<T> result = ShardingProperties.MAIN_SHARD.equals(shard) ? action.apply(shard)
+          : ShardContext.call(shard, () -> writeTemplate.execute(status -> action.apply(shard)));
+      if (result != null) {
+        results.addAll(result);
+      }
+    }
+    return results;
+  }
+
+  /**
+   * 지정한 샤드에서 변경 실행 (main 은 호출한 쪽 트랜잭션에 참여)
+   * @param shard 샤드 이름
+   * @param action 변경 작업
+   */
+  public void write(String shard, Runnable action) {
+    if (ShardingProperties.MAIN_SHARD.equals(shard)) {
+      action.run();
+      return;
+    }
+    ShardContext.call(shard, () -> writeTemplate.execute(status -> {
+      action.run();
+      return null;
+    }));
+  }
+
+  /**
+   * 각각 정렬된 샤드별 결과를 하나의 정렬된 목록으로 병합 (k-way merge)
+   * - 비교 결과가 같으면 앞 샤드의 항목이 먼저 (안정 병합)
+   * @param sortedLists 같은 순서로 정렬된 목록들
+   * @param comparator 정렬 순서
+   * @return 병합된 목록
+   */
+  public static <T> List<T> merge(List<? extends List<? extends T>> sortedLists, Comparator<? super T> comparator) {
+    int total = 0;
+    PriorityQueue<Cursor<T>> heap = new PriorityQueue<>(Math.max(1, sortedLists.size()), (left, right) -> {
+      int compared = comparator.compare(left.current(), right.current());
+      return compared != 0 ? compared : Integer.compare(left.order, right.order);
+    });
+    for (int i = 0; i < sortedLists.size(); i++) {
+      List<? extends T> list = sortedLists.get(i);
+      total += list.size();
+      if (!list.isEmpty()) {
+        heap.add(new Cursor<>(list, i));
+      }
+    }
+
+    List<T> merged = new ArrayList<>(total);
+    while (!heap.isEmpty()) {
+      Cursor<T> cursor = heap.poll();
+      merged.add(cursor.current());
+      if (++cursor.index < cursor.list.size()) {
+        heap.add(cursor);
+      }
+    }
+    return merged;
+  }
+
+  /**
+   * 병합 중인 목록의 현재 위치
+   */
+  private static class Cursor<T> {
+
+    private final List<? extends T> list;
+    private final int order;
+    private int index;
+
+    Cursor(List<? extends T> list, int order) {
+      this.list = list;
+      this.order = order;
+    }
+
+    T current() {
+      return list.get(index);
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package com.calman.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 완료 작업 로그 아카이브 설정 (calman.archive.*)
+ * - 오래된 완료 로그를 별도 SQLite 파일(ATTACH DATABASE ... AS archive)로 옮겨
+ *   work_logs 테이블과 인덱스를 작게 유지
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "calman.archive")
+public class ArchiveProperties {
+
+  /**
+   * ATTACH 시 사용하는 스키마 이름
+   */
+  public static final String SCHEMA_NAME = "archive";
+
+  /**
+   * 아카이브 사용 여부 (비활성화 시 ATTACH 하지 않음)
+   */
+  private boolean enabled = false;
+
+  /**
+   * 아카이브 SQLite 파일 경로
+   */
+  private String path = "crud-board-archive.sqlite";
+
+  /**
+   * 완료 후 이 기간이 지난 작업 로그(작업시간 기준)를 아카이브로 이동
+   */
+  private Duration retention = Duration.ofDays(90);
+
+  /**
+   * 배치당 이동할 최대 행 수 (쓰기 잠금 점유 시간 제한)
+   */
+  private int batchSize = 500;
+
+  /**
+   * 배치 사이 대기 시간 (그 사이 다른 writer 가 잠금을 얻을 수 있도록)
+   */
+  private Duration batchPause = Duration.ofMillis(50);
+
+  /**
+   * 1회 실행당 최대 배치 수
+   */
+  private int maxBatchesPerRun = 200;
+}
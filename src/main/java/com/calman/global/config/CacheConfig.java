@@ -0,0 +1,13 @@
+package com.calman.global.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 작업 로그 조회 캐시 설정 활성화 (WorkLogListCache, WorkLogEntityCache, WorkLogResponseCache, WorkLogPrefetcher,
+ * WorkLogCacheSnapshot)
+ */
+@Configuration
+@EnableConfigurationProperties(WorkLogCacheProperties.class)
+public class CacheConfig {
+}
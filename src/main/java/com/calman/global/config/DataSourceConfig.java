@@ -0,0 +1,235 @@
+package com.calman.global.config;
+
+import com.calman.global.datasource.InitializingSQLiteDataSource;
+import com.calman.global.datasource.ReadWriteRoutingDataSource;
+import com.calman.global.datasource.ReadWriteRoutingDataSource.Route;
+import com.calman.global.datasource.ShardDataSources;
+import com.calman.global.datasource.ShardRoutingDataSource;
+import com.calman.global.datasource.StatementCachingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.sqlite.SQLiteConfig;
+import org.sqlite.SQLiteDataSource;
+import org.sqlite.SQLiteOpenMode;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQLite 읽기/쓰기 분리 데이터소스 설정
+ * - 쓰기 풀: 커넥션 1개 (SQLite 는 한 번에 하나의 writer 만 허용)
+ * - 읽기 풀: 여러 커넥션 (WAL 모드에서 쓰기와 동시에 조회 가능)
+ * - @Transactional(readOnly = true) 는 읽기 풀, 나머지는 쓰기 풀로 라우팅
+ * - 두 풀 모두 SqliteProperties 의 PRAGMA 프로파일로 커넥션을 연다
+ * - 아카이브 사용 시 모든 커넥션에 아카이브 DB 를 ATTACH 한다
+ * - 물리 커넥션마다 PreparedStatement 를 캐시해 같은 SQL 을 다시 준비하지 않는다
+ * - 샤드 사용 시 샤드마다 같은 구성의 쓰기/읽기 풀을 만들고 ShardContext 로 샤드를 선택
+ * - h2 프로파일에서는 H2DataSourceConfig 를 대신 사용
+ */
+@Configuration
+@Profile("!" + H2DataSourceConfig.PROFILE)
+@EnableConfigurationProperties({SqliteDataSourceProperties.class, SqliteProperties.class, ArchiveProperties.class,
+    ShardingProperties.class, SegmentProperties.class})
+public class DataSourceConfig {
+
+  /**
+   * 쓰기 전용 커넥션 풀 (단일 커넥션)
+   */
+  @Bean
+  public HikariDataSource writerDataSource(
+      DataSourceProperties dataSourceProperties,
+      SqliteDataSourceProperties properties,
+      SqliteProperties sqliteProperties,
+      ArchiveProperties archiveProperties,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+
+    List<String> initStatements = new ArrayList<>();
+    // 스키마 생성 전에 적용되어야 새 DB 파일에 반영되므로 쓰기 커넥션에서 먼저 설정
+    initStatements.add("PRAGMA auto_vacuum = " + sqliteProperties.getAutoVacuum().name());
+    initStatements.addAll(attachStatements(archiveProperties));
+    if (archiveProperties.isEnabled()) {
+      // journal_mode 는 DB 파일별 설정이므로 아카이브에도 적용
+      initStatements.add("PRAGMA " + ArchiveProperties.SCHEMA_NAME + ".journal_mode = "
+          + sqliteProperties.getJournalMode().name());
+    }
+
+    HikariDataSource dataSource = createPool(
+        dataSourceProperties.getUrl(), initStatements, properties, sqliteProperties, false, meterRegistry);
+    dataSource.setPoolName(properties.getWriterPoolName());
+    dataSource.setMaximumPoolSize(1);
+    dataSource.setMinimumIdle(1);
+    return dataSource;
+  }
+
+  /**
+   * 읽기 전용 커넥션 풀 (다중 커넥션)
+   */
+  @Bean
+  public HikariDataSource readerDataSource(
+      DataSourceProperties dataSourceProperties,
+      SqliteDataSourceProperties properties,
+      SqliteProperties sqliteProperties,
+      ArchiveProperties archiveProperties,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+
+    List<String> initStatements = new ArrayList<>(attachStatements(archiveProperties));
+    // 읽기 풀 커넥션에서는 쓰기를 막는다
+    initStatements.add("PRAGMA query_only = 1");
+
+    HikariDataSource dataSource = createPool(
+        dataSourceProperties.getUrl(), initStatements, properties, sqliteProperties, false, meterRegistry);
+    dataSource.setPoolName(properties.getReaderPoolName());
+    dataSource.setMaximumPoolSize(Math.max(1, properties.getReaderPoolSize()));
+    return dataSource;
+  }
+
+  /**
+   * main 을 제외한 샤드별 쓰기/읽기 풀 (샤드 비활성화 시 비어 있음)
+   * - 샤드 커넥션에는 기본 DB 를 catalog 로 읽기 전용 ATTACH 해 차종/제품 카탈로그를 공유
+   *   (URI 파일 이름 file:...?mode=ro, 카탈로그 등록은 main 쓰기 풀에서만 실행)
+   */
+  @Bean
+  public ShardDataSources shardDataSources(
+      DataSourceProperties dataSourceProperties,
+      SqliteDataSourceProperties properties,
+      SqliteProperties sqliteProperties,
+      ShardingProperties shardingProperties,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+
+    ShardDataSources shardDataSources = new ShardDataSources();
+    if (!shardingProperties.isEnabled()) {
+      return shardDataSources;
+    }
+
+    String catalogUri = readOnlyUri(dataSourceProperties.getUrl()).replace("'", "''");
+    String attachCatalog = "ATTACH DATABASE '" + catalogUri + "' AS " + ShardingProperties.CATALOG_SCHEMA_NAME;
+
+    shardingProperties.getShards().forEach((name, shard) -> {
+      if (ShardingProperties.MAIN_SHARD.equals(name)) {
+        throw new IllegalStateException("샤드 이름 main 은 기본 DB 에 예약되어 있습니다.");
+      }
+      String url = "jdbc:sqlite:" + shard.getPath();
+
+      HikariDataSource writer = createPool(url,
+          List.of("PRAGMA auto_vacuum = " + sqliteProperties.getAutoVacuum().name(), attachCatalog),
+          properties, sqliteProperties, true, meterRegistry);
+      writer.setPoolName(properties.getWriterPoolName() + "-" + name);
+      writer.setMaximumPoolSize(1);
+      writer.setMinimumIdle(1);
+
+      HikariDataSource reader = createPool(url, List.of(attachCatalog, "PRAGMA query_only = 1"),
+          properties, sqliteProperties, true, meterRegistry);
+      reader.setPoolName(properties.getReaderPoolName() + "-" + name);
+      reader.setMaximumPoolSize(Math.max(1, properties.getReaderPoolSize()));
+
+      shardDataSources.add(name, readWriteRouting(writer, reader), writer, reader);
+    });
+    return shardDataSources;
+  }
+
+  /**
+   * 애플리케이션 기본 데이터소스 (MyBatis, JdbcTemplate, SQL 초기화에서 사용)
+   */
+  @Bean
+  @Primary
+  public DataSource dataSource(
+      @Qualifier("writerDataSource") DataSource writerDataSource,
+      @Qualifier("readerDataSource") DataSource readerDataSource,
+      ShardDataSources shardDataSources) {
+
+    DataSource mainDataSource = readWriteRouting(writerDataSource, readerDataSource);
+    if (!shardDataSources.isEmpty()) {
+      Map<Object, Object> targets = new HashMap<>(shardDataSources.routes());
+      targets.put(ShardingProperties.MAIN_SHARD, mainDataSource);
+
+      ShardRoutingDataSource shardRoutingDataSource = new ShardRoutingDataSource();
+      shardRoutingDataSource.setTargetDataSources(targets);
+      shardRoutingDataSource.setDefaultTargetDataSource(mainDataSource);
+      shardRoutingDataSource.afterPropertiesSet();
+      mainDataSource = shardRoutingDataSource;
+    }
+
+    // 트랜잭션의 readOnly 여부와 샤드가 확정된 뒤 실제 커넥션을 얻도록 지연시킨다
+    return new LazyConnectionDataSourceProxy(mainDataSource);
+  }
+
+  private DataSource readWriteRouting(DataSource writerDataSource, DataSource readerDataSource) {
+    Map<Object, Object> targets = new HashMap<>();
+    targets.put(Route.WRITER, writerDataSource);
+    targets.put(Route.READER, readerDataSource);
+
+    ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource();
+    routingDataSource.setTargetDataSources(targets);
+    routingDataSource.setDefaultTargetDataSource(writerDataSource);
+    routingDataSource.afterPropertiesSet();
+    return routingDataSource;
+  }
+
+  // jdbc:sqlite:파일경로[?옵션] 에서 파일 경로만 추출
+  private static String sqlitePath(String url) {
+    String path = url.substring("jdbc:sqlite:".length());
+    int options = path.indexOf('?');
+    return options >= 0 ? path.substring(0, options) : path;
+  }
+
+  // 기본 DB 를 읽기 전용으로 여는 URI 파일 이름 (file:/절대경로?mode=ro, 이미 file: URI 이면 mode=ro 만 추가)
+  static String readOnlyUri(String url) {
+    String path = url.substring("jdbc:sqlite:".length());
+    if (path.startsWith("file:")) {
+      return path + (path.indexOf('?') >= 0 ? "&" : "?") + "mode=ro";
+    }
+    String absolute = Path.of(sqlitePath(url)).toAbsolutePath().toString().replace('\\', '/');
+    // URI 에서 의미가 있는 문자만 인코딩 (Windows 드라이브 경로는 file:/C:/... 형식)
+    String encoded = absolute.replace("%", "%25").replace("?", "%3f").replace("#", "%23");
+    return "file:" + (encoded.startsWith("/") ? "" : "/") + encoded + "?mode=ro";
+  }
+
+  private List<String> attachStatements(ArchiveProperties archiveProperties) {
+    if (!archiveProperties.isEnabled()) {
+      return List.of();
+    }
+    String path = archiveProperties.getPath().replace("'", "''");
+    return List.of("ATTACH DATABASE '" + path + "' AS " + ArchiveProperties.SCHEMA_NAME);
+  }
+
+  private HikariDataSource createPool(
+      String url,
+      List<String> initStatements,
+      SqliteDataSourceProperties properties,
+      SqliteProperties sqliteProperties,
+      boolean uriFilenames,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+
+    SQLiteConfig config = sqliteProperties.toSQLiteConfig();
+    if (uriFilenames) {
+      // ATTACH 의 file:...?mode=ro 를 URI 로 해석하도록 (기본 열기 모드 READWRITE | CREATE 유지)
+      config.setOpenMode(SQLiteOpenMode.OPEN_URI);
+    }
+    SQLiteDataSource sqliteDataSource = new InitializingSQLiteDataSource(config, initStatements);
+    sqliteDataSource.setUrl(url);
+
+    HikariDataSource dataSource = new HikariDataSource();
+    // 물리 커넥션별 문장 캐시 (MyBatis REUSE 실행기는 세션 안에서만 문장을 재사용하므로 세션 간 재사용용)
+    dataSource.setDataSource(new StatementCachingDataSource(sqliteDataSource, properties.getStatementCacheSize()));
+    dataSource.setConnectionTimeout(properties.getConnectionTimeout().toMillis());
+
+    // 풀 별 메트릭 (hikaricp.connections.active{pool=...} 등)
+    meterRegistry.ifAvailable(registry ->
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+    return dataSource;
+  }
+}
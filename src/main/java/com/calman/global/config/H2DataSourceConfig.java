@@ -0,0 +1,51 @@
+package com.calman.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * 임베디드 H2 (파일 DB, MVStore MVCC) 데이터소스 설정 (h2 프로파일)
+ * - 행 단위 잠금으로 여러 writer 가 동시에 커밋할 수 있으므로 읽기/쓰기 풀을 나누지 않고 풀 하나만 사용
+ *   (풀 설정: spring.datasource.hikari.*)
+ * - 같은 매퍼 XML 을 사용하고 DB 마다 다른 문장만 databaseId="h2" 로 분리 (MyBatisConfig)
+ * - ATTACH 에 의존하는 아카이브/샤드와 SQLite PRAGMA 기반 스케줄러는 사용하지 않음
+ * - 세그먼트는 SQLite LIKE 규칙(ASCII 대소문자 무시)으로 필터링하므로 사용하지 않음
+ */
+@Configuration
+@Profile(H2DataSourceConfig.PROFILE)
+@EnableConfigurationProperties({SqliteProperties.class, ArchiveProperties.class, ShardingProperties.class,
+    SegmentProperties.class})
+public class H2DataSourceConfig {
+
+  /**
+   * H2 저장소 프로파일 이름
+   */
+  public static final String PROFILE = "h2";
+
+  /**
+   * 애플리케이션 기본 데이터소스 (MyBatis, JdbcTemplate, SQL 초기화에서 사용)
+   */
+  @Bean
+  @Primary
+  @ConfigurationProperties(prefix = "spring.datasource.hikari")
+  public HikariDataSource dataSource(
+      DataSourceProperties dataSourceProperties,
+      ArchiveProperties archiveProperties,
+      ShardingProperties shardingProperties,
+      SegmentProperties segmentProperties) {
+
+    if (archiveProperties.isEnabled() || shardingProperties.isEnabled()) {
+      throw new IllegalStateException("h2 프로파일에서는 아카이브와 샤드(SQLite ATTACH 기반)를 사용할 수 없습니다.");
+    }
+    if (segmentProperties.isEnabled()) {
+      throw new IllegalStateException("h2 프로파일에서는 세그먼트(calman.segment)를 사용할 수 없습니다.");
+    }
+    return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+  }
+}
@@ -0,0 +1,28 @@
+package com.calman.global.config;
+
+import org.apache.ibatis.mapping.DatabaseIdProvider;
+import org.apache.ibatis.mapping.VendorDatabaseIdProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Properties;
+
+/**
+ * MyBatis DB 종류 구분 (databaseId)
+ * - 접속한 DB 제품 이름으로 databaseId 를 정하고, 매퍼 XML 에서 DB 마다 다른 문장만 databaseId 로 분리
+ * - databaseId 가 없는 문장이 기본(SQLite), 같은 id 의 databaseId="h2" 문장이 있으면 H2 에서 그 문장을 사용
+ */
+@Configuration
+public class MyBatisConfig {
+
+  @Bean
+  public DatabaseIdProvider databaseIdProvider() {
+    Properties vendors = new Properties();
+    vendors.setProperty("SQLite", "sqlite");
+    vendors.setProperty("H2", "h2");
+
+    VendorDatabaseIdProvider provider = new VendorDatabaseIdProvider();
+    provider.setProperties(vendors);
+    return provider;
+  }
+}
@@ -0,0 +1,12 @@
+package com.calman.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 백그라운드 스케줄 작업 활성화 (WAL 체크포인트 등)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
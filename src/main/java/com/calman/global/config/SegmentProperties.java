@@ -0,0 +1,39 @@
+package com.calman.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 마감된 날짜의 작업 로그 세그먼트 설정 (calman.segment.*)
+ * - 지난 날짜는 거의 바뀌지 않으므로 하루치 목록을 변경 불가 파일(세그먼트)로 만들어 두고
+ *   마감된 날짜만 조회하는 목록은 work_logs 대신 세그먼트(메모리 매핑)에서 읽음
+ * - 마감된 날짜가 수정되면 그 날짜의 세그먼트를 버리고 다음 실행에서 다시 생성
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "calman.segment")
+public class SegmentProperties {
+
+  /**
+   * 사용 여부
+   */
+  private boolean enabled = false;
+
+  /**
+   * 세그먼트 파일 디렉토리
+   */
+  private String path = "segments";
+
+  /**
+   * 날짜가 끝난 뒤 이 시간이 지나면 마감 (늦은 입력/완료 처리가 끝날 때까지 대기)
+   */
+  private Duration closeAfter = Duration.ofDays(1);
+
+  /**
+   * 세그먼트로 보관할 최근 마감 날짜 수 (더 오래된 날짜는 work_logs/아카이브에서 조회)
+   */
+  private int retainDays = 60;
+}
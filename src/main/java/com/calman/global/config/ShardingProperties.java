@@ -0,0 +1,70 @@
+package com.calman.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 라인(차종)별 샤드 설정 (calman.sharding.*)
+ * - 샤드마다 별도 SQLite 파일과 쓰기 풀(커넥션 1개)을 사용하므로 라인 수만큼 쓰기가 병렬로 진행
+ * - 지정하지 않은 차종과 아카이브는 기본 DB(main 샤드)에 저장
+ * - 차종/제품 카탈로그는 기본 DB 에만 두고 샤드 커넥션에 ATTACH 해서 사용
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "calman.sharding")
+public class ShardingProperties {
+
+  /**
+   * 기본 DB(spring.datasource.url) 샤드 이름
+   */
+  public static final String MAIN_SHARD = "main";
+
+  /**
+   * 샤드 커넥션에서 기본 DB 를 ATTACH 할 때 사용하는 스키마 이름
+   */
+  public static final String CATALOG_SCHEMA_NAME = "catalog";
+
+  /**
+   * 샤드 사용 여부 (비활성화 시 기본 DB 하나만 사용)
+   */
+  private boolean enabled = false;
+
+  /**
+   * 여러 샤드 조회를 병렬로 실행할 스레드 수
+   */
+  private int fanOutThreads = 4;
+
+  /**
+   * ID 별 샤드 위치를 기억할 최대 개수 (ID 로 처리하는 요청마다 모든 샤드를 확인하지 않도록)
+   */
+  private long locationCacheSize = 100_000;
+
+  /**
+   * 샤드 이름별 설정 (main 은 예약된 이름)
+   */
+  private Map<String, Shard> shards = new LinkedHashMap<>();
+
+  /**
+   * 샤드 하나의 설정
+   */
+  @Getter
+  @Setter
+  public static class Shard {
+
+    /**
+     * 샤드 SQLite 파일 경로
+     */
+    private String path;
+
+    /**
+     * 이 샤드에 저장할 차종 (카탈로그 차종 이름과 정확히 일치)
+     */
+    private List<String> carModels = new ArrayList<>();
+  }
+}
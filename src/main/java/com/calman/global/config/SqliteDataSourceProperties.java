@@ -0,0 +1,43 @@
+package com.calman.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * SQLite 커넥션 풀 설정 (calman.datasource.*)
+ * - 쓰기 풀은 SQLite 단일 writer 잠금에 맞춰 항상 커넥션 1개로 고정
+ * - 읽기 풀 크기만 설정으로 조정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "calman.datasource")
+public class SqliteDataSourceProperties {
+
+  /**
+   * 읽기 풀 최대 커넥션 수 (기본값: CPU 코어 수)
+   */
+  private int readerPoolSize = Runtime.getRuntime().availableProcessors();
+
+  /**
+   * 풀에서 커넥션을 얻기까지 기다리는 최대 시간
+   */
+  private Duration connectionTimeout = Duration.ofSeconds(30);
+
+  /**
+   * 물리 커넥션별로 재사용할 PreparedStatement 최대 개수 (0 이면 문장 캐시 사용 안함)
+   */
+  private int statementCacheSize = 64;
+
+  /**
+   * 쓰기 풀 이름 (메트릭 태그로 사용)
+   */
+  private String writerPoolName = "sqlite-writer";
+
+  /**
+   * 읽기 풀 이름 (메트릭 태그로 사용)
+   */
+  private String readerPoolName = "sqlite-reader";
+}
@@ -0,0 +1,208 @@
+package com.calman.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.sqlite.SQLiteConfig;
+import org.sqlite.SQLiteConfig.JournalMode;
+import org.sqlite.SQLiteConfig.SynchronousMode;
+import org.sqlite.SQLiteConfig.TempStore;
+
+import java.time.Duration;
+
+/**
+ * SQLite 성능 프로파일 설정 (calman.sqlite.*)
+ * - 모든 커넥션을 열 때 SQLiteConfig 로 PRAGMA 를 적용
+ * - 프로파일별 프리셋은 application.yml 의 dev/prod 섹션 참고
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "calman.sqlite")
+public class SqliteProperties {
+
+  /**
+   * PRAGMA journal_mode (읽기/쓰기 분리를 위해 WAL 권장)
+   */
+  private JournalMode journalMode = JournalMode.WAL;
+
+  /**
+   * PRAGMA synchronous (WAL 에서는 NORMAL 로도 커밋 내구성 유지, 전원 장애 시 마지막 트랜잭션만 유실 가능)
+   */
+  private SynchronousMode synchronous = SynchronousMode.FULL;
+
+  /**
+   * PRAGMA cache_size (음수는 KiB 단위, 예: -65536 = 64MB)
+   */
+  private int cacheSize = -2000;
+
+  /**
+   * PRAGMA mmap_size (바이트, 0 이면 메모리 맵 사용 안함)
+   */
+  private long mmapSize = 0;
+
+  /**
+   * PRAGMA temp_store
+   */
+  private TempStore tempStore = TempStore.DEFAULT;
+
+  /**
+   * PRAGMA busy_timeout (잠금 대기 시간)
+   */
+  private Duration busyTimeout = Duration.ofSeconds(5);
+
+  /**
+   * PRAGMA foreign_keys
+   */
+  private boolean foreignKeys = true;
+
+  /**
+   * PRAGMA auto_vacuum (새 DB 파일에만 바로 적용되며, 기존 파일은 maintenance.convert-auto-vacuum 으로 시작 시 전환)
+   * INCREMENTAL 이면 삭제로 생긴 빈 페이지를 유지보수 시 incremental_vacuum 으로 반환
+   */
+  private AutoVacuum autoVacuum = AutoVacuum.INCREMENTAL;
+
+  /**
+   * WAL 체크포인트 스케줄러 설정
+   */
+  private Checkpoint checkpoint = new Checkpoint();
+
+  /**
+   * SQLITE_BUSY / SQLITE_LOCKED 재시도 설정
+   */
+  private Retry retry = new Retry();
+
+  /**
+   * 정기 유지보수(ANALYZE, incremental vacuum, 무결성 검사) 설정
+   */
+  private Maintenance maintenance = new Maintenance();
+
+  /**
+   * 현재 설정으로 커넥션 생성용 SQLiteConfig 구성
+   */
+  public SQLiteConfig toSQLiteConfig() {
+    SQLiteConfig config = new SQLiteConfig();
+    config.setJournalMode(journalMode);
+    config.setSynchronous(synchronous);
+    config.setCacheSize(cacheSize);
+    config.setPragma(SQLiteConfig.Pragma.MMAP_SIZE, String.valueOf(mmapSize));
+    config.setTempStore(tempStore);
+    config.setBusyTimeout((int) busyTimeout.toMillis());
+    config.enforceForeignKeys(foreignKeys);
+    return config;
+  }
+
+  public enum AutoVacuum {
+    NONE, FULL, INCREMENTAL
+  }
+
+  @Getter
+  @Setter
+  public static class Checkpoint {
+
+    /**
+     * 백그라운드 체크포인트 사용 여부 (journal_mode 가 WAL 일 때만 의미 있음)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 체크포인트 실행 간격
+     */
+    private Duration interval = Duration.ofSeconds(60);
+
+    /**
+     * 체크포인트 모드 (PASSIVE, FULL, RESTART, TRUNCATE)
+     * PASSIVE 는 writer/reader 를 기다리지 않으므로 업무 시간에도 안전
+     */
+    private String mode = "PASSIVE";
+  }
+
+  @Getter
+  @Setter
+  public static class Retry {
+
+    /**
+     * 재시도 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 최초 호출을 포함한 최대 시도 횟수
+     */
+    private int maxAttempts = 6;
+
+    /**
+     * 첫 재시도 대기 시간 상한 (시도마다 2배씩 증가, 실제 대기는 0 ~ 상한 사이 임의값)
+     */
+    private Duration initialBackoff = Duration.ofMillis(20);
+
+    /**
+     * 재시도 대기 시간 상한의 최대값
+     */
+    private Duration maxBackoff = Duration.ofMillis(500);
+
+    /**
+     * 최초 호출부터 재시도를 포기하기까지의 전체 시간 제한
+     * - busy_timeout(기본 5s) 보다 짧게 둠: 일반적인 잠금 대기는 드라이버의 busy_timeout 이 이미 처리하므로,
+     *   busy_timeout 을 다 기다리고 실패한 호출은 재시도하지 않고 바로 503 으로 응답 (응답 시간 상한 유지)
+     * - 재시도 대상은 대기 없이 바로 실패하는 경합 (WAL 의 SQLITE_BUSY_SNAPSHOT, 교착 회피로 busy handler 를
+     *   건너뛴 SQLITE_BUSY, SQLITE_LOCKED)
+     */
+    private Duration deadline = Duration.ofSeconds(3);
+  }
+
+  @Getter
+  @Setter
+  public static class Maintenance {
+
+    /**
+     * 정기 유지보수 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 실행 시각 (트래픽이 적은 시간대, 기본 매일 03:00)
+     */
+    private String cron = "0 0 3 * * *";
+
+    /**
+     * 1회 실행의 전체 시간 제한 (초과 시 남은 단계는 다음 실행으로 넘김)
+     */
+    private Duration timeBudget = Duration.ofSeconds(60);
+
+    /**
+     * PRAGMA analysis_limit (ANALYZE 시 인덱스당 검사할 최대 행 수, 0 이면 전체)
+     */
+    private int analysisLimit = 1000;
+
+    /**
+     * incremental_vacuum 1단계에서 반환할 최대 페이지 수
+     */
+    private int vacuumPagesPerStep = 512;
+
+    /**
+     * 쓰기 풀이 사용 중일 때 양보하며 대기하는 시간
+     */
+    private Duration yieldPause = Duration.ofMillis(200);
+
+    /**
+     * 유지보수 커넥션의 busy_timeout (짧게 두어 쓰기 작업에 양보)
+     */
+    private Duration busyTimeout = Duration.ofMillis(100);
+
+    /**
+     * 무결성 검사 방식 (NONE, QUICK, FULL)
+     */
+    private IntegrityCheck integrityCheck = IntegrityCheck.QUICK;
+
+    /**
+     * 기존 DB 의 auto_vacuum 이 INCREMENTAL 이 아닐 때 애플리케이션 시작 시 VACUUM 으로 전환할지 여부
+     * - DB 전체를 다시 쓰며 그동안 쓰기가 막히므로 기본 비활성화, 정기 유지보수(시간 제한)에서는 전환하지 않음
+     * - 전환이 끝날 때까지 기동이 늦어지므로 점검 시간에 켜고 재시작한 뒤 다시 끔
+     */
+    private boolean convertAutoVacuum = false;
+
+    public enum IntegrityCheck {
+      NONE, QUICK, FULL
+    }
+  }
+}
@@ -0,0 +1,40 @@
+package com.calman.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 기동 준비 설정 (calman.warmup.*)
+ * - 준비 완료(readiness) 전에 대표 조회/직렬화/화면 렌더링을 한 번씩 실행해
+ *   매퍼 프록시, Jackson 직렬화기, 타임리프 템플릿, SQLite 페이지 캐시를 미리 채움
+ * - time-budget 이 지나면 남은 단계는 건너뛰고 바로 준비 완료
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "calman.warmup")
+public class WarmupProperties {
+
+  /**
+   * 사용 여부
+   */
+  private boolean enabled = true;
+
+  /**
+   * 전체 준비 시간 제한 (단계 시작 전에 확인, 실행 중인 조회는 끝날 때까지 대기)
+   */
+  private Duration timeBudget = Duration.ofSeconds(10);
+
+  /**
+   * 미리 조회할 최근 날짜 수 (오늘 포함)
+   */
+  private int days = 3;
+
+  /**
+   * 자기 자신에게 HTTP 요청을 보내 화면/API 를 실제 요청 경로로 한 번씩 실행할지 여부
+   * (DispatcherServlet 초기화, 타임리프 렌더링, 응답 압축까지 포함)
+   */
+  private boolean http = true;
+}
@@ -0,0 +1,168 @@
+package com.calman.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 작업 로그 조회 캐시 설정 (calman.cache.*)
+ * - 변경은 모두 WorkLogService 를 거치므로 변경된 날짜/차종의 캐시만 무효화하고,
+ *   서비스를 거치지 않는 변경(직접 SQL 등)에 대비해 만료 시간을 둠
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "calman.cache")
+public class WorkLogCacheProperties {
+
+  /**
+   * 목록 조회 결과 캐시 (WorkLogService.getWorkLogs, getWorkLogsByExactDate)
+   */
+  private ListCache list = new ListCache();
+
+  /**
+   * ID 별 작업 로그 캐시 (WorkLogService.getWorkLogById, getWorkLogDetailById, 수정 전 행 조회)
+   */
+  private EntityCache entity = new EntityCache();
+
+  /**
+   * 직렬화/압축된 목록 응답 캐시 (WorkLogApiController 목록 조회)
+   */
+  private ResponseCache response = new ResponseCache();
+
+  /**
+   * 이웃 날짜 미리 읽기 (WorkLogPrefetcher, 목록 캐시를 사용할 때만)
+   */
+  private Prefetch prefetch = new Prefetch();
+
+  /**
+   * 종료 시 목록 캐시를 파일로 저장하고 기동 시 검증 후 복원 (WorkLogCacheSnapshot)
+   */
+  private Snapshot snapshot = new Snapshot();
+
+  @Getter
+  @Setter
+  public static class ListCache {
+
+    /**
+     * 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 캐시에 보관할 최대 행 수 (조회 결과마다 행 수만큼 차지, 초과 시 오래 사용하지 않은 결과부터 제거)
+     */
+    private long maximumRows = 200_000;
+
+    /**
+     * 저장 후 만료 시간
+     */
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+
+    /**
+     * 캐시에 없는 같은 조건의 동시 조회를 하나로 합칠지 여부 (캐시를 꺼도 적용)
+     */
+    private boolean coalesce = true;
+  }
+
+  @Getter
+  @Setter
+  public static class EntityCache {
+
+    /**
+     * 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 캐시에 보관할 최대 작업 로그 수
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * 저장 후 만료 시간
+     */
+    private Duration expireAfterWrite = Duration.ofMinutes(5);
+  }
+
+  @Getter
+  @Setter
+  public static class ResponseCache {
+
+    /**
+     * 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 캐시에 보관할 최대 바이트 수 (원본 + gzip 크기 합계)
+     */
+    private long maximumBytes = 64L * 1024 * 1024;
+
+    /**
+     * 저장 후 만료 시간 (변경 버전이 바뀐 응답은 다시 조회되지 않으므로 메모리 회수용)
+     */
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+
+    /**
+     * gzip 으로 압축해 둘 최소 응답 크기 (바이트, 작은 응답은 원본만 보관)
+     */
+    private int minCompressSize = 1024;
+  }
+
+  @Getter
+  @Setter
+  public static class Prefetch {
+
+    /**
+     * 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 하루 조회 시 미리 읽을 앞뒤 날짜 수 (오늘 이후 날짜는 제외)
+     */
+    private int days = 1;
+
+    /**
+     * 미리 읽을 상태/정렬 조합 수 (요청한 조합 + 많이 사용된 순)
+     */
+    private int combinations = 2;
+
+    /**
+     * 대기할 수 있는 미리 읽기 작업 수 (초과하면 버림)
+     */
+    private int queueSize = 16;
+
+    /**
+     * 요청 처리용으로 남겨 둘 읽기 커넥션 수 (사용 중이 아닌 읽기 커넥션이 이보다 많을 때만 미리 읽음)
+     */
+    private int readerReserve = 2;
+  }
+
+  @Getter
+  @Setter
+  public static class Snapshot {
+
+    /**
+     * 사용 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 스냅샷 파일 경로
+     */
+    private String path = "crud-board-cache.snapshot";
+
+    /**
+     * 저장할 최대 목록 수 (자주 사용된 순, 기동 시 목록마다 지문 조회 1회)
+     */
+    private int maxEntries = 200;
+
+    /**
+     * 이보다 오래된 스냅샷은 복원하지 않음
+     */
+    private Duration maxAge = Duration.ofHours(12);
+  }
+}
@@ -0,0 +1,39 @@
+package com.calman.global.datasource;
+
+import org.sqlite.SQLiteConfig;
+import org.sqlite.SQLiteConnection;
+import org.sqlite.SQLiteDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * 커넥션을 열 때마다 초기화 SQL 을 순서대로 실행하는 SQLite 데이터소스
+ * - Hikari connectionInitSql 은 문장 1개만 지원하므로
+ *   ATTACH DATABASE, PRAGMA query_only 등 여러 문장이 필요한 경우에 사용
+ */
+public class InitializingSQLiteDataSource extends SQLiteDataSource {
+
+  private final List<String> initStatements;
+
+  public InitializingSQLiteDataSource(SQLiteConfig config, List<String> initStatements) {
+    super(config);
+    this.initStatements = List.copyOf(initStatements);
+  }
+
+  @Override
+  public SQLiteConnection getConnection(String username, String password) throws SQLException {
+    Connection connection = super.getConnection(username, password);
+    try (Statement statement = connection.createStatement()) {
+      for (String sql : initStatements) {
+        statement.execute(sql);
+      }
+    } catch (SQLException e) {
+      connection.close();
+      throw e;
+    }
+    return (SQLiteConnection) connection;
+  }
+}
@@ -0,0 +1,28 @@
+package com.calman.global.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기/쓰기 라우팅 데이터소스
+ * - readOnly 트랜잭션 안에서는 읽기 풀(READER)을 사용
+ * - 그 외(쓰기 트랜잭션, 트랜잭션 없음)는 쓰기 풀(WRITER)을 사용
+ *
+ * 트랜잭션 동기화 정보가 준비된 뒤에 커넥션을 얻어야 하므로
+ * 반드시 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+  /**
+   * 라우팅 대상
+   */
+  public enum Route {
+    WRITER,
+    READER
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? Route.READER : Route.WRITER;
+  }
+}
@@ -0,0 +1,64 @@
+package com.calman.global.datasource;
+
+import com.calman.global.config.ShardingProperties;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드가 사용할 샤드 (ShardRoutingDataSource 의 라우팅 키)
+ * - 지정하지 않으면 기본 DB(main 샤드)
+ * - 트랜잭션이 실제 커넥션을 얻기 전(첫 SQL 실행 전)에 지정해야 적용됨
+ */
+public final class ShardContext {
+
+  private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+  private ShardContext() {
+  }
+
+  /**
+   * 현재 샤드 이름 (지정하지 않았으면 main)
+   */
+  public static String current() {
+    String shard = CURRENT.get();
+    return shard != null ? shard : ShardingProperties.MAIN_SHARD;
+  }
+
+  /**
+   * 샤드 지정
+   * @param shard 샤드 이름
+   * @return 이전에 지정된 샤드 (restore 에 전달)
+   */
+  public static String bind(String shard) {
+    String previous = CURRENT.get();
+    CURRENT.set(shard);
+    return previous;
+  }
+
+  /**
+   * bind 이전 상태로 되돌림
+   * @param previous bind 가 반환한 값
+   */
+  public static void restore(String previous) {
+    if (previous == null) {
+      CURRENT.remove();
+    } else {
+      CURRENT.set(previous);
+    }
+  }
+
+  /**
+   * 지정한 샤드에서 실행
+   * @param shard 샤드 이름
+   * @param action 실행할 작업
+   * @return 작업 결과
+   */
+  public static <T> T call(String shard, Supplier<T> action) {
+    String previous = bind(shard);
+    try {
+      return action.get();
+    } finally {
+      restore(previous);
+    }
+  }
+}
@@ -0,0 +1,58 @@
+package com.calman.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * main 을 제외한 샤드별 데이터소스 (샤드마다 쓰기 풀 + 읽기 풀)
+ * - 풀은 빈으로 등록하지 않으므로 애플리케이션 종료 시 close 로 함께 닫음
+ */
+public class ShardDataSources implements AutoCloseable {
+
+  private final Map<String, DataSource> routes = new LinkedHashMap<>();
+  private final Map<String, HikariDataSource> writers = new LinkedHashMap<>();
+  private final List<HikariDataSource> pools = new ArrayList<>();
+
+  /**
+   * 샤드 추가
+   * @param shard 샤드 이름
+   * @param route 샤드의 읽기/쓰기 라우팅 데이터소스
+   * @param writer 샤드의 쓰기 풀 (종료 시 닫음)
+   * @param reader 샤드의 읽기 풀 (종료 시 닫음)
+   */
+  public void add(String shard, DataSource route, HikariDataSource writer, HikariDataSource reader) {
+    routes.put(shard, route);
+    writers.put(shard, writer);
+    pools.add(writer);
+    pools.add(reader);
+  }
+
+  /**
+   * 샤드 이름별 데이터소스 (설정 순서)
+   */
+  public Map<String, DataSource> routes() {
+    return Collections.unmodifiableMap(routes);
+  }
+
+  /**
+   * 샤드 이름별 쓰기 풀 (설정 순서, 유지보수 작업이 쓰기 사용 여부를 확인할 때 사용)
+   */
+  public Map<String, HikariDataSource> writers() {
+    return Collections.unmodifiableMap(writers);
+  }
+
+  public boolean isEmpty() {
+    return routes.isEmpty();
+  }
+
+  @Override
+  public void close() {
+    pools.forEach(HikariDataSource::close);
+  }
+}
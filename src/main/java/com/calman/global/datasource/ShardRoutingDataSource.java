@@ -0,0 +1,18 @@
+package com.calman.global.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * 샤드 라우팅 데이터소스
+ * - ShardContext 에 지정된 샤드의 데이터소스(샤드별 ReadWriteRoutingDataSource)를 사용
+ * - 샤드를 지정하지 않았거나 알 수 없는 샤드는 기본 데이터소스(main 샤드)
+ *
+ * ReadWriteRoutingDataSource 와 마찬가지로 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    return ShardContext.current();
+  }
+}
@@ -0,0 +1,189 @@
+package com.calman.global.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 물리 커넥션별로 PreparedStatement 를 재사용하는 데이터소스
+ * - sqlite-jdbc 와 Hikari 는 문장 캐시가 없어 같은 SQL 도 호출마다 sqlite3_prepare 를 다시 수행
+ * - prepareStatement(sql) 로 만든 문장을 닫으면 실제로 닫지 않고 파라미터만 지운 뒤 커넥션별 LRU 캐시에 보관
+ * - 캐시 크기를 넘으면 가장 오래 쓰지 않은 문장을 닫고, 물리 커넥션을 닫을 때 캐시의 문장을 모두 닫음
+ * - 같은 SQL 의 문장이 아직 사용 중이면 캐시하지 않는 새 문장을 만들어 반환
+ * - Hikari 풀과 SQLite 데이터소스 사이에 두므로 커넥션은 한 번에 한 스레드만 사용 (동기화 불필요)
+ */
+public class StatementCachingDataSource extends DelegatingDataSource {
+
+  private final int cacheSize;
+
+  public StatementCachingDataSource(DataSource targetDataSource, int cacheSize) {
+    super(targetDataSource);
+    this.cacheSize = cacheSize;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return wrap(super.getConnection());
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return wrap(super.getConnection(username, password));
+  }
+
+  private Connection wrap(Connection connection) {
+    if (cacheSize <= 0) {
+      return connection;
+    }
+    return (Connection) Proxy.newProxyInstance(
+        getClass().getClassLoader(), new Class<?>[] {Connection.class}, new CachingConnection(connection, cacheSize));
+  }
+
+  /**
+   * 문장 캐시를 가진 커넥션 프록시
+   */
+  private static class CachingConnection implements InvocationHandler {
+
+    private final Connection target;
+    private final LinkedHashMap<String, CachedStatement> statements;
+
+    CachingConnection(Connection target, int cacheSize) {
+      this.target = target;
+      this.statements = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedStatement> eldest) {
+          if (size() <= cacheSize) {
+            return false;
+          }
+          eldest.getValue().evict();
+          return true;
+        }
+      };
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      String name = method.getName();
+      if (name.equals("prepareStatement") && args.length == 1) {
+        return prepareStatement(proxy, (String) args[0]);
+      }
+      if (name.equals("close")) {
+        closeStatements();
+      }
+      if (name.equals("equals")) {
+        return proxy == args[0];
+      }
+      if (name.equals("hashCode")) {
+        return System.identityHashCode(proxy);
+      }
+      return invokeTarget(target, method, args);
+    }
+
+    private PreparedStatement prepareStatement(Object connectionProxy, String sql) throws SQLException {
+      CachedStatement cached = statements.get(sql);
+      if (cached != null && cached.inUse) {
+        // 같은 SQL 이 아직 사용 중 (결과를 읽는 중 같은 문장 재실행 등)
+        return target.prepareStatement(sql);
+      }
+      if (cached == null || cached.statement.isClosed()) {
+        cached = new CachedStatement(target.prepareStatement(sql), connectionProxy);
+        statements.put(sql, cached);
+      }
+      cached.inUse = true;
+      return cached.proxy;
+    }
+
+    private void closeStatements() {
+      Iterator<CachedStatement> iterator = statements.values().iterator();
+      while (iterator.hasNext()) {
+        iterator.next().evict();
+        iterator.remove();
+      }
+    }
+  }
+
+  /**
+   * 캐시된 문장 (close 는 반납으로 처리)
+   */
+  private static class CachedStatement implements InvocationHandler {
+
+    private final PreparedStatement statement;
+    private final Object connectionProxy;
+    private final PreparedStatement proxy;
+    private boolean inUse;
+    private boolean evicted;
+
+    CachedStatement(PreparedStatement statement, Object connectionProxy) {
+      this.statement = statement;
+      this.connectionProxy = connectionProxy;
+      this.proxy = (PreparedStatement) Proxy.newProxyInstance(
+          StatementCachingDataSource.class.getClassLoader(), new Class<?>[] {PreparedStatement.class}, this);
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      switch (method.getName()) {
+        case "close":
+          release();
+          return null;
+        case "isClosed":
+          return !inUse || statement.isClosed();
+        case "getConnection":
+          return connectionProxy;
+        case "equals":
+          return proxy == args[0];
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        default:
+          return invokeTarget(statement, method, args);
+      }
+    }
+
+    private void release() throws SQLException {
+      if (!inUse) {
+        return;
+      }
+      inUse = false;
+      if (evicted) {
+        statement.close();
+        return;
+      }
+      try {
+        statement.clearParameters();
+      } catch (SQLException e) {
+        evicted = true;
+        statement.close();
+      }
+    }
+
+    // 캐시에서 밀려남 (사용 중이면 반납할 때 닫음)
+    void evict() {
+      evicted = true;
+      if (!inUse) {
+        try {
+          statement.close();
+        } catch (SQLException ignored) {
+          // 닫는 중 오류는 무시 (커넥션과 함께 정리됨)
+        }
+      }
+    }
+  }
+
+  private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getTargetException();
+    }
+  }
+}
@@ -0,0 +1,64 @@
+package com.calman.global.error;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * REST API 공통 예외 처리
+ */
+@Slf4j
+@RestControllerAdvice(annotations = RestController.class)
+public class ApiExceptionHandler {
+
+  /**
+   * 잠금 경합으로 재시도를 모두 소진한 경우 503 + Retry-After 로 응답
+   */
+  @ExceptionHandler(CannotAcquireLockException.class)
+  public ResponseEntity<Map<String, Object>> handleLockContention(CannotAcquireLockException e) {
+    log.warn("데이터베이스 잠금 경합: {}", e.getMessage());
+
+    Map<String, Object> response = new HashMap<>();
+    response.put("success", false);
+    response.put("message", "데이터베이스가 사용 중입니다. 잠시 후 다시 시도해주세요.");
+
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, "1")
+        .body(response);
+  }
+
+  /**
+   * 낙관적 잠금 충돌 (다른 사용자가 먼저 수정) 은 409 로 응답
+   */
+  @ExceptionHandler(OptimisticLockingFailureException.class)
+  public ResponseEntity<Map<String, Object>> handleConflict(OptimisticLockingFailureException e) {
+    log.info("작업 로그 수정 충돌: {}", e.getMessage());
+
+    Map<String, Object> response = new HashMap<>();
+    response.put("success", false);
+    response.put("message", "다른 사용자가 먼저 수정한 작업 로그입니다. 새로고침 후 다시 시도해주세요.");
+
+    return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+  }
+
+  /**
+   * 잘못된 요청 파라미터 (일괄 처리 조건 누락 등) 는 400 으로 응답
+   */
+  @ExceptionHandler(IllegalArgumentException.class)
+  public ResponseEntity<Map<String, Object>> handleIllegalArgument(IllegalArgumentException e) {
+    Map<String, Object> response = new HashMap<>();
+    response.put("success", false);
+    response.put("message", e.getMessage());
+
+    return ResponseEntity.badRequest().body(response);
+  }
+}
@@ -0,0 +1,83 @@
+package com.calman.global.id;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 순서 ID 생성기 (프로세스 내, 잠금 없음)
+ * - 53비트 = 41비트 밀리초(EPOCH_MILLIS 기준, 약 69년) + 12비트 순번 (밀리초당 4096개)
+ *   JavaScript Number 로 정확히 표현되는 범위(2^53 - 1)이므로 화면에서도 그대로 사용 가능
+ * - 마지막 발급 값을 AtomicLong 에 두고 CAS 로 max(현재 시각 구간, 마지막 값 + 1) 을 발급
+ *   (한 밀리초에 4096개를 넘으면 다음 밀리초 구간을 미리 쓰고, 시계가 뒤로 가도 값은 줄지 않음)
+ * - 쓰기는 단일 프로세스에서만 하므로 노드 비트는 두지 않음
+ */
+@Component
+public class TimeOrderedIdGenerator {
+
+  /**
+   * 기준 시각 (2025-01-01T00:00:00Z)
+   */
+  public static final long EPOCH_MILLIS = 1735689600000L;
+
+  /**
+   * 발급 가능한 최대 ID (JavaScript Number.MAX_SAFE_INTEGER)
+   */
+  public static final long MAX_ID = (1L << 53) - 1;
+
+  private static final int SEQUENCE_BITS = 12;
+
+  private final LongSupplier clock;
+  private final AtomicLong last = new AtomicLong();
+
+  public TimeOrderedIdGenerator() {
+    this(System::currentTimeMillis);
+  }
+
+  TimeOrderedIdGenerator(LongSupplier clock) {
+    this.clock = clock;
+  }
+
+  /**
+   * 다음 ID 발급
+   * @return 이전에 발급한 값보다 큰 ID
+   */
+  public long nextId() {
+    return reserve(1);
+  }
+
+  /**
+   * 연속된 ID 구간 발급 (일괄 INSERT 용)
+   * @param count 발급할 개수
+   * @return 구간의 첫 ID (첫 ID + count - 1 까지 사용)
+   */
+  public long reserve(int count) {
+    if (count < 1) {
+      throw new IllegalArgumentException("발급 개수는 1 이상이어야 합니다: " + count);
+    }
+    long now = (clock.getAsLong() - EPOCH_MILLIS) << SEQUENCE_BITS;
+    long end = last.accumulateAndGet(now, (previous, current) -> Math.max(current, previous + 1) + count - 1);
+    if (end > MAX_ID) {
+      throw new IllegalStateException("ID 범위를 초과했습니다: " + end);
+    }
+    return end - count + 1;
+  }
+
+  /**
+   * 이미 사용 중인 ID 이후부터 발급하도록 조정 (기동 시 DB 의 최대 ID 반영)
+   * @param id 사용 중인 ID
+   */
+  public void advanceTo(long id) {
+    last.accumulateAndGet(id, Math::max);
+  }
+
+  /**
+   * ID 에 기록된 발급 시각
+   * @param id 이 생성기로 발급한 ID
+   * @return epoch millis
+   */
+  public static long timestampOf(long id) {
+    return (id >>> SEQUENCE_BITS) + EPOCH_MILLIS;
+  }
+}
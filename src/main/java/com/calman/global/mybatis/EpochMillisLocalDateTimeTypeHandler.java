@@ -0,0 +1,82 @@
+package com.calman.global.mybatis;
+
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.MappedTypes;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+
+/**
+ * LocalDateTime <-> INTEGER epoch millis 타입 핸들러
+ * - LocalDateTime 을 UTC 로 간주해 환산하므로 서버 시간대/일광절약시간과 무관하게 같은 값을 유지
+ *   (SQLite 에서는 strftime/julianday 의 기본 동작과 동일: datetime(wl_work_datetime / 1000, 'unixepoch'))
+ * - 마이그레이션 이전의 DATETIME 텍스트 값도 읽을 수 있도록 문자열은 파싱하여 변환
+ */
+@MappedTypes(LocalDateTime.class)
+public class EpochMillisLocalDateTimeTypeHandler extends BaseTypeHandler<LocalDateTime> {
+
+  // 'yyyy-MM-dd HH:mm[:ss[.SSS]]' 및 'T' 구분자 형식
+  private static final DateTimeFormatter TEXT_FORMAT = new DateTimeFormatterBuilder()
+      .appendPattern("yyyy-MM-dd")
+      .optionalStart().appendLiteral(' ').optionalEnd()
+      .optionalStart().appendLiteral('T').optionalEnd()
+      .appendPattern("HH:mm")
+      .optionalStart().appendPattern(":ss").optionalEnd()
+      .optionalStart().appendFraction(ChronoField.NANO_OF_SECOND, 1, 9, true).optionalEnd()
+      .toFormatter();
+
+  /**
+   * LocalDateTime 을 저장용 epoch millis 로 변환
+   */
+  public static long toEpochMillis(LocalDateTime dateTime) {
+    return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+  }
+
+  /**
+   * 저장된 epoch millis 를 LocalDateTime 으로 변환
+   */
+  public static LocalDateTime fromEpochMillis(long epochMillis) {
+    return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+  }
+
+  @Override
+  public void setNonNullParameter(PreparedStatement ps, int i, LocalDateTime parameter, JdbcType jdbcType)
+      throws SQLException {
+    ps.setLong(i, toEpochMillis(parameter));
+  }
+
+  @Override
+  public LocalDateTime getNullableResult(ResultSet rs, String columnName) throws SQLException {
+    return toLocalDateTime(rs.getObject(columnName));
+  }
+
+  @Override
+  public LocalDateTime getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+    return toLocalDateTime(rs.getObject(columnIndex));
+  }
+
+  @Override
+  public LocalDateTime getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+    return toLocalDateTime(cs.getObject(columnIndex));
+  }
+
+  private static LocalDateTime toLocalDateTime(Object value) {
+    if (value == null) {
+      return null;
+    }
+    if (value instanceof Number number) {
+      return fromEpochMillis(number.longValue());
+    }
+    // 마이그레이션 이전 텍스트 값
+    return LocalDateTime.parse(value.toString(), TEXT_FORMAT);
+  }
+}
@@ -0,0 +1,45 @@
+package com.calman.global.mybatis;
+
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.parsing.XNode;
+import org.apache.ibatis.scripting.xmltags.XMLLanguageDriver;
+import org.apache.ibatis.session.Configuration;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * SQL 변형을 기동 시 미리 생성하는 언어 드라이버
+ * - 매퍼 XML 은 그대로 두고 {@code lang="com.calman.global.mybatis.PrecompiledLanguageDriver"} 만 지정
+ * - parameterType 이 SqlVariant 이면 PrecompiledSqlSource 로 감싸고, 아니면 기본 XML 드라이버와 동일
+ */
+public class PrecompiledLanguageDriver extends XMLLanguageDriver {
+
+  @Override
+  public SqlSource createSqlSource(Configuration configuration, XNode script, Class<?> parameterType) {
+    SqlSource sqlSource = super.createSqlSource(configuration, script, parameterType);
+    if (parameterType == null || !SqlVariant.class.isAssignableFrom(parameterType)) {
+      return sqlSource;
+    }
+    PrecompiledSqlSource precompiled = new PrecompiledSqlSource(configuration, sqlSource);
+    precompiled.precompile(variants(parameterType));
+    return precompiled;
+  }
+
+  // parameterType 의 public static variants() 결과 (없으면 처음 사용할 때 생성)
+  private static Collection<?> variants(Class<?> parameterType) {
+    try {
+      Method method = parameterType.getMethod("variants");
+      if (!Modifier.isStatic(method.getModifiers())) {
+        return List.of();
+      }
+      return (Collection<?>) method.invoke(null);
+    } catch (NoSuchMethodException e) {
+      return List.of();
+    } catch (ReflectiveOperationException | ClassCastException e) {
+      throw new IllegalStateException("SQL 변형 목록을 읽을 수 없습니다: " + parameterType.getName(), e);
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package com.calman.global.mybatis;
+
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.session.Configuration;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 변형 번호별로 생성해 둔 SQL 을 재사용하는 SqlSource
+ * - 동적 SQL 은 호출마다 OGNL 조건을 평가하고 SQL 문자열과 파라미터 매핑을 다시 만들지만,
+ *   여기서는 변형 번호로 완성된 SQL 을 찾아 파라미터 값만 바인딩
+ * - 변형은 원래의 동적 SqlSource 로 한 번 생성하므로 매퍼 XML 이 유일한 SQL 정의로 남음
+ * - 파라미터 매핑이 조건 객체의 프로퍼티만 참조하는 문장에만 사용 (bind, foreach 변수 사용 불가)
+ */
+public class PrecompiledSqlSource implements SqlSource {
+
+  private final Configuration configuration;
+  private final SqlSource dynamicSqlSource;
+  private final Map<Integer, Template> templates = new ConcurrentHashMap<>();
+
+  public PrecompiledSqlSource(Configuration configuration, SqlSource dynamicSqlSource) {
+    this.configuration = configuration;
+    this.dynamicSqlSource = dynamicSqlSource;
+  }
+
+  /**
+   * 주어진 조건 값들의 변형을 미리 생성
+   * @param variants 변형별 대표 조건 값
+   */
+  public void precompile(Collection<?> variants) {
+    for (Object variant : variants) {
+      if (variant instanceof SqlVariant sqlVariant) {
+        templates.computeIfAbsent(sqlVariant.variantKey(), key -> compile(sqlVariant));
+      }
+    }
+  }
+
+  @Override
+  public BoundSql getBoundSql(Object parameterObject) {
+    if (!(parameterObject instanceof SqlVariant variant)) {
+      return dynamicSqlSource.getBoundSql(parameterObject);
+    }
+    Template template = templates.get(variant.variantKey());
+    if (template == null) {
+      template = templates.computeIfAbsent(variant.variantKey(), key -> compile(variant));
+    }
+    return new BoundSql(configuration, template.sql(), template.parameterMappings(), parameterObject);
+  }
+
+  /**
+   * 원래의 동적 SqlSource (비교/벤치마크용)
+   */
+  public SqlSource getDynamicSqlSource() {
+    return dynamicSqlSource;
+  }
+
+  /**
+   * 생성해 둔 변형 수
+   */
+  public int size() {
+    return templates.size();
+  }
+
+  private Template compile(Object parameterObject) {
+    BoundSql boundSql = dynamicSqlSource.getBoundSql(parameterObject);
+    // 연속 공백을 줄여 로그와 문장 캐시 키를 짧게 유지 (문자열 리터럴 안에 공백이 없는 문장 전제)
+    String sql = boundSql.getSql().replaceAll("\\s+", " ").trim();
+    return new Template(sql, List.copyOf(boundSql.getParameterMappings()));
+  }
+
+  private record Template(String sql, List<ParameterMapping> parameterMappings) {
+  }
+}
@@ -0,0 +1,17 @@
+package com.calman.global.mybatis;
+
+/**
+ * 미리 생성한 SQL 변형을 고를 수 있는 조회 조건
+ * - 동적 SQL 의 결과 문장이 조건 값이 아닌 조건 유무/정렬 등 유한한 조합으로만 달라질 때 사용
+ * - 같은 변형 번호는 항상 같은 SQL 과 파라미터 매핑을 만들어야 함
+ * - 구현 클래스에 {@code public static List<...> variants()} 가 있으면 기동 시 모든 변형을 미리 생성
+ *
+ * @see PrecompiledLanguageDriver
+ */
+public interface SqlVariant {
+
+  /**
+   * SQL 변형 번호
+   */
+  int variantKey();
+}
@@ -0,0 +1,47 @@
+package com.calman.global.sqlite;
+
+import org.sqlite.SQLiteErrorCode;
+import org.sqlite.SQLiteException;
+
+import java.sql.SQLException;
+
+/**
+ * SQLITE_BUSY / SQLITE_LOCKED 오류 판별 유틸리티
+ * - MyBatis/Spring 예외로 감싸진 경우에도 원인 체인을 따라가며 확인
+ * - 확장 코드(SQLITE_BUSY_SNAPSHOT, SQLITE_LOCKED_SHAREDCACHE 등)도 기본 코드로 판별
+ */
+public final class SqliteBusyDetector {
+
+  private static final int SQLITE_BUSY = 5;
+  private static final int SQLITE_LOCKED = 6;
+
+  private SqliteBusyDetector() {
+  }
+
+  /**
+   * 예외가 잠금 경합(BUSY/LOCKED)으로 발생했는지 확인
+   */
+  public static boolean isBusy(Throwable throwable) {
+    Throwable current = throwable;
+    int depth = 0;
+    while (current != null && depth++ < 16) {
+      if (current instanceof SQLiteException sqliteException) {
+        SQLiteErrorCode resultCode = sqliteException.getResultCode();
+        if (resultCode != null) {
+          int primaryCode = resultCode.code & 0xFF;
+          return primaryCode == SQLITE_BUSY || primaryCode == SQLITE_LOCKED;
+        }
+      }
+      // 드라이버가 SQLiteException 이 아닌 SQLException 으로 감싼 경우 메시지로 판별
+      if (current instanceof SQLException && current.getMessage() != null
+          && (current.getMessage().contains("SQLITE_BUSY") || current.getMessage().contains("SQLITE_LOCKED"))) {
+        return true;
+      }
+      if (current.getCause() == current) {
+        break;
+      }
+      current = current.getCause();
+    }
+    return false;
+  }
+}
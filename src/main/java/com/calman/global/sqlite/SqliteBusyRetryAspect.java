@@ -0,0 +1,122 @@
+package com.calman.global.sqlite;
+
+import com.calman.global.config.SqliteProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQLITE_BUSY / SQLITE_LOCKED 재시도 Aspect
+ * - 서비스 계층의 @Transactional 메소드를 트랜잭션 단위로 통째로 재시도
+ *   (트랜잭션 인터셉터보다 바깥에서 실행되므로 실패한 트랜잭션은 이미 롤백된 상태)
+ * - 이미 트랜잭션 안에서 호출된 경우에는 재시도하지 않고 가장 바깥 호출에 맡김
+ * - 대기 시간은 지수 증가 상한 안에서 임의로 선택 (full jitter), 전체 시간 제한(deadline) 적용
+ *   (deadline 이 busy_timeout 보다 짧으므로 busy_timeout 을 다 기다리고 실패한 호출은 재시도하지 않음,
+ *   SqliteProperties.Retry#deadline 참고)
+ *
+ * 메트릭 (method 태그 = 클래스.메소드):
+ * - sqlite.busy.retries (Counter) : 재시도 횟수
+ * - sqlite.busy.exhausted (Counter) : 재시도를 포기한 호출 수
+ * - sqlite.busy.wait (Timer, 히스토그램) : 호출당 재시도 대기 시간 합계
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "calman.sqlite.retry", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqliteBusyRetryAspect {
+
+  private final SqliteProperties properties;
+  private final MeterRegistry meterRegistry;
+
+  @Around("within(com.calman.domain..service..*) && "
+      + "(@annotation(org.springframework.transaction.annotation.Transactional) "
+      + "|| @within(org.springframework.transaction.annotation.Transactional))")
+  public Object retryOnBusy(ProceedingJoinPoint joinPoint) throws Throwable {
+    // 바깥 트랜잭션에 참여하는 호출은 바깥에서 재시도
+    if (TransactionSynchronizationManager.isActualTransactionActive()) {
+      return joinPoint.proceed();
+    }
+
+    SqliteProperties.Retry retry = properties.getRetry();
+    String method = joinPoint.getSignature().getDeclaringType().getSimpleName()
+        + "." + joinPoint.getSignature().getName();
+
+    long start = System.nanoTime();
+    long deadline = start + retry.getDeadline().toNanos();
+    long waitedNanos = 0;
+    int attempt = 1;
+
+    while (true) {
+      try {
+        Object result = joinPoint.proceed();
+        recordWait(method, waitedNanos);
+        return result;
+      } catch (Throwable e) {
+        if (!SqliteBusyDetector.isBusy(e)) {
+          recordWait(method, waitedNanos);
+          throw e;
+        }
+
+        long backoffNanos = backoffNanos(retry, attempt);
+        if (attempt >= retry.getMaxAttempts() || System.nanoTime() + backoffNanos > deadline) {
+          recordWait(method, waitedNanos);
+          Counter.builder("sqlite.busy.exhausted")
+              .description("재시도를 포기한 SQLITE_BUSY 호출 수")
+              .tag("method", method)
+              .register(meterRegistry)
+              .increment();
+          log.warn("SQLITE_BUSY 재시도 포기: method={}, attempts={}, elapsed={}ms",
+              method, attempt, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+          throw new CannotAcquireLockException("데이터베이스가 사용 중입니다. 잠시 후 다시 시도해주세요.", e);
+        }
+
+        Counter.builder("sqlite.busy.retries")
+            .description("SQLITE_BUSY/SQLITE_LOCKED 재시도 횟수")
+            .tag("method", method)
+            .register(meterRegistry)
+            .increment();
+        log.debug("SQLITE_BUSY 감지, 재시도: method={}, attempt={}, backoff={}us",
+            method, attempt, TimeUnit.NANOSECONDS.toMicros(backoffNanos));
+
+        TimeUnit.NANOSECONDS.sleep(backoffNanos);
+        waitedNanos += backoffNanos;
+        attempt++;
+      }
+    }
+  }
+
+  // full jitter: 0 ~ min(maxBackoff, initialBackoff * 2^(attempt-1)) 사이 임의값
+  private long backoffNanos(SqliteProperties.Retry retry, int attempt) {
+    long ceiling = retry.getInitialBackoff().toNanos() << Math.min(attempt - 1, 20);
+    ceiling = Math.min(ceiling, retry.getMaxBackoff().toNanos());
+    return ThreadLocalRandom.current().nextLong(ceiling + 1);
+  }
+
+  private void recordWait(String method, long waitedNanos) {
+    if (waitedNanos == 0) {
+      return;
+    }
+    Timer.builder("sqlite.busy.wait")
+        .description("호출당 SQLITE_BUSY 재시도 대기 시간")
+        .tag("method", method)
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+        .record(waitedNanos, TimeUnit.NANOSECONDS);
+  }
+}
@@ -0,0 +1,60 @@
+package com.calman.global.sqlite;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+import lombok.ToString;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * SQLite 정기 유지보수 1회 실행 결과
+ */
+@Getter
+@Builder
+@ToString
+public class SqliteMaintenanceReport {
+
+  /**
+   * 실행 시작 시각
+   */
+  private final LocalDateTime startedAt;
+
+  /**
+   * 전체 소요 시간
+   */
+  private final Duration duration;
+
+  /**
+   * 통계 갱신 방식 (ANALYZE, OPTIMIZE, SKIPPED)
+   */
+  private final String analyze;
+
+  /**
+   * 통계 갱신 전후로 실행 계획이 바뀐 대표 쿼리
+   */
+  @Singular
+  private final List<String> planChanges;
+
+  /**
+   * incremental vacuum 으로 반환한 페이지 수
+   */
+  private final long pagesFreed;
+
+  /**
+   * 실행 후 남은 빈 페이지 수 (freelist_count)
+   */
+  private final long freePagesRemaining;
+
+  /**
+   * 무결성 검사 결과 (ok, failed, skipped)
+   */
+  private final String integrity;
+
+  /**
+   * 시간 제한으로 중단되었는지 여부
+   */
+  private final boolean budgetExhausted;
+}
@@ -0,0 +1,422 @@
+package com.calman.global.sqlite;
+
+import com.calman.global.config.H2DataSourceConfig;
+import com.calman.global.config.SqliteProperties;
+import com.calman.global.config.SqliteProperties.AutoVacuum;
+import com.calman.global.config.SqliteProperties.Maintenance;
+import com.calman.global.config.ShardingProperties;
+import com.calman.global.datasource.ShardDataSources;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+import org.sqlite.SQLiteConfig;
+import org.sqlite.SQLiteDataSource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SQLite 정기 유지보수 스케줄러
+ * - 통계 갱신: 통계가 없으면 ANALYZE, 있으면 PRAGMA optimize (analysis_limit 적용)
+ * - 빈 페이지 반환: auto_vacuum=INCREMENTAL 인 경우 PRAGMA incremental_vacuum 을 작은 단계로 나눠 실행
+ * - 무결성 검사: PRAGMA quick_check / integrity_check (WAL 에서는 쓰기를 막지 않음)
+ * - 트래픽이 적은 시간대(cron)에 시간 제한 안에서 실행하며, 쓰기 풀이 사용 중이면 단계마다 양보
+ * - 쓰기 풀(커넥션 1개)을 점유하지 않도록 별도 커넥션으로 실행
+ * - 샤드 사용 시 기본 DB 와 샤드 DB 파일마다 실행 (시간 제한은 전체 공통, 실행마다 시작 DB 를 바꿔 뒤쪽 DB 가 밀리지 않게 함)
+ * - 기존 DB 의 auto_vacuum 전환(VACUUM 으로 DB 전체를 다시 씀)은 시간 제한을 지킬 수 없으므로 정기 실행에서 하지 않고,
+ *   convert-auto-vacuum 을 켠 경우에만 애플리케이션 시작 시(요청을 받기 전) 1회 실행
+ *
+ * 메트릭 (모두 shard 태그로 DB 구분):
+ * - sqlite.maintenance (Timer, outcome 태그) : DB 별 1회 실행 소요 시간
+ * - sqlite.maintenance.step (Timer, step 태그) : 단계별 소요 시간
+ * - sqlite.maintenance.pages.freed (Gauge) : 마지막 실행에서 반환한 페이지 수
+ * - sqlite.maintenance.plan.changes (Gauge) : 마지막 실행에서 실행 계획이 바뀐 대표 쿼리 수
+ * - sqlite.maintenance.integrity.ok (Gauge) : 마지막 무결성 검사 결과 (1 = ok, 0 = 실패)
+ */
+@Slf4j
+@Component
+@Profile("!" + H2DataSourceConfig.PROFILE)
+@ConditionalOnProperty(prefix = "calman.sqlite.maintenance", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqliteMaintenanceScheduler implements SchedulingConfigurer {
+
+  /**
+   * 통계 갱신 전후 실행 계획을 비교할 대표 쿼리 (WorkLogMapper.xml 의 목록/필터 조회)
+   */
+  private static final Map<String, String> REPRESENTATIVE_QUERIES = new LinkedHashMap<>();
+
+  static {
+    REPRESENTATIVE_QUERIES.put("dateRange",
+        "SELECT wl_id FROM work_logs WHERE wl_work_datetime >= 946684800000 "
+            + "AND wl_work_datetime <= 946771199000 ORDER BY wl_work_datetime");
+    REPRESENTATIVE_QUERIES.put("dateRangeIncomplete",
+        "SELECT wl_id FROM work_logs WHERE wl_work_datetime >= 946684800000 "
+            + "AND wl_work_datetime <= 946771199000 AND wl_completed_at IS NULL "
+            + "ORDER BY wl_work_datetime");
+    REPRESENTATIVE_QUERIES.put("carModel",
+        "SELECT wl_id FROM work_logs WHERE wl_car_model_id = 0 ORDER BY wl_work_datetime");
+    REPRESENTATIVE_QUERIES.put("completed",
+        "SELECT wl_id FROM work_logs WHERE wl_completed_at IS NOT NULL ORDER BY wl_work_datetime");
+  }
+
+  private final SqliteProperties properties;
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * 유지보수 대상 DB (기본 DB, 샤드 DB 순서)
+   */
+  private final List<Database> databases = new ArrayList<>();
+  private final AtomicInteger nextDatabase = new AtomicInteger();
+
+  private volatile Map<String, SqliteMaintenanceReport> lastReports = Map.of();
+
+  public SqliteMaintenanceScheduler(
+      DataSourceProperties dataSourceProperties,
+      SqliteProperties properties,
+      ShardingProperties shardingProperties,
+      @Qualifier("writerDataSource") HikariDataSource writerDataSource,
+      ShardDataSources shardDataSources,
+      MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+
+    addDatabase(ShardingProperties.MAIN_SHARD, dataSourceProperties.getUrl(), writerDataSource);
+    shardDataSources.writers().forEach((shard, writer) ->
+        addDatabase(shard, "jdbc:sqlite:" + shardingProperties.getShards().get(shard).getPath(), writer));
+  }
+
+  private void addDatabase(String shard, String url, HikariDataSource writerDataSource) {
+    // 잠금 대기를 짧게 두어 쓰기 작업과 경합하면 바로 양보
+    SQLiteConfig config = properties.toSQLiteConfig();
+    config.setBusyTimeout((int) properties.getMaintenance().getBusyTimeout().toMillis());
+    SQLiteDataSource maintenanceDataSource = new SQLiteDataSource(config);
+    maintenanceDataSource.setUrl(url);
+
+    Database database = new Database(shard, maintenanceDataSource, writerDataSource);
+    Tags tags = Tags.of("shard", shard);
+    meterRegistry.gauge("sqlite.maintenance.pages.freed", tags, database.pagesFreed());
+    meterRegistry.gauge("sqlite.maintenance.plan.changes", tags, database.planChanges());
+    meterRegistry.gauge("sqlite.maintenance.integrity.ok", tags, database.integrityOk());
+    databases.add(database);
+  }
+
+  @Override
+  public void configureTasks(ScheduledTaskRegistrar registrar) {
+    registrar.addCronTask(this::runMaintenance, properties.getMaintenance().getCron());
+  }
+
+  /**
+   * 기존 DB 의 auto_vacuum 을 INCREMENTAL 로 전환 (convert-auto-vacuum 을 켠 경우, 시작 시 1회)
+   * - VACUUM 은 DB 전체를 다시 쓰고 그동안 쓰기를 막으므로 요청을 받기 전에 실행
+   * - 웹 서버는 빈 초기화가 끝난 뒤 시작되므로 DB 크기만큼 기동이 늦어짐 (큰 DB 는 점검 시간에 켜고 재시작)
+   * @return 전환한 DB 수
+   */
+  @PostConstruct
+  public int convertAutoVacuum() {
+    if (properties.getAutoVacuum() != AutoVacuum.INCREMENTAL || !properties.getMaintenance().isConvertAutoVacuum()) {
+      return 0;
+    }
+    int converted = 0;
+    for (Database database : databases) {
+      try (Connection connection = database.dataSource().getConnection();
+          Statement statement = connection.createStatement()) {
+        AutoVacuum current = autoVacuum(statement);
+        if (current == AutoVacuum.INCREMENTAL) {
+          continue;
+        }
+        long start = System.nanoTime();
+        log.warn("auto_vacuum 을 {} 에서 INCREMENTAL 로 전환합니다 (shard={}, VACUUM 실행, 완료까지 쓰기 불가)",
+            current, database.shard());
+        statement.execute("PRAGMA auto_vacuum = INCREMENTAL");
+        statement.execute("VACUUM");
+        log.info("auto_vacuum 전환 완료: shard={}, elapsed={}ms",
+            database.shard(), (System.nanoTime() - start) / 1_000_000);
+        converted++;
+      } catch (SQLException e) {
+        throw new IllegalStateException("auto_vacuum 전환 실패: shard=" + database.shard(), e);
+      }
+    }
+    return converted;
+  }
+
+  /**
+   * 마지막 유지보수 실행 결과 (샤드 이름별, 아직 실행되지 않았으면 비어 있음)
+   */
+  public Map<String, SqliteMaintenanceReport> getLastReports() {
+    return lastReports;
+  }
+
+  /**
+   * 유지보수 1회 실행 (모든 DB 에 공통 시간 제한 적용)
+   * @return 샤드 이름별 실행 결과
+   */
+  public Map<String, SqliteMaintenanceReport> runMaintenance() {
+    long deadline = System.nanoTime() + properties.getMaintenance().getTimeBudget().toNanos();
+    // 시간 제한에 걸려 같은 DB 만 계속 건너뛰지 않도록 실행마다 시작 DB 를 바꿈
+    int first = Math.floorMod(nextDatabase.getAndIncrement(), databases.size());
+
+    Map<String, SqliteMaintenanceReport> reports = new LinkedHashMap<>();
+    for (int i = 0; i < databases.size(); i++) {
+      Database database = databases.get((first + i) % databases.size());
+      reports.put(database.shard(), runMaintenance(database, deadline));
+    }
+    lastReports = Collections.unmodifiableMap(reports);
+    return lastReports;
+  }
+
+  private SqliteMaintenanceReport runMaintenance(Database database, long deadline) {
+    Maintenance maintenance = properties.getMaintenance();
+    LocalDateTime startedAt = LocalDateTime.now();
+    long start = System.nanoTime();
+
+    SqliteMaintenanceReport.SqliteMaintenanceReportBuilder report = SqliteMaintenanceReport.builder()
+        .startedAt(startedAt)
+        .analyze("SKIPPED")
+        .integrity("skipped");
+    boolean budgetExhausted = false;
+    String outcome = "success";
+
+    try (Connection connection = database.dataSource().getConnection();
+        Statement statement = connection.createStatement()) {
+
+      // 1) 통계 갱신 + 실행 계획 변화 기록
+      if (awaitWriterIdle(database, deadline)) {
+        Map<String, String> plansBefore = explainPlans(statement);
+        String analyze = timed(database, "analyze", () -> analyze(statement, maintenance));
+        report.analyze(analyze);
+
+        Map<String, String> plansAfter = explainPlans(statement);
+        List<String> changed = diffPlans(database, plansBefore, plansAfter);
+        report.planChanges(changed);
+        database.planChanges().set(changed.size());
+      } else {
+        budgetExhausted = true;
+      }
+
+      // 2) 빈 페이지 반환
+      if (!budgetExhausted) {
+        long freed = timed(database, "vacuum", () -> vacuum(database, statement, maintenance, deadline));
+        database.pagesFreed().set(freed);
+        report.pagesFreed(freed);
+        budgetExhausted = System.nanoTime() >= deadline;
+      }
+      report.freePagesRemaining(queryLong(statement, "PRAGMA freelist_count"));
+
+      // 3) 무결성 검사 (남은 시간이 있을 때만)
+      if (!budgetExhausted && maintenance.getIntegrityCheck() != Maintenance.IntegrityCheck.NONE) {
+        String integrity = timed(database, "integrity", () -> checkIntegrity(database, statement, maintenance));
+        database.integrityOk().set("ok".equals(integrity) ? 1 : 0);
+        report.integrity(integrity);
+        if (!"ok".equals(integrity)) {
+          outcome = "integrity_failed";
+        }
+      }
+    } catch (SQLException e) {
+      outcome = "error";
+      log.warn("SQLite 유지보수 실패: shard={}, {}", database.shard(), e.getMessage());
+    }
+
+    long elapsed = System.nanoTime() - start;
+    if (budgetExhausted && "success".equals(outcome)) {
+      outcome = "budget_exhausted";
+    }
+    Timer.builder("sqlite.maintenance")
+        .description("SQLite 정기 유지보수 소요 시간")
+        .tag("shard", database.shard())
+        .tag("outcome", outcome)
+        .register(meterRegistry)
+        .record(elapsed, TimeUnit.NANOSECONDS);
+
+    SqliteMaintenanceReport result = report
+        .duration(Duration.ofNanos(elapsed))
+        .budgetExhausted(budgetExhausted)
+        .build();
+    log.info("SQLite 유지보수 완료: shard={}, {}", database.shard(), result);
+    return result;
+  }
+
+  private String analyze(Statement statement, Maintenance maintenance) throws SQLException {
+    statement.execute("PRAGMA analysis_limit = " + maintenance.getAnalysisLimit());
+    boolean hasStatistics = queryLong(statement,
+        "SELECT COUNT(*) FROM sqlite_master WHERE type = 'table' AND name = 'sqlite_stat1'") > 0;
+    if (!hasStatistics) {
+      // 통계가 전혀 없으면 optimize 가 아무것도 하지 않을 수 있으므로 최초 1회는 ANALYZE
+      statement.execute("ANALYZE");
+      return "ANALYZE";
+    }
+    statement.execute("PRAGMA optimize");
+    return "OPTIMIZE";
+  }
+
+  private long vacuum(Database database, Statement statement, Maintenance maintenance, long deadline)
+      throws SQLException {
+    AutoVacuum current = autoVacuum(statement);
+    long freeBefore = queryLong(statement, "PRAGMA freelist_count");
+
+    if (current != AutoVacuum.INCREMENTAL) {
+      // 전환(VACUUM)은 시간 제한 안에서 끝낼 수 없으므로 시작 시 단계(convertAutoVacuum)에서만 실행
+      log.debug("auto_vacuum={} 이므로 incremental vacuum 생략 (shard={}, 빈 페이지 {}개)",
+          current, database.shard(), freeBefore);
+      return 0;
+    }
+
+    long freed = 0;
+    long remaining = freeBefore;
+    while (remaining > 0 && awaitWriterIdle(database, deadline)) {
+      try {
+        drain(statement, "PRAGMA incremental_vacuum(" + maintenance.getVacuumPagesPerStep() + ")");
+      } catch (SQLException e) {
+        if (!SqliteBusyDetector.isBusy(e)) {
+          throw e;
+        }
+        // 쓰기 작업과 경합하면 양보 후 다음 단계에서 재시도
+        sleep(maintenance.getYieldPause());
+        continue;
+      }
+      long after = queryLong(statement, "PRAGMA freelist_count");
+      freed += remaining - after;
+      remaining = after;
+    }
+    return freed;
+  }
+
+  private String checkIntegrity(Database database, Statement statement, Maintenance maintenance)
+      throws SQLException {
+    String pragma = maintenance.getIntegrityCheck() == Maintenance.IntegrityCheck.FULL
+        ? "PRAGMA integrity_check(100)"
+        : "PRAGMA quick_check(100)";
+
+    List<String> messages = new ArrayList<>();
+    try (ResultSet rs = statement.executeQuery(pragma)) {
+      while (rs.next()) {
+        messages.add(rs.getString(1));
+      }
+    }
+    if (messages.size() == 1 && "ok".equals(messages.get(0))) {
+      return "ok";
+    }
+    log.error("SQLite 무결성 검사 실패: shard={}, {}", database.shard(), messages);
+    return "failed";
+  }
+
+  private Map<String, String> explainPlans(Statement statement) throws SQLException {
+    Map<String, String> plans = new LinkedHashMap<>();
+    for (Map.Entry<String, String> query : REPRESENTATIVE_QUERIES.entrySet()) {
+      List<String> details = new ArrayList<>();
+      try (ResultSet rs = statement.executeQuery("EXPLAIN QUERY PLAN " + query.getValue())) {
+        while (rs.next()) {
+          details.add(rs.getString("detail"));
+        }
+      }
+      plans.put(query.getKey(), String.join(" / ", details));
+    }
+    return plans;
+  }
+
+  private List<String> diffPlans(Database database, Map<String, String> before, Map<String, String> after) {
+    List<String> changed = new ArrayList<>();
+    for (Map.Entry<String, String> entry : after.entrySet()) {
+      String previous = before.get(entry.getKey());
+      if (!Objects.equals(previous, entry.getValue())) {
+        changed.add(entry.getKey());
+        log.info("실행 계획 변경: shard={}, query={}, before=[{}], after=[{}]",
+            database.shard(), entry.getKey(), previous, entry.getValue());
+      }
+    }
+    return changed;
+  }
+
+  // 쓰기 풀이 사용 중이거나 대기자가 있으면 양보, 시간 제한을 넘기면 false
+  private boolean awaitWriterIdle(Database database, long deadline) {
+    while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+      HikariPoolMXBean pool = database.writerDataSource().getHikariPoolMXBean();
+      if (pool == null || (pool.getActiveConnections() == 0 && pool.getThreadsAwaitingConnection() == 0)) {
+        return true;
+      }
+      sleep(properties.getMaintenance().getYieldPause());
+    }
+    return false;
+  }
+
+  private <T> T timed(Database database, String step, SqlStep<T> action) throws SQLException {
+    long start = System.nanoTime();
+    try {
+      return action.run();
+    } finally {
+      Timer.builder("sqlite.maintenance.step")
+          .description("SQLite 유지보수 단계별 소요 시간")
+          .tag("shard", database.shard())
+          .tag("step", step)
+          .register(meterRegistry)
+          .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private static AutoVacuum autoVacuum(Statement statement) throws SQLException {
+    return AutoVacuum.values()[(int) queryLong(statement, "PRAGMA auto_vacuum")];
+  }
+
+  private static long queryLong(Statement statement, String sql) throws SQLException {
+    try (ResultSet rs = statement.executeQuery(sql)) {
+      return rs.next() ? rs.getLong(1) : 0;
+    }
+  }
+
+  // incremental_vacuum 은 결과 행을 끝까지 읽어야 요청한 페이지를 모두 반환하므로 결과를 소진
+  private static void drain(Statement statement, String sql) throws SQLException {
+    if (statement.execute(sql)) {
+      try (ResultSet rs = statement.getResultSet()) {
+        while (rs.next()) {
+          // 결과 무시
+        }
+      }
+    }
+  }
+
+  private static void sleep(Duration duration) {
+    try {
+      TimeUnit.NANOSECONDS.sleep(duration.toNanos());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * 유지보수 대상 DB 하나 (유지보수 전용 커넥션, 양보 판단용 쓰기 풀, 마지막 실행 메트릭)
+   */
+  private record Database(String shard, SQLiteDataSource dataSource, HikariDataSource writerDataSource,
+      AtomicLong pagesFreed, AtomicLong planChanges, AtomicLong integrityOk) {
+
+    private Database(String shard, SQLiteDataSource dataSource, HikariDataSource writerDataSource) {
+      this(shard, dataSource, writerDataSource, new AtomicLong(), new AtomicLong(), new AtomicLong(1));
+    }
+  }
+
+  @FunctionalInterface
+  private interface SqlStep<T> {
+    T run() throws SQLException;
+  }
+}
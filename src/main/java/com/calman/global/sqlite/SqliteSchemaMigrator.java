@@ -0,0 +1,128 @@
+package com.calman.global.sqlite;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import com.calman.global.config.H2DataSourceConfig;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * PRAGMA user_version 기반 스키마 마이그레이션
+ * - schema/worklogs.sql 은 최초 스키마(버전 0)를 만들고, 이후 변경은 마이그레이션 스크립트로 적용
+ * - 스크립트 이름: V{버전}__{설명}.sql (예: V1__add_version_column.sql)
+ * - 스크립트 1개 = 트랜잭션 1개, 성공 시 user_version 을 해당 버전으로 갱신
+ * - 아카이브 DB 처럼 ATTACH 된 스키마는 migrate(schema, location) 으로 별도 적용
+ * - h2 프로파일은 현재 구조의 스키마 스크립트(schema/h2/worklogs.sql)로 생성하므로 사용하지 않음
+ */
+@Slf4j
+@Component
+@Profile("!" + H2DataSourceConfig.PROFILE)
+@RequiredArgsConstructor
+@DependsOnDatabaseInitialization
+public class SqliteSchemaMigrator {
+
+  public static final String MAIN_SCHEMA = "main";
+  public static final String MAIN_LOCATION = "classpath:schema/migration/main/";
+
+  private static final Pattern SCRIPT_NAME = Pattern.compile("V(\\d+)__.+\\.sql");
+
+  private final DataSource dataSource;
+
+  @PostConstruct
+  public void migrate() {
+    migrate(MAIN_SCHEMA, MAIN_LOCATION);
+  }
+
+  /**
+   * 지정한 스키마에 아직 적용되지 않은 마이그레이션 적용
+   * @param schema 스키마 이름 (main, archive 등)
+   * @param location 마이그레이션 스크립트 위치 (classpath:.../)
+   * @return 적용 후 스키마 버전
+   */
+  public int migrate(String schema, String location) {
+    List<Resource> scripts = findScripts(location);
+
+    Connection connection = DataSourceUtils.getConnection(dataSource);
+    try {
+      int current = userVersion(connection, schema);
+      for (Resource script : scripts) {
+        int version = versionOf(script);
+        if (version <= current) {
+          continue;
+        }
+        apply(connection, schema, script, version);
+        current = version;
+      }
+      return current;
+    } catch (SQLException e) {
+      throw new IllegalStateException("스키마 마이그레이션 실패: schema=" + schema, e);
+    } finally {
+      DataSourceUtils.releaseConnection(connection, dataSource);
+    }
+  }
+
+  private void apply(Connection connection, String schema, Resource script, int version) throws SQLException {
+    long start = System.nanoTime();
+    boolean autoCommit = connection.getAutoCommit();
+    connection.setAutoCommit(false);
+    try {
+      ScriptUtils.executeSqlScript(connection, script);
+      try (Statement statement = connection.createStatement()) {
+        statement.execute("PRAGMA " + schema + ".user_version = " + version);
+      }
+      connection.commit();
+    } catch (RuntimeException | SQLException e) {
+      connection.rollback();
+      throw e;
+    } finally {
+      connection.setAutoCommit(autoCommit);
+    }
+    log.info("스키마 마이그레이션 적용: schema={}, script={}, elapsed={}ms",
+        schema, script.getFilename(), (System.nanoTime() - start) / 1_000_000);
+  }
+
+  private static int userVersion(Connection connection, String schema) throws SQLException {
+    try (Statement statement = connection.createStatement();
+        ResultSet rs = statement.executeQuery("PRAGMA " + schema + ".user_version")) {
+      return rs.next() ? rs.getInt(1) : 0;
+    }
+  }
+
+  private static List<Resource> findScripts(String location) {
+    try {
+      Resource[] resources = new PathMatchingResourcePatternResolver().getResources(location + "V*__*.sql");
+      return Arrays.stream(resources)
+          .sorted(Comparator.comparingInt(SqliteSchemaMigrator::versionOf))
+          .toList();
+    } catch (IOException e) {
+      throw new UncheckedIOException("마이그레이션 스크립트를 찾을 수 없습니다: " + location, e);
+    }
+  }
+
+  private static int versionOf(Resource script) {
+    Matcher matcher = SCRIPT_NAME.matcher(String.valueOf(script.getFilename()));
+    if (!matcher.matches()) {
+      throw new IllegalStateException("마이그레이션 스크립트 이름 형식이 올바르지 않습니다: " + script.getFilename());
+    }
+    return Integer.parseInt(matcher.group(1));
+  }
+}
@@ -0,0 +1,145 @@
+package com.calman.global.sqlite;
+
+import com.calman.global.config.H2DataSourceConfig;
+import com.calman.global.config.ShardingProperties;
+import com.calman.global.config.SqliteProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+import org.sqlite.SQLiteConfig.JournalMode;
+import org.sqlite.SQLiteDataSource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * WAL 체크포인트 스케줄러
+ * - 커밋 경로의 자동 체크포인트 부담을 줄이기 위해 주기적으로 WAL 을 DB 파일에 반영
+ * - 쓰기 풀(커넥션 1개)을 점유하지 않도록 별도 커넥션으로 실행
+ * - 샤드 사용 시 기본 DB 와 샤드 DB 파일마다 실행
+ *
+ * 메트릭 (모두 shard 태그로 DB 구분):
+ * - sqlite.wal.checkpoint (Timer, mode/outcome 태그) : 체크포인트 소요 시간
+ * - sqlite.wal.frames (Gauge) : 마지막 체크포인트 시점의 WAL 프레임 수
+ * - sqlite.wal.checkpointed.frames (Gauge) : 마지막 체크포인트에서 반영된 프레임 수
+ */
+@Slf4j
+@Component
+@Profile("!" + H2DataSourceConfig.PROFILE)
+@ConditionalOnProperty(prefix = "calman.sqlite.checkpoint", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class WalCheckpointScheduler implements SchedulingConfigurer {
+
+  private static final Set<String> CHECKPOINT_MODES = Set.of("PASSIVE", "FULL", "RESTART", "TRUNCATE");
+
+  private final SqliteProperties properties;
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * 체크포인트 대상 DB (기본 DB, 샤드 DB 순서)
+   */
+  private final List<Database> databases = new ArrayList<>();
+
+  public WalCheckpointScheduler(
+      DataSourceProperties dataSourceProperties,
+      SqliteProperties properties,
+      ShardingProperties shardingProperties,
+      MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+
+    addDatabase(ShardingProperties.MAIN_SHARD, dataSourceProperties.getUrl());
+    if (shardingProperties.isEnabled()) {
+      shardingProperties.getShards().forEach((shard, config) -> addDatabase(shard, "jdbc:sqlite:" + config.getPath()));
+    }
+  }
+
+  private void addDatabase(String shard, String url) {
+    SQLiteDataSource checkpointDataSource = new SQLiteDataSource(properties.toSQLiteConfig());
+    checkpointDataSource.setUrl(url);
+
+    Database database = new Database(shard, checkpointDataSource, new AtomicLong(), new AtomicLong());
+    Tags tags = Tags.of("shard", shard);
+    meterRegistry.gauge("sqlite.wal.frames", tags, database.walFrames());
+    meterRegistry.gauge("sqlite.wal.checkpointed.frames", tags, database.checkpointedFrames());
+    databases.add(database);
+  }
+
+  @Override
+  public void configureTasks(ScheduledTaskRegistrar registrar) {
+    registrar.addFixedDelayTask(this::checkpoint, properties.getCheckpoint().getInterval());
+  }
+
+  /**
+   * WAL 체크포인트 1회 실행 (모든 DB)
+   */
+  public void checkpoint() {
+    if (properties.getJournalMode() != JournalMode.WAL) {
+      return;
+    }
+
+    String mode = properties.getCheckpoint().getMode().toUpperCase(Locale.ROOT);
+    if (!CHECKPOINT_MODES.contains(mode)) {
+      log.warn("지원하지 않는 체크포인트 모드입니다. PASSIVE 로 실행: {}", mode);
+      mode = "PASSIVE";
+    }
+
+    for (Database database : databases) {
+      checkpoint(database, mode);
+    }
+  }
+
+  private void checkpoint(Database database, String mode) {
+    AtomicLong walFrames = database.walFrames();
+    AtomicLong checkpointedFrames = database.checkpointedFrames();
+
+    long start = System.nanoTime();
+    String outcome;
+    try (Connection connection = database.dataSource().getConnection();
+        Statement statement = connection.createStatement();
+        ResultSet rs = statement.executeQuery("PRAGMA wal_checkpoint(" + mode + ")")) {
+
+      // 결과 컬럼: busy, log(WAL 프레임 수), checkpointed(반영된 프레임 수)
+      rs.next();
+      boolean busy = rs.getInt(1) != 0;
+      walFrames.set(rs.getLong(2));
+      checkpointedFrames.set(rs.getLong(3));
+      outcome = busy ? "busy" : "success";
+
+      log.debug("WAL 체크포인트 완료: shard={}, mode={}, busy={}, log={}, checkpointed={}",
+          database.shard(), mode, busy, walFrames.get(), checkpointedFrames.get());
+    } catch (SQLException e) {
+      outcome = "error";
+      log.warn("WAL 체크포인트 실패: shard={}, {}", database.shard(), e.getMessage());
+    }
+
+    Timer.builder("sqlite.wal.checkpoint")
+        .description("WAL 체크포인트 소요 시간")
+        .tag("shard", database.shard())
+        .tag("mode", mode)
+        .tag("outcome", outcome)
+        .register(meterRegistry)
+        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * 체크포인트 대상 DB 하나 (체크포인트 전용 커넥션, 마지막 체크포인트 메트릭)
+   */
+  private record Database(String shard, SQLiteDataSource dataSource, AtomicLong walFrames,
+      AtomicLong checkpointedFrames) {
+  }
+}
@@ -1,165 +1,136 @@
--- 작업 로그 테이블용 더미 데이터 5개
+-- 작업 로그 테이블용 더미 데이터
+-- 작업시간은 epoch millis (LocalDateTime 을 UTC 로 환산한 값, 주석은 원래 시각)
+-- 차종/제품은 카탈로그 테이블에 먼저 등록한 뒤 ID 로 참조
+
+INSERT OR IGNORE INTO car_models (cm_name) VALUES
+    ('ON SUB'),
+    ('ON 조립'),
+    ('MX5a-분리'),
+    ('AR1 조립');
+
+INSERT OR IGNORE INTO products (pd_code, pd_name, pd_color) VALUES
+    ('62510Q5000', '프론트 범퍼', '#FF0000'),
+    ('86350H1000', '헤드라이트 어셈블리', '#0000FF'),
+    ('97250J9000', '리어 범퍼', '#000000'),
+    ('82651R2100', '사이드 미러', '#FFFFFF'),
+    ('92101Q5000', '그릴 어셈블리', '#C0C0C0');
 
 INSERT INTO work_logs (
     wl_work_datetime,
-    wl_car_model,
-    wl_product_color,
-    wl_product_code,
-    wl_product_name,
+    wl_car_model_id,
+    wl_product_id,
     wl_quantity
 ) VALUES (
-             '2025-03-15 09:30:00',
-             'ON SUB',
-             '#FF0000',
-             '62510Q5000',
-             '프론트 범퍼',
+             1742031000000, -- 2025-03-15 09:30:00
+             (SELECT cm_id FROM car_models WHERE cm_name = 'ON SUB'),
+             (SELECT pd_id FROM products WHERE pd_code = '62510Q5000' AND pd_name = '프론트 범퍼' AND pd_color = '#FF0000'),
              5
          );
 
 INSERT INTO work_logs (
     wl_work_datetime,
-    wl_car_model,
-    wl_product_color,
-    wl_product_code,
-    wl_product_name,
+    wl_car_model_id,
+    wl_product_id,
     wl_quantity
 ) VALUES (
-             '2025-03-16 14:15:00',
-             'ON 조립',
-             '#0000FF',
-             '86350H1000',
-             '헤드라이트 어셈블리',
+             1742134500000, -- 2025-03-16 14:15:00
+             (SELECT cm_id FROM car_models WHERE cm_name = 'ON 조립'),
+             (SELECT pd_id FROM products WHERE pd_code = '86350H1000' AND pd_name = '헤드라이트 어셈블리' AND pd_color = '#0000FF'),
              8
          );
 
 INSERT INTO work_logs (
     wl_work_datetime,
-    wl_car_model,
-    wl_product_color,
-    wl_product_code,
-    wl_product_name,
+    wl_car_model_id,
+    wl_product_id,
     wl_quantity
 ) VALUES (
-             '2025-03-17 11:45:00',
-             'MX5a-분리',
-             '#000000',
-             '97250J9000',
-             '리어 범퍼',
+             1742211900000, -- 2025-03-17 11:45:00
+             (SELECT cm_id FROM car_models WHERE cm_name = 'MX5a-분리'),
+             (SELECT pd_id FROM products WHERE pd_code = '97250J9000' AND pd_name = '리어 범퍼' AND pd_color = '#000000'),
              3
          );
 
 INSERT INTO work_logs (
     wl_work_datetime,
-    wl_car_model,
-    wl_product_color,
-    wl_product_code,
-    wl_product_name,
+    wl_car_model_id,
+    wl_product_id,
     wl_quantity
 ) VALUES (
-             '2025-03-18 08:20:00',
-             'AR1 조립',
-             '#FFFFFF',
-             '82651R2100',
-             '사이드 미러',
+             1742286000000, -- 2025-03-18 08:20:00
+             (SELECT cm_id FROM car_models WHERE cm_name = 'AR1 조립'),
+             (SELECT pd_id FROM products WHERE pd_code = '82651R2100' AND pd_name = '사이드 미러' AND pd_color = '#FFFFFF'),
              12
          );
 
 INSERT INTO work_logs (
     wl_work_datetime,
-    wl_car_model,
-    wl_product_color,
-    wl_product_code,
-    wl_product_name,
+    wl_car_model_id,
+    wl_product_id,
     wl_quantity
 ) VALUES (
-             '2025-03-19 16:30:00',
-             'AR1 조립',
-             '#C0C0C0',
-             '92101Q5000',
-             '그릴 어셈블리',
+             1742401800000, -- 2025-03-19 16:30:00
+             (SELECT cm_id FROM car_models WHERE cm_name = 'AR1 조립'),
+             (SELECT pd_id FROM products WHERE pd_code = '92101Q5000' AND pd_name = '그릴 어셈블리' AND pd_color = '#C0C0C0'),
              4
          );
 
-
--- 작업 로그 테이블용 더미 데이터 5개
-
 INSERT INTO work_logs (
     wl_work_datetime,
-    wl_car_model,
-    wl_product_color,
-    wl_product_code,
-    wl_product_name,
+    wl_car_model_id,
+    wl_product_id,
     wl_quantity
 ) VALUES (
-             '2025-03-15 09:30:00',
-             'ON SUB',
-             '#FF0000',
-             '62510Q5000',
-             '프론트 범퍼',
+             1742031000000, -- 2025-03-15 09:30:00
+             (SELECT cm_id FROM car_models WHERE cm_name = 'ON SUB'),
+             (SELECT pd_id FROM products WHERE pd_code = '62510Q5000' AND pd_name = '프론트 범퍼' AND pd_color = '#FF0000'),
              5
          );
 
 INSERT INTO work_logs (
     wl_work_datetime,
-    wl_car_model,
-    wl_product_color,
-    wl_product_code,
-    wl_product_name,
+    wl_car_model_id,
+    wl_product_id,
     wl_quantity
 ) VALUES (
-             '2025-03-16 14:15:00',
-             'ON 조립',
-             '#0000FF',
-             '86350H1000',
-             '헤드라이트 어셈블리',
+             1742134500000, -- 2025-03-16 14:15:00
+             (SELECT cm_id FROM car_models WHERE cm_name = 'ON 조립'),
+             (SELECT pd_id FROM products WHERE pd_code = '86350H1000' AND pd_name = '헤드라이트 어셈블리' AND pd_color = '#0000FF'),
              8
          );
 
 INSERT INTO work_logs (
     wl_work_datetime,
-    wl_car_model,
-    wl_product_color,
-    wl_product_code,
-    wl_product_name,
+    wl_car_model_id,
+    wl_product_id,
     wl_quantity
 ) VALUES (
-             '2025-03-17 11:45:00',
-             'MX5a-분리',
-             '#000000',
-             '97250J9000',
-             '리어 범퍼',
+             1742211900000, -- 2025-03-17 11:45:00
+             (SELECT cm_id FROM car_models WHERE cm_name = 'MX5a-분리'),
+             (SELECT pd_id FROM products WHERE pd_code = '97250J9000' AND pd_name = '리어 범퍼' AND pd_color = '#000000'),
              3
          );
 
 INSERT INTO work_logs (
     wl_work_datetime,
-    wl_car_model,
-    wl_product_color,
-    wl_product_code,
-    wl_product_name,
+    wl_car_model_id,
+    wl_product_id,
     wl_quantity
 ) VALUES (
-             '2025-03-18 08:20:00',
-             'AR1 조립',
-             '#FFFFFF',
-             '82651R2100',
-             '사이드 미러',
+             1742286000000, -- 2025-03-18 08:20:00
+             (SELECT cm_id FROM car_models WHERE cm_name = 'AR1 조립'),
+             (SELECT pd_id FROM products WHERE pd_code = '82651R2100' AND pd_name = '사이드 미러' AND pd_color = '#FFFFFF'),
              12
          );
 
 INSERT INTO work_logs (
     wl_work_datetime,
-    wl_car_model,
-    wl_product_color,
-    wl_product_code,
-    wl_product_name,
+    wl_car_model_id,
+    wl_product_id,
     wl_quantity
 ) VALUES (
-             '2025-03-19 16:30:00',
-             'AR1 조립',
-             '#C0C0C0',
-             '92101Q5000',
-             '그릴 어셈블리',
+             1742401800000, -- 2025-03-19 16:30:00
+             (SELECT cm_id FROM car_models WHERE cm_name = 'AR1 조립'),
+             (SELECT pd_id FROM products WHERE pd_code = '92101Q5000' AND pd_name = '그릴 어셈블리' AND pd_color = '#C0C0C0'),
              4
          );
-
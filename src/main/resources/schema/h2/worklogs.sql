@@ -0,0 +1,32 @@
+-- 임베디드 H2 (MVCC) 저장소 스키마 (h2 프로파일)
+-- SQLite 마이그레이션을 모두 적용한 현재 구조와 같고, 기본 스키마는 접속 URL 의 INIT 에서 만든 main
+-- epoch millis 는 32비트 INTEGER 에 들어가지 않으므로 BIGINT, 생성일 기본값은 현지 시각 기준 epoch millis
+CREATE TABLE IF NOT EXISTS car_models (
+    cm_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,      --  '차종 ID',
+    cm_name VARCHAR(100) NOT NULL UNIQUE                            --  '차종'
+);
+
+CREATE TABLE IF NOT EXISTS products (
+    pd_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,      --  '제품 ID',
+    pd_code VARCHAR(20) NOT NULL,                                   --  제품 코드
+    pd_name VARCHAR(50) NOT NULL,                                   --  제품 이름
+    pd_color VARCHAR(7) NOT NULL,                                   --  제품 색상
+    UNIQUE (pd_code, pd_name, pd_color)
+);
+
+CREATE TABLE IF NOT EXISTS work_logs (
+    wl_id BIGINT PRIMARY KEY,                                       --  '작업 로그 고유 ID (시간 순서 ID)',
+    wl_work_datetime BIGINT NOT NULL,                               --  '작업시간 (epoch millis)',
+    wl_car_model_id BIGINT NOT NULL REFERENCES car_models (cm_id),  --  '차종 ID',
+    wl_product_id BIGINT NOT NULL REFERENCES products (pd_id),      --  '제품 ID',
+    wl_quantity INTEGER DEFAULT 0 NOT NULL,                         --  '수량',
+    wl_completed_at BIGINT NULL,                                    --  '완료 시간 (epoch millis) - 완료되지 않은 경우 NULL',
+    wl_created_at BIGINT DEFAULT DATEDIFF(MILLISECOND, TIMESTAMP '1970-01-01 00:00:00', LOCALTIMESTAMP), --  '생성일 (epoch millis)',
+    wl_version INTEGER NOT NULL DEFAULT 0                           --  '낙관적 잠금용 버전'
+);
+
+CREATE INDEX IF NOT EXISTS idx_wl_created_at ON work_logs (wl_created_at);
+CREATE INDEX IF NOT EXISTS idx_wl_car_model ON work_logs (wl_car_model_id);
+CREATE INDEX IF NOT EXISTS idx_wl_product ON work_logs (wl_product_id);
+CREATE INDEX IF NOT EXISTS idx_wl_completed_at ON work_logs (wl_completed_at);
+CREATE INDEX IF NOT EXISTS idx_wl_work_datetime ON work_logs (wl_work_datetime);
@@ -0,0 +1,2 @@
+-- 원본 work_logs 와 컬럼 구성을 맞추기 위한 버전 컬럼
+ALTER TABLE archive.work_logs ADD COLUMN wl_version INTEGER NOT NULL DEFAULT 0;
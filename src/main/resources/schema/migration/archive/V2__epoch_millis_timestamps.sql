@@ -0,0 +1,34 @@
+-- 시간 컬럼을 DATETIME 텍스트에서 INTEGER epoch millis 로 변경 (원본 work_logs 와 동일)
+CREATE TABLE archive.work_logs_new (
+    wl_id INTEGER PRIMARY KEY,                                      --  '작업 로그 고유 ID (원본 유지)',
+    wl_work_datetime INTEGER NOT NULL,                              --  '작업시간 (epoch millis)',
+    wl_car_model TEXT NOT NULL,                                     --  '차종',
+    wl_product_color TEXT(7) NOT NULL,                              --  제품 색상
+    wl_product_code  TEXT(20) NOT NULL,                             --  제품 코드
+    wl_product_name  TEXT(50) NOT NULL,                             --  제품 이름
+    wl_quantity INTEGER DEFAULT 0 NOT NULL,                         --  '수량',
+    wl_completed_at INTEGER NULL,                                   --  '완료 시간 (epoch millis)',
+    wl_created_at INTEGER,                                          --  '생성일 (epoch millis)',
+    wl_version INTEGER NOT NULL DEFAULT 0                           --  '버전'
+);
+
+INSERT INTO archive.work_logs_new
+SELECT
+    wl_id,
+    CASE WHEN typeof(wl_work_datetime) = 'text'
+         THEN CAST(ROUND((julianday(wl_work_datetime) - 2440587.5) * 86400000) AS INTEGER)
+         ELSE wl_work_datetime END,
+    wl_car_model, wl_product_color, wl_product_code, wl_product_name, wl_quantity,
+    CASE WHEN typeof(wl_completed_at) = 'text'
+         THEN CAST(ROUND((julianday(wl_completed_at) - 2440587.5) * 86400000) AS INTEGER)
+         ELSE wl_completed_at END,
+    CASE WHEN typeof(wl_created_at) = 'text'
+         THEN CAST(ROUND((julianday(wl_created_at) - 2440587.5) * 86400000) AS INTEGER)
+         ELSE wl_created_at END,
+    wl_version
+FROM archive.work_logs;
+
+DROP TABLE archive.work_logs;
+ALTER TABLE archive.work_logs_new RENAME TO work_logs;
+
+CREATE INDEX IF NOT EXISTS archive.idx_wl_work_datetime ON work_logs (wl_work_datetime);
@@ -0,0 +1,33 @@
+-- 차종/제품 텍스트를 원본 DB 의 카탈로그 ID 로 변경 (원본 work_logs 와 동일)
+-- 카탈로그는 원본 DB(main)에만 있으므로 아카이브 DB 간 외래 키는 선언하지 않음
+INSERT OR IGNORE INTO main.car_models (cm_name)
+SELECT DISTINCT wl_car_model FROM archive.work_logs;
+
+INSERT OR IGNORE INTO main.products (pd_code, pd_name, pd_color)
+SELECT DISTINCT wl_product_code, wl_product_name, wl_product_color FROM archive.work_logs;
+
+CREATE TABLE archive.work_logs_new (
+    wl_id INTEGER PRIMARY KEY,                                      --  '작업 로그 고유 ID (원본 유지)',
+    wl_work_datetime INTEGER NOT NULL,                              --  '작업시간 (epoch millis)',
+    wl_car_model_id INTEGER NOT NULL,                               --  '차종 ID (main.car_models)',
+    wl_product_id INTEGER NOT NULL,                                 --  '제품 ID (main.products)',
+    wl_quantity INTEGER DEFAULT 0 NOT NULL,                         --  '수량',
+    wl_completed_at INTEGER NULL,                                   --  '완료 시간 (epoch millis)',
+    wl_created_at INTEGER,                                          --  '생성일 (epoch millis)',
+    wl_version INTEGER NOT NULL DEFAULT 0                           --  '버전'
+);
+
+INSERT INTO archive.work_logs_new
+SELECT
+    wl.wl_id, wl.wl_work_datetime, cm.cm_id, pd.pd_id,
+    wl.wl_quantity, wl.wl_completed_at, wl.wl_created_at, wl.wl_version
+FROM archive.work_logs wl
+JOIN main.car_models cm ON cm.cm_name = wl.wl_car_model
+JOIN main.products pd ON pd.pd_code = wl.wl_product_code
+    AND pd.pd_name = wl.wl_product_name
+    AND pd.pd_color = wl.wl_product_color;
+
+DROP TABLE archive.work_logs;
+ALTER TABLE archive.work_logs_new RENAME TO work_logs;
+
+CREATE INDEX IF NOT EXISTS archive.idx_wl_work_datetime ON work_logs (wl_work_datetime);
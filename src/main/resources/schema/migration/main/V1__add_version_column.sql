@@ -0,0 +1,2 @@
+-- 낙관적 잠금용 버전 컬럼 (수정할 때마다 1씩 증가)
+ALTER TABLE work_logs ADD COLUMN wl_version INTEGER NOT NULL DEFAULT 0;
@@ -0,0 +1,47 @@
+-- 시간 컬럼을 DATETIME 텍스트에서 INTEGER epoch millis 로 변경 (EpochMillisLocalDateTimeTypeHandler)
+-- LocalDateTime 을 UTC 로 간주해 환산하므로 julianday() 로 텍스트 값을 그대로 변환할 수 있다
+-- 컬럼 타입/기본값 변경을 위해 테이블을 다시 만든다
+CREATE TABLE work_logs_new (
+    wl_id INTEGER PRIMARY KEY AUTOINCREMENT,                        --  '작업 로그 고유 ID',
+    wl_work_datetime INTEGER NOT NULL,                              --  '작업시간 (epoch millis)',
+    wl_car_model TEXT NOT NULL,                                     --  '차종',
+    wl_product_color TEXT(7) NOT NULL,                              --  제품 색상
+    wl_product_code  TEXT(20) NOT NULL,                             --  제품 코드
+    wl_product_name  TEXT(50) NOT NULL,                             --  제품 이름
+    wl_quantity INTEGER DEFAULT 0 NOT NULL,                         --  '수량',
+    wl_completed_at INTEGER NULL,                                   --  '완료 시간 (epoch millis) - 완료되지 않은 경우 NULL',
+    wl_created_at INTEGER DEFAULT (CAST(ROUND((julianday('now', 'localtime') - 2440587.5) * 86400000) AS INTEGER)), --  '생성일 (epoch millis)',
+    wl_version INTEGER NOT NULL DEFAULT 0                           --  '낙관적 잠금용 버전'
+);
+
+INSERT INTO work_logs_new (
+    wl_id, wl_work_datetime, wl_car_model, wl_product_color, wl_product_code, wl_product_name,
+    wl_quantity, wl_completed_at, wl_created_at, wl_version
+)
+SELECT
+    wl_id,
+    CASE WHEN typeof(wl_work_datetime) = 'text'
+         THEN CAST(ROUND((julianday(wl_work_datetime) - 2440587.5) * 86400000) AS INTEGER)
+         ELSE wl_work_datetime END,
+    wl_car_model, wl_product_color, wl_product_code, wl_product_name, wl_quantity,
+    CASE WHEN typeof(wl_completed_at) = 'text'
+         THEN CAST(ROUND((julianday(wl_completed_at) - 2440587.5) * 86400000) AS INTEGER)
+         ELSE wl_completed_at END,
+    CASE WHEN typeof(wl_created_at) = 'text'
+         THEN CAST(ROUND((julianday(wl_created_at) - 2440587.5) * 86400000) AS INTEGER)
+         ELSE wl_created_at END,
+    wl_version
+FROM work_logs;
+
+-- AUTOINCREMENT 시퀀스 유지 (삭제된 마지막 ID 가 재사용되지 않도록)
+DELETE FROM sqlite_sequence WHERE name = 'work_logs_new';
+INSERT INTO sqlite_sequence (name, seq)
+SELECT 'work_logs_new', seq FROM sqlite_sequence WHERE name = 'work_logs';
+
+DROP TABLE work_logs;
+ALTER TABLE work_logs_new RENAME TO work_logs;
+
+CREATE INDEX IF NOT EXISTS idx_wl_created_at ON work_logs (wl_created_at);
+CREATE INDEX IF NOT EXISTS idx_wl_car_model ON work_logs (wl_car_model);
+CREATE INDEX IF NOT EXISTS idx_wl_completed_at ON work_logs (wl_completed_at);
+CREATE INDEX IF NOT EXISTS idx_wl_work_datetime ON work_logs (wl_work_datetime);
@@ -0,0 +1,59 @@
+-- 차종/제품 정보를 카탈로그 테이블로 분리 (행마다 반복되던 텍스트를 정수 ID 로 참조)
+-- 제품은 (제품 코드, 제품 이름, 색상) 조합 단위로 저장
+CREATE TABLE IF NOT EXISTS car_models (
+    cm_id INTEGER PRIMARY KEY,                                      --  '차종 ID',
+    cm_name TEXT NOT NULL UNIQUE                                    --  '차종'
+);
+
+CREATE TABLE IF NOT EXISTS products (
+    pd_id INTEGER PRIMARY KEY,                                      --  '제품 ID',
+    pd_code TEXT(20) NOT NULL,                                      --  제품 코드
+    pd_name TEXT(50) NOT NULL,                                      --  제품 이름
+    pd_color TEXT(7) NOT NULL,                                      --  제품 색상
+    UNIQUE (pd_code, pd_name, pd_color)
+);
+
+INSERT OR IGNORE INTO car_models (cm_name)
+SELECT DISTINCT wl_car_model FROM work_logs ORDER BY wl_car_model;
+
+INSERT OR IGNORE INTO products (pd_code, pd_name, pd_color)
+SELECT DISTINCT wl_product_code, wl_product_name, wl_product_color FROM work_logs
+ORDER BY wl_product_code, wl_product_name, wl_product_color;
+
+CREATE TABLE work_logs_new (
+    wl_id INTEGER PRIMARY KEY AUTOINCREMENT,                        --  '작업 로그 고유 ID',
+    wl_work_datetime INTEGER NOT NULL,                              --  '작업시간 (epoch millis)',
+    wl_car_model_id INTEGER NOT NULL REFERENCES car_models (cm_id), --  '차종 ID',
+    wl_product_id INTEGER NOT NULL REFERENCES products (pd_id),     --  '제품 ID',
+    wl_quantity INTEGER DEFAULT 0 NOT NULL,                         --  '수량',
+    wl_completed_at INTEGER NULL,                                   --  '완료 시간 (epoch millis) - 완료되지 않은 경우 NULL',
+    wl_created_at INTEGER DEFAULT (CAST(ROUND((julianday('now', 'localtime') - 2440587.5) * 86400000) AS INTEGER)), --  '생성일 (epoch millis)',
+    wl_version INTEGER NOT NULL DEFAULT 0                           --  '낙관적 잠금용 버전'
+);
+
+INSERT INTO work_logs_new (
+    wl_id, wl_work_datetime, wl_car_model_id, wl_product_id,
+    wl_quantity, wl_completed_at, wl_created_at, wl_version
+)
+SELECT
+    wl.wl_id, wl.wl_work_datetime, cm.cm_id, pd.pd_id,
+    wl.wl_quantity, wl.wl_completed_at, wl.wl_created_at, wl.wl_version
+FROM work_logs wl
+JOIN car_models cm ON cm.cm_name = wl.wl_car_model
+JOIN products pd ON pd.pd_code = wl.wl_product_code
+    AND pd.pd_name = wl.wl_product_name
+    AND pd.pd_color = wl.wl_product_color;
+
+-- AUTOINCREMENT 시퀀스 유지 (삭제된 마지막 ID 가 재사용되지 않도록)
+DELETE FROM sqlite_sequence WHERE name = 'work_logs_new';
+INSERT INTO sqlite_sequence (name, seq)
+SELECT 'work_logs_new', seq FROM sqlite_sequence WHERE name = 'work_logs';
+
+DROP TABLE work_logs;
+ALTER TABLE work_logs_new RENAME TO work_logs;
+
+CREATE INDEX IF NOT EXISTS idx_wl_created_at ON work_logs (wl_created_at);
+CREATE INDEX IF NOT EXISTS idx_wl_car_model ON work_logs (wl_car_model_id);
+CREATE INDEX IF NOT EXISTS idx_wl_product ON work_logs (wl_product_id);
+CREATE INDEX IF NOT EXISTS idx_wl_completed_at ON work_logs (wl_completed_at);
+CREATE INDEX IF NOT EXISTS idx_wl_work_datetime ON work_logs (wl_work_datetime);
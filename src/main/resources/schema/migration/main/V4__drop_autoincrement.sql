@@ -0,0 +1,30 @@
+-- ID 를 애플리케이션에서 발급(TimeOrderedIdGenerator)하므로 AUTOINCREMENT 제거
+-- INSERT 마다 sqlite_sequence 를 갱신하지 않고 rowid B-tree 만 사용
+CREATE TABLE work_logs_new (
+    wl_id INTEGER PRIMARY KEY,                                      --  '작업 로그 고유 ID (시간 순서 ID)',
+    wl_work_datetime INTEGER NOT NULL,                              --  '작업시간 (epoch millis)',
+    wl_car_model_id INTEGER NOT NULL REFERENCES car_models (cm_id), --  '차종 ID',
+    wl_product_id INTEGER NOT NULL REFERENCES products (pd_id),     --  '제품 ID',
+    wl_quantity INTEGER DEFAULT 0 NOT NULL,                         --  '수량',
+    wl_completed_at INTEGER NULL,                                   --  '완료 시간 (epoch millis) - 완료되지 않은 경우 NULL',
+    wl_created_at INTEGER DEFAULT (CAST(ROUND((julianday('now', 'localtime') - 2440587.5) * 86400000) AS INTEGER)), --  '생성일 (epoch millis)',
+    wl_version INTEGER NOT NULL DEFAULT 0                           --  '낙관적 잠금용 버전'
+);
+
+INSERT INTO work_logs_new (
+    wl_id, wl_work_datetime, wl_car_model_id, wl_product_id,
+    wl_quantity, wl_completed_at, wl_created_at, wl_version
+)
+SELECT
+    wl_id, wl_work_datetime, wl_car_model_id, wl_product_id,
+    wl_quantity, wl_completed_at, wl_created_at, wl_version
+FROM work_logs;
+
+DROP TABLE work_logs;
+ALTER TABLE work_logs_new RENAME TO work_logs;
+
+CREATE INDEX IF NOT EXISTS idx_wl_created_at ON work_logs (wl_created_at);
+CREATE INDEX IF NOT EXISTS idx_wl_car_model ON work_logs (wl_car_model_id);
+CREATE INDEX IF NOT EXISTS idx_wl_product ON work_logs (wl_product_id);
+CREATE INDEX IF NOT EXISTS idx_wl_completed_at ON work_logs (wl_completed_at);
+CREATE INDEX IF NOT EXISTS idx_wl_work_datetime ON work_logs (wl_work_datetime);
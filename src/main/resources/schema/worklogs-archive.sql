@@ -0,0 +1,16 @@
+-- 아카이브 DB (ATTACH DATABASE ... AS archive) 의 완료 작업 로그 테이블
+-- 원본 work_logs 의 ID 를 그대로 유지하므로 AUTOINCREMENT 를 사용하지 않음
+CREATE TABLE IF NOT EXISTS archive.work_logs (
+    wl_id INTEGER PRIMARY KEY,                                      --  '작업 로그 고유 ID (원본 유지)',
+    wl_work_datetime DATETIME NOT NULL,                             --  '작업시간',
+    wl_car_model TEXT NOT NULL,                                     --  '차종',
+    wl_product_color TEXT(7) NOT NULL,                              --  제품 색상
+    wl_product_code  TEXT(20) NOT NULL,                             --  제품 코드
+    wl_product_name  TEXT(50) NOT NULL,                             --  제품 이름
+    wl_quantity INTEGER DEFAULT 0 NOT NULL,                         --  '수량',
+    wl_completed_at DATETIME NULL,                                  --  '완료 시간',
+    wl_created_at DATETIME                                          --  '생성일',
+    );
+
+-- 인덱스 생성 (아카이브 조회는 날짜 범위 조회가 대부분)
+CREATE INDEX IF NOT EXISTS archive.idx_wl_work_datetime ON work_logs (wl_work_datetime);
@@ -0,0 +1,19 @@
+-- 라인(차종)별 샤드 DB 의 작업 로그 테이블 (calman.sharding)
+-- 현재 work_logs 구조와 같고, 카탈로그(car_models/products)는 기본 DB 를 ATTACH 해서 사용하므로
+-- 다른 DB 의 테이블은 참조할 수 없어 외래 키를 두지 않음 (아카이브와 동일)
+CREATE TABLE IF NOT EXISTS work_logs (
+    wl_id INTEGER PRIMARY KEY,                                      --  '작업 로그 고유 ID (시간 순서 ID)',
+    wl_work_datetime INTEGER NOT NULL,                              --  '작업시간 (epoch millis)',
+    wl_car_model_id INTEGER NOT NULL,                               --  '차종 ID (catalog.car_models)',
+    wl_product_id INTEGER NOT NULL,                                 --  '제품 ID (catalog.products)',
+    wl_quantity INTEGER DEFAULT 0 NOT NULL,                         --  '수량',
+    wl_completed_at INTEGER NULL,                                   --  '완료 시간 (epoch millis) - 완료되지 않은 경우 NULL',
+    wl_created_at INTEGER DEFAULT (CAST(ROUND((julianday('now', 'localtime') - 2440587.5) * 86400000) AS INTEGER)), --  '생성일 (epoch millis)',
+    wl_version INTEGER NOT NULL DEFAULT 0                           --  '낙관적 잠금용 버전'
+);
+
+CREATE INDEX IF NOT EXISTS idx_wl_created_at ON work_logs (wl_created_at);
+CREATE INDEX IF NOT EXISTS idx_wl_car_model ON work_logs (wl_car_model_id);
+CREATE INDEX IF NOT EXISTS idx_wl_product ON work_logs (wl_product_id);
+CREATE INDEX IF NOT EXISTS idx_wl_completed_at ON work_logs (wl_completed_at);
+CREATE INDEX IF NOT EXISTS idx_wl_work_datetime ON work_logs (wl_work_datetime);
@@ -5,6 +5,42 @@
 
 // API 네임스페이스 생성
 const API = {
+  // 목록 응답 캐시 (URL -> { eTag, data }, 오래된 것부터 제거)
+  listResponseCache: new Map(),
+  LIST_RESPONSE_CACHE_SIZE: 20,
+
+  /**
+   * 목록 조회 (이전 응답의 ETag 를 If-None-Match 로 보내고, 변경이 없으면(304) 저장된 응답 재사용)
+   * @param {string} url - 목록 API URL (쿼리 파라미터 포함)
+   * @returns {Promise} 응답 JSON (저장된 응답은 복사본)
+   */
+  fetchListWithETag: function(url) {
+    const cached = this.listResponseCache.get(url);
+    const options = cached ? { headers: { 'If-None-Match': cached.eTag } } : {};
+
+    return fetch(url, options)
+    .then(response => {
+      // 304 는 response.ok 가 false 이므로 먼저 확인
+      if (response.status === 304 && cached) {
+        return structuredClone(cached.data);
+      }
+      if (!response.ok) {
+        throw new Error('서버 응답 오류: ' + response.status);
+      }
+      return response.json().then(data => {
+        const eTag = response.headers.get('ETag');
+        this.listResponseCache.delete(url);
+        if (eTag) {
+          this.listResponseCache.set(url, { eTag: eTag, data: structuredClone(data) });
+          if (this.listResponseCache.size > this.LIST_RESPONSE_CACHE_SIZE) {
+            this.listResponseCache.delete(this.listResponseCache.keys().next().value);
+          }
+        }
+        return data;
+      });
+    });
+  },
+
   /**
    * 작업 로그 데이터 가져오기
    * @returns {Promise} API 호출 결과 Promise
@@ -27,13 +63,7 @@ const API = {
     if (currentStatus) params.append('status', currentStatus);
 
     // API 호출
-    return fetch(`/api/worklogs?${params.toString()}`)
-    .then(response => {
-      if (!response.ok) {
-        throw new Error('서버 응답 오류: ' + response.status);
-      }
-      return response.json();
-    })
+    return this.fetchListWithETag(`/api/worklogs?${params.toString()}`)
     .then(data => {
       // API 응답 데이터 처리
       if (data && Array.isArray(data)) {
@@ -101,13 +131,7 @@ const API = {
 
     console.log(`fetchWorkLogsByDate: date=${isoDate}, status=${status}, sort=${sortField} ${sortDirection}`);
 
-    return fetch(`/api/worklogs/date/${isoDate}?${params.toString()}`)
-    .then(response => {
-      if (!response.ok) {
-        throw new Error('서버 응답 오류: ' + response.status);
-      }
-      return response.json();
-    })
+    return this.fetchListWithETag(`/api/worklogs/date/${isoDate}?${params.toString()}`)
     .then(data => {
       // API 응답 데이터 처리
       if (data && Array.isArray(data)) {
@@ -192,13 +216,7 @@ const API = {
     }
 
     // API 호출
-    return fetch(`/api/worklogs?${params.toString()}`)
-    .then(response => {
-      if (!response.ok) {
-        throw new Error('서버 응답 오류: ' + response.status);
-      }
-      return response.json();
-    })
+    return this.fetchListWithETag(`/api/worklogs?${params.toString()}`)
     .then(data => {
       // API 응답 데이터 처리
       if (data && Array.isArray(data)) {
@@ -221,9 +239,9 @@ const API = {
 
       // 상태 필터링
       if (status === 'completed') {
-        filteredData = filteredData.filter(item => item.completedAt);
+        filteredData = filteredData.filter(item => Utils.isCompleted(item));
       } else if (status === 'incomplete') {
-        filteredData = filteredData.filter(item => !item.completedAt);
+        filteredData = filteredData.filter(item => !Utils.isCompleted(item));
       }
 
       // 날짜 필터링
@@ -312,6 +330,9 @@ const API = {
       body: JSON.stringify(workLog)
     })
     .then(response => {
+      if (response.status === 409) {
+        return this.handleConflict(response);
+      }
       if (!response.ok) {
         throw new Error('서버 응답 오류: ' + response.status);
       }
@@ -319,9 +340,13 @@ const API = {
     })
     .then(data => {
       UI.showToast('작업 내역이 수정되었습니다.', 'success');
-      return this.fetchWorkLogsData(); // 데이터 새로 불러오기
+      // 데이터 새로 불러온 뒤 변경된 작업 로그(새 버전 포함) 반환
+      return this.fetchWorkLogsData().then(() => data.workLog);
     })
     .catch(error => {
+      if (error.conflict) {
+        throw error;
+      }
       console.error('수정 오류:', error);
       UI.showToast('수정 중 오류가 발생했습니다: ' + error.message, 'error');
 
@@ -341,21 +366,62 @@ const API = {
     });
   },
 
+  /**
+   * 작업 로그 부분 수정 (변경된 필드만 전송)
+   * @param {number} id - 작업 로그 ID
+   * @param {Object} changes - 변경할 필드 (version 포함 시 충돌 확인)
+   * @returns {Promise<Object>} 변경된 작업 로그
+   */
+  patchWorkLog: function(id, changes) {
+    return fetch(`/api/worklogs/${id}`, {
+      method: 'PATCH',
+      headers: {
+        'Content-Type': 'application/merge-patch+json',
+      },
+      body: JSON.stringify(changes)
+    })
+    .then(response => {
+      if (response.status === 409) {
+        return this.handleConflict(response);
+      }
+      if (!response.ok) {
+        throw new Error('서버 응답 오류: ' + response.status);
+      }
+      return response.json();
+    })
+    .then(data => {
+      UI.showToast('작업 내역이 수정되었습니다.', 'success');
+      // 변경된 행만 새로고침
+      return this.refreshWorkLogs([id]).then(() => data.workLog);
+    })
+    .catch(error => {
+      if (!error.conflict) {
+        console.error('수정 오류:', error);
+        UI.showToast('수정 중 오류가 발생했습니다: ' + error.message, 'error');
+      }
+      throw error;
+    });
+  },
+
   /**
    * 작업 로그 완료 상태 업데이트
    * @param {number} id - 작업 로그 ID
    * @param {boolean} completed - 완료 여부
+   * @param {number} version - 조회 시점의 버전 (없으면 버전 확인 없이 변경)
    * @returns {Promise} API 호출 결과 Promise
    */
-  updateWorkLogStatus: function(id, completed) {
+  updateWorkLogStatus: function(id, completed, version) {
     return fetch(`/api/worklogs/${id}/status`, {
       method: 'PUT',
       headers: {
         'Content-Type': 'application/json',
       },
-      body: JSON.stringify({ completed: completed })
+      body: JSON.stringify({ completed: completed, version: version })
     })
     .then(response => {
+      if (response.status === 409) {
+        return this.handleConflict(response);
+      }
       if (!response.ok) {
         throw new Error('서버 응답 오류: ' + response.status);
       }
@@ -366,6 +432,9 @@ const API = {
       return true;
     })
     .catch(error => {
+      if (error.conflict) {
+        throw error;
+      }
       console.error('상태 업데이트 오류:', error);
       UI.showToast('상태 업데이트 중 오류가 발생했습니다: ' + error.message, 'error');
 
@@ -373,6 +442,7 @@ const API = {
       const index = workLogData.findIndex(item => item.id == id);
       if (index !== -1) {
         workLogData[index].completedAt = completed ? new Date().toISOString() : null;
+        workLogData[index].completed = completed;
         UI.renderWorkLogData(workLogData);
         UI.showToast(`작업이 ${completed ? '완료' : '미완료'} 상태로 변경되었습니다.`, 'success');
       }
@@ -382,26 +452,126 @@ const API = {
   },
 
   /**
-   * 작업 로그 삭제
+   * 수정 충돌(409) 처리 - 다른 사용자가 먼저 수정한 경우 최신 데이터를 다시 불러옴
+   * @param {Response} response - 409 응답
+   * @returns {Promise} 항상 거부되는 Promise (error.conflict = true)
+   */
+  handleConflict: function(response) {
+    return response.json()
+    .catch(() => ({}))
+    .then(data => {
+      UI.showToast(data.message || '다른 사용자가 먼저 수정한 작업 로그입니다.', 'warning', 3000);
+      return this.fetchWorkLogsData();
+    })
+    .then(() => {
+      const error = new Error('수정 충돌');
+      error.conflict = true;
+      throw error;
+    });
+  },
+
+  /**
+   * 여러 작업 로그 한 번에 조회
+   * @param {Array} ids - 조회할 작업 로그 ID 배열
+   * @returns {Promise<Array>} 작업 로그 목록
+   */
+  fetchWorkLogsByIds: function(ids) {
+    const params = new URLSearchParams();
+    params.append('ids', ids.join(','));
+
+    return fetch(`/api/worklogs/bulk?${params.toString()}`)
+    .then(response => {
+      if (!response.ok) {
+        throw new Error('서버 응답 오류: ' + response.status);
+      }
+      return response.json();
+    })
+    .then(data => (data && Array.isArray(data.workLogs)) ? data.workLogs : []);
+  },
+
+  /**
+   * 변경된 작업 로그만 다시 조회하여 현재 목록에 반영 (전체 목록 재조회 대신 사용)
+   * @param {Array} ids - 변경된 작업 로그 ID 배열
+   * @returns {Promise<Array>} 다시 조회한 작업 로그 목록
+   */
+  refreshWorkLogs: function(ids) {
+    if (!ids || ids.length === 0) {
+      return Promise.resolve([]);
+    }
+
+    return this.fetchWorkLogsByIds(ids)
+    .then(updated => {
+      const updatedById = new Map(updated.map(item => [String(item.id), item]));
+
+      workLogData = workLogData
+      .map(item => updatedById.get(String(item.id)) || item)
+      // 현재 상태 필터와 맞지 않게 된 항목은 목록에서 제외
+      .filter(item => !currentStatus || (currentStatus === 'completed') === Utils.isCompleted(item));
+
+      UI.renderWorkLogData(workLogData);
+      return updated;
+    });
+  },
+
+  /**
+   * 작업 로그 완료 상태 일괄 변경
+   * @param {Array} ids - 작업 로그 ID 배열
+   * @param {boolean} completed - 완료 여부
+   * @returns {Promise<Array>} 상태가 변경된 작업 로그 ID 배열
+   */
+  updateWorkLogsStatus: function(ids, completed) {
+    return fetch('/api/worklogs/bulk/status', {
+      method: 'PUT',
+      headers: {
+        'Content-Type': 'application/json',
+      },
+      body: JSON.stringify({ ids: ids, completed: completed })
+    })
+    .then(response => {
+      if (!response.ok) {
+        throw new Error('서버 응답 오류: ' + response.status);
+      }
+      return response.json();
+    })
+    .then(data => {
+      UI.showToast(data.message || `작업이 ${completed ? '완료' : '미완료'} 상태로 변경되었습니다.`, 'success');
+      const affectedIds = data.affectedIds || [];
+      return this.refreshWorkLogs(affectedIds).then(() => affectedIds);
+    })
+    .catch(error => {
+      console.error('일괄 상태 업데이트 오류:', error);
+      UI.showToast('상태 업데이트 중 오류가 발생했습니다: ' + error.message, 'error');
+      throw error;
+    });
+  },
+
+  /**
+   * 작업 로그 삭제 (선택한 항목을 한 번의 요청으로 삭제)
    * @param {Array} ids - 삭제할 작업 로그 ID 배열
    * @returns {Promise} API 호출 결과 Promise
    */
   deleteWorkLogs: function(ids) {
-    const deletePromises = ids.map(id =>
-        fetch(`/api/worklogs/${id}`, {
-          method: 'DELETE'
-        })
-    );
-
-    return Promise.all(deletePromises)
-    .then(responses => {
-      const allSuccessful = responses.every(response => response.ok);
-      if (allSuccessful) {
-        UI.showToast('선택한 작업 로그가 삭제되었습니다.', 'success');
-        return this.fetchWorkLogsData(); // 데이터 새로 불러오기
-      } else {
-        throw new Error('일부 항목 삭제 중 오류가 발생했습니다.');
+    return fetch('/api/worklogs/bulk/delete', {
+      method: 'POST',
+      headers: {
+        'Content-Type': 'application/json',
+      },
+      body: JSON.stringify({ ids: ids.map(Number) })
+    })
+    .then(response => {
+      if (!response.ok) {
+        throw new Error('서버 응답 오류: ' + response.status);
       }
+      return response.json();
+    })
+    .then(data => {
+      UI.showToast(data.message || '선택한 작업 로그가 삭제되었습니다.', 'success');
+
+      // 삭제된 항목만 목록에서 제거
+      const deletedIds = new Set((data.affectedIds || []).map(String));
+      workLogData = workLogData.filter(item => !deletedIds.has(String(item.id)));
+      UI.renderWorkLogData(workLogData);
+      return data.affectedIds || [];
     })
     .catch(error => {
       console.error('삭제 오류:', error);
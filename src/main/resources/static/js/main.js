@@ -227,6 +227,11 @@ function setupButtonListeners() {
     Modal.confirmDelete();
   });
 
+  // 일괄 완료 버튼
+  document.getElementById('btnComplete').addEventListener('click', function() {
+    Modal.confirmComplete();
+  });
+
   // 작업 내역 폼 제출 버튼
   document.getElementById('btnSubmitWorklog').addEventListener('click', function() {
     Modal.submitWorklogForm();
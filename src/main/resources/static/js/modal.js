@@ -169,6 +169,11 @@ const Modal = {
     document.getElementById('worklogModalLabel').textContent = '작업 내역 수정';
     document.getElementById('worklogId').value = id;
 
+    // 수정 충돌 확인용 버전과 기존 완료 상태 저장
+    const current = workLogData.find(item => String(item.id) === String(id));
+    this.editVersion = current ? current.version : undefined;
+    this.editCompleted = isCompleted;
+
     // 작업시간 설정 (flatpickr는 모달이 표시된 후 이벤트에서 초기화됨)
     const workDatetimeValue = cells[1].textContent.trim();
     document.getElementById('workDatetime').value = workDatetimeValue;
@@ -179,6 +184,16 @@ const Modal = {
     document.getElementById('productName').value = cells[5].textContent.trim();
     document.getElementById('quantity').value = cells[6].textContent.trim();
 
+    // 변경된 필드만 전송하기 위해 원래 값 저장
+    this.editOriginal = {
+      workDatetime: workDatetimeValue,
+      carModel: cells[2].textContent.trim(),
+      productColor: cells[3].textContent.trim(),
+      productCode: cells[4].textContent.trim(),
+      productName: cells[5].textContent.trim(),
+      quantity: cells[6].textContent.trim()
+    };
+
     // 완료 상태 설정
     if (this.completionStatusElement) {
       this.completionStatusElement.checked = isCompleted;
@@ -225,20 +240,25 @@ const Modal = {
       productColor: document.getElementById('productColor').value,
       productCode: document.getElementById('productCode').value,
       productName: document.getElementById('productName').value,
-      quantity: document.getElementById('quantity').value
+      quantity: document.getElementById('quantity').value,
+      version: editMode ? this.editVersion : undefined
     };
 
 
-    // 수정 모드에서는 완료 상태도 함께 업데이트
+    // 수정 모드에서는 변경된 필드와 완료 상태를 한 번의 PATCH 요청으로 전송
     if (editMode) {
       const completionStatus = document.getElementById('completionStatus').checked;
+      const changes = this.collectChanges(workLogData, completionStatus);
 
-      // 기본 데이터 업데이트
-      API.updateWorkLog(workLogData)
-      .then(() => {
-        // 상태 업데이트
-        return API.updateWorkLogStatus(workLogData.id, completionStatus);
-      })
+      if (Object.keys(changes).length === 0) {
+        if (this.worklogModalInstance) {
+          this.worklogModalInstance.hide();
+        }
+        return;
+      }
+
+      changes.version = this.editVersion;
+      API.patchWorkLog(workLogData.id, changes)
       .then(() => {
         if (this.worklogModalInstance) {
           this.worklogModalInstance.hide();
@@ -261,6 +281,30 @@ const Modal = {
     }
   },
 
+  /**
+   * 수정 폼에서 원래 값과 달라진 필드만 추출
+   * @param {Object} workLogData - 폼 입력값
+   * @param {boolean} completionStatus - 완료 상태 체크 여부
+   * @returns {Object} 변경된 필드 (JSON merge patch)
+   */
+  collectChanges: function(workLogData, completionStatus) {
+    const original = this.editOriginal || {};
+    const changes = {};
+
+    ['workDatetime', 'carModel', 'productColor', 'productCode', 'productName'].forEach(field => {
+      if (String(workLogData[field]).trim() !== String(original[field] || '').trim()) {
+        changes[field] = workLogData[field];
+      }
+    });
+    if (Number(workLogData.quantity) !== Number(original.quantity)) {
+      changes.quantity = Number(workLogData.quantity);
+    }
+    if (completionStatus !== this.editCompleted) {
+      changes.completed = completionStatus;
+    }
+    return changes;
+  },
+
   /**
    * 파일 업로드 폼 제출 처리
    */
@@ -311,6 +355,24 @@ const Modal = {
         API.deleteWorkLogs(selectedIds);
       }
     }
+  },
+
+  /**
+   * 선택 항목 일괄 완료 처리
+   */
+  confirmComplete: function() {
+    const selectedCheckboxes = document.querySelectorAll(
+        'input[name="selectedIds"]:checked'
+    );
+    const selectedIds = Array.from(selectedCheckboxes).map(
+        (checkbox) => Number(checkbox.value)
+    );
+
+    if (selectedIds.length > 0) {
+      if (confirm(`선택한 작업 ${selectedIds.length}건을 완료 처리하시겠습니까?`)) {
+        API.updateWorkLogsStatus(selectedIds, true);
+      }
+    }
   }
 };
 
@@ -40,7 +40,8 @@ const UI = {
         row.dataset.id = workLog.id;
 
         // 작업이 완료 상태인 경우 행 스타일 적용
-        if (workLog.completedAt) {
+        const completed = Utils.isCompleted(workLog);
+        if (completed) {
           row.classList.add('status-completed');
         }
 
@@ -134,11 +135,11 @@ const UI = {
         const statusCell = document.createElement('td');
         const statusIcon = document.createElement('div');
         statusIcon.className = 'status-icon ' +
-            (workLog.completedAt ? 'status-complete-icon' : 'status-incomplete-icon');
+            (completed ? 'status-complete-icon' : 'status-incomplete-icon');
 
         // 완료/미완료 아이콘 설정
         const iconElement = document.createElement('i');
-        if (workLog.completedAt) {
+        if (completed) {
           iconElement.className = 'bi bi-check-circle-fill';
           iconElement.setAttribute('title', '완료');
         } else {
@@ -151,15 +152,17 @@ const UI = {
         // 완료 상태 토글 이벤트
         statusIcon.addEventListener('click', function(e) {
           e.stopPropagation(); // 행 클릭 이벤트 전파 방지
-          const isCompleted = workLog.completedAt !== null;
-
           // API 호출하여 상태 토글
-          API.updateWorkLogStatus(workLog.id, !isCompleted)
+          API.updateWorkLogStatus(workLog.id, !completed, workLog.version)
           .then(() => {
-            // 데이터 새로고침
-            API.fetchWorkLogsData();
+            // 변경된 행만 새로고침
+            return API.refreshWorkLogs([workLog.id]);
           })
           .catch(error => {
+            // 수정 충돌은 API.handleConflict 에서 안내 후 목록을 다시 불러옴
+            if (error.conflict) {
+              return;
+            }
             console.error('상태 업데이트 오류:', error);
             UI.showToast('상태 업데이트 중 오류가 발생했습니다.', 'error');
           });
@@ -287,6 +290,7 @@ const UI = {
         'input[name="selectedIds"]:checked'
     ).length;
     document.getElementById('btnDelete').disabled = selectedCount === 0;
+    document.getElementById('btnComplete').disabled = selectedCount === 0;
   },
 
   /**
@@ -33,6 +33,15 @@ const Utils = {
     return `${year}.${month}.${day}`;
   },
 
+  /**
+   * 작업 완료 여부 (목록 API 는 completed, 상세/더미 데이터는 completedAt 사용)
+   * @param {Object} workLog - 작업 로그
+   * @returns {boolean} 완료 여부
+   */
+  isCompleted: function(workLog) {
+    return typeof workLog.completed === 'boolean' ? workLog.completed : !!workLog.completedAt;
+  },
+
   /**
    * 오늘 날짜 반환 함수 (YY.MM.DD 형식)
    * @returns {string} 오늘 날짜 문자열
@@ -0,0 +1,144 @@
+package com.calman.domain.worklog;
+
+import com.calman.domain.worklog.dto.WorkLogDTO;
+import com.calman.domain.worklog.service.WorkLogService;
+import com.calman.domain.worklog.service.WorkLogShardRouter;
+import com.calman.global.config.ShardingProperties;
+import com.calman.global.datasource.ShardContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 샤드 라우팅 통합 테스트 (임시 파일 기본 DB + line-on 샤드)
+ * - main 이 아닌 샤드에 저장되는 작업 로그의 생성/조회/수정/부분 수정/삭제
+ * - 카탈로그는 main 에만 등록되고, 샤드 커넥션에서는 읽기 전용
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class WorkLogShardingIntegrationTest {
+
+  private static final String SHARD = "line-on";
+  private static final String CAR_MODEL = "ON 조립";
+
+  @TempDir
+  static Path directory;
+
+  @DynamicPropertySource
+  static void shardProperties(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + directory.resolve("main.sqlite"));
+    registry.add("spring.sql.init.schema-locations", () -> "classpath:schema/worklogs.sql");
+    registry.add("spring.sql.init.data-locations", () -> "optional:classpath:data/none.sql");
+    registry.add("calman.sharding.enabled", () -> "true");
+    registry.add("calman.sharding.shards." + SHARD + ".path", () -> directory.resolve("line-on.sqlite").toString());
+    registry.add("calman.sharding.shards." + SHARD + ".car-models[0]", () -> CAR_MODEL);
+  }
+
+  @Autowired
+  private WorkLogService workLogService;
+
+  @Autowired
+  private WorkLogShardRouter shardRouter;
+
+  @Autowired
+  private DataSource dataSource;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Test
+  @DisplayName("샤드 차종의 작업 로그를 샤드에서 생성/조회/수정/부분 수정/삭제하고, 카탈로그는 main 에만 등록")
+  public void testCrudOnShard() throws SQLException {
+    // given
+    WorkLogDTO.CreateRequest request = new WorkLogDTO.CreateRequest();
+    request.setWorkDatetime("25.03.20 09:00");
+    request.setCarModel(CAR_MODEL);
+    request.setProductCode("ON-1");
+    request.setProductName("도어 트림");
+    request.setProductColor("BLACK");
+    request.setQuantity(3);
+
+    // when - 생성
+    Long id = workLogService.createWorkLog(request);
+
+    // then - 샤드에만 저장되고 카탈로그는 main 에 등록
+    assertThat(shardRouter.locate(id)).isEqualTo(SHARD);
+    assertThat(count("line-on.sqlite", "SELECT COUNT(*) FROM work_logs WHERE wl_id = ?", id)).isEqualTo(1);
+    assertThat(count("main.sqlite", "SELECT COUNT(*) FROM work_logs WHERE wl_id = ?", id)).isZero();
+    assertThat(count("main.sqlite", "SELECT COUNT(*) FROM car_models WHERE cm_name = ?", CAR_MODEL)).isEqualTo(1);
+
+    // when, then - 조회
+    WorkLogDTO created = workLogService.getWorkLogById(id);
+    assertThat(created.getCarModel()).isEqualTo(CAR_MODEL);
+    assertThat(created.getProductName()).isEqualTo("도어 트림");
+    assertThat(workLogService.getWorkLogsByCarModel(CAR_MODEL)).extracting(WorkLogDTO::getId).containsExactly(id);
+
+    // when, then - 수정 (새 제품 조합도 main 에 등록)
+    WorkLogDTO.UpdateRequest update = new WorkLogDTO.UpdateRequest(
+        "25.03.20 10:00", CAR_MODEL, "WHITE", "ON-2", "범퍼", 5, created.getVersion());
+    WorkLogDTO updated = workLogService.updateWorkLog(id, update);
+    assertThat(updated.getQuantity()).isEqualTo(5);
+    assertThat(updated.getProductCode()).isEqualTo("ON-2");
+    assertThat(count("main.sqlite", "SELECT COUNT(*) FROM products WHERE pd_code = ?", "ON-2")).isEqualTo(1);
+
+    // when, then - 부분 수정 (제품 색상만 바꾸면 나머지 값은 샤드의 현재 행에서)
+    WorkLogDTO patched = workLogService.patchWorkLog(id, Map.of("productColor", "RED", "version", updated.getVersion()));
+    assertThat(patched.getProductColor()).isEqualTo("RED");
+    assertThat(patched.getProductCode()).isEqualTo("ON-2");
+    assertThat(patched.getProductName()).isEqualTo("범퍼");
+
+    // when, then - 삭제
+    assertThat(workLogService.deleteWorkLog(id)).isTrue();
+    assertThat(workLogService.getWorkLogById(id)).isNull();
+    assertThat(count("line-on.sqlite", "SELECT COUNT(*) FROM work_logs WHERE wl_id = ?", id)).isZero();
+  }
+
+  @Test
+  @DisplayName("샤드 쓰기 커넥션에서 카탈로그 변경은 거부 (읽기 전용 ATTACH)")
+  public void testCatalogIsReadOnlyOnShard() {
+    // given
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    TransactionTemplate writeTemplate = new TransactionTemplate(transactionManager);
+
+    // when, then
+    assertThatThrownBy(() -> ShardContext.call(SHARD, () -> writeTemplate.execute(status ->
+        jdbcTemplate.update("INSERT INTO " + ShardingProperties.CATALOG_SCHEMA_NAME
+            + ".car_models (cm_name) VALUES ('샤드에서 등록')"))))
+        .isInstanceOf(DataAccessException.class);
+    assertThat(ShardContext.call(SHARD, () -> writeTemplate.execute(status ->
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM car_models", Integer.class)))).isNotNull();
+  }
+
+  // 애플리케이션 풀을 거치지 않고 DB 파일을 직접 조회
+  private static int count(String file, String sql, Object parameter) throws SQLException {
+    try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + directory.resolve(file));
+        PreparedStatement statement = connection.prepareStatement(sql)) {
+      statement.setObject(1, parameter);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        resultSet.next();
+        return resultSet.getInt(1);
+      }
+    }
+  }
+}
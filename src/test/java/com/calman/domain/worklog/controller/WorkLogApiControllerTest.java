@@ -2,33 +2,63 @@ package com.calman.domain.worklog.controller;
 
 import com.calman.domain.worklog.dto.WorkLogDTO;
 import com.calman.domain.worklog.service.WorkLogService;
+import com.calman.global.config.CacheConfig;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 /**
  * 작업 로그 API 컨트롤러 테스트
+ * - 목록 응답 바이트 캐시(WorkLogResponseCache)는 실제 빈으로 사용해 gzip/원본 응답과 304 까지 확인
  */
 @WebMvcTest(controllers = WorkLogApiController.class)
+@Import({WorkLogResponseCache.class, CacheConfig.class})
 public class WorkLogApiControllerTest {
 
+  private static final LocalDate DAY = LocalDate.of(2025, 3, 20);
+
+  @TestConfiguration
+  static class MetricsConfig {
+
+    @Bean
+    MeterRegistry meterRegistry() {
+      return new SimpleMeterRegistry();
+    }
+  }
+
   @Autowired
   private MockMvc mockMvc;
 
@@ -43,9 +73,9 @@ public class WorkLogApiControllerTest {
   public void testCreateWorkLog() throws Exception {
     // given
     WorkLogDTO.CreateRequest request = new WorkLogDTO.CreateRequest();
-    request.setWorkDatetime(LocalDateTime.now());
+    request.setWorkDatetime("25.03.20 09:00");
     request.setCarModel("Test Model");
-    request.setMaterialCode("T-1000");
+    request.setProductCode("T-1000");
     request.setQuantity(10);
 
     given(workLogService.createWorkLog(any(WorkLogDTO.CreateRequest.class))).willReturn(1L);
@@ -60,6 +90,31 @@ public class WorkLogApiControllerTest {
     verify(workLogService).createWorkLog(any(WorkLogDTO.CreateRequest.class));
   }
 
+  @Test
+  @DisplayName("작업 로그 일괄 생성 API 테스트 (null 항목이 있으면 400)")
+  public void testCreateWorkLogs() throws Exception {
+    // given
+    String body = "{\"workDatetime\": \"25.03.20 09:00\", \"carModel\": \"Test Model\", \"quantity\": 10}";
+    given(workLogService.createWorkLogs(argThat(requests -> requests != null && !requests.contains(null))))
+        .willReturn(List.of(10L, 11L));
+    given(workLogService.createWorkLogs(argThat(requests -> requests != null && requests.contains(null))))
+        .willThrow(new IllegalArgumentException("생성 요청 목록의 2번째 항목이 비어 있습니다."));
+
+    // when & then
+    mockMvc.perform(post("/api/worklogs/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("[" + body + ", " + body + "]"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.ids[1]").value(11))
+        .andExpect(jsonPath("$.affectedCount").value(2));
+    mockMvc.perform(post("/api/worklogs/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("[" + body + ", null]"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.success").value(false))
+        .andExpect(jsonPath("$.message", containsString("2번째")));
+  }
+
   @Test
   @DisplayName("ID로 작업 로그 조회 API 테스트")
   public void testGetWorkLogById() throws Exception {
@@ -68,7 +123,7 @@ public class WorkLogApiControllerTest {
     WorkLogDTO.DetailResponse mockResponse = new WorkLogDTO.DetailResponse();
     mockResponse.setId(id);
     mockResponse.setCarModel("Test Model");
-    mockResponse.setMaterialCode("T-1000");
+    mockResponse.setProductCode("T-1000");
     mockResponse.setQuantity(10);
 
     given(workLogService.getWorkLogDetailById(id)).willReturn(mockResponse);
@@ -78,7 +133,7 @@ public class WorkLogApiControllerTest {
         .andExpect(status().isOk())
         .andExpect(jsonPath("$.id").value(id))
         .andExpect(jsonPath("$.carModel").value("Test Model"))
-        .andExpect(jsonPath("$.materialCode").value("T-1000"));
+        .andExpect(jsonPath("$.productCode").value("T-1000"));
 
     verify(workLogService).getWorkLogDetailById(id);
   }
@@ -107,47 +162,71 @@ public class WorkLogApiControllerTest {
     Map<String, Object> responseMap = new HashMap<>();
     responseMap.put("workLogs", mockWorkLogs);
     responseMap.put("totalCount", 2);
-    responseMap.put("totalPages", 1);
-    responseMap.put("currentPage", 1);
 
-    given(workLogService.getWorkLogs(
-        anyString(), anyString(), anyString(),
-        any(), any(), anyInt(), anyInt(),
-        anyString(), anyString()))
+    given(workLogService.getWorkLogsETag(any(), any(), any(), any(), any(), any(), anyString()))
+        .willReturn("1-1-a");
+    given(workLogService.getWorkLogs(any(), any(), any(), any(), any(), any(), anyString()))
         .willReturn(responseMap);
 
-    // when & then - 응답 구조 출력
-    String contentAsString = mockMvc.perform(get("/api/worklogs")
-            .param("page", "1")
-            .param("size", "10"))
+    // when & then
+    mockMvc.perform(get("/api/worklogs"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"1-1-a\""))
+        .andExpect(jsonPath("$.workLogs").isArray())
+        .andExpect(jsonPath("$.workLogs[0].carModel").value("Model A"))
+        .andExpect(jsonPath("$.totalCount").value(2));
+  }
+
+  @Test
+  @DisplayName("목록은 Accept-Encoding 에 따라 gzip/원본 바이트로 응답하고, gzip 응답의 ETag 는 -gz 로 구분")
+  public void testGetWorkLogsByDateContentCoding() throws Exception {
+    // given
+    givenDayList("2-5-d", 200);
+
+    // when
+    MvcResult gzip = mockMvc.perform(get("/api/worklogs/date/{date}", DAY)
+            .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
         .andExpect(status().isOk())
-        .andReturn()
-        .getResponse()
-        .getContentAsString();
-
-    System.out.println("Actual API Response: " + contentAsString);
-
-    // 실제 응답 구조에 맞게 검증
-    // 응답이 빈 객체({}), 빈 배열([]) 또는 다른 구조일 수 있으므로
-    // 문자열 길이만 확인하는 기본 테스트로 시작
-    mockMvc.perform(get("/api/worklogs")
-            .param("page", "1")
-            .param("size", "10"))
+        .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+        .andExpect(header().string(HttpHeaders.ETAG, "\"2-5-d-gz\""))
+        .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT_ENCODING)))
+        .andReturn();
+    MvcResult identity = mockMvc.perform(get("/api/worklogs/date/{date}", DAY))
         .andExpect(status().isOk())
-        .andExpect(content().json("{}"));  // 응답이 빈 객체인 경우
+        .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+        .andExpect(header().string(HttpHeaders.ETAG, "\"2-5-d\""))
+        .andExpect(jsonPath("$.totalCount").value(200))
+        .andReturn();
+
+    // then - 압축을 풀면 원본과 같은 바이트, 같은 ETag 의 목록은 한 번만 조회
+    assertThat(gunzip(gzip.getResponse().getContentAsByteArray()))
+        .isEqualTo(identity.getResponse().getContentAsByteArray());
+    verify(workLogService).getWorkLogsByExactDate(eq(DAY), any(), any(), anyString());
+  }
+
+  @Test
+  @DisplayName("If-None-Match 가 요청 표현의 ETag 와 같으면 목록을 조회하지 않고 304, 다른 표현의 ETag 면 200")
+  public void testGetWorkLogsByDateNotModified() throws Exception {
+    // given
+    givenDayList("2-5-d", 200);
 
-    // 참고: 실제 응답 구조를 확인한 후 아래 주석된 테스트를
-    // 적절히 수정하여 사용할 수 있습니다.
-    /*
-    mockMvc.perform(get("/api/worklogs")
-            .param("page", "1")
-            .param("size", "10"))
-            .andExpect(status().isOk())
-            .andExpect(jsonPath("$.workLogs").isArray())
-            .andExpect(jsonPath("$.totalCount").value(2))
-            .andExpect(jsonPath("$.totalPages").value(1))
-            .andExpect(jsonPath("$.currentPage").value(1));
-    */
+    // when & then
+    mockMvc.perform(get("/api/worklogs/date/{date}", DAY)
+            .header(HttpHeaders.IF_NONE_MATCH, "\"2-5-d\""))
+        .andExpect(status().isNotModified())
+        .andExpect(content().string(""));
+    mockMvc.perform(get("/api/worklogs/date/{date}", DAY)
+            .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+            .header(HttpHeaders.IF_NONE_MATCH, "\"2-5-d-gz\""))
+        .andExpect(status().isNotModified());
+    verify(workLogService, never()).getWorkLogsByExactDate(any(LocalDate.class), any(), any(), any());
+
+    // 원본 ETag 로 gzip 을 요청하면 다른 표현이므로 본문 응답
+    mockMvc.perform(get("/api/worklogs/date/{date}", DAY)
+            .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+            .header(HttpHeaders.IF_NONE_MATCH, "\"2-5-d\""))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
   }
 
   @Test
@@ -158,31 +237,138 @@ public class WorkLogApiControllerTest {
     WorkLogDTO.UpdateRequest request = new WorkLogDTO.UpdateRequest();
     request.setCarModel("Updated Model");
     request.setQuantity(20);
+    request.setVersion(1);
 
-    given(workLogService.updateWorkLog(eq(id), any(WorkLogDTO.UpdateRequest.class))).willReturn(true);
+    WorkLogDTO updated = createMockWorkLog(id, "Updated Model", 20);
+    updated.setVersion(2);
+    given(workLogService.updateWorkLog(eq(id), any(WorkLogDTO.UpdateRequest.class))).willReturn(updated);
 
-    // when & then
+    // when & then - 변경된 작업 로그를 함께 응답
     mockMvc.perform(put("/api/worklogs/{id}", id)
             .contentType(MediaType.APPLICATION_JSON)
             .content(objectMapper.writeValueAsString(request)))
-        .andExpect(status().isNoContent());
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.success").value(true))
+        .andExpect(jsonPath("$.workLog.carModel").value("Updated Model"))
+        .andExpect(jsonPath("$.workLog.quantity").value(20))
+        .andExpect(jsonPath("$.workLog.version").value(2));
   }
 
   @Test
-  @DisplayName("존재하지 않는 작업 로그 업데이트 시 404 응답 테스트")
+  @DisplayName("존재하지 않는 작업 로그 업데이트 시 실패 응답 테스트")
   public void testUpdateNonExistingWorkLog() throws Exception {
     // given
     Long id = 999L;
     WorkLogDTO.UpdateRequest request = new WorkLogDTO.UpdateRequest();
     request.setCarModel("Updated Model");
 
-    given(workLogService.updateWorkLog(eq(id), any(WorkLogDTO.UpdateRequest.class))).willReturn(false);
+    given(workLogService.updateWorkLog(eq(id), any(WorkLogDTO.UpdateRequest.class))).willReturn(null);
 
     // when & then
     mockMvc.perform(put("/api/worklogs/{id}", id)
             .contentType(MediaType.APPLICATION_JSON)
             .content(objectMapper.writeValueAsString(request)))
-        .andExpect(status().isNotFound());
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.success").value(false));
+  }
+
+  @Test
+  @DisplayName("다른 사용자가 먼저 수정한 작업 로그 업데이트/상태 변경 시 409 응답 테스트")
+  public void testUpdateWorkLogVersionConflict() throws Exception {
+    // given
+    Long id = 1L;
+    WorkLogDTO.UpdateRequest request = new WorkLogDTO.UpdateRequest();
+    request.setQuantity(20);
+    request.setVersion(1);
+
+    given(workLogService.updateWorkLog(eq(id), any(WorkLogDTO.UpdateRequest.class)))
+        .willThrow(new OptimisticLockingFailureException("version conflict"));
+    given(workLogService.updateWorkLogCompletionStatus(id, true, 1))
+        .willThrow(new OptimisticLockingFailureException("version conflict"));
+
+    // when & then
+    mockMvc.perform(put("/api/worklogs/{id}", id)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isConflict())
+        .andExpect(jsonPath("$.success").value(false));
+    mockMvc.perform(put("/api/worklogs/{id}/status", id)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"completed\": true, \"version\": 1}"))
+        .andExpect(status().isConflict());
+  }
+
+  @Test
+  @DisplayName("작업 로그 상태 업데이트 API 테스트")
+  public void testUpdateWorkLogStatus() throws Exception {
+    // given
+    Long id = 1L;
+    WorkLogDTO updated = createMockWorkLog(id, "Model A", 5);
+    updated.setCompletedAt(LocalDateTime.now());
+    updated.setVersion(3);
+    given(workLogService.updateWorkLogCompletionStatus(id, true, 2)).willReturn(updated);
+
+    // when & then
+    mockMvc.perform(put("/api/worklogs/{id}/status", id)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"completed\": true, \"version\": 2}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.success").value(true))
+        .andExpect(jsonPath("$.workLog.version").value(3));
+  }
+
+  @Test
+  @DisplayName("작업 로그 부분 수정 API 테스트 (merge patch, 대상이 없으면 404)")
+  public void testPatchWorkLog() throws Exception {
+    // given
+    Long id = 1L;
+    WorkLogDTO patched = createMockWorkLog(id, "Model A", 7);
+    patched.setVersion(3);
+    given(workLogService.patchWorkLog(id, Map.of("quantity", 7, "version", 2))).willReturn(patched);
+    given(workLogService.patchWorkLog(eq(999L), anyMap())).willReturn(null);
+
+    // when & then
+    mockMvc.perform(patch("/api/worklogs/{id}", id)
+            .contentType("application/merge-patch+json")
+            .content("{\"quantity\": 7, \"version\": 2}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.success").value(true))
+        .andExpect(jsonPath("$.workLog.quantity").value(7))
+        .andExpect(jsonPath("$.workLog.version").value(3));
+    mockMvc.perform(patch("/api/worklogs/{id}", 999L)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"quantity\": 7}"))
+        .andExpect(status().isNotFound())
+        .andExpect(jsonPath("$.success").value(false));
+  }
+
+  @Test
+  @DisplayName("부분 수정의 잘못된 필드/타입은 400, 버전 충돌은 409 응답 테스트")
+  public void testPatchWorkLogRejected() throws Exception {
+    // given
+    Long id = 1L;
+    given(workLogService.patchWorkLog(id, Map.of("materialCode", "M-1")))
+        .willThrow(new IllegalArgumentException("수정할 수 없는 필드입니다: materialCode"));
+    given(workLogService.patchWorkLog(id, Map.of("completed", "yes")))
+        .willThrow(new IllegalArgumentException("completed 는 true 또는 false 여야 합니다."));
+    given(workLogService.patchWorkLog(id, Map.of("quantity", 7, "version", 1)))
+        .willThrow(new OptimisticLockingFailureException("version conflict"));
+
+    // when & then
+    mockMvc.perform(patch("/api/worklogs/{id}", id)
+            .contentType("application/merge-patch+json")
+            .content("{\"materialCode\": \"M-1\"}"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.success").value(false));
+    mockMvc.perform(patch("/api/worklogs/{id}", id)
+            .contentType("application/merge-patch+json")
+            .content("{\"completed\": \"yes\"}"))
+        .andExpect(status().isBadRequest());
+    mockMvc.perform(patch("/api/worklogs/{id}", id)
+            .contentType("application/merge-patch+json")
+            .content("{\"quantity\": 7, \"version\": 1}"))
+        .andExpect(status().isConflict())
+        .andExpect(jsonPath("$.success").value(false));
   }
 
   @Test
@@ -194,7 +380,70 @@ public class WorkLogApiControllerTest {
 
     // when & then
     mockMvc.perform(delete("/api/worklogs/{id}", id))
-        .andExpect(status().isNoContent());
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.success").value(true));
+  }
+
+  @Test
+  @DisplayName("ID 목록으로 일괄 상태 변경 API 테스트 (변경된 ID 목록과 건수 응답)")
+  public void testUpdateWorkLogsStatus() throws Exception {
+    // given
+    given(workLogService.updateWorkLogsCompletionStatus(argThat(request -> request != null
+        && List.of(1L, 2L, 3L).equals(request.getIds()) && request.isCompleted())))
+        .willReturn(List.of(1L, 3L));
+
+    // when & then
+    mockMvc.perform(put("/api/worklogs/bulk/status")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"ids\": [1, 2, 3], \"completed\": true}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.success").value(true))
+        .andExpect(jsonPath("$.affectedIds[0]").value(1))
+        .andExpect(jsonPath("$.affectedIds[1]").value(3))
+        .andExpect(jsonPath("$.affectedCount").value(2))
+        .andExpect(jsonPath("$.message", containsString("완료")));
+  }
+
+  @Test
+  @DisplayName("필터 조건으로 일괄 삭제 API 테스트 (대상 조건이 없으면 400)")
+  public void testDeleteWorkLogs() throws Exception {
+    // given
+    given(workLogService.deleteWorkLogs(argThat(request -> request != null && request.getIds() == null
+        && DAY.equals(request.getDate()) && "Model A".equals(request.getCarModel())
+        && "completed".equals(request.getStatus()))))
+        .willReturn(List.of(4L, 5L));
+    given(workLogService.deleteWorkLogs(argThat(request -> request != null && !request.hasIds()
+        && !request.hasFilter())))
+        .willThrow(new IllegalArgumentException("대상 ID 목록 또는 필터 조건이 필요합니다."));
+
+    // when & then
+    mockMvc.perform(post("/api/worklogs/bulk/delete")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"date\": \"2025-03-20\", \"carModel\": \"Model A\", \"status\": \"completed\"}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.affectedIds[1]").value(5))
+        .andExpect(jsonPath("$.affectedCount").value(2));
+    mockMvc.perform(post("/api/worklogs/bulk/delete")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{}"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.success").value(false));
+  }
+
+  @Test
+  @DisplayName("알 수 없는 상태 필터의 일괄 삭제는 400 응답")
+  public void testDeleteWorkLogsWithUnknownStatus() throws Exception {
+    // given
+    given(workLogService.deleteWorkLogs(argThat(request -> request != null && "bogus".equals(request.getStatus()))))
+        .willThrow(new IllegalArgumentException("상태는 'completed' 또는 'incomplete' 만 사용할 수 있습니다: bogus"));
+
+    // when & then
+    mockMvc.perform(post("/api/worklogs/bulk/delete")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"status\": \"bogus\"}"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.success").value(false))
+        .andExpect(jsonPath("$.affectedIds").doesNotExist());
   }
 
   @Test
@@ -223,8 +472,28 @@ public class WorkLogApiControllerTest {
     workLog.setId(id);
     workLog.setWorkDatetime(LocalDateTime.now());
     workLog.setCarModel(carModel);
-    workLog.setMaterialCode("M-" + id);
-    workLog.setQuantity(10);
+    workLog.setProductCode("M-" + id);
+    workLog.setQuantity(quantity);
     return workLog;
   }
+
+  // 하루 목록 ETag 와 목록 (gzip 압축 대상이 되도록 충분한 행 수)
+  private void givenDayList(String eTag, int rows) {
+    List<Map<String, Object>> workLogs = new ArrayList<>();
+    for (int i = 0; i < rows; i++) {
+      workLogs.add(Map.of("id", i, "carModel", "ON 조립", "workDatetime", "2025-03-20 09:00:00"));
+    }
+    Map<String, Object> responseMap = new HashMap<>();
+    responseMap.put("workLogs", workLogs);
+    responseMap.put("totalCount", workLogs.size());
+
+    given(workLogService.getWorkLogsByExactDateETag(eq(DAY), any(), any(), anyString())).willReturn(eTag);
+    given(workLogService.getWorkLogsByExactDate(eq(DAY), any(), any(), anyString())).willReturn(responseMap);
+  }
+
+  private static byte[] gunzip(byte[] bytes) throws IOException {
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+      return in.readAllBytes();
+    }
+  }
 }
\ No newline at end of file
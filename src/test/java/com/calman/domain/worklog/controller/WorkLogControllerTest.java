@@ -152,7 +152,8 @@ public class WorkLogControllerTest {
   public void testUpdateWorkLog() throws Exception {
     // given
     Long id = 1L;
-    given(workLogService.updateWorkLog(eq(id), any(WorkLogDTO.UpdateRequest.class))).willReturn(true);
+    WorkLogDTO updated = createMockWorkLog(id, "Updated Model", "completed");
+    given(workLogService.updateWorkLog(eq(id), any(WorkLogDTO.UpdateRequest.class))).willReturn(updated);
 
     // when & then
     mockMvc.perform(post("/worklogs/{id}", id)
@@ -0,0 +1,97 @@
+package com.calman.domain.worklog.controller;
+
+import com.calman.global.config.WorkLogCacheProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 응답 바이트 캐시 테스트 (ETag 별 재사용, Accept-Encoding 에 맞는 본문/헤더)
+ */
+public class WorkLogResponseCacheTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final WorkLogResponseCache cache =
+      new WorkLogResponseCache(new WorkLogCacheProperties(), objectMapper, new SimpleMeterRegistry());
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @Test
+  @DisplayName("같은 요청/ETag 는 한 번만 조회/직렬화하고, ETag 가 바뀌면 다시 조회")
+  public void testReuseByETag() {
+    // when
+    ResponseEntity<byte[]> first = cache.respond("1-1-a", request(null), this::load);
+    ResponseEntity<byte[]> second = cache.respond("1-1-a", request(null), this::load);
+    cache.respond("1-2-a", request(null), this::load);
+
+    // then
+    assertThat(second.getBody()).isSameAs(first.getBody());
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("gzip 을 받을 수 있으면 압축된 본문과 Content-Encoding/Content-Length, 원본과 다른 ETag 로 응답")
+  public void testGzipVariant() throws IOException {
+    // when
+    ResponseEntity<byte[]> plain = cache.respond("1-1-a", request(null), this::load);
+    ResponseEntity<byte[]> gzip = cache.respond("1-1-a", request("gzip, deflate, br"), this::load);
+
+    // then
+    assertThat(plain.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+    assertThat(plain.getHeaders().getContentLength()).isEqualTo(plain.getBody().length);
+    assertThat(gzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+    assertThat(gzip.getHeaders().getContentLength()).isEqualTo(gzip.getBody().length);
+    assertThat(plain.getHeaders().getETag()).isEqualTo("\"1-1-a\"");
+    assertThat(gzip.getHeaders().getETag()).isEqualTo("\"1-1-a-gz\"");
+    assertThat(gzip.getBody().length).isLessThan(plain.getBody().length);
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip.getBody()))) {
+      assertThat(in.readAllBytes()).isEqualTo(plain.getBody());
+    }
+    assertThat(objectMapper.readTree(plain.getBody()).get("totalCount").asInt()).isEqualTo(200);
+  }
+
+  @Test
+  @DisplayName("Accept-Encoding 의 gzip 은 q=0 이면 사용하지 않음")
+  public void testAcceptsGzip() {
+    assertThat(WorkLogResponseCache.acceptsGzip("gzip")).isTrue();
+    assertThat(WorkLogResponseCache.acceptsGzip("br;q=1.0, GZIP;q=0.5")).isTrue();
+    assertThat(WorkLogResponseCache.acceptsGzip("gzip;q=0")).isFalse();
+    assertThat(WorkLogResponseCache.acceptsGzip("deflate, br")).isFalse();
+    assertThat(WorkLogResponseCache.acceptsGzip(null)).isFalse();
+  }
+
+  private Map<String, Object> load() {
+    loads.incrementAndGet();
+    List<Map<String, Object>> workLogs = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      workLogs.add(Map.of("id", i, "carModel", "ON 조립", "workDatetime", "2025-03-20 09:00:00"));
+    }
+    Map<String, Object> result = new HashMap<>();
+    result.put("workLogs", workLogs);
+    result.put("totalCount", workLogs.size());
+    return result;
+  }
+
+  private static MockHttpServletRequest request(String acceptEncoding) {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/worklogs/date/2025-03-20");
+    request.setQueryString("sortDirection=ASC");
+    if (acceptEncoding != null) {
+      request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+    }
+    return request;
+  }
+}
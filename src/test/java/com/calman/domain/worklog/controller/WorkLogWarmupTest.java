@@ -0,0 +1,111 @@
+package com.calman.domain.worklog.controller;
+
+import com.calman.domain.worklog.dto.WorkLogDTO;
+import com.calman.domain.worklog.dto.WorkLogQuery;
+import com.calman.domain.worklog.mapper.WorkLogMapper;
+import com.calman.domain.worklog.service.WorkLogService;
+import com.calman.domain.worklog.service.WorkLogShardRouter;
+import com.calman.global.config.WarmupProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 기동 준비 테스트 (단계 실행 순서, 최근 날짜 조회, 시간 제한, 첫 요청 응답 시간 기록)
+ */
+public class WorkLogWarmupTest {
+
+  private final WarmupProperties properties = new WarmupProperties();
+  private final WorkLogService workLogService = mock(WorkLogService.class);
+  private final WorkLogMapper workLogMapper = mock(WorkLogMapper.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final FirstRequestTimer timer = new FirstRequestTimer();
+  private final WorkLogWarmup warmup = new WorkLogWarmup(properties, workLogService, workLogMapper,
+      mock(WorkLogShardRouter.class), new ObjectMapper().findAndRegisterModules(),
+      mock(PlatformTransactionManager.class), timer, meterRegistry, "/");
+
+  @Test
+  @DisplayName("최근 날짜의 상태별 목록과 첫 작업 로그 상세를 조회하고, 서버가 없으면 http 단계 생략")
+  public void testWarmUp() {
+    // given
+    WorkLogDTO.ListResponse row = new WorkLogDTO.ListResponse();
+    row.setId(7L);
+    when(workLogService.getWorkLogsByExactDate(any(LocalDate.class), any(), isNull(), eq("ASC")))
+        .thenReturn(Map.of("workLogs", List.of(row), "totalCount", 1));
+
+    // when
+    Map<String, Long> elapsed = warmup.warmUp(-1);
+
+    // then
+    assertThat(elapsed).containsOnlyKeys("indexes", "queries", "serialize");
+    verify(workLogMapper).selectWorkLogFingerprint(any(WorkLogQuery.class));
+    verify(workLogService, times(properties.getDays() * 3))
+        .getWorkLogsByExactDate(any(LocalDate.class), any(), isNull(), eq("ASC"));
+    verify(workLogService).getWorkLogsByExactDate(LocalDate.now().minusDays(properties.getDays() - 1),
+        WorkLogQuery.STATUS_INCOMPLETE, null, "ASC");
+    verify(workLogService).getWorkLogDetailById(7L);
+    assertThat(meterRegistry.get("worklog.warmup").tag("step", "queries").timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("시간 제한이 지나면 남은 단계는 실행하지 않음")
+  public void testTimeBudget() {
+    // given
+    properties.setTimeBudget(Duration.ZERO);
+
+    // when
+    Map<String, Long> elapsed = warmup.warmUp(8080);
+
+    // then
+    assertThat(elapsed).isEmpty();
+    verifyNoInteractions(workLogService, workLogMapper);
+  }
+
+  @Test
+  @DisplayName("기동 준비 요청과 헬스 체크를 제외한 첫 요청만 기록")
+  public void testFirstRequestTimer() throws ServletException, IOException {
+    // given
+    MockHttpServletRequest warmupRequest = new MockHttpServletRequest("GET", "/worklogs/date/2025-03-20");
+    warmupRequest.addHeader(FirstRequestTimer.WARMUP_HEADER, "true");
+    MockHttpServletRequest health = new MockHttpServletRequest("GET", "/actuator/health/readiness");
+
+    // when
+    timer.doFilter(warmupRequest, new MockHttpServletResponse(), new MockFilterChain());
+    timer.doFilter(health, new MockHttpServletResponse(), new MockFilterChain());
+
+    // then
+    assertThat(timer.getFirstRequestMillis()).isEqualTo(-1);
+    assertThat(meterRegistry.get("worklog.warmup.first.request").gauge().value()).isEqualTo(-1);
+
+    // when
+    timer.doFilter(new MockHttpServletRequest("GET", "/api/worklogs"), new MockHttpServletResponse(),
+        new MockFilterChain());
+
+    // then
+    assertThat(timer.getFirstRequestMillis()).isGreaterThanOrEqualTo(0);
+    assertThat(meterRegistry.get("worklog.warmup.first.request").gauge().value())
+        .isEqualTo(timer.getFirstRequestMillis());
+  }
+}
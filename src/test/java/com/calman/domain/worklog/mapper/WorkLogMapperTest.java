@@ -1,6 +1,7 @@
 package com.calman.domain.worklog.mapper;
 
 import com.calman.domain.worklog.dto.WorkLogDTO;
+import com.calman.domain.worklog.dto.WorkLogQuery;
 import com.calman.global.config.TestSQLiteConfig;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -46,20 +47,17 @@ public class WorkLogMapperTest {
 
   @Test
   @DisplayName("작업 로그 목록 조회 테스트")
-  public void testSelectWorkLogs() {
+  public void testSelectWorkLogList() {
     // given
-    Map<String, Object> params = new HashMap<>();
-    params.put("pageNumber", 1);
-    params.put("pageSize", 10);
+    WorkLogQuery query = WorkLogQuery.of(null, null, null, null, null, null, null, false);
 
     // when
-    List<WorkLogDTO> workLogs = workLogMapper.selectWorkLogs(params);
-    int count = workLogMapper.countWorkLogs(params);
+    List<WorkLogDTO.ListResponse> rows = workLogMapper.selectWorkLogList(query);
 
     // then
-    assertThat(workLogs).isNotNull();
-    assertThat(workLogs).hasSizeGreaterThanOrEqualTo(1);
-    assertThat(count).isGreaterThanOrEqualTo(1);
+    assertThat(rows).isNotNull();
+    assertThat(rows).hasSizeGreaterThanOrEqualTo(1);
+    assertThat(rows).extracting(WorkLogDTO.ListResponse::getId).doesNotContainNull();
   }
 
   @Test
@@ -69,7 +67,7 @@ public class WorkLogMapperTest {
     String carModel = "Model S";
 
     // when
-    List<WorkLogDTO> workLogs = workLogMapper.selectWorkLogsByCarModel(carModel);
+    List<WorkLogDTO> workLogs = workLogMapper.selectWorkLogsByCarModel(carModel, false);
 
     // then
     assertThat(workLogs).isNotNull();
@@ -85,7 +83,7 @@ public class WorkLogMapperTest {
     LocalDateTime endDate = LocalDateTime.of(2024, 3, 31, 23, 59);
 
     // when
-    List<WorkLogDTO> workLogs = workLogMapper.selectWorkLogsByDateRange(startDate, endDate);
+    List<WorkLogDTO> workLogs = workLogMapper.selectWorkLogsByDateRange(startDate, endDate, false);
 
     // then
     assertThat(workLogs).isNotNull();
@@ -126,17 +124,37 @@ public class WorkLogMapperTest {
     WorkLogDTO workLog = workLogMapper.selectWorkLogById(id);
     assertThat(workLog).isNotNull();
 
+    Integer version = workLog.getVersion();
     workLog.setQuantity(15);
-    workLog.setCarModel("Updated Model");
 
-    // when
-    int result = workLogMapper.updateWorkLog(workLog);
+    // when - 변경된 행을 RETURNING 으로 받음
+    WorkLogDTO result = workLogMapper.updateWorkLog(workLog);
     WorkLogDTO updated = workLogMapper.selectWorkLogById(id);
 
     // then
-    assertThat(result).isEqualTo(1);
+    assertThat(result).isNotNull();
+    assertThat(result.getQuantity()).isEqualTo(15);
+    assertThat(result.getVersion()).isEqualTo(version + 1);
     assertThat(updated.getQuantity()).isEqualTo(15);
-    assertThat(updated.getCarModel()).isEqualTo("Updated Model");
+  }
+
+  @Test
+  @DisplayName("버전이 다르면 작업 로그를 업데이트하지 않음")
+  public void testUpdateWorkLogVersionMismatch() {
+    // given
+    Long id = 2L; // 기존 테스트 데이터 ID
+    WorkLogDTO workLog = workLogMapper.selectWorkLogById(id);
+    assertThat(workLog).isNotNull();
+    Integer version = workLog.getVersion();
+    workLog.setQuantity(99);
+    workLog.setVersion(version + 1);
+
+    // when
+    WorkLogDTO result = workLogMapper.updateWorkLog(workLog);
+
+    // then - 변경된 행이 없고 현재 버전은 그대로
+    assertThat(result).isNull();
+    assertThat(workLogMapper.selectWorkLogVersion(id)).isEqualTo(version);
   }
 
   @Test
@@ -155,4 +173,21 @@ public class WorkLogMapperTest {
     assertThat(result).isEqualTo(1);
     assertThat(deleted).isNull(); // 실제 삭제 확인
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("일괄 삭제 조건의 알 수 없는 상태는 아무 행도 삭제하지 않음")
+  public void testDeleteWorkLogsWithUnknownStatus() {
+    // given
+    Map<String, Object> params = new HashMap<>();
+    params.put("status", "bogus");
+    WorkLogQuery all = WorkLogQuery.of(null, null, null, null, null, null, null, false);
+    int before = workLogMapper.selectWorkLogList(all).size();
+
+    // when
+    List<Long> deletedIds = workLogMapper.deleteWorkLogs(params);
+
+    // then
+    assertThat(deletedIds).isEmpty();
+    assertThat(workLogMapper.selectWorkLogList(all)).hasSize(before);
+  }
+}
@@ -0,0 +1,130 @@
+package com.calman.domain.worklog.service;
+
+import com.calman.DateTimeUtils;
+import com.calman.domain.worklog.dto.WorkLogDTO;
+import com.calman.domain.worklog.dto.WorkLogQuery;
+import com.calman.domain.worklog.mapper.WorkLogMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 작업 로그 아카이브 통합 테스트 (임시 파일 기본 DB + 아카이브 DB)
+ * - 보존 기간이 지난 완료 작업 로그만 아카이브로 이동
+ * - 이동 후 목록/ID/날짜 조회는 아카이브 구간에 걸치면, 차종/제품/상태별 조회는 아카이브가 있으면 함께 조회
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class WorkLogArchiveServiceTest {
+
+  private static final LocalDate DAY = LocalDate.of(2025, 3, 20);
+  private static final String CAR_MODEL = "아카이브 조립";
+
+  @TempDir
+  static Path directory;
+
+  @DynamicPropertySource
+  static void archiveProperties(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + directory.resolve("main.sqlite"));
+    registry.add("spring.sql.init.schema-locations", () -> "classpath:schema/worklogs.sql");
+    registry.add("spring.sql.init.data-locations", () -> "optional:classpath:data/none.sql");
+    registry.add("calman.archive.enabled", () -> "true");
+    registry.add("calman.archive.path", () -> directory.resolve("archive.sqlite").toString());
+    registry.add("calman.archive.retention", () -> "30d");
+  }
+
+  @Autowired
+  private WorkLogArchiveService archiveService;
+
+  @Autowired
+  private WorkLogService workLogService;
+
+  @Autowired
+  private WorkLogMapper workLogMapper;
+
+  @Test
+  @DisplayName("보존 기간이 지난 완료 작업 로그를 이동하고, 그 날짜 목록은 아카이브를 포함해 조회")
+  public void testArchiveDay() {
+    // given - 지난 날짜의 완료/미완료 작업 로그와 오늘 완료한 작업 로그
+    Long archivedId = create("25.03.20 09:00", "ARC-1");
+    Long incompleteId = create("25.03.20 10:00", "ARC-2");
+    Long todayId = create(DateTimeUtils.formatForDisplay(LocalDate.now().atTime(0, 1)), "ARC-3");
+    workLogService.updateWorkLogCompletionStatus(archivedId, true);
+    workLogService.updateWorkLogCompletionStatus(todayId, true);
+
+    // 이동 전에 목록 캐시를 채워 둠 (이동 후 무효화 확인)
+    assertThat(ids(workLogService.getWorkLogsByExactDate(DAY))).containsExactly(archivedId, incompleteId);
+    assertThat(archiveService.reachesArchive(DAY.atStartOfDay())).isFalse();
+
+    // when
+    int moved = archiveService.archiveCompletedWorkLogs();
+
+    // then - 지난 날짜의 완료 작업 로그만 이동
+    assertThat(moved).isEqualTo(1);
+    assertThat(workLogMapper.selectWorkLogById(archivedId)).isNull();
+    assertThat(workLogMapper.selectArchivedWorkLogById(archivedId)).isNotNull();
+
+    // then - 아카이브 구간에 걸치는 조회 (includeArchive) 는 이동한 작업 로그도 포함
+    LocalDateTime[] range = DateTimeUtils.getDateTimeRange(DAY);
+    assertThat(archiveService.reachesArchive(range[0])).isTrue();
+    assertThat(ids(workLogService.getWorkLogsByExactDate(DAY))).containsExactly(archivedId, incompleteId);
+    assertThat(ids(workLogService.getWorkLogs(null, null, WorkLogQuery.STATUS_COMPLETED, null, null, null, null)))
+        .containsExactly(archivedId, todayId);
+    assertThat(workLogService.getWorkLogById(archivedId).getProductCode()).isEqualTo("ARC-1");
+
+    // then - 기간 조건이 없는 차종/제품/상태별 조회도 아카이브를 함께 조회
+    assertThat(workLogService.getWorkLogsByStatus(WorkLogQuery.STATUS_COMPLETED))
+        .extracting(WorkLogDTO::getId).containsExactly(archivedId, todayId);
+    assertThat(workLogService.getWorkLogsByCarModel(CAR_MODEL))
+        .extracting(WorkLogDTO::getId).containsExactly(archivedId, incompleteId, todayId);
+    assertThat(workLogService.getWorkLogsByProductCode("ARC-1"))
+        .extracting(WorkLogDTO::getId).containsExactly(archivedId);
+    assertThat(workLogMapper.selectWorkLogsByExactDate(DAY, true))
+        .extracting(WorkLogDTO::getId).containsExactly(archivedId, incompleteId);
+
+    // then - 아카이브를 제외한 같은 조회는 원본 테이블의 작업 로그만
+    assertThat(workLogMapper.selectWorkLogList(WorkLogQuery.of(null, null, null, range[0], range[1],
+        null, null, false))).extracting(WorkLogDTO.ListResponse::getId).containsExactly(incompleteId);
+    assertThat(workLogMapper.selectWorkLogsByExactDate(DAY, false))
+        .extracting(WorkLogDTO::getId).containsExactly(incompleteId);
+    assertThat(workLogMapper.selectWorkLogsByStatus(WorkLogQuery.STATUS_COMPLETED, false))
+        .extracting(WorkLogDTO::getId).containsExactly(todayId);
+
+    // then - 아카이브 구간 이후만 조회하면 아카이브를 조회하지 않음
+    LocalDateTime[] today = DateTimeUtils.getDateTimeRange(LocalDate.now());
+    assertThat(archiveService.reachesArchive(today[0])).isFalse();
+    assertThat(ids(workLogService.getWorkLogs(null, null, null, today[0], today[1], null, null)))
+        .containsExactly(todayId);
+  }
+
+  private Long create(String workDatetime, String productCode) {
+    WorkLogDTO.CreateRequest request = new WorkLogDTO.CreateRequest();
+    request.setWorkDatetime(workDatetime);
+    request.setCarModel(CAR_MODEL);
+    request.setProductCode(productCode);
+    request.setProductName("범퍼");
+    request.setProductColor("BLACK");
+    request.setQuantity(1);
+    return workLogService.createWorkLog(request);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<Long> ids(Map<String, Object> result) {
+    return ((List<WorkLogDTO.ListResponse>) result.get("workLogs")).stream()
+        .map(WorkLogDTO.ListResponse::getId)
+        .toList();
+  }
+}
@@ -0,0 +1,146 @@
+package com.calman.domain.worklog.service;
+
+import com.calman.domain.worklog.dto.WorkLogDTO;
+import com.calman.domain.worklog.dto.WorkLogQuery;
+import com.calman.global.config.WorkLogCacheProperties;
+import com.calman.global.mybatis.EpochMillisLocalDateTimeTypeHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 목록 캐시 스냅샷 테스트 (파일 왕복, 오래된/손상된 파일, 행 지문, 목록 캐시 복원)
+ */
+public class WorkLogCacheSnapshotTest {
+
+  private static final LocalDate DAY = LocalDate.of(2025, 3, 20);
+
+  @TempDir
+  Path directory;
+
+  private final WorkLogListCache listCache =
+      new WorkLogListCache(new WorkLogCacheProperties(), new SimpleMeterRegistry());
+
+  @Test
+  @DisplayName("조회 조건(null, 나노초 포함)과 행을 그대로 저장하고 읽음")
+  public void testRoundTrip() throws IOException {
+    // given
+    WorkLogQuery dayQuery = listCache.rowsKey(WorkLogQuery.of("ON 조립", null, WorkLogQuery.STATUS_COMPLETED,
+        DAY.atStartOfDay(), DAY.atTime(LocalTime.MAX), null, null, false));
+    WorkLogQuery allQuery = listCache.rowsKey(WorkLogQuery.of(null, "%A_", null, null, null, null, null, true));
+    Map<WorkLogQuery, List<WorkLogDTO.ListResponse>> entries = new LinkedHashMap<>();
+    entries.put(dayQuery, List.of(row(1L, 3, DAY.atTime(18, 0)), row(2L, 1, null)));
+    entries.put(allQuery, List.of());
+    Path file = directory.resolve("cache.snapshot");
+
+    // when
+    int written = WorkLogCacheSnapshot.write(file, entries);
+    Map<WorkLogQuery, List<WorkLogDTO.ListResponse>> read = WorkLogCacheSnapshot.read(file, Duration.ofHours(1));
+
+    // then
+    assertThat(written).isEqualTo(2);
+    assertThat(read).containsOnlyKeys(dayQuery, allQuery);
+    assertThat(read.get(dayQuery)).extracting(WorkLogDTO.ListResponse::getId).containsExactly(1L, 2L);
+    assertThat(read.get(dayQuery).get(0).getSortKey())
+        .isEqualTo(EpochMillisLocalDateTimeTypeHandler.toEpochMillis(DAY.atTime(18, 0)));
+    assertThat(read.get(dayQuery).get(1).isCompleted()).isFalse();
+    assertThat(read.get(allQuery)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("max-age 보다 오래된 스냅샷은 빈 결과, 잘린 파일은 거부")
+  public void testRejectOldOrCorruptedFile() throws IOException, InterruptedException {
+    // given
+    Path file = directory.resolve("cache.snapshot");
+    WorkLogQuery query = listCache.rowsKey(WorkLogQuery.of(null, null, null, DAY.atStartOfDay(),
+        DAY.atTime(23, 59, 59), null, null, false));
+    WorkLogCacheSnapshot.write(file, Map.of(query, List.of(row(1L, 1, null))));
+    byte[] bytes = Files.readAllBytes(file);
+    Path truncated = directory.resolve("truncated.snapshot");
+    Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 10));
+    Thread.sleep(5);
+
+    // when, then
+    assertThat(WorkLogCacheSnapshot.read(file, Duration.ofMillis(1))).isEmpty();
+    assertThatThrownBy(() -> WorkLogCacheSnapshot.read(truncated, Duration.ofHours(1)))
+        .isInstanceOf(IOException.class);
+  }
+
+  @Test
+  @DisplayName("행 지문은 selectWorkLogFingerprint 와 같은 형식 (행 수:가장 큰 ID:버전 합:ID 나머지 합:행 내용 합)")
+  public void testFingerprint() {
+    assertThat(WorkLogCacheSnapshot.fingerprint(List.of())).isEqualTo("0:0:0:0:0");
+    assertThat(WorkLogCacheSnapshot.fingerprint(List.of(row(1_000_004L, 2, null), row(7L, 5, null))))
+        .isEqualTo("2:1000004:7:8:471037");
+  }
+
+  @Test
+  @DisplayName("버전이 같아도 수량/완료 시간/작업시간이 바뀌면 행 지문이 바뀜 (직접 UPDATE 감지)")
+  public void testFingerprintDetectsContentChange() {
+    // given
+    String original = WorkLogCacheSnapshot.fingerprint(List.of(row(1L, 1, null), row(2L, 1, null)));
+    WorkLogDTO.ListResponse quantity = row(1L, 1, null);
+    quantity.setQuantity(2);
+    WorkLogDTO.ListResponse workDatetime = row(2L, 1, null);
+    workDatetime.setWorkDatetime(DAY.atTime(9, 1));
+
+    // when, then
+    assertThat(WorkLogCacheSnapshot.fingerprint(List.of(quantity, row(2L, 1, null)))).isNotEqualTo(original);
+    assertThat(WorkLogCacheSnapshot.fingerprint(List.of(row(1L, 1, DAY.atTime(18, 0)), row(2L, 1, null))))
+        .isNotEqualTo(original);
+    assertThat(WorkLogCacheSnapshot.fingerprint(List.of(row(1L, 1, null), workDatetime))).isNotEqualTo(original);
+  }
+
+  @Test
+  @DisplayName("복원한 행은 다시 조회하지 않고 사용하며, 세대를 읽은 뒤 무효화가 있었으면 저장하지 않음")
+  public void testPreload() {
+    // given
+    WorkLogQuery query = WorkLogQuery.of(null, null, null, DAY.atStartOfDay(), DAY.atTime(23, 59, 59),
+        null, null, false);
+    WorkLogQuery otherDay = WorkLogQuery.of(null, null, null, DAY.plusDays(1).atStartOfDay(),
+        DAY.plusDays(1).atTime(23, 59, 59), null, null, false);
+
+    // when
+    listCache.preload(listCache.generation(), listCache.rowsKey(query), List.of(row(1L, 1, null)));
+    long observed = listCache.generation();
+    listCache.invalidate(List.of(new WorkLogListCache.Scope(DAY.plusDays(5), null)));
+    listCache.preload(observed, listCache.rowsKey(otherDay), List.of(row(2L, 1, null)));
+
+    // then
+    assertThat(listCache.get(query, rowsQuery -> {
+      throw new AssertionError("복원한 목록은 다시 조회하지 않음");
+    })).extracting(WorkLogDTO.ListResponse::getId).containsExactly(1L);
+    assertThat(listCache.isCached(otherDay)).isFalse();
+    assertThat(listCache.hottest(10)).containsOnlyKeys(listCache.rowsKey(query));
+  }
+
+  private static WorkLogDTO.ListResponse row(Long id, int version, LocalDateTime completedAt) {
+    WorkLogDTO.ListResponse row = new WorkLogDTO.ListResponse();
+    row.setId(id);
+    row.setWorkDatetime(DAY.atTime(9, 0));
+    row.setCarModelId(1L);
+    row.setProductId(1L);
+    row.setQuantity(1);
+    row.setVersion(version);
+    row.setCreatedAt(DAY.atTime(8, 0));
+    row.setCompleted(completedAt != null);
+    row.setSortKey(completedAt != null ? EpochMillisLocalDateTimeTypeHandler.toEpochMillis(completedAt) : null);
+    return row;
+  }
+}
@@ -0,0 +1,271 @@
+package com.calman.domain.worklog.service;
+
+import com.calman.domain.worklog.dto.WorkLogDTO;
+import com.calman.global.config.WorkLogCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ID 별 작업 로그 캐시 테스트 (write-through, 제거, 동시 변경 후 오래된 행 조회 여부)
+ * - 동시성 테스트의 DB 는 행 단위 잠금으로 변경하는 맵이고, 변경 후 캐시 갱신까지 잠금을 유지
+ *   (커밋 후 콜백이 커넥션을 반납하기 전에 실행되는 트랜잭션 매니저와 같은 순서)
+ */
+public class WorkLogEntityCacheTest {
+
+  private static final int IDS = 8;
+  private static final LocalDateTime WORK_DATETIME = LocalDateTime.of(2025, 3, 20, 9, 0);
+
+  private final WorkLogEntityCache cache =
+      new WorkLogEntityCache(new WorkLogCacheProperties(), new SimpleMeterRegistry());
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @AfterEach
+  public void clearSynchronization() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  @DisplayName("캐시된 행은 복사본으로 반환하므로 호출한 쪽의 변경이 캐시에 반영되지 않음")
+  public void testReturnsCopies() {
+    // given
+    cache.get(1L, id -> load(row(id, 0)));
+
+    // when
+    WorkLogDTO first = cache.get(1L, id -> load(row(id, 0)));
+    first.setQuantity(999);
+    WorkLogDTO second = cache.get(1L, id -> load(row(id, 0)));
+
+    // then
+    assertThat(loads).hasValue(1);
+    assertThat(second.getQuantity()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("변경 결과를 그대로 저장하고, 늦게 끝난 조회의 이전 버전은 덮어쓰지 않음")
+  public void testWriteThroughWinsOverLateLoad() {
+    // when: 조회가 v0 을 읽는 동안 v1 변경이 커밋됨
+    cache.get(1L, id -> {
+      WorkLogDTO stale = load(row(id, 0));
+      cache.put(row(id, 1));
+      return stale;
+    });
+
+    // then
+    assertThat(cache.get(1L, id -> load(row(id, 0))).getVersion()).isEqualTo(1);
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("조회 중에 삭제되면 삭제 전에 읽은 행을 캐시에 남기지 않음")
+  public void testEvictDuringLoad() {
+    // when
+    cache.get(1L, id -> {
+      WorkLogDTO beforeDelete = load(row(id, 0));
+      cache.evict(List.of(id));
+      return beforeDelete;
+    });
+
+    // then: 다음 조회는 DB 에서 (삭제되어 없음)
+    assertThat(cache.get(1L, id -> load(null))).isNull();
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("트랜잭션 안의 변경은 커밋 후 저장하고 롤백되면 저장하지 않음")
+  public void testPutAfterCommitOnly() {
+    // given
+    cache.get(1L, id -> load(row(id, 0)));
+
+    // when: 롤백
+    TransactionSynchronizationManager.initSynchronization();
+    cache.put(row(1L, 1));
+    complete(false);
+
+    // then
+    assertThat(cache.get(1L, id -> load(row(id, 0))).getVersion()).isZero();
+
+    // when: 커밋
+    TransactionSynchronizationManager.initSynchronization();
+    cache.put(row(1L, 1));
+    assertThat(cache.get(1L, id -> load(row(id, 0))).getVersion()).isZero();
+    complete(true);
+
+    // then
+    assertThat(cache.get(1L, id -> load(row(id, 0))).getVersion()).isEqualTo(1);
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("동시 변경/조회 중 변경이 끝난 뒤 시작한 조회는 그 버전 이상을 보고, 끝난 뒤 캐시는 DB 와 같음")
+  public void testNoStaleReadsAfterConcurrentUpdates() throws Exception {
+    // given
+    Map<Long, WorkLogDTO> db = new ConcurrentHashMap<>();
+    Object[] rowLocks = new Object[IDS];
+    AtomicIntegerArray committed = new AtomicIntegerArray(IDS);
+    for (int i = 0; i < IDS; i++) {
+      db.put((long) i, row((long) i, 0));
+      rowLocks[i] = new Object();
+    }
+
+    // when
+    List<Integer> staleReads = run(4, 4, 2_000,
+        () -> {
+          int index = ThreadLocalRandom.current().nextInt(IDS);
+          synchronized (rowLocks[index]) {
+            WorkLogDTO updated = row((long) index, db.get((long) index).getVersion() + 1);
+            db.put((long) index, updated);
+            cache.put(updated);
+            committed.set(index, updated.getVersion());
+          }
+        },
+        () -> {
+          int index = ThreadLocalRandom.current().nextInt(IDS);
+          int floor = committed.get(index);
+          WorkLogDTO read = cache.get((long) index, id -> slowRead(db, id));
+          return read.getVersion() < floor ? 1 : 0;
+        });
+
+    // then
+    assertThat(staleReads).containsOnly(0);
+    for (int i = 0; i < IDS; i++) {
+      assertThat(cache.get((long) i, id -> slowRead(db, id)).getVersion())
+          .isEqualTo(db.get((long) i).getVersion());
+    }
+  }
+
+  @Test
+  @DisplayName("동시 삭제/조회 중 삭제가 끝난 뒤 시작한 조회는 삭제된 행을 보지 않음")
+  public void testNoStaleReadsAfterConcurrentDeletes() throws Exception {
+    // given
+    int ids = 2_000;
+    Map<Long, WorkLogDTO> db = new ConcurrentHashMap<>();
+    Set<Long> deleted = ConcurrentHashMap.newKeySet();
+    for (long id = 0; id < ids; id++) {
+      db.put(id, row(id, 0));
+    }
+    AtomicInteger nextDelete = new AtomicInteger();
+
+    // when
+    List<Integer> staleReads = run(2, 4, 1_000,
+        () -> {
+          long id = nextDelete.getAndIncrement() % ids;
+          synchronized (db) {
+            if (db.remove(id) != null) {
+              cache.evict(List.of(id));
+              deleted.add(id);
+            }
+          }
+        },
+        () -> {
+          long id = ThreadLocalRandom.current().nextInt(ids);
+          boolean deletedBefore = deleted.contains(id);
+          WorkLogDTO read = cache.get(id, key -> slowRead(db, key));
+          return deletedBefore && read != null ? 1 : 0;
+        });
+
+    // then
+    assertThat(staleReads).containsOnly(0);
+    for (Long id : deleted) {
+      assertThat(cache.get(id, key -> slowRead(db, key))).isNull();
+    }
+  }
+
+  // 변경 스레드와 조회 스레드를 동시에 실행하고 조회 스레드별 오래된 조회 수 반환
+  private static List<Integer> run(int writers, int readers, int iterations, Runnable write, ReadCheck read)
+      throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(writers + readers);
+    try {
+      CountDownLatch start = new CountDownLatch(1);
+      List<Future<Integer>> futures = new ArrayList<>();
+      for (int i = 0; i < writers; i++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          for (int j = 0; j < iterations; j++) {
+            write.run();
+          }
+          return 0;
+        }));
+      }
+      for (int i = 0; i < readers; i++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          int stale = 0;
+          for (int j = 0; j < iterations; j++) {
+            stale += read.check();
+          }
+          return stale;
+        }));
+      }
+
+      start.countDown();
+      List<Integer> results = new ArrayList<>();
+      for (Future<Integer> future : futures) {
+        results.add(future.get());
+      }
+      return results;
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  // 스냅샷을 읽은 뒤 반환이 늦어지는 조회 (변경/삭제와 경합이 생기도록)
+  private static WorkLogDTO slowRead(Map<Long, WorkLogDTO> db, Long id) {
+    WorkLogDTO snapshot = db.get(id);
+    Thread.yield();
+    return snapshot;
+  }
+
+  private WorkLogDTO load(WorkLogDTO workLog) {
+    loads.incrementAndGet();
+    return workLog;
+  }
+
+  private static void complete(boolean commit) {
+    List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+    TransactionSynchronizationManager.clearSynchronization();
+    for (TransactionSynchronization synchronization : synchronizations) {
+      if (commit) {
+        synchronization.afterCommit();
+      }
+      synchronization.afterCompletion(commit
+          ? TransactionSynchronization.STATUS_COMMITTED : TransactionSynchronization.STATUS_ROLLED_BACK);
+    }
+  }
+
+  private static WorkLogDTO row(Long id, int version) {
+    return WorkLogDTO.builder()
+        .id(id)
+        .workDatetime(WORK_DATETIME)
+        .carModel("ON 조립")
+        .quantity(1)
+        .version(version)
+        .build();
+  }
+
+  @FunctionalInterface
+  private interface ReadCheck {
+    int check();
+  }
+}
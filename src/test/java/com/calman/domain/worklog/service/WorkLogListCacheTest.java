@@ -0,0 +1,312 @@
+package com.calman.domain.worklog.service;
+
+import com.calman.domain.worklog.dto.WorkLogDTO;
+import com.calman.domain.worklog.dto.WorkLogQuery;
+import com.calman.domain.worklog.service.WorkLogListCache.Scope;
+import com.calman.global.config.WorkLogCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 작업 로그 목록 캐시 테스트 (조건별 재사용, 정렬별 순열, 날짜/차종 단위 무효화, 동시 조회 공유, 변경 버전 ETag)
+ */
+public class WorkLogListCacheTest {
+
+  private static final LocalDate DAY = LocalDate.of(2025, 3, 20);
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final WorkLogListCache cache = new WorkLogListCache(new WorkLogCacheProperties(), meterRegistry);
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @Test
+  @DisplayName("정규화 후 같은 조건은 한 번만 조회하고 결과를 재사용")
+  public void testHitForNormalizedQuery() {
+    // given
+    WorkLogQuery first = dayQuery(DAY, null, "wl_id; DROP", "asc");
+    WorkLogQuery second = dayQuery(DAY, "", null, null);
+
+    // when
+    List<WorkLogDTO.ListResponse> loaded = cache.get(first, this::load);
+    List<WorkLogDTO.ListResponse> cached = cache.get(second, this::load);
+
+    // then
+    assertThat(cached).isSameAs(loaded);
+    assertThat(loads).hasValue(1);
+    assertThat(meterRegistry.get("cache.gets").tag("cache", WorkLogListCache.CACHE_NAME).tag("result", "hit")
+        .functionCounter().count()).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("정렬만 다른 조회는 다시 조회하지 않고 캐시된 행을 ORDER BY 와 같은 순서로 정렬")
+  public void testResortWithoutReload() {
+    // given: 완료 시간(정렬 키) 오름차순으로 조회된 행
+    List<WorkLogQuery> loadedAs = new ArrayList<>();
+    Function<WorkLogQuery, List<WorkLogDTO.ListResponse>> loader = rowsQuery -> {
+      loads.incrementAndGet();
+      loadedAs.add(rowsQuery);
+      return List.of(
+          row(1L, "ON 조립", 5, null),
+          row(2L, "AR1", null, null),
+          row(3L, "ON SUB", 20, 1_000L),
+          row(4L, "AR1", 5, 2_000L));
+    };
+
+    // when
+    List<WorkLogDTO.ListResponse> byQuantity = cache.get(dayQuery(DAY, null, "wl_quantity", "ASC"), loader);
+    List<WorkLogDTO.ListResponse> byQuantityDesc = cache.get(dayQuery(DAY, null, "wl_quantity", "DESC"), loader);
+    List<WorkLogDTO.ListResponse> byCarModel = cache.get(dayQuery(DAY, null, "wl_car_model", "ASC"), loader);
+    List<WorkLogDTO.ListResponse> byCompletedDesc = cache.get(dayQuery(DAY, null, "wl_completed_at", "DESC"), loader);
+
+    // then: NULL 은 ASC 에서 처음, DESC 에서 마지막, 같은 값은 조회 순서 유지
+    assertThat(loads).hasValue(1);
+    assertThat(loadedAs.get(0).getSortField()).isEqualTo("wl_completed_at");
+    assertThat(loadedAs.get(0).getSortDirection()).isEqualTo("ASC");
+    assertThat(byQuantity).extracting(WorkLogDTO.ListResponse::getId).containsExactly(2L, 1L, 4L, 3L);
+    assertThat(byQuantityDesc).extracting(WorkLogDTO.ListResponse::getId).containsExactly(3L, 4L, 1L, 2L);
+    assertThat(byCarModel).extracting(WorkLogDTO.ListResponse::getId).containsExactly(2L, 4L, 3L, 1L);
+    assertThat(byCompletedDesc).extracting(WorkLogDTO.ListResponse::getId).containsExactly(4L, 3L, 2L, 1L);
+  }
+
+  @Test
+  @DisplayName("변경된 날짜/차종이 포함된 조회 결과만 무효화")
+  public void testInvalidateByDayAndCarModel() {
+    // given
+    WorkLogQuery today = dayQuery(DAY, null, null, null);
+    WorkLogQuery yesterday = dayQuery(DAY.minusDays(1), null, null, null);
+    WorkLogQuery todayOn = dayQuery(DAY, "on", null, null);
+    WorkLogQuery todayAr = dayQuery(DAY, "AR1", null, null);
+    WorkLogQuery allDays = WorkLogQuery.of(null, null, null, null, null, null, null, false);
+    List.of(today, yesterday, todayOn, todayAr, allDays).forEach(query -> cache.get(query, this::load));
+    loads.set(0);
+
+    // when
+    cache.invalidate(List.of(new Scope(DAY, "ON 조립")));
+
+    // then: 같은 날짜 전체, 차종 부분 일치(대소문자 무시), 기간 제한 없는 조회만 다시 조회
+    List.of(today, yesterday, todayOn, todayAr, allDays).forEach(query -> cache.get(query, this::load));
+    assertThat(loads).hasValue(3);
+    assertThat(meterRegistry.get("worklog.list.cache.invalidations").counter().count()).isEqualTo(3.0);
+  }
+
+  @Test
+  @DisplayName("조회 중에 무효화가 있으면 조회 결과를 캐시에 남기지 않음")
+  public void testInvalidationDuringLoad() {
+    // given
+    WorkLogQuery query = dayQuery(DAY, null, null, null);
+
+    // when: 조회가 끝나기 전에 같은 날짜의 변경이 커밋됨
+    cache.get(query, rowsQuery -> {
+      List<WorkLogDTO.ListResponse> stale = load(rowsQuery);
+      cache.invalidate(List.of(new Scope(DAY, "ON 조립")));
+      return stale;
+    });
+    cache.get(query, this::load);
+
+    // then
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("같은 조건의 동시 조회는 한 번만 실행하고 결과를 공유")
+  public void testCoalesceConcurrentLoads() throws Exception {
+    // given
+    WorkLogQuery query = dayQuery(DAY, null, null, null);
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      // when: 첫 조회가 실행 중일 때 같은 조건으로 3번 더 조회
+      Future<List<WorkLogDTO.ListResponse>> leader = executor.submit(() -> cache.get(query, rowsQuery -> {
+        loading.countDown();
+        await(release);
+        return load(rowsQuery);
+      }));
+      loading.await();
+      List<Future<List<WorkLogDTO.ListResponse>>> followers = new ArrayList<>();
+      for (int i = 0; i < 3; i++) {
+        followers.add(executor.submit(() -> cache.get(query, this::load)));
+      }
+      while (meterRegistry.get("worklog.list.queries").tag("result", "coalesced").counter().count() < 3) {
+        Thread.onSpinWait();
+      }
+      release.countDown();
+
+      // then
+      for (Future<List<WorkLogDTO.ListResponse>> follower : followers) {
+        assertThat(follower.get()).isSameAs(leader.get());
+      }
+      assertThat(loads).hasValue(1);
+      assertThat(meterRegistry.get("worklog.list.queries").tag("result", "executed").counter().count())
+          .isEqualTo(1.0);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  @DisplayName("실행 중인 조회가 시작된 뒤 무효화가 있었으면 결과를 공유하지 않고 새로 조회")
+  public void testNoCoalesceAcrossInvalidation() throws Exception {
+    // given
+    WorkLogQuery query = dayQuery(DAY, null, null, null);
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<List<WorkLogDTO.ListResponse>> stale = executor.submit(() -> cache.get(query, rowsQuery -> {
+        List<WorkLogDTO.ListResponse> beforeChange = load(rowsQuery);
+        loading.countDown();
+        await(release);
+        return beforeChange;
+      }));
+      loading.await();
+
+      // when: 변경이 커밋된 뒤 같은 조건으로 조회
+      cache.invalidate(List.of(new Scope(DAY, "ON 조립")));
+      List<WorkLogDTO.ListResponse> fresh = cache.get(query, this::load);
+      release.countDown();
+
+      // then
+      assertThat(fresh).isNotSameAs(stale.get());
+      assertThat(loads).hasValue(2);
+      assertThat(cache.get(query, this::load)).isSameAs(fresh);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  @DisplayName("ETag 는 조회 기간의 날짜가 변경될 때만 바뀌고, 날짜를 알 수 없는 변경은 모든 ETag 를 바꿈")
+  public void testVersionTagByDay() {
+    // given
+    WorkLogQuery today = dayQuery(DAY, null, null, null);
+    WorkLogQuery todayDesc = dayQuery(DAY, null, null, "DESC");
+    WorkLogQuery allDays = WorkLogQuery.of(null, null, null, null, null, null, null, false);
+    String todayTag = cache.versionTag(today);
+    String allDaysTag = cache.versionTag(allDays);
+
+    // when: 다른 날짜 변경
+    cache.invalidate(List.of(new Scope(DAY.minusDays(1), "ON 조립")));
+
+    // then: 조건이 다르면 다른 ETag, 다른 날짜 변경은 오늘 ETag 에 영향 없음 (기간 제한이 없으면 영향 있음)
+    assertThat(cache.versionTag(todayDesc)).isNotEqualTo(todayTag);
+    assertThat(cache.versionTag(today)).isEqualTo(todayTag);
+    assertThat(cache.versionTag(allDays)).isNotEqualTo(allDaysTag);
+
+    // when: 같은 날짜 변경
+    cache.invalidate(List.of(new Scope(DAY, "ON 조립")));
+    String changedTag = cache.versionTag(today);
+
+    // then
+    assertThat(changedTag).isNotEqualTo(todayTag);
+
+    // when: 전체 무효화
+    cache.invalidateAll();
+
+    // then
+    assertThat(cache.versionTag(today)).isNotEqualTo(changedTag);
+  }
+
+  @Test
+  @DisplayName("트랜잭션 안의 변경은 트랜잭션이 끝난 뒤 ETag 를 바꿈")
+  public void testVersionTagAfterCompletion() {
+    // given
+    WorkLogQuery today = dayQuery(DAY, null, null, null);
+    String before = cache.versionTag(today);
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      // when
+      cache.invalidate(List.of(new Scope(DAY, "ON 조립")));
+
+      // then: 커밋 전에는 그대로 (이전 ETag 로 새 데이터를 받는 경우는 있어도 반대는 없음)
+      assertThat(cache.versionTag(today)).isEqualTo(before);
+      List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+      TransactionSynchronizationManager.clearSynchronization();
+      synchronizations.forEach(synchronization ->
+          synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    } finally {
+      if (TransactionSynchronizationManager.isSynchronizationActive()) {
+        TransactionSynchronizationManager.clearSynchronization();
+      }
+    }
+
+    // then
+    assertThat(cache.versionTag(today)).isNotEqualTo(before);
+  }
+
+  @Test
+  @DisplayName("캐시를 꺼도 ETag 변경 버전은 유지")
+  public void testVersionTagWhenDisabled() {
+    WorkLogCacheProperties properties = new WorkLogCacheProperties();
+    properties.getList().setEnabled(false);
+    WorkLogListCache disabled = new WorkLogListCache(properties, meterRegistry);
+    WorkLogQuery query = dayQuery(DAY, null, null, null);
+    String before = disabled.versionTag(query);
+
+    disabled.invalidate(List.of(new Scope(DAY, null)));
+
+    assertThat(disabled.versionTag(query)).isNotEqualTo(before);
+  }
+
+  @Test
+  @DisplayName("캐시를 끄면 매번 조회")
+  public void testDisabled() {
+    WorkLogCacheProperties properties = new WorkLogCacheProperties();
+    properties.getList().setEnabled(false);
+    WorkLogListCache disabled = new WorkLogListCache(properties, meterRegistry);
+    WorkLogQuery query = dayQuery(DAY, null, null, null);
+
+    disabled.get(query, this::load);
+    disabled.get(query, this::load);
+
+    assertThat(disabled.isEnabled()).isFalse();
+    assertThat(loads).hasValue(2);
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private List<WorkLogDTO.ListResponse> load(WorkLogQuery rowsQuery) {
+    loads.incrementAndGet();
+    List<WorkLogDTO.ListResponse> workLogs = new ArrayList<>();
+    WorkLogDTO.ListResponse workLog = new WorkLogDTO.ListResponse();
+    workLog.setId((long) loads.get());
+    workLogs.add(workLog);
+    return workLogs;
+  }
+
+  private static WorkLogDTO.ListResponse row(Long id, String carModel, Integer quantity, Long completedAt) {
+    WorkLogDTO.ListResponse workLog = new WorkLogDTO.ListResponse();
+    workLog.setId(id);
+    workLog.setCarModel(carModel);
+    workLog.setQuantity(quantity);
+    workLog.setSortKey(completedAt);
+    return workLog;
+  }
+
+  private static WorkLogQuery dayQuery(LocalDate day, String carModel, String sortField, String sortDirection) {
+    LocalDateTime start = day.atStartOfDay();
+    return WorkLogQuery.of(carModel, null, null, start, day.atTime(23, 59, 59), sortField, sortDirection, false);
+  }
+}
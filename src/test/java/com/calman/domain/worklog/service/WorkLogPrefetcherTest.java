@@ -0,0 +1,123 @@
+package com.calman.domain.worklog.service;
+
+import com.calman.domain.worklog.dto.WorkLogDTO;
+import com.calman.domain.worklog.dto.WorkLogQuery;
+import com.calman.global.config.WorkLogCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 이웃 날짜 미리 읽기 테스트 (앞뒤 날짜 적재, 오늘 이후 제외, 적중률)
+ */
+public class WorkLogPrefetcherTest {
+
+  private static final LocalDate DAY = LocalDate.of(2025, 3, 20);
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final WorkLogCacheProperties properties = new WorkLogCacheProperties();
+  private final WorkLogListCache listCache = new WorkLogListCache(properties, meterRegistry);
+  private final List<WorkLogQuery> loaded = Collections.synchronizedList(new ArrayList<>());
+  private final WorkLogPrefetcher prefetcher = prefetcher();
+
+  @AfterEach
+  public void tearDown() {
+    prefetcher.shutdown();
+  }
+
+  @Test
+  @DisplayName("하루 목록을 요청하면 앞뒤 날짜를 목록 캐시에 미리 적재하고, 이후 요청 시 적중으로 기록")
+  public void testPrefetchAdjacentDays() throws InterruptedException {
+    // when
+    prefetcher.observe(dayQuery(DAY, null), this::load);
+    awaitLoads(2);
+
+    // then
+    assertThat(loaded).extracting(query -> query.getStartDate().toLocalDate())
+        .containsExactlyInAnyOrder(DAY.minusDays(1), DAY.plusDays(1));
+    assertThat(listCache.isCached(dayQuery(DAY.plusDays(1), null))).isTrue();
+
+    // when: 다음 날짜로 이동 (정렬만 달라도 같은 행)
+    WorkLogQuery next = WorkLogQuery.of(null, null, null, DAY.plusDays(1).atStartOfDay(),
+        DAY.plusDays(1).atTime(23, 59, 59), "wl_car_model", "DESC", false);
+    prefetcher.observe(next, this::load);
+    awaitLoads(4);
+
+    // then: 미리 읽은 4개(DAY-1, DAY+1, 이동 후 DAY, DAY+2) 중 1개 사용
+    assertThat(meterRegistry.get("worklog.prefetch.used").counter().count()).isEqualTo(1.0);
+    assertThat(prefetcher.hitRatio()).isEqualTo(0.25);
+  }
+
+  @Test
+  @DisplayName("오늘 이후 날짜와 하루가 아닌 기간은 미리 읽지 않음")
+  public void testSkipFutureAndRanges() throws InterruptedException {
+    // when
+    prefetcher.observe(dayQuery(LocalDate.now(), null), this::load);
+    prefetcher.observe(WorkLogQuery.of(null, null, null, DAY.atStartOfDay(), DAY.plusDays(6).atStartOfDay(),
+        null, null, false), this::load);
+    awaitLoads(1);
+    TimeUnit.MILLISECONDS.sleep(100);
+
+    // then
+    assertThat(loaded).extracting(query -> query.getStartDate().toLocalDate())
+        .containsExactly(LocalDate.now().minusDays(1));
+  }
+
+  @Test
+  @DisplayName("요청한 상태와 많이 사용된 상태를 함께 미리 읽음")
+  public void testPopularCombinations() throws InterruptedException {
+    // given: 미완료 목록이 가장 많이 사용됨
+    for (int i = 0; i < 3; i++) {
+      prefetcher.observe(WorkLogQuery.of(null, null, WorkLogQuery.STATUS_INCOMPLETE, null, null, null, null, false),
+          this::load);
+    }
+
+    // when
+    prefetcher.observe(dayQuery(DAY, null), this::load);
+    awaitLoads(4);
+
+    // then
+    assertThat(loaded).extracting(WorkLogQuery::getStatus)
+        .containsExactlyInAnyOrder(null, null, WorkLogQuery.STATUS_INCOMPLETE, WorkLogQuery.STATUS_INCOMPLETE);
+  }
+
+  @SuppressWarnings("unchecked")
+  private WorkLogPrefetcher prefetcher() {
+    return new WorkLogPrefetcher(properties, listCache, mock(WorkLogArchiveService.class),
+        mock(PlatformTransactionManager.class), mock(ObjectProvider.class), mock(ObjectProvider.class),
+        meterRegistry);
+  }
+
+  private List<WorkLogDTO.ListResponse> load(WorkLogQuery query) {
+    loaded.add(query);
+    WorkLogDTO.ListResponse row = new WorkLogDTO.ListResponse();
+    row.setId((long) loaded.size());
+    row.setWorkDatetime(query.getStartDate().plusHours(9));
+    return List.of(row);
+  }
+
+  // 미리 읽기 적재 수(메트릭)가 기대 값에 도달할 때까지 대기
+  private void awaitLoads(int expected) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (meterRegistry.get("worklog.prefetch").tag("result", "loaded").counter().count() < expected
+        && System.nanoTime() < deadline) {
+      TimeUnit.MILLISECONDS.sleep(10);
+    }
+  }
+
+  private static WorkLogQuery dayQuery(LocalDate day, String status) {
+    return WorkLogQuery.of(null, null, status, day.atStartOfDay(), day.atTime(23, 59, 59), null, null, false);
+  }
+}
@@ -0,0 +1,138 @@
+package com.calman.domain.worklog.service;
+
+import com.calman.domain.worklog.dto.WorkLogDTO;
+import com.calman.global.mybatis.EpochMillisLocalDateTimeTypeHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 작업 로그 세그먼트 파일 테스트 (쓰기/읽기 왕복, 시간 범위 조회, 손상된 파일 거부, LIKE 패턴 변환)
+ */
+public class WorkLogSegmentTest {
+
+  private static final LocalDate DAY = LocalDate.of(2025, 3, 20);
+
+  @TempDir
+  Path directory;
+
+  @Test
+  @DisplayName("저장한 행을 작업시간 순으로 그대로 읽고, NULL 값과 완료 시간(정렬 키)을 유지")
+  public void testRoundTrip() throws IOException {
+    // given
+    LocalDateTime completedAt = DAY.atTime(18, 0);
+    WorkLogDTO.ListResponse completed = row(2L, DAY.atTime(9, 30), 7L, 11L, completedAt);
+    WorkLogDTO.ListResponse incomplete = row(1L, DAY.atTime(8, 0), null, null, null);
+    incomplete.setQuantity(null);
+    Path file = directory.resolve("2025-03-20-1.seg");
+
+    // when
+    WorkLogSegment.write(file, DAY, "2:2:2:3", List.of(completed, incomplete));
+    WorkLogSegment segment = WorkLogSegment.open(file);
+    List<WorkLogDTO.ListResponse> rows = segment.read(null, null);
+
+    // then
+    assertThat(segment.day()).isEqualTo(DAY);
+    assertThat(segment.fingerprint()).isEqualTo("2:2:2:3");
+    assertThat(segment.file()).isEqualTo(file);
+    assertThat(rows).extracting(WorkLogDTO.ListResponse::getId).containsExactly(1L, 2L);
+
+    WorkLogDTO.ListResponse first = rows.get(0);
+    assertThat(first.getCarModelId()).isNull();
+    assertThat(first.getProductId()).isNull();
+    assertThat(first.getQuantity()).isNull();
+    assertThat(first.isCompleted()).isFalse();
+    assertThat(first.getSortKey()).isNull();
+
+    WorkLogDTO.ListResponse second = rows.get(1);
+    assertThat(second.getWorkDatetime()).isEqualTo(DAY.atTime(9, 30));
+    assertThat(second.getCarModelId()).isEqualTo(7L);
+    assertThat(second.getProductId()).isEqualTo(11L);
+    assertThat(second.getQuantity()).isEqualTo(3);
+    assertThat(second.getVersion()).isEqualTo(2);
+    assertThat(second.getCreatedAt()).isEqualTo(DAY.atTime(7, 0));
+    assertThat(second.isCompleted()).isTrue();
+    assertThat(second.getSortKey()).isEqualTo(EpochMillisLocalDateTimeTypeHandler.toEpochMillis(completedAt));
+  }
+
+  @Test
+  @DisplayName("시간 범위 조회는 경계를 포함하고, 날짜 끝(LocalTime.MAX)까지 읽음")
+  public void testReadRange() throws IOException {
+    // given: 00:00 ~ 23:59 사이 매시 정각/30분 행
+    WorkLogDTO.ListResponse[] rows = new WorkLogDTO.ListResponse[48];
+    for (int i = 0; i < rows.length; i++) {
+      rows[i] = row(i + 1L, DAY.atTime(i / 2, i % 2 * 30), 1L, 1L, null);
+    }
+    Path file = directory.resolve("2025-03-20-1.seg");
+    WorkLogSegment.write(file, DAY, "-", Arrays.asList(rows));
+    WorkLogSegment segment = WorkLogSegment.open(file);
+
+    // when
+    List<WorkLogDTO.ListResponse> morning = segment.read(DAY.atTime(9, 30), DAY.atTime(11, 0));
+    List<WorkLogDTO.ListResponse> evening = segment.read(DAY.atTime(23, 0), DAY.atTime(LocalTime.MAX));
+    List<WorkLogDTO.ListResponse> spanning = segment.read(DAY.minusDays(1).atTime(12, 0), DAY.atTime(0, 30));
+
+    // then
+    assertThat(morning).extracting(WorkLogDTO.ListResponse::getWorkDatetime)
+        .containsExactly(DAY.atTime(9, 30), DAY.atTime(10, 0), DAY.atTime(10, 30), DAY.atTime(11, 0));
+    assertThat(evening).hasSize(2);
+    assertThat(spanning).hasSize(2);
+  }
+
+  @Test
+  @DisplayName("형식이 다르거나 잘린 파일은 열지 않음")
+  public void testRejectCorruptedFile() throws IOException {
+    // given
+    Path file = directory.resolve("2025-03-20-1.seg");
+    WorkLogSegment.write(file, DAY, "1:1:1:1", List.of(row(1L, DAY.atTime(9, 0), 1L, 1L, null)));
+    byte[] bytes = Files.readAllBytes(file);
+    Path truncated = directory.resolve("truncated.seg");
+    Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 1));
+    Path foreign = directory.resolve("foreign.seg");
+    Files.write(foreign, "not a segment".getBytes());
+
+    // when, then
+    assertThatThrownBy(() -> WorkLogSegment.open(truncated)).isInstanceOf(IOException.class);
+    assertThatThrownBy(() -> WorkLogSegment.open(foreign)).isInstanceOf(IOException.class);
+  }
+
+  @Test
+  @DisplayName("LIKE 패턴은 %, _ 만 와일드카드이고 ASCII 만 대소문자 무시")
+  public void testLikePattern() {
+    Pattern pattern = WorkLogSegmentStore.likePattern("%on s_b%");
+
+    assertThat(pattern.matcher("ON SUB").matches()).isTrue();
+    assertThat(pattern.matcher("line ON SAB 2").matches()).isTrue();
+    assertThat(pattern.matcher("ON SUUB").matches()).isFalse();
+    assertThat(WorkLogSegmentStore.likePattern("%a.b%").matcher("axb").matches()).isFalse();
+    assertThat(WorkLogSegmentStore.likePattern("%ä%").matcher("Ä").matches()).isFalse();
+  }
+
+  private static WorkLogDTO.ListResponse row(Long id, LocalDateTime workDatetime, Long carModelId, Long productId,
+      LocalDateTime completedAt) {
+    WorkLogDTO.ListResponse row = new WorkLogDTO.ListResponse();
+    row.setId(id);
+    row.setWorkDatetime(workDatetime);
+    row.setCarModelId(carModelId);
+    row.setProductId(productId);
+    row.setQuantity(3);
+    row.setVersion(2);
+    row.setCreatedAt(DAY.atTime(7, 0));
+    row.setCompleted(completedAt != null);
+    row.setSortKey(completedAt != null ? EpochMillisLocalDateTimeTypeHandler.toEpochMillis(completedAt) : null);
+    return row;
+  }
+}
@@ -1,25 +1,43 @@
 package com.calman.domain.worklog.service;
 
+import com.calman.DateTimeUtils;
 import com.calman.domain.worklog.dto.WorkLogDTO;
+import com.calman.domain.worklog.dto.WorkLogQuery;
 import com.calman.domain.worklog.mapper.WorkLogMapper;
+import com.calman.global.config.WorkLogCacheProperties;
+import com.calman.global.id.TimeOrderedIdGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 /**
  * 작업 로그 서비스 테스트
+ * - 목록/ID 캐시는 실제 객체(테스트마다 새로 생성), 나머지 협력 객체는 mock
+ *   (샤드/아카이브/세그먼트 미사용, 카탈로그는 전달받은 작업 로그를 그대로 반환)
  */
 @ExtendWith(MockitoExtension.class)
 public class WorkLogServiceTest {
@@ -27,25 +45,56 @@ public class WorkLogServiceTest {
   @Mock
   private WorkLogMapper workLogMapper;
 
-  @InjectMocks
+  @Mock
+  private WorkLogArchiveService archiveService;
+
+  @Mock
+  private WorkLogCatalogService catalogService;
+
+  @Mock
+  private TimeOrderedIdGenerator idGenerator;
+
+  @Mock
+  private WorkLogShardRouter shardRouter;
+
+  @Mock
+  private WorkLogSegmentStore segmentStore;
+
+  @Mock
+  private WorkLogPrefetcher prefetcher;
+
+  private WorkLogListCache listCache;
+  private WorkLogEntityCache entityCache;
   private WorkLogService workLogService;
 
+  @BeforeEach
+  public void setUp() {
+    WorkLogCacheProperties properties = new WorkLogCacheProperties();
+    listCache = new WorkLogListCache(properties, new SimpleMeterRegistry());
+    entityCache = new WorkLogEntityCache(properties, new SimpleMeterRegistry());
+    workLogService = new WorkLogService(workLogMapper, archiveService, catalogService, idGenerator, shardRouter,
+        listCache, entityCache, segmentStore, prefetcher);
+
+    // 카탈로그 이름은 테스트 데이터에 이미 채워져 있으므로 그대로 반환
+    lenient().when(catalogService.fill(any(WorkLogDTO.class))).thenAnswer(returnsFirstArg());
+    lenient().when(catalogService.fill(anyList())).thenAnswer(returnsFirstArg());
+  }
+
   @Test
   @DisplayName("새 작업 로그 생성 테스트")
   public void testCreateWorkLog() {
     // given
     WorkLogDTO.CreateRequest request = new WorkLogDTO.CreateRequest();
-    request.setWorkDatetime(LocalDateTime.now());
+    request.setWorkDatetime("25.03.20 09:00");
     request.setCarModel("Test Model");
-    request.setMaterialCode("T-1000");
+    request.setProductCode("T-1000");
+    request.setProductName("Test Product");
+    request.setProductColor("BLACK");
     request.setQuantity(10);
 
-    // Mockito에게 insertWorkLog가 호출될 때 1을 반환하도록 설정
-    when(workLogMapper.insertWorkLog(any(WorkLogDTO.class))).thenAnswer(invocation -> {
-      WorkLogDTO dto = invocation.getArgument(0);
-      dto.setId(1L); // ID 설정
-      return 1; // 영향받은 행 수
-    });
+    // ID 는 생성기에서 미리 발급
+    when(idGenerator.nextId()).thenReturn(1L);
+    when(workLogMapper.insertWorkLog(any(WorkLogDTO.class))).thenReturn(1);
 
     // when
     Long id = workLogService.createWorkLog(request);
@@ -54,6 +103,31 @@ public class WorkLogServiceTest {
     assertThat(id).isEqualTo(1L);
   }
 
+  @Test
+  @DisplayName("작업 로그 일괄 생성은 발급한 ID 구간을 요청 순서대로 사용하고, null 항목이 있으면 거부")
+  public void testCreateWorkLogs() {
+    // given
+    WorkLogDTO.CreateRequest request = new WorkLogDTO.CreateRequest();
+    request.setWorkDatetime("25.03.20 09:00");
+    request.setCarModel("Test Model");
+    request.setProductCode("T-1000");
+    request.setQuantity(10);
+
+    when(idGenerator.reserve(2)).thenReturn(10L);
+    when(workLogMapper.insertWorkLogs(anyList())).thenReturn(2);
+
+    // when
+    List<Long> ids = workLogService.createWorkLogs(List.of(request, request));
+
+    // then
+    assertThat(ids).containsExactly(10L, 11L);
+    assertThatThrownBy(() -> workLogService.createWorkLogs(Arrays.asList(request, null)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("2번째");
+    verify(idGenerator).reserve(anyInt());
+    verify(workLogMapper).insertWorkLogs(anyList());
+  }
+
   @Test
   @DisplayName("ID로 작업 로그 조회 테스트")
   public void testGetWorkLogById() {
@@ -62,7 +136,7 @@ public class WorkLogServiceTest {
     WorkLogDTO mockWorkLog = new WorkLogDTO();
     mockWorkLog.setId(id);
     mockWorkLog.setCarModel("Test Model");
-    mockWorkLog.setMaterialCode("T-1000");
+    mockWorkLog.setProductCode("T-1000");
     mockWorkLog.setQuantity(10);
 
     when(workLogMapper.selectWorkLogById(id)).thenReturn(mockWorkLog);
@@ -85,7 +159,7 @@ public class WorkLogServiceTest {
     mockWorkLog.setId(id);
     mockWorkLog.setWorkDatetime(LocalDateTime.now());
     mockWorkLog.setCarModel("Test Model");
-    mockWorkLog.setMaterialCode("T-1000");
+    mockWorkLog.setProductCode("T-1000");
     mockWorkLog.setQuantity(10);
 
     when(workLogMapper.selectWorkLogById(id)).thenReturn(mockWorkLog);
@@ -103,23 +177,20 @@ public class WorkLogServiceTest {
   @DisplayName("작업 로그 목록 조회 테스트")
   public void testGetWorkLogs() {
     // given
-    List<WorkLogDTO> mockWorkLogs = Arrays.asList(
-        createMockWorkLog(1L, "Model A", "pending"),
-        createMockWorkLog(2L, "Model B", "completed")
-    );
+    List<WorkLogDTO.ListResponse> rows = Arrays.asList(createMockListRow(1L, "Model A"), createMockListRow(2L, "Model B"));
 
-    when(workLogMapper.selectWorkLogs(anyMap())).thenReturn(mockWorkLogs);
-    when(workLogMapper.countWorkLogs(anyMap())).thenReturn(2);
+    when(workLogMapper.selectWorkLogList(any(WorkLogQuery.class))).thenReturn(rows);
 
     // when
-    Map<String, Object> result = workLogService.getWorkLogs(
-        null, null, null, null, null, 1, 10, null, null);
+    Map<String, Object> result = workLogService.getWorkLogs(null, null, null, null, null, null, null);
 
     // then
     assertThat(result).isNotNull();
-    assertThat(result.get("workLogs")).isEqualTo(mockWorkLogs);
+    assertThat((List<WorkLogDTO.ListResponse>) result.get("workLogs"))
+        .extracting(WorkLogDTO.ListResponse::getId).containsExactlyInAnyOrder(1L, 2L);
     assertThat(result.get("totalCount")).isEqualTo(2);
-    assertThat(result.get("totalPages")).isEqualTo(1);
+    verify(workLogMapper).selectWorkLogList(
+        listCache.rowsKey(WorkLogQuery.of(null, null, null, null, null, null, null, false)));
   }
 
   @Test
@@ -128,23 +199,29 @@ public class WorkLogServiceTest {
     // given
     Long id = 1L;
     WorkLogDTO.UpdateRequest request = new WorkLogDTO.UpdateRequest();
-    request.setWorkDatetime(LocalDateTime.now());
+    request.setWorkDatetime("25.03.20 10:00");
     request.setCarModel("Updated Model");
-    request.setMaterialCode("Updated-Code");
+    request.setProductCode("Updated-Code");
     request.setQuantity(20);
+    request.setVersion(1);
 
-    WorkLogDTO existingWorkLog = new WorkLogDTO();
-    existingWorkLog.setId(id);
-    existingWorkLog.setCarModel("Original Model");
+    WorkLogDTO existingWorkLog = createMockWorkLog(id, "Original Model", "pending");
+    existingWorkLog.setVersion(1);
+    WorkLogDTO updatedWorkLog = createMockWorkLog(id, "Updated Model", "pending");
+    updatedWorkLog.setQuantity(20);
+    updatedWorkLog.setVersion(2);
 
     when(workLogMapper.selectWorkLogById(id)).thenReturn(existingWorkLog);
-    when(workLogMapper.updateWorkLog(any(WorkLogDTO.class))).thenReturn(1);
+    when(workLogMapper.updateWorkLog(any(WorkLogDTO.class))).thenReturn(updatedWorkLog);
 
     // when
-    boolean result = workLogService.updateWorkLog(id, request);
+    WorkLogDTO result = workLogService.updateWorkLog(id, request);
 
-    // then
-    assertThat(result).isTrue();
+    // then - 변경된 행을 반환하고 ID 조회 캐시도 갱신
+    assertThat(result).isNotNull();
+    assertThat(result.getQuantity()).isEqualTo(20);
+    assertThat(result.getVersion()).isEqualTo(2);
+    assertThat(workLogService.getWorkLogById(id).getCarModel()).isEqualTo("Updated Model");
   }
 
   @Test
@@ -153,14 +230,115 @@ public class WorkLogServiceTest {
     // given
     Long id = 999L;
     WorkLogDTO.UpdateRequest request = new WorkLogDTO.UpdateRequest();
+    request.setVersion(1);
 
-    when(workLogMapper.selectWorkLogById(id)).thenReturn(null);
+    when(workLogMapper.updateWorkLog(any(WorkLogDTO.class))).thenReturn(null);
+    when(workLogMapper.selectWorkLogVersion(id)).thenReturn(null);
 
     // when
-    boolean result = workLogService.updateWorkLog(id, request);
+    WorkLogDTO result = workLogService.updateWorkLog(id, request);
 
     // then
-    assertThat(result).isFalse();
+    assertThat(result).isNull();
+  }
+
+  @Test
+  @DisplayName("다른 사용자가 먼저 수정한 작업 로그 업데이트/상태 변경은 버전 충돌")
+  public void testUpdateWorkLogVersionConflict() {
+    // given
+    Long id = 1L;
+    WorkLogDTO.UpdateRequest request = new WorkLogDTO.UpdateRequest();
+    request.setQuantity(20);
+    request.setVersion(1);
+
+    when(workLogMapper.updateWorkLog(any(WorkLogDTO.class))).thenReturn(null);
+    when(workLogMapper.updateWorkLogCompletionStatus(eq(id), any(), eq(1))).thenReturn(null);
+    when(workLogMapper.selectWorkLogVersion(id)).thenReturn(2);
+
+    // when, then
+    assertThatThrownBy(() -> workLogService.updateWorkLog(id, request))
+        .isInstanceOf(OptimisticLockingFailureException.class);
+    assertThatThrownBy(() -> workLogService.updateWorkLogCompletionStatus(id, true, 1))
+        .isInstanceOf(OptimisticLockingFailureException.class);
+  }
+
+  @Test
+  @DisplayName("작업 완료 상태 업데이트는 변경된 행을 반환")
+  public void testUpdateWorkLogCompletionStatus() {
+    // given
+    Long id = 1L;
+    WorkLogDTO completed = createMockWorkLog(id, "Model A", "completed");
+    completed.setCompletedAt(LocalDateTime.now());
+    completed.setVersion(2);
+
+    when(workLogMapper.updateWorkLogCompletionStatus(eq(id), any(LocalDateTime.class), isNull()))
+        .thenReturn(completed);
+
+    // when
+    WorkLogDTO result = workLogService.updateWorkLogCompletionStatus(id, true);
+
+    // then
+    assertThat(result).isNotNull();
+    assertThat(result.getCompletedAt()).isNotNull();
+    assertThat(result.getVersion()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("부분 수정은 전달된 필드만 변경하고 요청의 버전으로 충돌 확인")
+  public void testPatchWorkLog() {
+    // given
+    Long id = 1L;
+    WorkLogDTO patched = createMockWorkLog(id, "Model A", "completed");
+    patched.setQuantity(7);
+    patched.setCompletedAt(LocalDateTime.now());
+    patched.setVersion(2);
+
+    when(workLogMapper.patchWorkLog(eq(id), anyMap(), eq(1))).thenReturn(patched);
+
+    // when
+    WorkLogDTO result = workLogService.patchWorkLog(id, Map.of("quantity", 7, "completed", true, "version", 1));
+
+    // then
+    ArgumentCaptor<Map<String, Object>> changes = ArgumentCaptor.forClass(Map.class);
+    verify(workLogMapper).patchWorkLog(eq(id), changes.capture(), eq(1));
+    assertThat(changes.getValue()).containsOnlyKeys("quantity", "completedAt");
+    assertThat(changes.getValue().get("quantity")).isEqualTo(7);
+    assertThat(changes.getValue().get("completedAt")).isNotNull();
+    assertThat(result.getVersion()).isEqualTo(2);
+    assertThat(workLogService.getWorkLogById(id).getQuantity()).isEqualTo(7);
+  }
+
+  @Test
+  @DisplayName("부분 수정의 지원하지 않는 필드, 잘못된 타입, 필수 값 null 은 거부")
+  public void testPatchWorkLogInvalidRequest() {
+    // given
+    Long id = 1L;
+
+    // when, then
+    assertThatThrownBy(() -> workLogService.patchWorkLog(id, Map.of("materialCode", "M-1")))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> workLogService.patchWorkLog(id, Map.of("completed", "true")))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> workLogService.patchWorkLog(id, Map.of("quantity", "7")))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> workLogService.patchWorkLog(id, Map.of("quantity", 7, "version", "1")))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> workLogService.patchWorkLog(id, Collections.singletonMap("quantity", null)))
+        .isInstanceOf(IllegalArgumentException.class);
+    verify(workLogMapper, never()).patchWorkLog(any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("다른 사용자가 먼저 수정한 작업 로그 부분 수정은 버전 충돌")
+  public void testPatchWorkLogVersionConflict() {
+    // given
+    Long id = 1L;
+    when(workLogMapper.patchWorkLog(eq(id), anyMap(), eq(1))).thenReturn(null);
+    when(workLogMapper.selectWorkLogVersion(id)).thenReturn(2);
+
+    // when, then
+    assertThatThrownBy(() -> workLogService.patchWorkLog(id, Map.of("quantity", 7, "version", 1)))
+        .isInstanceOf(OptimisticLockingFailureException.class);
   }
 
   @Test
@@ -177,6 +355,114 @@ public class WorkLogServiceTest {
     assertThat(result).isTrue();
   }
 
+  @Test
+  @DisplayName("ID 목록으로 일괄 상태 변경하면 변경된 ID 를 반환하고 ID 조회 캐시에서 제거")
+  public void testUpdateWorkLogsCompletionStatusByIds() {
+    // given
+    List<Long> ids = List.of(1L, 2L, 3L);
+    WorkLogDTO.BulkRequest request = new WorkLogDTO.BulkRequest(ids, null, null, null, null, true);
+
+    when(workLogMapper.selectWorkLogById(1L)).thenReturn(createMockWorkLog(1L, "Model A", "pending"));
+    when(workLogMapper.selectWorkLogsByIds(ids)).thenReturn(
+        List.of(createMockWorkLog(1L, "Model A", "pending"), createMockWorkLog(3L, "Model A", "pending")));
+    when(workLogMapper.updateWorkLogsCompletionStatus(anyMap())).thenReturn(List.of(1L, 3L));
+    workLogService.getWorkLogById(1L);
+
+    // when
+    List<Long> updatedIds = workLogService.updateWorkLogsCompletionStatus(request);
+
+    // then - ID 목록만 조건으로 전달하고, 변경된 작업 로그는 다시 조회
+    assertThat(updatedIds).containsExactly(1L, 3L);
+    ArgumentCaptor<Map<String, Object>> params = ArgumentCaptor.forClass(Map.class);
+    verify(workLogMapper).updateWorkLogsCompletionStatus(params.capture());
+    assertThat(params.getValue()).containsEntry("ids", ids).doesNotContainKeys("startDate", "endDate");
+    assertThat(params.getValue().get("completedAt")).isNotNull();
+    workLogService.getWorkLogById(1L);
+    verify(workLogMapper, times(2)).selectWorkLogById(1L);
+  }
+
+  @Test
+  @DisplayName("필터 조건으로 일괄 상태 변경하면 작업일을 하루 범위로 바꿔 전달")
+  public void testUpdateWorkLogsCompletionStatusByFilter() {
+    // given
+    LocalDate day = LocalDate.of(2025, 3, 20);
+    WorkLogDTO.BulkRequest request = new WorkLogDTO.BulkRequest(
+        null, day, "Model A", null, WorkLogQuery.STATUS_COMPLETED, false);
+
+    when(workLogMapper.updateWorkLogsCompletionStatus(anyMap())).thenReturn(List.of(4L));
+
+    // when
+    List<Long> updatedIds = workLogService.updateWorkLogsCompletionStatus(request);
+
+    // then
+    assertThat(updatedIds).containsExactly(4L);
+    ArgumentCaptor<Map<String, Object>> params = ArgumentCaptor.forClass(Map.class);
+    verify(workLogMapper).updateWorkLogsCompletionStatus(params.capture());
+    assertThat(params.getValue())
+        .containsEntry("ids", null)
+        .containsEntry("carModel", "Model A")
+        .containsEntry("status", WorkLogQuery.STATUS_COMPLETED)
+        .containsEntry("startDate", DateTimeUtils.getDateTimeRange(day)[0])
+        .containsEntry("endDate", DateTimeUtils.getDateTimeRange(day)[1])
+        .containsEntry("completedAt", null);
+  }
+
+  @Test
+  @DisplayName("일괄 삭제는 원본과 아카이브(필터 기간이 아카이브에 걸치는 경우)에서 삭제된 ID 를 모두 반환")
+  public void testDeleteWorkLogs() {
+    // given
+    LocalDate day = LocalDate.of(2025, 3, 20);
+    WorkLogDTO.BulkRequest byFilter = new WorkLogDTO.BulkRequest(null, day, null, "T-1000", null, false);
+    WorkLogDTO.BulkRequest byIds = new WorkLogDTO.BulkRequest(List.of(7L, 8L), null, null, null, null, false);
+
+    when(workLogMapper.deleteWorkLogs(anyMap())).thenReturn(List.of(1L, 2L), List.of(7L));
+    when(archiveService.reachesArchive(DateTimeUtils.getDateTimeRange(day)[0])).thenReturn(true);
+    when(workLogMapper.deleteArchivedWorkLogs(anyMap())).thenReturn(List.of(5L));
+
+    // when
+    List<Long> filterDeleted = workLogService.deleteWorkLogs(byFilter);
+    List<Long> idDeleted = workLogService.deleteWorkLogs(byIds);
+
+    // then - ID 지정 삭제는 아카이브 미사용이면 아카이브를 조회하지 않음
+    assertThat(filterDeleted).containsExactly(1L, 2L, 5L);
+    assertThat(idDeleted).containsExactly(7L);
+    verify(workLogMapper, times(1)).deleteArchivedWorkLogs(anyMap());
+  }
+
+  @Test
+  @DisplayName("ID 목록과 필터 조건이 모두 없는 일괄 상태 변경/삭제는 거부")
+  public void testBulkRequestWithoutTarget() {
+    // given
+    WorkLogDTO.BulkRequest empty = new WorkLogDTO.BulkRequest(List.of(), null, " ", null, "", true);
+
+    // when, then
+    assertThatThrownBy(() -> workLogService.updateWorkLogsCompletionStatus(empty))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> workLogService.deleteWorkLogs(empty))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> workLogService.deleteWorkLogs(null))
+        .isInstanceOf(IllegalArgumentException.class);
+    verifyNoInteractions(workLogMapper);
+  }
+
+  @Test
+  @DisplayName("알 수 없는 상태 필터의 일괄 상태 변경/삭제는 거부 (전체 행이 대상이 되지 않음)")
+  public void testBulkRequestWithUnknownStatus() {
+    // given
+    WorkLogDTO.BulkRequest bogus = new WorkLogDTO.BulkRequest(null, null, null, null, "bogus", true);
+    WorkLogDTO.BulkRequest capitalized = new WorkLogDTO.BulkRequest(null, null, null, null, "Completed", false);
+
+    // when, then
+    assertThatThrownBy(() -> workLogService.deleteWorkLogs(bogus))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("bogus");
+    assertThatThrownBy(() -> workLogService.deleteWorkLogs(capitalized))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> workLogService.updateWorkLogsCompletionStatus(bogus))
+        .isInstanceOf(IllegalArgumentException.class);
+    verifyNoInteractions(workLogMapper);
+  }
+
   @Test
   @DisplayName("차량 모델별 작업 로그 조회 테스트")
   public void testGetWorkLogsByCarModel() {
@@ -187,7 +473,7 @@ public class WorkLogServiceTest {
         createMockWorkLog(2L, carModel, "completed")
     );
 
-    when(workLogMapper.selectWorkLogsByCarModel(carModel)).thenReturn(mockWorkLogs);
+    when(workLogMapper.selectWorkLogsByCarModel(carModel, false)).thenReturn(mockWorkLogs);
 
     // when
     List<WorkLogDTO> result = workLogService.getWorkLogsByCarModel(carModel);
@@ -199,12 +485,23 @@ public class WorkLogServiceTest {
   }
 
   // 테스트용 WorkLogDTO 객체 생성 헬퍼 메서드
+  private WorkLogDTO.ListResponse createMockListRow(Long id, String carModel) {
+    WorkLogDTO.ListResponse row = new WorkLogDTO.ListResponse();
+    row.setId(id);
+    row.setWorkDatetime(LocalDateTime.now());
+    row.setCarModel(carModel);
+    row.setProductCode("M-" + id);
+    row.setQuantity(10);
+    row.setVersion(1);
+    return row;
+  }
+
   private WorkLogDTO createMockWorkLog(Long id, String carModel, String status) {
     WorkLogDTO workLog = new WorkLogDTO();
     workLog.setId(id);
     workLog.setWorkDatetime(LocalDateTime.now());
     workLog.setCarModel(carModel);
-    workLog.setMaterialCode("M-" + id);
+    workLog.setProductCode("M-" + id);
     workLog.setQuantity(10);
     return workLog;
   }
@@ -0,0 +1,99 @@
+package com.calman.domain.worklog.service;
+
+import com.calman.domain.worklog.dto.WorkLogDTO;
+import com.calman.domain.worklog.dto.WorkLogQuery;
+import com.calman.global.config.ShardingProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 작업 로그 샤드 라우터 테스트 (샤드 선택, 샤드별 결과 병합)
+ */
+public class WorkLogShardRouterTest {
+
+  @Test
+  @DisplayName("설정한 차종은 해당 샤드, 그 외 차종은 main 샤드")
+  public void testShardOf() {
+    // given
+    ShardingProperties properties = new ShardingProperties();
+    properties.setEnabled(true);
+    ShardingProperties.Shard shard = new ShardingProperties.Shard();
+    shard.setPath("line-on.sqlite");
+    shard.setCarModels(List.of("ON 조립", "ON SUB"));
+    properties.getShards().put("line-on", shard);
+
+    // when
+    WorkLogShardRouter router = new WorkLogShardRouter(properties, null, null, null);
+
+    // then
+    assertThat(router.isEnabled()).isTrue();
+    assertThat(router.shards()).containsExactly(ShardingProperties.MAIN_SHARD, "line-on");
+    assertThat(router.shardOf("ON SUB")).isEqualTo("line-on");
+    assertThat(router.shardOf("AR1 조립")).isEqualTo(ShardingProperties.MAIN_SHARD);
+    assertThat(router.shardOf(null)).isEqualTo(ShardingProperties.MAIN_SHARD);
+  }
+
+  @Test
+  @DisplayName("샤드 비활성화 시 설정된 샤드가 있어도 main 만 사용")
+  public void testDisabled() {
+    ShardingProperties properties = new ShardingProperties();
+    properties.getShards().put("line-on", new ShardingProperties.Shard());
+
+    WorkLogShardRouter router = new WorkLogShardRouter(properties, null, null, null);
+
+    assertThat(router.isEnabled()).isFalse();
+    assertThat(router.locate(1L)).isEqualTo(ShardingProperties.MAIN_SHARD);
+  }
+
+  @Test
+  @DisplayName("정렬된 샤드별 결과를 하나의 정렬된 목록으로 병합 (같은 값은 앞 샤드 먼저)")
+  public void testMerge() {
+    // given
+    List<List<String>> shards = List.of(
+        List.of("a1", "c1", "e1"),
+        List.of(),
+        List.of("b3", "c3", "d3", "f3"));
+
+    // when
+    List<String> merged = WorkLogShardRouter.merge(shards, Comparator.comparing(value -> value.charAt(0)));
+
+    // then
+    assertThat(merged).containsExactly("a1", "b3", "c1", "c3", "d3", "e1", "f3");
+  }
+
+  @Test
+  @DisplayName("목록 병합 순서는 SQL 정렬과 같음 (정렬 키 NULL 은 ASC 에서 처음, DESC 에서 마지막)")
+  public void testMergeListBySortKey() {
+    // given
+    WorkLogQuery ascending = WorkLogQuery.of(null, null, null, null, null, "wl_completed_at", "ASC", false);
+    WorkLogQuery descending = WorkLogQuery.of(null, null, null, null, null, "wl_completed_at", "DESC", false);
+    WorkLogDTO.ListResponse incomplete = listItem(1L, null);
+    WorkLogDTO.ListResponse early = listItem(2L, 1_000L);
+    WorkLogDTO.ListResponse late = listItem(3L, 2_000L);
+
+    // when
+    List<WorkLogDTO.ListResponse> asc = WorkLogShardRouter.merge(
+        List.of(List.of(early), List.of(incomplete, late)), ascending.listComparator());
+    List<WorkLogDTO.ListResponse> desc = WorkLogShardRouter.merge(
+        List.of(List.of(late, incomplete), List.of(early)), descending.listComparator());
+
+    // then
+    assertThat(asc).extracting(WorkLogDTO.ListResponse::getId).containsExactly(1L, 2L, 3L);
+    assertThat(desc).extracting(WorkLogDTO.ListResponse::getId).containsExactly(3L, 2L, 1L);
+  }
+
+  private static WorkLogDTO.ListResponse listItem(Long id, Long completedAt) {
+    WorkLogDTO.ListResponse item = new WorkLogDTO.ListResponse();
+    item.setId(id);
+    item.setWorkDatetime(LocalDateTime.of(2025, 3, 1, 9, 0));
+    item.setCompleted(completedAt != null);
+    item.setSortKey(completedAt);
+    return item;
+  }
+}
@@ -0,0 +1,45 @@
+package com.calman.global.datasource;
+
+import com.calman.global.datasource.ReadWriteRoutingDataSource.Route;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기/쓰기 라우팅 데이터소스 테스트
+ */
+public class ReadWriteRoutingDataSourceTest {
+
+  private final ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource();
+
+  @AfterEach
+  public void tearDown() {
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+  }
+
+  @Test
+  @DisplayName("readOnly 트랜잭션은 읽기 풀로 라우팅")
+  public void testReadOnlyTransactionRoutesToReader() {
+    // given
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+    // when
+    Object route = routingDataSource.determineCurrentLookupKey();
+
+    // then
+    assertThat(route).isEqualTo(Route.READER);
+  }
+
+  @Test
+  @DisplayName("쓰기 트랜잭션 및 트랜잭션 없음은 쓰기 풀로 라우팅")
+  public void testWriteTransactionRoutesToWriter() {
+    // when
+    Object route = routingDataSource.determineCurrentLookupKey();
+
+    // then
+    assertThat(route).isEqualTo(Route.WRITER);
+  }
+}
@@ -0,0 +1,38 @@
+package com.calman.global.datasource;
+
+import com.calman.global.config.ShardingProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 샤드 라우팅 데이터소스 테스트
+ */
+public class ShardRoutingDataSourceTest {
+
+  private final ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource();
+
+  @Test
+  @DisplayName("샤드를 지정하지 않으면 main 샤드로 라우팅")
+  public void testDefaultsToMainShard() {
+    assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ShardingProperties.MAIN_SHARD);
+  }
+
+  @Test
+  @DisplayName("지정한 샤드로 라우팅하고 실행 후 이전 샤드로 복원")
+  public void testRoutesToBoundShard() {
+    // when
+    Object inner = ShardContext.call("line-a", () -> ShardContext.call("line-b",
+        () -> routingDataSource.determineCurrentLookupKey()));
+    Object outer = ShardContext.call("line-a", () -> {
+      ShardContext.call("line-b", () -> null);
+      return routingDataSource.determineCurrentLookupKey();
+    });
+
+    // then
+    assertThat(inner).isEqualTo("line-b");
+    assertThat(outer).isEqualTo("line-a");
+    assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ShardingProperties.MAIN_SHARD);
+  }
+}
@@ -0,0 +1,179 @@
+package com.calman.global.datasource;
+
+import com.calman.global.config.ShardingProperties;
+import com.calman.global.config.SqliteProperties;
+import com.calman.global.id.TimeOrderedIdGenerator;
+import com.calman.global.sqlite.SqliteSchemaMigrator;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.sqlite.SQLiteConfig.SynchronousMode;
+import org.sqlite.SQLiteDataSource;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 라인 동시 적재 벤치마크 (단일 DB 파일 vs 라인별 샤드 파일)
+ * - 실행: ./gradlew test --tests '*ShardedIngestBenchmarkTest' -Dbenchmark=true
+ * - 라인당 행 수 조정: -Dbenchmark.rows=2000
+ *
+ * 라인마다 스레드 하나가 createWorkLog 와 같이 행마다 커밋한다.
+ * 단일 파일은 모든 라인이 쓰기 풀(커넥션 1개)을 나눠 쓰고, 샤드는 라인마다 별도 파일과 쓰기 풀을 사용한다
+ * (샤드 커넥션에는 애플리케이션과 같이 기본 DB 를 카탈로그로 ATTACH).
+ * dev(synchronous=FULL)/prod(NORMAL) 프리셋 각각 라인 수를 늘려 가며 초당 적재 행 수를 비교한다.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class ShardedIngestBenchmarkTest {
+
+  private static final int ROWS_PER_LINE = Integer.getInteger("benchmark.rows", 1000);
+  private static final int[] LINES = {1, 2, 4, 8};
+  private static final long BASE = 1735711200000L;  // 2025-01-01 06:00
+  private static final String INSERT = "INSERT INTO work_logs (wl_id, wl_work_datetime, wl_car_model_id,"
+      + " wl_product_id, wl_quantity) VALUES (?, ?, ?, 1, ?)";
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  @DisplayName("라인 수별 단일 파일/샤드 동시 적재 처리량 비교")
+  public void benchmarkConcurrentIngest() throws Exception {
+    System.out.printf("[benchmark] rowsPerLine=%d%n", ROWS_PER_LINE);
+    for (SynchronousMode synchronous : new SynchronousMode[] {SynchronousMode.FULL, SynchronousMode.NORMAL}) {
+      for (int lines : LINES) {
+        double single = run(synchronous, lines, false);
+        double sharded = run(synchronous, lines, true);
+        System.out.printf("[benchmark] synchronous=%-6s lines=%d single %,8.0f rows/s, sharded %,8.0f rows/s, x%.2f%n",
+            synchronous, lines, single, sharded, sharded / single);
+      }
+    }
+  }
+
+  private double run(SynchronousMode synchronous, int lines, boolean sharded) throws Exception {
+    Path dir = tempDir.resolve(synchronous + "-" + lines + (sharded ? "-sharded" : "-single"));
+    dir.toFile().mkdirs();
+    SqliteProperties sqliteProperties = new SqliteProperties();
+    sqliteProperties.setSynchronous(synchronous);
+
+    // 기본 DB (카탈로그 포함)
+    Path mainPath = dir.resolve("main.sqlite");
+    SQLiteDataSource mainDataSource = new SQLiteDataSource(sqliteProperties.toSQLiteConfig());
+    mainDataSource.setUrl("jdbc:sqlite:" + mainPath);
+    new ResourceDatabasePopulator(new ClassPathResource("schema/worklogs.sql")).execute(mainDataSource);
+    new SqliteSchemaMigrator(mainDataSource).migrate(SqliteSchemaMigrator.MAIN_SCHEMA, SqliteSchemaMigrator.MAIN_LOCATION);
+    try (Connection connection = mainDataSource.getConnection();
+         Statement statement = connection.createStatement()) {
+      for (int line = 0; line < lines; line++) {
+        statement.execute("INSERT INTO car_models (cm_name) VALUES ('LINE-" + line + "')");
+      }
+      statement.execute("INSERT INTO products (pd_code, pd_name, pd_color) VALUES ('00001Q5000', '제품 1', '#FF0000')");
+    }
+
+    List<HikariDataSource> pools = new ArrayList<>();
+    List<DataSource> writers = new ArrayList<>();
+    String attachCatalog = "ATTACH DATABASE '" + mainPath + "' AS " + ShardingProperties.CATALOG_SCHEMA_NAME;
+    if (sharded) {
+      ResourceDatabasePopulator shardSchema = new ResourceDatabasePopulator(
+          new ClassPathResource("schema/worklogs-shard.sql"));
+      for (int line = 0; line < lines; line++) {
+        HikariDataSource pool = writerPool(sqliteProperties, dir.resolve("line-" + line + ".sqlite"), attachCatalog);
+        shardSchema.execute(pool);
+        pools.add(pool);
+        writers.add(pool);
+      }
+    } else {
+      HikariDataSource pool = writerPool(sqliteProperties, mainPath, null);
+      pools.add(pool);
+      for (int line = 0; line < lines; line++) {
+        writers.add(pool);
+      }
+    }
+
+    TimeOrderedIdGenerator idGenerator = new TimeOrderedIdGenerator();
+    ExecutorService executor = Executors.newFixedThreadPool(lines);
+    try {
+      CountDownLatch start = new CountDownLatch(1);
+      List<Future<Integer>> futures = new ArrayList<>();
+      for (int line = 0; line < lines; line++) {
+        DataSource writer = writers.get(line);
+        long carModelId = line + 1;
+        futures.add(executor.submit(() -> {
+          start.await();
+          return ingest(writer, idGenerator, carModelId);
+        }));
+      }
+
+      long begin = System.nanoTime();
+      start.countDown();
+      int inserted = 0;
+      for (Future<Integer> future : futures) {
+        inserted += future.get();
+      }
+      double seconds = (System.nanoTime() - begin) / 1e9;
+
+      assertThat(inserted).isEqualTo(lines * ROWS_PER_LINE);
+      assertThat(countRows(pools)).isEqualTo(lines * ROWS_PER_LINE);
+      return inserted / seconds;
+    } finally {
+      executor.shutdown();
+      pools.forEach(HikariDataSource::close);
+    }
+  }
+
+  // 라인 하나의 적재 (행마다 커넥션을 얻어 자동 커밋)
+  private static int ingest(DataSource writer, TimeOrderedIdGenerator idGenerator, long carModelId)
+      throws Exception {
+    for (int i = 0; i < ROWS_PER_LINE; i++) {
+      try (Connection connection = writer.getConnection();
+           PreparedStatement ps = connection.prepareStatement(INSERT)) {
+        ps.setLong(1, idGenerator.nextId());
+        ps.setLong(2, BASE + i * 60_000L);
+        ps.setLong(3, carModelId);
+        ps.setInt(4, 1 + i % 10);
+        ps.executeUpdate();
+      }
+    }
+    return ROWS_PER_LINE;
+  }
+
+  private static HikariDataSource writerPool(SqliteProperties sqliteProperties, Path path, String attachCatalog) {
+    SQLiteDataSource sqliteDataSource = new InitializingSQLiteDataSource(sqliteProperties.toSQLiteConfig(),
+        attachCatalog != null ? List.of(attachCatalog) : List.of());
+    sqliteDataSource.setUrl("jdbc:sqlite:" + path);
+
+    HikariDataSource pool = new HikariDataSource();
+    pool.setDataSource(new StatementCachingDataSource(sqliteDataSource, 64));
+    pool.setMaximumPoolSize(1);
+    pool.setMinimumIdle(1);
+    return pool;
+  }
+
+  private static long countRows(List<HikariDataSource> pools) throws Exception {
+    long count = 0;
+    for (HikariDataSource pool : pools) {
+      try (Connection connection = pool.getConnection();
+           Statement statement = connection.createStatement();
+           ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM main.work_logs")) {
+        rs.next();
+        count += rs.getLong(1);
+      }
+    }
+    return count;
+  }
+}
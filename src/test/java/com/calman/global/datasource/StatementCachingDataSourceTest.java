@@ -0,0 +1,124 @@
+package com.calman.global.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.sqlite.SQLiteDataSource;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 커넥션별 문장 캐시 데이터소스 테스트
+ */
+public class StatementCachingDataSourceTest {
+
+  @TempDir
+  Path tempDir;
+
+  private SQLiteDataSource sqliteDataSource;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    sqliteDataSource = new SQLiteDataSource();
+    sqliteDataSource.setUrl("jdbc:sqlite:" + tempDir.resolve("statement-cache.sqlite"));
+    try (Connection connection = sqliteDataSource.getConnection();
+         Statement statement = connection.createStatement()) {
+      statement.execute("CREATE TABLE t (id INTEGER PRIMARY KEY, name TEXT)");
+      statement.execute("INSERT INTO t (name) VALUES ('a'), ('b'), ('c')");
+    }
+  }
+
+  @Test
+  @DisplayName("닫은 문장은 같은 SQL 에 재사용되고 파라미터는 초기화됨")
+  public void testReuseAfterClose() throws Exception {
+    // given
+    StatementCachingDataSource dataSource = new StatementCachingDataSource(sqliteDataSource, 4);
+
+    try (Connection connection = dataSource.getConnection()) {
+      // when
+      PreparedStatement first = connection.prepareStatement("SELECT name FROM t WHERE id = ?");
+      first.setLong(1, 2);
+      assertThat(singleName(first)).isEqualTo("b");
+      first.close();
+      PreparedStatement second = connection.prepareStatement("SELECT name FROM t WHERE id = ?");
+      second.setLong(1, 3);
+
+      // then
+      assertThat(second).isSameAs(first);
+      assertThat(second.isClosed()).isFalse();
+      assertThat(singleName(second)).isEqualTo("c");
+      second.close();
+      assertThat(first.isClosed()).isTrue();
+    }
+  }
+
+  @Test
+  @DisplayName("같은 SQL 이 사용 중이면 캐시하지 않는 새 문장을 반환")
+  public void testInUseStatementNotShared() throws Exception {
+    // given
+    StatementCachingDataSource dataSource = new StatementCachingDataSource(sqliteDataSource, 4);
+
+    try (Connection connection = dataSource.getConnection()) {
+      // when
+      PreparedStatement outer = connection.prepareStatement("SELECT name FROM t WHERE id = ?");
+      PreparedStatement inner = connection.prepareStatement("SELECT name FROM t WHERE id = ?");
+      inner.close();
+      outer.close();
+
+      // then
+      assertThat(inner).isNotSameAs(outer);
+      assertThat(connection.prepareStatement("SELECT name FROM t WHERE id = ?")).isSameAs(outer);
+    }
+  }
+
+  @Test
+  @DisplayName("캐시 크기를 넘으면 가장 오래 쓰지 않은 문장을 닫음")
+  public void testEvictsLeastRecentlyUsed() throws Exception {
+    // given
+    StatementCachingDataSource dataSource = new StatementCachingDataSource(sqliteDataSource, 2);
+
+    try (Connection connection = dataSource.getConnection()) {
+      PreparedStatement first = connection.prepareStatement("SELECT 1");
+      first.close();
+      PreparedStatement second = connection.prepareStatement("SELECT 2");
+      second.close();
+      // SELECT 1 을 다시 사용해 SELECT 2 가 가장 오래된 항목이 됨
+      connection.prepareStatement("SELECT 1").close();
+
+      // when
+      connection.prepareStatement("SELECT 3").close();
+
+      // then
+      assertThat(connection.prepareStatement("SELECT 1")).isSameAs(first);
+      assertThat(connection.prepareStatement("SELECT 2")).isNotSameAs(second);
+    }
+  }
+
+  @Test
+  @DisplayName("캐시 크기가 0 이면 원래 커넥션을 그대로 반환")
+  public void testDisabled() throws Exception {
+    StatementCachingDataSource dataSource = new StatementCachingDataSource(sqliteDataSource, 0);
+
+    try (Connection connection = dataSource.getConnection()) {
+      PreparedStatement first = connection.prepareStatement("SELECT 1");
+      first.close();
+
+      assertThat(connection.prepareStatement("SELECT 1")).isNotSameAs(first);
+      assertThat(first.isClosed()).isTrue();
+    }
+  }
+
+  private static String singleName(PreparedStatement statement) throws Exception {
+    try (ResultSet rs = statement.executeQuery()) {
+      assertThat(rs.next()).isTrue();
+      return rs.getString(1);
+    }
+  }
+}
@@ -0,0 +1,122 @@
+package com.calman.global.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 시간 순서 ID 생성기 테스트
+ */
+public class TimeOrderedIdGeneratorTest {
+
+  @Test
+  @DisplayName("ID 는 발급 시각 순서이며 발급 시각을 복원할 수 있음")
+  public void testTimeOrdered() {
+    // given
+    AtomicLong clock = new AtomicLong(TimeOrderedIdGenerator.EPOCH_MILLIS + 1_000);
+    TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(clock::get);
+
+    // when
+    long first = generator.nextId();
+    long second = generator.nextId();
+    clock.addAndGet(5);
+    long third = generator.nextId();
+
+    // then
+    assertThat(second).isEqualTo(first + 1);
+    assertThat(third).isGreaterThan(second);
+    assertThat(TimeOrderedIdGenerator.timestampOf(first)).isEqualTo(TimeOrderedIdGenerator.EPOCH_MILLIS + 1_000);
+    assertThat(TimeOrderedIdGenerator.timestampOf(third)).isEqualTo(clock.get());
+  }
+
+  @Test
+  @DisplayName("시계가 뒤로 가거나 기존 ID 가 더 크면 이전 값 이후부터 발급")
+  public void testMonotonic() {
+    // given
+    AtomicLong clock = new AtomicLong(TimeOrderedIdGenerator.EPOCH_MILLIS + 10_000);
+    TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(clock::get);
+    long before = generator.nextId();
+
+    // when
+    clock.addAndGet(-5_000);
+    long afterClockBack = generator.nextId();
+    generator.advanceTo(afterClockBack + 100);
+    long afterAdvance = generator.nextId();
+
+    // then
+    assertThat(afterClockBack).isEqualTo(before + 1);
+    assertThat(afterAdvance).isEqualTo(afterClockBack + 101);
+  }
+
+  @Test
+  @DisplayName("구간 발급은 연속된 ID 를 한 번에 예약")
+  public void testReserve() {
+    // given
+    TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(() -> TimeOrderedIdGenerator.EPOCH_MILLIS);
+
+    // when
+    long first = generator.reserve(10_000);
+    long next = generator.nextId();
+
+    // then (한 밀리초 용량 4096 개를 넘어도 겹치지 않음)
+    assertThat(next).isEqualTo(first + 10_000);
+    assertThatThrownBy(() -> generator.reserve(0)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("현재 시각의 ID 는 JavaScript 안전 정수 범위 안에 있음")
+  public void testJavaScriptSafe() {
+    long id = new TimeOrderedIdGenerator().nextId();
+
+    assertThat(id).isPositive().isLessThanOrEqualTo(TimeOrderedIdGenerator.MAX_ID);
+  }
+
+  @Test
+  @DisplayName("여러 스레드에서 동시에 발급해도 중복 없음")
+  public void testConcurrent() throws Exception {
+    // given
+    TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator();
+    int threads = 8;
+    int perThread = 50_000;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+    // when
+    List<Future<long[]>> futures = new ArrayList<>();
+    for (int t = 0; t < threads; t++) {
+      Callable<long[]> task = () -> {
+        long[] ids = new long[perThread];
+        for (int i = 0; i < perThread; i++) {
+          ids[i] = generator.nextId();
+        }
+        return ids;
+      };
+      futures.add(executor.submit(task));
+    }
+
+    // then
+    Set<Long> unique = new HashSet<>();
+    for (Future<long[]> future : futures) {
+      long[] ids = future.get();
+      for (int i = 0; i < ids.length; i++) {
+        if (i > 0) {
+          assertThat(ids[i]).isGreaterThan(ids[i - 1]);
+        }
+        unique.add(ids[i]);
+      }
+    }
+    executor.shutdown();
+    assertThat(unique).hasSize(threads * perThread);
+  }
+}
@@ -0,0 +1,67 @@
+package com.calman.global.mybatis;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sqlite.SQLiteDataSource;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LocalDateTime <-> epoch millis 타입 핸들러 테스트
+ */
+public class EpochMillisLocalDateTimeTypeHandlerTest {
+
+  private final EpochMillisLocalDateTimeTypeHandler handler = new EpochMillisLocalDateTimeTypeHandler();
+
+  @Test
+  @DisplayName("저장한 값을 그대로 읽고 SQLite 날짜 함수와 같은 시각으로 해석")
+  public void testRoundTrip() throws Exception {
+    // given
+    LocalDateTime workDatetime = LocalDateTime.of(2025, 3, 15, 9, 30, 15, 123_000_000);
+
+    try (Connection connection = memoryConnection();
+        Statement statement = connection.createStatement()) {
+      statement.execute("CREATE TABLE t (v INTEGER)");
+
+      // when
+      try (PreparedStatement ps = connection.prepareStatement("INSERT INTO t (v) VALUES (?)")) {
+        handler.setParameter(ps, 1, workDatetime, null);
+        ps.executeUpdate();
+      }
+
+      // then
+      try (ResultSet rs = statement.executeQuery(
+          "SELECT v, typeof(v), strftime('%Y-%m-%d %H:%M:%S', v / 1000, 'unixepoch') FROM t")) {
+        assertThat(rs.next()).isTrue();
+        assertThat(handler.getResult(rs, 1)).isEqualTo(workDatetime);
+        assertThat(rs.getString(2)).isEqualTo("integer");
+        assertThat(rs.getString(3)).isEqualTo("2025-03-15 09:30:15");
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("마이그레이션 이전 텍스트 값과 NULL 도 읽음")
+  public void testLegacyText() throws Exception {
+    try (Connection connection = memoryConnection();
+        Statement statement = connection.createStatement();
+        ResultSet rs = statement.executeQuery("SELECT '2025-03-15 09:30:00', '2025-03-15T09:30', NULL")) {
+      assertThat(rs.next()).isTrue();
+      assertThat(handler.getResult(rs, 1)).isEqualTo(LocalDateTime.of(2025, 3, 15, 9, 30));
+      assertThat(handler.getResult(rs, 2)).isEqualTo(LocalDateTime.of(2025, 3, 15, 9, 30));
+      assertThat(handler.getResult(rs, 3)).isNull();
+    }
+  }
+
+  private static Connection memoryConnection() throws Exception {
+    SQLiteDataSource dataSource = new SQLiteDataSource();
+    dataSource.setUrl("jdbc:sqlite::memory:");
+    return dataSource.getConnection();
+  }
+}
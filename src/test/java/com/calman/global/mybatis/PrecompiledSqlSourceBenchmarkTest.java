@@ -0,0 +1,191 @@
+package com.calman.global.mybatis;
+
+import com.calman.domain.worklog.dto.WorkLogQuery;
+import com.calman.global.datasource.StatementCachingDataSource;
+import com.calman.global.sqlite.SqliteSchemaMigrator;
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.sqlite.SQLiteDataSource;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 조회 호출당 CPU 시간/할당량 벤치마크 (동적 SQL + SIMPLE 실행기 vs 미리 생성한 SQL + REUSE 실행기/문장 캐시)
+ * - 실행: ./gradlew test --tests '*PrecompiledSqlSourceBenchmarkTest' -Dbenchmark=true
+ *
+ * 하루 단위 조회에 정렬 필드/방향/상태/차종 필터를 바꿔 가며 호출한다.
+ * SQL 생성만 따로 측정한 값(sql)과 커넥션 풀에서 결과 매핑까지 포함한 값(query)을 출력한다.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class PrecompiledSqlSourceBenchmarkTest {
+
+  private static final int DAYS = 30;
+  private static final int ROWS_PER_DAY = 40;
+  private static final int WARMUP = 3_000;
+  private static final int CALLS = 10_000;
+  private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+  private static final String[] STATUSES = {null, "completed", "incomplete"};
+  private static final String SELECT_WORK_LOG_LIST_DYNAMIC = PrecompiledSqlSourceTest.SELECT_WORK_LOG_LIST + "Dynamic";
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  @DisplayName("동적 SQL 과 미리 생성한 SQL 의 호출당 CPU 시간/할당량 비교")
+  public void benchmarkSelectWorkLogList() throws Exception {
+    SQLiteDataSource sqliteDataSource = new SQLiteDataSource();
+    sqliteDataSource.setUrl("jdbc:sqlite:" + tempDir.resolve("precompiled.sqlite"));
+    new ResourceDatabasePopulator(new ClassPathResource("schema/worklogs.sql")).execute(sqliteDataSource);
+    new SqliteSchemaMigrator(sqliteDataSource)
+        .migrate(SqliteSchemaMigrator.MAIN_SCHEMA, SqliteSchemaMigrator.MAIN_LOCATION);
+    insertRows(sqliteDataSource);
+
+    List<WorkLogQuery> queries = new ArrayList<>();
+    for (int i = 0; i < CALLS; i++) {
+      LocalDateTime day = BASE.plusDays(i * 7L % DAYS);
+      queries.add(WorkLogQuery.of(i % 4 == 0 ? "조립" : null, null, STATUSES[i % 3], day,
+          day.plusDays(1).minusSeconds(1), WorkLogQuery.SORT_FIELDS.get(i % 8), i % 2 == 0 ? "ASC" : "DESC", false));
+    }
+
+    // SQL 생성만 측정
+    PrecompiledSqlSource sqlSource = PrecompiledSqlSourceTest.selectWorkLogListSource(
+        PrecompiledSqlSourceTest.workLogConfiguration());
+    Measurement dynamicSql = measure(queries, query -> sqlSource.getDynamicSqlSource().getBoundSql(query).getSql().length());
+    Measurement precompiledSql = measure(queries, query -> sqlSource.getBoundSql(query).getSql().length());
+
+    // 커넥션 풀에서 조회 및 결과 매핑까지 측정
+    Measurement dynamicQuery;
+    Measurement precompiledQuery;
+    try (HikariDataSource simplePool = pool(sqliteDataSource);
+         HikariDataSource reusePool = pool(new StatementCachingDataSource(sqliteDataSource, 64))) {
+      SqlSessionFactory simple = sessionFactory(simplePool, ExecutorType.SIMPLE);
+      SqlSessionFactory reuse = sessionFactory(reusePool, ExecutorType.REUSE);
+      dynamicQuery = measure(queries, query -> select(simple, SELECT_WORK_LOG_LIST_DYNAMIC, query));
+      precompiledQuery = measure(queries, query -> select(reuse, PrecompiledSqlSourceTest.SELECT_WORK_LOG_LIST, query));
+    }
+
+    System.out.printf("[benchmark] days=%d, rowsPerDay=%d, calls=%d%n", DAYS, ROWS_PER_DAY, CALLS);
+    print("sql   dynamic    ", dynamicSql);
+    print("sql   precompiled", precompiledSql);
+    print("query dynamic    ", dynamicQuery);
+    print("query precompiled", precompiledQuery);
+    System.out.printf("[benchmark] gain  sql cpu x%.2f alloc x%.2f, query cpu x%.2f alloc x%.2f%n",
+        dynamicSql.cpuNanos / precompiledSql.cpuNanos, dynamicSql.bytes / precompiledSql.bytes,
+        dynamicQuery.cpuNanos / precompiledQuery.cpuNanos, dynamicQuery.bytes / precompiledQuery.bytes);
+
+    assertThat(dynamicQuery.checksum).isEqualTo(precompiledQuery.checksum);
+  }
+
+  private static Measurement measure(List<WorkLogQuery> queries, ToIntFunction<WorkLogQuery> call) {
+    com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    for (int i = 0; i < WARMUP; i++) {
+      call.applyAsInt(queries.get(i % queries.size()));
+    }
+    long checksum = 0;
+    long cpuStart = threads.getCurrentThreadCpuTime();
+    long bytesStart = threads.getCurrentThreadAllocatedBytes();
+    long wallStart = System.nanoTime();
+    for (WorkLogQuery query : queries) {
+      checksum += call.applyAsInt(query);
+    }
+    long wall = System.nanoTime() - wallStart;
+    long cpu = threads.getCurrentThreadCpuTime() - cpuStart;
+    long bytes = threads.getCurrentThreadAllocatedBytes() - bytesStart;
+    return new Measurement((double) cpu / queries.size(), (double) bytes / queries.size(),
+        (double) wall / queries.size(), checksum);
+  }
+
+  private static int select(SqlSessionFactory factory, String statement, WorkLogQuery query) {
+    try (SqlSession session = factory.openSession()) {
+      return session.selectList(statement, query).size();
+    }
+  }
+
+  private static SqlSessionFactory sessionFactory(DataSource dataSource, ExecutorType executorType) throws Exception {
+    Configuration configuration = PrecompiledSqlSourceTest.workLogConfiguration();
+    configuration.setEnvironment(new Environment("benchmark", new JdbcTransactionFactory(), dataSource));
+    configuration.setDefaultExecutorType(executorType);
+
+    // 변경 전과 같은 동적 SQL 문장 (OGNL 평가 및 SQL 문자열 생성을 호출마다 수행)
+    MappedStatement precompiled = configuration.getMappedStatement(PrecompiledSqlSourceTest.SELECT_WORK_LOG_LIST);
+    PrecompiledSqlSource sqlSource = (PrecompiledSqlSource) precompiled.getSqlSource();
+    configuration.addMappedStatement(new MappedStatement.Builder(configuration,
+        SELECT_WORK_LOG_LIST_DYNAMIC, sqlSource.getDynamicSqlSource(), SqlCommandType.SELECT)
+        .resultMaps(precompiled.getResultMaps())
+        .build());
+    return new SqlSessionFactoryBuilder().build(configuration);
+  }
+
+  private static HikariDataSource pool(DataSource dataSource) {
+    HikariDataSource pool = new HikariDataSource();
+    pool.setDataSource(dataSource);
+    pool.setMaximumPoolSize(1);
+    return pool;
+  }
+
+  private static void insertRows(DataSource dataSource) throws Exception {
+    try (Connection connection = dataSource.getConnection()) {
+      connection.setAutoCommit(false);
+      try (Statement statement = connection.createStatement()) {
+        statement.execute("INSERT INTO car_models (cm_name) VALUES ('ON 조립'), ('ON SUB'), ('AR1 조립')");
+        statement.execute("INSERT INTO products (pd_code, pd_name, pd_color) VALUES"
+            + " ('00001Q5000', '제품 1', '#FF0000'), ('00002Q5000', '제품 2', '#0000FF')");
+      }
+      try (PreparedStatement ps = connection.prepareStatement("INSERT INTO work_logs (wl_id, wl_work_datetime,"
+          + " wl_car_model_id, wl_product_id, wl_quantity, wl_completed_at, wl_created_at) VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+        long base = EpochMillisLocalDateTimeTypeHandler.toEpochMillis(BASE);
+        for (int i = 0; i < DAYS * ROWS_PER_DAY; i++) {
+          long workDatetime = base + (long) (i / ROWS_PER_DAY) * 86_400_000L + (i % ROWS_PER_DAY) * 600_000L;
+          ps.setLong(1, i + 1);
+          ps.setLong(2, workDatetime);
+          ps.setLong(3, i % 3 + 1);
+          ps.setLong(4, i % 2 + 1);
+          ps.setInt(5, 1 + i % 10);
+          if (i % 3 == 0) {
+            ps.setNull(6, Types.BIGINT);
+          } else {
+            ps.setLong(6, workDatetime + 3_600_000L);
+          }
+          ps.setLong(7, workDatetime);
+          ps.addBatch();
+        }
+        ps.executeBatch();
+      }
+      connection.commit();
+    }
+  }
+
+  private static void print(String name, Measurement measurement) {
+    System.out.printf("[benchmark] %s cpu %,10.0f ns/call, alloc %,10.0f B/call, wall %,10.0f ns/call%n",
+        name, measurement.cpuNanos, measurement.bytes, measurement.wallNanos);
+  }
+
+  private record Measurement(double cpuNanos, double bytes, double wallNanos, long checksum) {
+  }
+}
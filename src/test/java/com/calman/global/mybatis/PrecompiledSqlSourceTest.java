@@ -0,0 +1,147 @@
+package com.calman.global.mybatis;
+
+import com.calman.domain.worklog.dto.WorkLogQuery;
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 미리 생성한 SQL 변형 테스트 (WorkLogMapper.selectWorkLogList)
+ */
+public class PrecompiledSqlSourceTest {
+
+  static final String SELECT_WORK_LOG_LIST = "com.calman.domain.worklog.mapper.WorkLogMapper.selectWorkLogList";
+
+  @Test
+  @DisplayName("기동 시 모든 변형을 생성하고 각 변형은 동적 SQL 과 같은 문장/파라미터를 만듦")
+  public void testVariantsMatchDynamicSql() throws Exception {
+    // given
+    Configuration configuration = workLogConfiguration();
+    List<WorkLogQuery> variants = WorkLogQuery.variants();
+
+    // then
+    Set<Integer> keys = new HashSet<>();
+    variants.forEach(variant -> keys.add(variant.variantKey()));
+    assertThat(keys).hasSize(variants.size());
+
+    PrecompiledSqlSource sqlSource = selectWorkLogListSource(configuration);
+    assertThat(sqlSource.size()).isEqualTo(variants.size());
+
+    for (WorkLogQuery variant : variants) {
+      BoundSql precompiled = sqlSource.getBoundSql(variant);
+      BoundSql dynamic = sqlSource.getDynamicSqlSource().getBoundSql(variant);
+
+      assertThat(precompiled.getSql()).isEqualTo(dynamic.getSql().replaceAll("\\s+", " ").trim());
+      assertThat(properties(precompiled)).isEqualTo(properties(dynamic));
+    }
+  }
+
+  @Test
+  @DisplayName("조건 값만 다른 조회는 같은 SQL 을 사용하고 값은 조회 객체에서 바인딩")
+  public void testSameVariantSharesSql() throws Exception {
+    // given
+    PrecompiledSqlSource sqlSource = selectWorkLogListSource(workLogConfiguration());
+    WorkLogQuery first = WorkLogQuery.of("ON", "", "completed",
+        LocalDateTime.of(2025, 3, 1, 0, 0), LocalDateTime.of(2025, 3, 1, 23, 59), "wl_car_model", "DESC", true);
+    WorkLogQuery second = WorkLogQuery.of("AR1", null, "completed",
+        LocalDateTime.of(2025, 4, 1, 0, 0), LocalDateTime.of(2025, 4, 1, 23, 59), "wl_car_model", "DESC", true);
+
+    // when
+    BoundSql firstSql = sqlSource.getBoundSql(first);
+    BoundSql secondSql = sqlSource.getBoundSql(second);
+
+    // then
+    assertThat(secondSql.getSql()).isSameAs(firstSql.getSql());
+    assertThat(firstSql.getSql())
+        .contains("UNION ALL", "wl_completed_at IS NOT NULL", "AS wl_sort_key")
+        .doesNotContain("pd_code LIKE")
+        .endsWith("ORDER BY wl_sort_key DESC");
+    assertThat(secondSql.getParameterObject()).isSameAs(second);
+    // LocalDateTime 은 epoch millis 타입 핸들러로 바인딩
+    assertThat(firstSql.getParameterMappings())
+        .filteredOn(mapping -> mapping.getProperty().equals("startDate"))
+        .allSatisfy(mapping -> assertThat(mapping.getTypeHandler())
+            .isInstanceOf(EpochMillisLocalDateTimeTypeHandler.class));
+  }
+
+  @Test
+  @DisplayName("목록 화면 조회는 완료 여부만 조회하고 완료 시간 정렬은 정렬 키 컬럼 사용")
+  public void testListProjection() throws Exception {
+    // given
+    PrecompiledSqlSource sqlSource = selectWorkLogListSource(workLogConfiguration());
+    WorkLogQuery query = WorkLogQuery.of(null, null, null, null, null, "wl_completed_at", "DESC", true);
+
+    // when
+    String sql = sqlSource.getBoundSql(query).getSql();
+
+    // then
+    assertThat(sql)
+        .contains("wl_completed_at IS NOT NULL AS wl_completed", "wl_completed_at AS wl_sort_key", "UNION ALL")
+        .endsWith("ORDER BY wl_sort_key DESC");
+  }
+
+  @Test
+  @DisplayName("허용되지 않은 정렬/상태 값은 기본 변형으로 정규화")
+  public void testNormalization() {
+    WorkLogQuery query = WorkLogQuery.of("", null, "unknown", null, null, "wl_id; DROP", "desc", false);
+    WorkLogQuery defaults = WorkLogQuery.of(null, null, null, null, null, null, null, false);
+
+    assertThat(query.getSortField()).isEqualTo("wl_work_datetime");
+    assertThat(query.getSortDirection()).isEqualTo("ASC");
+    assertThat(query.getStatus()).isNull();
+    assertThat(query.getCarModel()).isNull();
+    assertThat(query.variantKey()).isEqualTo(defaults.variantKey());
+  }
+
+  /**
+   * 애플리케이션과 같은 설정으로 작업 로그 매퍼 XML 을 읽은 MyBatis 설정
+   */
+  static Configuration workLogConfiguration() throws Exception {
+    return workLogConfiguration(null);
+  }
+
+  /**
+   * 지정한 DB 종류(databaseId)로 작업 로그/카탈로그 매퍼 XML 을 읽은 MyBatis 설정
+   * @param databaseId DB 종류 (null 이면 databaseId 가 없는 기본 문장만 사용)
+   */
+  static Configuration workLogConfiguration(String databaseId) throws Exception {
+    Configuration configuration = new Configuration();
+    configuration.setDatabaseId(databaseId);
+    configuration.setMapUnderscoreToCamelCase(true);
+    configuration.getTypeHandlerRegistry().register(EpochMillisLocalDateTimeTypeHandler.class);
+    for (String location : List.of("mapper/worklog/WorkLogMapper.xml", "mapper/worklog/WorkLogCatalogMapper.xml")) {
+      ClassPathResource resource = new ClassPathResource(location);
+      try (InputStream inputStream = resource.getInputStream()) {
+        new XMLMapperBuilder(inputStream, configuration, resource.getPath(), configuration.getSqlFragments()).parse();
+      }
+    }
+    return configuration;
+  }
+
+  static PrecompiledSqlSource selectWorkLogListSource(Configuration configuration) {
+    return precompiledSource(configuration, SELECT_WORK_LOG_LIST);
+  }
+
+  static PrecompiledSqlSource precompiledSource(Configuration configuration, String statement) {
+    SqlSource sqlSource = configuration.getMappedStatement(statement).getSqlSource();
+    assertThat(sqlSource).isInstanceOf(PrecompiledSqlSource.class);
+    return (PrecompiledSqlSource) sqlSource;
+  }
+
+  private static List<String> properties(BoundSql boundSql) {
+    return boundSql.getParameterMappings().stream().map(ParameterMapping::getProperty).toList();
+  }
+}
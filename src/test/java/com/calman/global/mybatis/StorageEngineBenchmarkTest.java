@@ -0,0 +1,213 @@
+package com.calman.global.mybatis;
+
+import com.calman.domain.worklog.dto.WorkLogDTO;
+import com.calman.domain.worklog.dto.WorkLogQuery;
+import com.calman.domain.worklog.mapper.WorkLogCatalogMapper;
+import com.calman.domain.worklog.mapper.WorkLogMapper;
+import com.calman.global.config.SqliteProperties;
+import com.calman.global.id.TimeOrderedIdGenerator;
+import com.calman.global.sqlite.SqliteSchemaMigrator;
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.sqlite.SQLiteConfig.SynchronousMode;
+import org.sqlite.SQLiteDataSource;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 저장소 엔진별 읽기/쓰기 혼합 처리량 벤치마크 (SQLite vs 임베디드 H2)
+ * - 실행: ./gradlew test --tests '*StorageEngineBenchmarkTest' -Dbenchmark=true
+ * - 초기 행 수 조정: -Dbenchmark.rows=20000
+ *
+ * 두 엔진 모두 애플리케이션과 같은 매퍼 XML 을 databaseId 만 바꿔 사용한다.
+ * 스레드마다 하루 목록 조회 70%, 완료 상태 변경 20%, 새 작업 로그 등록 10% 를 섞어 실행하고 초당 처리 수를 비교한다.
+ * SQLite 는 애플리케이션과 같이 쓰기 풀(커넥션 1개)과 읽기 풀을 나누고 (synchronous=NORMAL),
+ * H2 는 MVCC 로 writer 가 동시에 커밋하므로 스레드 수만큼의 풀 하나를 사용한다.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class StorageEngineBenchmarkTest {
+
+  private static final int ROWS = Integer.getInteger("benchmark.rows", 20_000);
+  private static final int OPS_PER_THREAD = 2_000;
+  private static final int[] THREADS = {1, 4, 8};
+  private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 6, 0);
+  private static final int ROW_INTERVAL_MINUTES = 5;
+  private static final int DAYS = Math.max(1, ROWS * ROW_INTERVAL_MINUTES / (24 * 60));
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  @DisplayName("스레드 수별 SQLite/H2 읽기·쓰기 혼합 처리량 비교")
+  public void benchmarkMixedWorkload() throws Exception {
+    System.out.printf("[benchmark] rows=%d, days=%d, opsPerThread=%d (list 70%%, status 20%%, insert 10%%)%n",
+        ROWS, DAYS, OPS_PER_THREAD);
+    for (int threads : THREADS) {
+      double sqlite = runSqlite(threads);
+      double h2 = runH2(threads);
+      System.out.printf("[benchmark] threads=%d sqlite %,8.0f ops/s, h2 %,8.0f ops/s, x%.2f%n",
+          threads, sqlite, h2, h2 / sqlite);
+    }
+  }
+
+  private double runSqlite(int threads) throws Exception {
+    Path path = tempDir.resolve("sqlite-" + threads + ".sqlite");
+    SqliteProperties sqliteProperties = new SqliteProperties();
+    sqliteProperties.setSynchronous(SynchronousMode.NORMAL);
+
+    SQLiteDataSource setup = new SQLiteDataSource(sqliteProperties.toSQLiteConfig());
+    setup.setUrl("jdbc:sqlite:" + path);
+    new ResourceDatabasePopulator(new ClassPathResource("schema/worklogs.sql")).execute(setup);
+    new SqliteSchemaMigrator(setup).migrate(SqliteSchemaMigrator.MAIN_SCHEMA, SqliteSchemaMigrator.MAIN_LOCATION);
+
+    try (HikariDataSource writer = pool(setup, 1);
+         HikariDataSource reader = pool(setup, threads)) {
+      return run("sqlite", factory("sqlite", writer), factory("sqlite", reader), threads);
+    }
+  }
+
+  private double runH2(int threads) throws Exception {
+    HikariDataSource pool = new HikariDataSource();
+    pool.setJdbcUrl("jdbc:h2:file:" + tempDir.resolve("h2-" + threads)
+        + ";INIT=CREATE SCHEMA IF NOT EXISTS main\\;SET SCHEMA main;LOCK_TIMEOUT=10000");
+    pool.setMaximumPoolSize(threads);
+    try (pool) {
+      new ResourceDatabasePopulator(new ClassPathResource("schema/h2/worklogs.sql")).execute(pool);
+      SqlSessionFactory factory = factory("h2", pool);
+      return run("h2", factory, factory, threads);
+    }
+  }
+
+  private static double run(String engine, SqlSessionFactory writer, SqlSessionFactory reader, int threads)
+      throws Exception {
+    seed(writer);
+    TimeOrderedIdGenerator idGenerator = new TimeOrderedIdGenerator();
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      CountDownLatch start = new CountDownLatch(1);
+      List<Future<Integer>> futures = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          return work(writer, reader, idGenerator);
+        }));
+      }
+
+      long begin = System.nanoTime();
+      start.countDown();
+      int inserted = 0;
+      for (Future<Integer> future : futures) {
+        inserted += future.get();
+      }
+      double seconds = (System.nanoTime() - begin) / 1e9;
+
+      try (SqlSession session = reader.openSession()) {
+        WorkLogQuery all = WorkLogQuery.of(null, null, null, null, null, null, null, false);
+        assertThat(session.getMapper(WorkLogMapper.class).selectWorkLogList(all))
+            .as(engine).hasSize(ROWS + inserted);
+      }
+      return threads * OPS_PER_THREAD / seconds;
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  // 스레드 하나의 혼합 작업 (요청마다 세션/트랜잭션 하나), 등록한 행 수 반환
+  private static int work(SqlSessionFactory writer, SqlSessionFactory reader, TimeOrderedIdGenerator idGenerator) {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    int inserted = 0;
+    for (int i = 0; i < OPS_PER_THREAD; i++) {
+      int operation = random.nextInt(100);
+      if (operation < 70) {
+        LocalDateTime day = BASE.toLocalDate().plusDays(random.nextInt(DAYS)).atStartOfDay();
+        WorkLogQuery query = WorkLogQuery.of(null, null, null, day, day.plusDays(1).minusNanos(1_000_000),
+            "wl_work_datetime", "ASC", false);
+        try (SqlSession session = reader.openSession()) {
+          session.getMapper(WorkLogMapper.class).selectWorkLogList(query);
+        }
+      } else if (operation < 90) {
+        long id = 1 + random.nextInt(ROWS);
+        try (SqlSession session = writer.openSession()) {
+          session.getMapper(WorkLogMapper.class).updateWorkLogCompletionStatus(
+              id, random.nextBoolean() ? LocalDateTime.now() : null, null);
+          session.commit(true);
+        }
+      } else {
+        WorkLogDTO workLog = WorkLogDTO.builder()
+            .id(idGenerator.nextId())
+            .workDatetime(BASE.plusMinutes(random.nextInt(DAYS * 24 * 60)))
+            .carModelId(1L)
+            .productId(1L)
+            .quantity(1 + random.nextInt(10))
+            .build();
+        try (SqlSession session = writer.openSession()) {
+          session.getMapper(WorkLogMapper.class).insertWorkLog(workLog);
+          session.commit(true);
+        }
+        inserted++;
+      }
+    }
+    return inserted;
+  }
+
+  // 카탈로그와 초기 작업 로그 등록 (애플리케이션과 같은 매퍼 문장 사용)
+  private static void seed(SqlSessionFactory writer) {
+    try (SqlSession session = writer.openSession()) {
+      WorkLogCatalogMapper catalogMapper = session.getMapper(WorkLogCatalogMapper.class);
+      long carModelId = catalogMapper.upsertCarModel("ON 조립");
+      long productId = catalogMapper.upsertProduct("00001Q5000", "제품 1", "#FF0000");
+
+      WorkLogMapper workLogMapper = session.getMapper(WorkLogMapper.class);
+      List<WorkLogDTO> batch = new ArrayList<>();
+      for (int i = 0; i < ROWS; i++) {
+        batch.add(WorkLogDTO.builder()
+            .id(i + 1L)
+            .workDatetime(BASE.plusMinutes((long) i * ROW_INTERVAL_MINUTES))
+            .carModelId(carModelId)
+            .productId(productId)
+            .quantity(1 + i % 10)
+            .build());
+        if (batch.size() == 500 || i == ROWS - 1) {
+          workLogMapper.insertWorkLogs(batch);
+          batch.clear();
+        }
+      }
+      session.commit(true);
+    }
+  }
+
+  private static HikariDataSource pool(DataSource dataSource, int size) {
+    HikariDataSource pool = new HikariDataSource();
+    pool.setDataSource(dataSource);
+    pool.setMaximumPoolSize(size);
+    return pool;
+  }
+
+  private static SqlSessionFactory factory(String databaseId, DataSource dataSource) throws Exception {
+    Configuration configuration = PrecompiledSqlSourceTest.workLogConfiguration(databaseId);
+    configuration.setEnvironment(new Environment("benchmark", new JdbcTransactionFactory(), dataSource));
+    return new SqlSessionFactoryBuilder().build(configuration);
+  }
+}
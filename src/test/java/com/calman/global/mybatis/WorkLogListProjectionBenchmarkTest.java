@@ -0,0 +1,141 @@
+package com.calman.global.mybatis;
+
+import com.calman.domain.worklog.dto.WorkLogQuery;
+import com.calman.global.sqlite.SqliteSchemaMigrator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.sqlite.SQLiteDataSource;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 조회 결과 형식 벤치마크 (전체 컬럼 WorkLogDTO vs 목록 화면용 ListResponse)
+ * - 실행: ./gradlew test --tests '*WorkLogListProjectionBenchmarkTest' -Dbenchmark=true
+ *
+ * 같은 행(차종 하나, 작업 시간순)을 돌려주는 두 문장을 반복 조회해 행당 CPU 시간/할당량과 JSON 직렬화 크기를 비교한다.
+ * - 전체 컬럼: selectWorkLogsByCarModel, 목록 화면용: selectWorkLogList
+ * (카탈로그 이름 채우기는 두 형식이 같으므로 제외)
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class WorkLogListProjectionBenchmarkTest {
+
+  private static final int ROWS = 2_000;
+  private static final int WARMUP = 200;
+  private static final int CALLS = 1_000;
+  private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 6, 0);
+  private static final String CAR_MODEL = "ON 조립";
+  private static final String SELECT_WORK_LOGS_BY_CAR_MODEL =
+      "com.calman.domain.worklog.mapper.WorkLogMapper.selectWorkLogsByCarModel";
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  @DisplayName("전체 컬럼 조회와 목록 화면용 조회의 행당 비용과 JSON 크기 비교")
+  public void benchmarkListProjection() throws Exception {
+    SQLiteDataSource dataSource = new SQLiteDataSource();
+    dataSource.setUrl("jdbc:sqlite:" + tempDir.resolve("projection.sqlite"));
+    new ResourceDatabasePopulator(new ClassPathResource("schema/worklogs.sql")).execute(dataSource);
+    new SqliteSchemaMigrator(dataSource).migrate(SqliteSchemaMigrator.MAIN_SCHEMA, SqliteSchemaMigrator.MAIN_LOCATION);
+    insertRows(dataSource);
+
+    Configuration configuration = PrecompiledSqlSourceTest.workLogConfiguration();
+    configuration.setEnvironment(new Environment("benchmark", new JdbcTransactionFactory(), dataSource));
+    SqlSessionFactory factory = new SqlSessionFactoryBuilder().build(configuration);
+    ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    Map<String, Object> fullParams = Map.of("carModel", CAR_MODEL, "includeArchive", false);
+    WorkLogQuery query = WorkLogQuery.of(CAR_MODEL, null, null, null, null, "wl_work_datetime", "ASC", false);
+
+    try (SqlSession session = factory.openSession()) {
+      Result full = run(session, SELECT_WORK_LOGS_BY_CAR_MODEL, fullParams, objectMapper);
+      Result list = run(session, PrecompiledSqlSourceTest.SELECT_WORK_LOG_LIST, query, objectMapper);
+
+      System.out.printf("[benchmark] rows=%d, calls=%d%n", ROWS, CALLS);
+      for (Result result : new Result[] {full, list}) {
+        System.out.printf("[benchmark] %-24s cpu %,8.0f ns/row, alloc %,6.0f B/row, json %,5.1f B/row%n",
+            result.name, result.cpuNanosPerRow, result.bytesPerRow, result.jsonBytesPerRow);
+      }
+      System.out.printf("[benchmark] gain                     cpu x%.2f, alloc x%.2f, json x%.2f smaller%n",
+          full.cpuNanosPerRow / list.cpuNanosPerRow, full.bytesPerRow / list.bytesPerRow,
+          full.jsonBytesPerRow / list.jsonBytesPerRow);
+
+      assertThat(list.jsonBytesPerRow).isLessThan(full.jsonBytesPerRow);
+    }
+  }
+
+  private static Result run(SqlSession session, String statement, Object query, ObjectMapper objectMapper)
+      throws Exception {
+    com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    for (int i = 0; i < WARMUP; i++) {
+      session.selectList(statement, query);
+      session.clearCache();
+    }
+    long cpuStart = threads.getCurrentThreadCpuTime();
+    long bytesStart = threads.getCurrentThreadAllocatedBytes();
+    long rows = 0;
+    for (int i = 0; i < CALLS; i++) {
+      rows += session.selectList(statement, query).size();
+      session.clearCache();
+    }
+    long cpu = threads.getCurrentThreadCpuTime() - cpuStart;
+    long bytes = threads.getCurrentThreadAllocatedBytes() - bytesStart;
+
+    List<Object> workLogs = session.selectList(statement, query);
+    double jsonBytesPerRow = (double) objectMapper.writeValueAsBytes(workLogs).length / workLogs.size();
+    String name = statement.substring(statement.lastIndexOf('.') + 1);
+    return new Result(name, (double) cpu / rows, (double) bytes / rows, jsonBytesPerRow);
+  }
+
+  private static void insertRows(SQLiteDataSource dataSource) throws Exception {
+    try (Connection connection = dataSource.getConnection()) {
+      connection.setAutoCommit(false);
+      try (Statement statement = connection.createStatement()) {
+        statement.execute("INSERT INTO car_models (cm_name) VALUES ('" + CAR_MODEL + "')");
+        statement.execute("INSERT INTO products (pd_code, pd_name, pd_color) VALUES ('00001Q5000', '제품 1', '#FF0000')");
+      }
+      try (PreparedStatement ps = connection.prepareStatement("INSERT INTO work_logs (wl_id, wl_work_datetime,"
+          + " wl_car_model_id, wl_product_id, wl_quantity, wl_completed_at, wl_created_at) VALUES (?, ?, 1, 1, ?, ?, ?)")) {
+        long base = EpochMillisLocalDateTimeTypeHandler.toEpochMillis(BASE);
+        for (int i = 0; i < ROWS; i++) {
+          long workDatetime = base + i * 60_000L;
+          ps.setLong(1, i + 1);
+          ps.setLong(2, workDatetime);
+          ps.setInt(3, 1 + i % 10);
+          if (i % 3 == 0) {
+            ps.setNull(4, Types.BIGINT);
+          } else {
+            ps.setLong(4, workDatetime + 3_600_000L);
+          }
+          ps.setLong(5, workDatetime);
+          ps.addBatch();
+        }
+        ps.executeBatch();
+      }
+      connection.commit();
+    }
+  }
+
+  private record Result(String name, double cpuNanosPerRow, double bytesPerRow, double jsonBytesPerRow) {
+  }
+}
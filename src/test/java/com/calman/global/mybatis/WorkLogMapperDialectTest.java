@@ -0,0 +1,120 @@
+package com.calman.global.mybatis;
+
+import com.calman.domain.worklog.dto.WorkLogDTO;
+import com.calman.domain.worklog.dto.WorkLogQuery;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.type.JdbcType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DB 종류별 매퍼 문장 선택 테스트 (databaseId 가 없는 기본 문장은 SQLite, databaseId="h2" 문장은 H2)
+ */
+public class WorkLogMapperDialectTest {
+
+  private static final String WORK_LOG_MAPPER = "com.calman.domain.worklog.mapper.WorkLogMapper.";
+  private static final String CATALOG_MAPPER = "com.calman.domain.worklog.mapper.WorkLogCatalogMapper.";
+
+  @Test
+  @DisplayName("SQLite 는 변경 문장에 RETURNING 을 붙이고 카탈로그는 ON CONFLICT 로 등록")
+  public void testSqliteStatements() throws Exception {
+    // given
+    Configuration configuration = PrecompiledSqlSourceTest.workLogConfiguration("sqlite");
+
+    // then
+    assertThat(sql(configuration, WORK_LOG_MAPPER + "updateWorkLog", updateParams()))
+        .startsWith("UPDATE work_logs").contains("RETURNING").doesNotContain("FINAL TABLE");
+    assertThat(sql(configuration, WORK_LOG_MAPPER + "deleteWorkLogs", bulkParams()))
+        .startsWith("DELETE FROM work_logs").contains("RETURNING wl_id");
+    assertThat(sql(configuration, CATALOG_MAPPER + "upsertCarModel", Map.of("name", "ON 조립")))
+        .contains("ON CONFLICT (cm_name)", "RETURNING cm_id");
+  }
+
+  @Test
+  @DisplayName("H2 는 같은 변경 문장을 데이터 변경 델타 테이블로 감싸고 카탈로그는 MERGE 로 등록")
+  public void testH2Statements() throws Exception {
+    // given
+    Configuration configuration = PrecompiledSqlSourceTest.workLogConfiguration("h2");
+
+    // then
+    assertThat(sql(configuration, WORK_LOG_MAPPER + "updateWorkLog", updateParams()))
+        .startsWith("SELECT").contains("FROM FINAL TABLE (UPDATE work_logs").doesNotContain("RETURNING");
+    assertThat(sql(configuration, WORK_LOG_MAPPER + "updateWorkLogsCompletionStatus", bulkParams()))
+        .contains("FROM FINAL TABLE (UPDATE work_logs").doesNotContain("RETURNING");
+    assertThat(sql(configuration, WORK_LOG_MAPPER + "deleteWorkLogs", bulkParams()))
+        .contains("FROM OLD TABLE ( DELETE FROM work_logs").doesNotContain("RETURNING");
+    assertThat(sql(configuration, CATALOG_MAPPER + "upsertCarModel", Map.of("name", "ON 조립")))
+        .contains("MERGE INTO car_models (cm_name) KEY (cm_name)").doesNotContain("ON CONFLICT");
+  }
+
+  @Test
+  @DisplayName("DB 종류와 관계없는 조회 문장은 두 DB 가 같은 SQL 을 사용하고 LIKE 패턴은 바인딩 값")
+  public void testSharedStatements() throws Exception {
+    // given
+    Configuration sqlite = PrecompiledSqlSourceTest.workLogConfiguration("sqlite");
+    Configuration h2 = PrecompiledSqlSourceTest.workLogConfiguration("h2");
+    WorkLogQuery query = WorkLogQuery.of("ON", "Q5", null, null, null, "wl_car_model", "ASC", false);
+
+    // when
+    String sqliteSql = PrecompiledSqlSourceTest.precompiledSource(sqlite, PrecompiledSqlSourceTest.SELECT_WORK_LOG_LIST)
+        .getBoundSql(query).getSql();
+    String h2Sql = PrecompiledSqlSourceTest.precompiledSource(h2, PrecompiledSqlSourceTest.SELECT_WORK_LOG_LIST)
+        .getBoundSql(query).getSql();
+
+    // then
+    assertThat(h2Sql).isEqualTo(sqliteSql).doesNotContain("||");
+    assertThat(query.getCarModelPattern()).isEqualTo("%ON%");
+    assertThat(query.getProductCodePattern()).isEqualTo("%Q5%");
+  }
+
+  @Test
+  @DisplayName("일괄/단건 완료 상태 변경은 완료 시간 null 도 TIMESTAMP 로 바인딩")
+  public void testCompletedAtJdbcType() throws Exception {
+    for (String databaseId : List.of("sqlite", "h2")) {
+      // given
+      Configuration configuration = PrecompiledSqlSourceTest.workLogConfiguration(databaseId);
+      Map<String, Object> single = new HashMap<>();
+      single.put("id", 1L);
+      single.put("completedAt", null);
+      single.put("version", null);
+
+      // then
+      assertThat(completedAtJdbcType(configuration, "updateWorkLogsCompletionStatus", bulkParams()))
+          .isEqualTo(JdbcType.TIMESTAMP);
+      assertThat(completedAtJdbcType(configuration, "updateWorkLogCompletionStatus", single))
+          .isEqualTo(JdbcType.TIMESTAMP);
+    }
+  }
+
+  private static JdbcType completedAtJdbcType(Configuration configuration, String statement, Object parameter) {
+    return configuration.getMappedStatement(WORK_LOG_MAPPER + statement).getBoundSql(parameter)
+        .getParameterMappings().stream()
+        .filter(mapping -> mapping.getProperty().equals("completedAt"))
+        .findFirst()
+        .map(ParameterMapping::getJdbcType)
+        .orElse(null);
+  }
+
+  private static String sql(Configuration configuration, String statement, Object parameter) {
+    return configuration.getMappedStatement(statement).getBoundSql(parameter).getSql()
+        .replaceAll("\\s+", " ").trim();
+  }
+
+  private static WorkLogDTO updateParams() {
+    return WorkLogDTO.builder().id(1L).carModelId(1L).productId(1L).quantity(1).version(0).build();
+  }
+
+  private static Map<String, Object> bulkParams() {
+    Map<String, Object> params = new HashMap<>();
+    params.put("ids", List.of(1L, 2L));
+    params.put("completedAt", null);
+    return params;
+  }
+}
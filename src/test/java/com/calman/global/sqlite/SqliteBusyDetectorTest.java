@@ -0,0 +1,49 @@
+package com.calman.global.sqlite;
+
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.sqlite.SQLiteErrorCode;
+import org.sqlite.SQLiteException;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SQLITE_BUSY 판별 테스트
+ */
+public class SqliteBusyDetectorTest {
+
+  @Test
+  @DisplayName("감싸진 SQLITE_BUSY 예외 판별")
+  public void testWrappedBusy() {
+    // given
+    SQLiteException cause = new SQLiteException("[SQLITE_BUSY] database is locked", SQLiteErrorCode.SQLITE_BUSY);
+    RuntimeException wrapped = new UncategorizedSQLException("insertWorkLog", "INSERT", cause);
+
+    // when & then
+    assertThat(SqliteBusyDetector.isBusy(wrapped)).isTrue();
+    assertThat(SqliteBusyDetector.isBusy(new PersistenceException(wrapped))).isTrue();
+  }
+
+  @Test
+  @DisplayName("확장 코드(SQLITE_BUSY_SNAPSHOT, SQLITE_LOCKED_SHAREDCACHE) 판별")
+  public void testExtendedCodes() {
+    assertThat(SqliteBusyDetector.isBusy(
+        new SQLiteException("snapshot", SQLiteErrorCode.SQLITE_BUSY_SNAPSHOT))).isTrue();
+    assertThat(SqliteBusyDetector.isBusy(
+        new SQLiteException("shared cache", SQLiteErrorCode.SQLITE_LOCKED_SHAREDCACHE))).isTrue();
+  }
+
+  @Test
+  @DisplayName("잠금과 무관한 오류는 재시도 대상 아님")
+  public void testNonBusyErrors() {
+    assertThat(SqliteBusyDetector.isBusy(
+        new SQLiteException("constraint", SQLiteErrorCode.SQLITE_CONSTRAINT))).isFalse();
+    assertThat(SqliteBusyDetector.isBusy(new SQLException("syntax error"))).isFalse();
+    assertThat(SqliteBusyDetector.isBusy(new IllegalStateException())).isFalse();
+    assertThat(SqliteBusyDetector.isBusy(null)).isFalse();
+  }
+}
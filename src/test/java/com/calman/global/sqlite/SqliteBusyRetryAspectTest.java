@@ -0,0 +1,121 @@
+package com.calman.global.sqlite;
+
+import com.calman.global.config.SqliteProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.sqlite.SQLiteErrorCode;
+import org.sqlite.SQLiteException;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * SQLITE_BUSY 재시도 Aspect 테스트 (재시도 후 성공, 시도 횟수/시간 제한으로 포기, 재시도 대상이 아닌 호출)
+ */
+public class SqliteBusyRetryAspectTest {
+
+  private static final String METHOD = "SampleService.save";
+
+  private final SqliteProperties properties = new SqliteProperties();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final SqliteBusyRetryAspect aspect = new SqliteBusyRetryAspect(properties, meterRegistry);
+  private final ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+
+  @BeforeEach
+  public void setUp() {
+    properties.getRetry().setMaxAttempts(3);
+    properties.getRetry().setInitialBackoff(Duration.ofMillis(1));
+    properties.getRetry().setMaxBackoff(Duration.ofMillis(2));
+    properties.getRetry().setDeadline(Duration.ofSeconds(3));
+
+    Signature signature = mock(Signature.class);
+    when(signature.getDeclaringType()).thenReturn(SampleService.class);
+    when(signature.getName()).thenReturn("save");
+    when(joinPoint.getSignature()).thenReturn(signature);
+  }
+
+  @Test
+  @DisplayName("SQLITE_BUSY 로 실패한 호출은 트랜잭션 단위로 다시 실행해 결과 반환")
+  public void testRetryThenSucceed() throws Throwable {
+    // given
+    when(joinPoint.proceed()).thenThrow(busy(SQLiteErrorCode.SQLITE_BUSY), busy(SQLiteErrorCode.SQLITE_BUSY_SNAPSHOT))
+        .thenReturn("saved");
+
+    // when
+    Object result = aspect.retryOnBusy(joinPoint);
+
+    // then
+    assertThat(result).isEqualTo("saved");
+    verify(joinPoint, times(3)).proceed();
+    assertThat(meterRegistry.get("sqlite.busy.retries").tag("method", METHOD).counter().count()).isEqualTo(2);
+    assertThat(meterRegistry.find("sqlite.busy.exhausted").counter()).isNull();
+  }
+
+  @Test
+  @DisplayName("최대 시도 횟수까지 경합이 계속되면 CannotAcquireLockException 으로 포기")
+  public void testGiveUpAfterMaxAttempts() throws Throwable {
+    // given
+    RuntimeException busy = busy(SQLiteErrorCode.SQLITE_BUSY);
+    when(joinPoint.proceed()).thenThrow(busy);
+
+    // when, then
+    assertThatThrownBy(() -> aspect.retryOnBusy(joinPoint))
+        .isInstanceOf(CannotAcquireLockException.class)
+        .hasCause(busy);
+    verify(joinPoint, times(3)).proceed();
+    assertThat(meterRegistry.get("sqlite.busy.exhausted").tag("method", METHOD).counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("시간 제한이 지난 뒤의 경합은 재시도하지 않음 (busy_timeout 을 다 기다리고 실패한 호출)")
+  public void testGiveUpAtDeadline() throws Throwable {
+    // given
+    properties.getRetry().setDeadline(Duration.ZERO);
+    when(joinPoint.proceed()).thenThrow(busy(SQLiteErrorCode.SQLITE_BUSY));
+
+    // when, then
+    assertThatThrownBy(() -> aspect.retryOnBusy(joinPoint)).isInstanceOf(CannotAcquireLockException.class);
+    verify(joinPoint, times(1)).proceed();
+    assertThat(meterRegistry.find("sqlite.busy.retries").counter()).isNull();
+  }
+
+  @Test
+  @DisplayName("잠금과 무관한 오류와 바깥 트랜잭션에 참여하는 호출은 재시도하지 않음")
+  public void testNoRetry() throws Throwable {
+    // given
+    IllegalArgumentException invalid = new IllegalArgumentException("invalid");
+    when(joinPoint.proceed()).thenThrow(invalid, busy(SQLiteErrorCode.SQLITE_LOCKED));
+
+    // when, then
+    assertThatThrownBy(() -> aspect.retryOnBusy(joinPoint)).isSameAs(invalid);
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+    try {
+      assertThatThrownBy(() -> aspect.retryOnBusy(joinPoint)).isInstanceOf(UncategorizedSQLException.class);
+    } finally {
+      TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+    verify(joinPoint, times(2)).proceed();
+  }
+
+  // 매퍼 호출에서 드라이버 예외가 감싸진 형태
+  private static RuntimeException busy(SQLiteErrorCode code) {
+    return new UncategorizedSQLException("save", "UPDATE work_logs",
+        new SQLiteException("[" + code.name() + "] database is locked", code));
+  }
+
+  private static class SampleService {
+  }
+}
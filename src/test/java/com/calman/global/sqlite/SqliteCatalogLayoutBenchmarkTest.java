@@ -0,0 +1,231 @@
+package com.calman.global.sqlite;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.sqlite.SQLiteDataSource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 차종/제품 저장 형식 벤치마크 (행마다 텍스트 반복 vs 카탈로그 ID 참조)
+ * - 실행: ./gradlew test --tests '*SqliteCatalogLayoutBenchmarkTest' -Dbenchmark=true
+ * - 행 수 조정: -Dbenchmark.rows=10000000
+ *
+ * 같은 데이터를 두 형식으로 적재한 뒤 DB 파일 크기, 하루 단위 목록 조회, 차종 필터 조회,
+ * 차종 일괄 대상 조회 속도를 비교한다. 카탈로그 형식은 애플리케이션과 같이 ID 만 조회한 뒤
+ * 메모리의 카탈로그로 차종/제품 이름을 채운다 (WorkLogCatalogService.fill).
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class SqliteCatalogLayoutBenchmarkTest {
+
+  private static final int ROWS = Integer.getInteger("benchmark.rows", 1_000_000);
+  private static final int QUERIES = 500;
+  private static final long BASE = 1735711200000L;  // 2025-01-01 06:00
+  private static final long DAY = 86_400_000L;
+  private static final String[] CAR_MODELS =
+      {"ON SUB", "ON 조립", "MX5a-분리", "AR1 조립", "NX4 조립", "CN7 SUB", "JX1 조립", "SP3 분리"};
+  private static final String[] COLORS = {"#FF0000", "#0000FF", "#000000", "#FFFFFF", "#C0C0C0", "#808080",
+      "#00FF00", "#FFFF00", "#800000", "#000080", "#808000", "#008080"};
+
+  private static final String TEXT_SELECT = "SELECT wl_id, wl_work_datetime, wl_car_model, wl_product_color,"
+      + " wl_product_code, wl_product_name, wl_quantity, wl_completed_at, wl_created_at FROM work_logs";
+  private static final String CATALOG_SELECT = "SELECT wl_id, wl_work_datetime, wl_car_model_id, wl_product_id,"
+      + " wl_quantity, wl_completed_at, wl_created_at FROM work_logs";
+  private static final String DATE_FILTER = " WHERE wl_work_datetime >= ? AND wl_work_datetime <= ?";
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  @DisplayName("텍스트/카탈로그 형식의 DB 크기와 조회 속도 비교")
+  public void benchmarkCatalogLayout() throws Exception {
+    Result text = run("text", false);
+    Result catalog = run("catalog", true);
+
+    System.out.printf("[benchmark] rows=%d%n", ROWS);
+    for (Result result : new Result[] {text, catalog}) {
+      System.out.printf("[benchmark] %-7s db %,14d bytes, day %,8.0f q/s, carModel %,8.0f q/s, bulk %,8.1f q/s%n",
+          result.name, result.databaseBytes, result.dayPerSecond, result.carModelPerSecond, result.bulkPerSecond);
+    }
+    System.out.printf("[benchmark] gain    db x%.2f smaller, day x%.2f, carModel x%.2f, bulk x%.2f%n",
+        (double) text.databaseBytes / catalog.databaseBytes,
+        catalog.dayPerSecond / text.dayPerSecond,
+        catalog.carModelPerSecond / text.carModelPerSecond,
+        catalog.bulkPerSecond / text.bulkPerSecond);
+
+    assertThat(catalog.databaseBytes).isLessThan(text.databaseBytes);
+  }
+
+  private Result run(String name, boolean catalog) throws Exception {
+    Path file = tempDir.resolve(name + ".sqlite");
+    SQLiteDataSource dataSource = new SQLiteDataSource();
+    dataSource.setUrl("jdbc:sqlite:" + file);
+
+    new ResourceDatabasePopulator(new ClassPathResource("schema/worklogs.sql")).execute(dataSource);
+    if (catalog) {
+      new SqliteSchemaMigrator(dataSource).migrate(SqliteSchemaMigrator.MAIN_SCHEMA, SqliteSchemaMigrator.MAIN_LOCATION);
+    }
+
+    try (Connection connection = dataSource.getConnection()) {
+      if (catalog) {
+        insertCatalogRows(connection);
+      } else {
+        insertTextRows(connection);
+      }
+      try (Statement statement = connection.createStatement()) {
+        statement.execute("ANALYZE");
+      }
+
+      String select = (catalog ? CATALOG_SELECT : TEXT_SELECT) + DATE_FILTER;
+      String carModelFilter = catalog
+          ? " AND wl_car_model_id IN (SELECT cm_id FROM car_models WHERE cm_name LIKE '%' || ? || '%')"
+          : " AND wl_car_model LIKE '%' || ? || '%'";
+      double day = perSecond(connection, select + " ORDER BY wl_work_datetime", false, catalog);
+      double carModel = perSecond(connection, select + carModelFilter + " ORDER BY wl_work_datetime", true, catalog);
+
+      // 일괄 처리 대상 조건 (차종 정확히 일치)
+      String bulk = catalog
+          ? "SELECT COUNT(*) FROM work_logs WHERE wl_car_model_id IN (SELECT cm_id FROM car_models WHERE cm_name = ?)"
+          : "SELECT COUNT(*) FROM work_logs WHERE wl_car_model = ?";
+      long bulkStart = System.nanoTime();
+      try (PreparedStatement ps = connection.prepareStatement(bulk)) {
+        for (int i = 0; i < 4; i++) {
+          ps.setString(1, CAR_MODELS[i]);
+          try (ResultSet rs = ps.executeQuery()) {
+            rs.next();
+          }
+        }
+      }
+      double bulkPerSecond = 4 / ((System.nanoTime() - bulkStart) / 1e9);
+
+      return new Result(name, Files.size(file), day, carModel, bulkPerSecond);
+    }
+  }
+
+  private static double perSecond(Connection connection, String sql, boolean carModelFilter, boolean catalog)
+      throws SQLException {
+    int days = Math.max(1, ROWS / 1440);
+    String[] productNames = new String[COLORS.length * 300 + 1];
+    for (int id = 1; id < productNames.length; id++) {
+      productNames[id] = productName(id - 1);
+    }
+    long start = System.nanoTime();
+    try (PreparedStatement ps = connection.prepareStatement(sql)) {
+      for (int i = 0; i < QUERIES; i++) {
+        long from = BASE + (long) (i * 7919 % days) * DAY;
+        ps.setLong(1, from);
+        ps.setLong(2, from + DAY - 1);
+        if (carModelFilter) {
+          ps.setString(3, "조립");
+        }
+        try (ResultSet rs = ps.executeQuery()) {
+          while (rs.next()) {
+            // 카탈로그 형식은 메모리의 카탈로그에서 이름을 채움
+            String name = catalog ? CAR_MODELS[rs.getInt(3) - 1] + productNames[rs.getInt(4)] : rs.getString(3);
+            if (name.isEmpty()) {
+              throw new IllegalStateException();
+            }
+          }
+        }
+      }
+    }
+    return QUERIES / ((System.nanoTime() - start) / 1e9);
+  }
+
+  private static void insertTextRows(Connection connection) throws SQLException {
+    connection.setAutoCommit(false);
+    try (PreparedStatement ps = connection.prepareStatement(
+        "INSERT INTO work_logs (wl_work_datetime, wl_car_model, wl_product_color, wl_product_code,"
+            + " wl_product_name, wl_quantity, wl_completed_at, wl_created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)")) {
+      for (int i = 0; i < ROWS; i++) {
+        long workDatetime = BASE + i * 60_000L;
+        ps.setLong(1, workDatetime);
+        ps.setString(2, CAR_MODELS[i % CAR_MODELS.length]);
+        ps.setString(3, COLORS[i % COLORS.length]);
+        ps.setString(4, productCode(i));
+        ps.setString(5, productName(i));
+        ps.setInt(6, 1 + i % 10);
+        setCompletedAt(ps, 7, i, workDatetime);
+        ps.setLong(8, workDatetime);
+        addBatch(connection, ps, i);
+      }
+      ps.executeBatch();
+    }
+    connection.commit();
+    connection.setAutoCommit(true);
+  }
+
+  private static void insertCatalogRows(Connection connection) throws SQLException {
+    connection.setAutoCommit(false);
+    try (Statement statement = connection.createStatement()) {
+      for (String carModel : CAR_MODELS) {
+        statement.execute("INSERT INTO car_models (cm_name) VALUES ('" + carModel + "')");
+      }
+      // 제품 ID = 색상 순번 * 300 + 제품 순번 + 1
+      for (String color : COLORS) {
+        for (int p = 0; p < 300; p++) {
+          statement.execute("INSERT INTO products (pd_code, pd_name, pd_color) VALUES ('"
+              + productCode(p) + "', '" + productName(p) + "', '" + color + "')");
+        }
+      }
+    }
+    try (PreparedStatement ps = connection.prepareStatement(
+        "INSERT INTO work_logs (wl_work_datetime, wl_car_model_id, wl_product_id, wl_quantity, wl_completed_at,"
+            + " wl_created_at) VALUES (?, ?, ?, ?, ?, ?)")) {
+      for (int i = 0; i < ROWS; i++) {
+        long workDatetime = BASE + i * 60_000L;
+        ps.setLong(1, workDatetime);
+        ps.setLong(2, i % CAR_MODELS.length + 1);
+        ps.setLong(3, (long) (i % COLORS.length) * 300 + i % 300 + 1);
+        ps.setInt(4, 1 + i % 10);
+        setCompletedAt(ps, 5, i, workDatetime);
+        ps.setLong(6, workDatetime);
+        addBatch(connection, ps, i);
+      }
+      ps.executeBatch();
+    }
+    connection.commit();
+    connection.setAutoCommit(true);
+  }
+
+  private static void setCompletedAt(PreparedStatement ps, int index, int i, long workDatetime) throws SQLException {
+    if (i % 3 == 0) {
+      ps.setNull(index, Types.BIGINT);
+    } else {
+      ps.setLong(index, workDatetime + 3_600_000L);
+    }
+  }
+
+  private static void addBatch(Connection connection, PreparedStatement ps, int i) throws SQLException {
+    ps.addBatch();
+    if (i % 10_000 == 9_999) {
+      ps.executeBatch();
+      connection.commit();
+    }
+  }
+
+  private static String productCode(int i) {
+    return String.format("%05dQ5000", i % 300);
+  }
+
+  private static String productName(int i) {
+    return String.format("제품 이름 %03d 어셈블리", i % 300);
+  }
+
+  private record Result(String name, long databaseBytes, double dayPerSecond, double carModelPerSecond,
+      double bulkPerSecond) {
+  }
+}
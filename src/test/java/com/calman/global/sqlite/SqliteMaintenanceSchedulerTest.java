@@ -0,0 +1,208 @@
+package com.calman.global.sqlite;
+
+import com.calman.global.config.ShardingProperties;
+import com.calman.global.config.SqliteProperties;
+import com.calman.global.datasource.ShardDataSources;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SQLite 정기 유지보수 테스트
+ */
+public class SqliteMaintenanceSchedulerTest {
+
+  @TempDir
+  Path tempDir;
+
+  private String url;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    url = createDatabase("maintenance.sqlite", "INCREMENTAL");
+  }
+
+  @Test
+  @DisplayName("유지보수 실행 시 통계 갱신, 빈 페이지 반환, 무결성 검사 결과 기록")
+  public void testRunMaintenance() {
+    // given
+    SqliteMaintenanceScheduler scheduler = createScheduler(new SqliteProperties());
+
+    // when
+    Map<String, SqliteMaintenanceReport> reports = scheduler.runMaintenance();
+
+    // then
+    SqliteMaintenanceReport report = reports.get(ShardingProperties.MAIN_SHARD);
+    assertThat(reports).containsOnlyKeys(ShardingProperties.MAIN_SHARD);
+    assertThat(report.getAnalyze()).isEqualTo("ANALYZE");
+    assertThat(report.getPagesFreed()).isGreaterThan(0);
+    assertThat(report.getFreePagesRemaining()).isZero();
+    assertThat(report.getIntegrity()).isEqualTo("ok");
+    assertThat(report.isBudgetExhausted()).isFalse();
+    assertThat(scheduler.getLastReports()).isSameAs(reports);
+
+    // 두 번째 실행부터는 PRAGMA optimize 사용
+    assertThat(scheduler.runMaintenance().get(ShardingProperties.MAIN_SHARD).getAnalyze()).isEqualTo("OPTIMIZE");
+  }
+
+  @Test
+  @DisplayName("시간 제한을 넘기면 남은 단계를 건너뜀")
+  public void testTimeBudget() {
+    // given
+    SqliteProperties properties = new SqliteProperties();
+    properties.getMaintenance().setTimeBudget(Duration.ZERO);
+    SqliteMaintenanceScheduler scheduler = createScheduler(properties);
+
+    // when
+    SqliteMaintenanceReport report = scheduler.runMaintenance().get(ShardingProperties.MAIN_SHARD);
+
+    // then
+    assertThat(report.isBudgetExhausted()).isTrue();
+    assertThat(report.getAnalyze()).isEqualTo("SKIPPED");
+    assertThat(report.getIntegrity()).isEqualTo("skipped");
+    assertThat(report.getPagesFreed()).isZero();
+  }
+
+  @Test
+  @DisplayName("auto_vacuum 전환은 정기 실행에서 하지 않고 convert-auto-vacuum 을 켠 시작 시 단계에서만 실행")
+  public void testConvertAutoVacuum() throws Exception {
+    // given - auto_vacuum 없이 만든 기존 DB
+    url = createDatabase("legacy.sqlite", "NONE");
+    SqliteProperties properties = new SqliteProperties();
+    properties.getMaintenance().setConvertAutoVacuum(true);
+    SqliteMaintenanceScheduler scheduler = createScheduler(properties);
+
+    // when - 정기 실행
+    SqliteMaintenanceReport report = scheduler.runMaintenance().get(ShardingProperties.MAIN_SHARD);
+
+    // then - 전체 VACUUM 없이 빈 페이지를 그대로 둠
+    assertThat(report.getPagesFreed()).isZero();
+    assertThat(report.getFreePagesRemaining()).isGreaterThan(0);
+    assertThat(pragma("auto_vacuum")).isZero();
+
+    // when, then - 시작 시 단계에서 전환 (이미 전환했으면 다시 하지 않음)
+    assertThat(scheduler.convertAutoVacuum()).isEqualTo(1);
+    assertThat(pragma("auto_vacuum")).isEqualTo(2);
+    assertThat(pragma("freelist_count")).isZero();
+    assertThat(scheduler.convertAutoVacuum()).isZero();
+  }
+
+  @Test
+  @DisplayName("convert-auto-vacuum 을 켜지 않으면 시작 시에도 전환하지 않음")
+  public void testConvertAutoVacuumDisabled() throws Exception {
+    // given
+    url = createDatabase("legacy.sqlite", "NONE");
+    SqliteMaintenanceScheduler scheduler = createScheduler(new SqliteProperties());
+
+    // when, then
+    assertThat(scheduler.convertAutoVacuum()).isZero();
+    assertThat(pragma("auto_vacuum")).isZero();
+  }
+
+  @Test
+  @DisplayName("샤드 사용 시 기본 DB 와 샤드 DB 파일마다 유지보수 실행")
+  public void testRunMaintenanceOnShards() throws Exception {
+    // given
+    String shardUrl = createDatabase("line-a.sqlite", "INCREMENTAL");
+    ShardingProperties shardingProperties = new ShardingProperties();
+    shardingProperties.setEnabled(true);
+    ShardingProperties.Shard shard = new ShardingProperties.Shard();
+    shard.setPath(tempDir.resolve("line-a.sqlite").toString());
+    shardingProperties.getShards().put("line-a", shard);
+
+    HikariDataSource shardWriter = writerDataSource(shardUrl);
+    ShardDataSources shardDataSources = new ShardDataSources();
+    shardDataSources.add("line-a", shardWriter, shardWriter, writerDataSource(shardUrl));
+
+    SqliteMaintenanceScheduler scheduler = new SqliteMaintenanceScheduler(dataSourceProperties(),
+        new SqliteProperties(), shardingProperties, writerDataSource(url), shardDataSources, new SimpleMeterRegistry());
+
+    // when
+    Map<String, SqliteMaintenanceReport> reports = scheduler.runMaintenance();
+
+    // then
+    assertThat(reports).containsOnlyKeys(ShardingProperties.MAIN_SHARD, "line-a");
+    assertThat(reports.values()).allSatisfy(report -> {
+      assertThat(report.getAnalyze()).isEqualTo("ANALYZE");
+      assertThat(report.getPagesFreed()).isGreaterThan(0);
+      assertThat(report.getIntegrity()).isEqualTo("ok");
+    });
+  }
+
+  // 작업 로그를 채운 뒤 절반을 삭제해 빈 페이지가 있는 DB 생성
+  private String createDatabase(String fileName, String autoVacuum) throws SQLException {
+    String databaseUrl = "jdbc:sqlite:" + tempDir.resolve(fileName);
+
+    try (Connection connection = DriverManager.getConnection(databaseUrl);
+        Statement statement = connection.createStatement()) {
+      // 테이블 생성 전에 설정해야 적용됨
+      statement.execute("PRAGMA auto_vacuum = " + autoVacuum);
+      statement.execute("PRAGMA journal_mode = WAL");
+      statement.execute("CREATE TABLE work_logs (wl_id INTEGER PRIMARY KEY, wl_work_datetime INTEGER NOT NULL, "
+          + "wl_car_model_id INTEGER NOT NULL, wl_memo TEXT NULL, wl_completed_at INTEGER NULL)");
+      statement.execute("CREATE INDEX idx_wl_work_datetime ON work_logs (wl_work_datetime)");
+      statement.execute("CREATE INDEX idx_wl_car_model ON work_logs (wl_car_model_id)");
+
+      connection.setAutoCommit(false);
+      try (PreparedStatement insert = connection.prepareStatement(
+          "INSERT INTO work_logs (wl_work_datetime, wl_car_model_id, wl_memo) VALUES (?, ?, ?)")) {
+        for (int i = 0; i < 5000; i++) {
+          insert.setLong(1, 1704096000000L + (i % 28) * 86_400_000L);
+          insert.setInt(2, i % 7);
+          insert.setString(3, "x".repeat(100));
+          insert.addBatch();
+        }
+        insert.executeBatch();
+      }
+      connection.commit();
+
+      // 대량 삭제로 빈 페이지 생성
+      statement.execute("DELETE FROM work_logs WHERE wl_id % 2 = 0");
+      connection.commit();
+    }
+    return databaseUrl;
+  }
+
+  private long pragma(String name) throws SQLException {
+    try (Connection connection = DriverManager.getConnection(url);
+        Statement statement = connection.createStatement();
+        ResultSet rs = statement.executeQuery("PRAGMA " + name)) {
+      rs.next();
+      return rs.getLong(1);
+    }
+  }
+
+  private SqliteMaintenanceScheduler createScheduler(SqliteProperties properties) {
+    return new SqliteMaintenanceScheduler(dataSourceProperties(), properties, new ShardingProperties(),
+        writerDataSource(url), new ShardDataSources(), new SimpleMeterRegistry());
+  }
+
+  private DataSourceProperties dataSourceProperties() {
+    DataSourceProperties dataSourceProperties = new DataSourceProperties();
+    dataSourceProperties.setUrl(url);
+    return dataSourceProperties;
+  }
+
+  // 풀을 시작하지 않은 쓰기 데이터소스 (사용 중인 커넥션 없음)
+  private static HikariDataSource writerDataSource(String jdbcUrl) {
+    HikariDataSource writerDataSource = new HikariDataSource();
+    writerDataSource.setJdbcUrl(jdbcUrl);
+    return writerDataSource;
+  }
+}
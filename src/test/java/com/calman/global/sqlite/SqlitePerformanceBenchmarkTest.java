@@ -0,0 +1,132 @@
+package com.calman.global.sqlite;
+
+import com.calman.global.config.SqliteProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.sqlite.SQLiteConfig.JournalMode;
+import org.sqlite.SQLiteConfig.SynchronousMode;
+import org.sqlite.SQLiteConfig.TempStore;
+import org.sqlite.SQLiteDataSource;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SQLite 성능 프로파일 벤치마크 (기본 드라이버 설정 vs 운영 프리셋)
+ * - 실행: ./gradlew test --tests '*SqlitePerformanceBenchmarkTest' -Dbenchmark=true
+ * - 행 수 조정: -Dbenchmark.rows=20000
+ *
+ * 단건 INSERT 를 각각 커밋(createWorkLog 와 동일한 패턴)한 뒤
+ * 하루 단위 날짜 범위 조회를 반복하여 초당 처리량을 비교한다.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class SqlitePerformanceBenchmarkTest {
+
+  private static final int ROWS = Integer.getInteger("benchmark.rows", 5000);
+  private static final int QUERIES = 2000;
+  private static final DateTimeFormatter DATETIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  @DisplayName("운영 프리셋 INSERT/조회 처리량 비교")
+  public void benchmarkProdPreset() throws Exception {
+    Result baseline = run("baseline", driverDefaults());
+    Result prod = run("prod", prodPreset());
+
+    System.out.printf("[benchmark] rows=%d%n", ROWS);
+    System.out.printf("[benchmark] %-8s insert %,10.0f rows/s, query %,10.0f queries/s%n",
+        baseline.name, baseline.insertsPerSecond, baseline.queriesPerSecond);
+    System.out.printf("[benchmark] %-8s insert %,10.0f rows/s, query %,10.0f queries/s%n",
+        prod.name, prod.insertsPerSecond, prod.queriesPerSecond);
+    System.out.printf("[benchmark] gain     insert x%.2f, query x%.2f%n",
+        prod.insertsPerSecond / baseline.insertsPerSecond,
+        prod.queriesPerSecond / baseline.queriesPerSecond);
+
+    assertThat(prod.insertsPerSecond).isPositive();
+    assertThat(prod.queriesPerSecond).isPositive();
+  }
+
+  // sqlite-jdbc 기본값에 해당하는 설정 (rollback journal, synchronous=FULL, 작은 캐시, mmap 없음)
+  private SqliteProperties driverDefaults() {
+    SqliteProperties properties = new SqliteProperties();
+    properties.setJournalMode(JournalMode.DELETE);
+    properties.setSynchronous(SynchronousMode.FULL);
+    properties.setCacheSize(-2000);
+    properties.setMmapSize(0);
+    properties.setTempStore(TempStore.DEFAULT);
+    return properties;
+  }
+
+  // application.yml 의 prod 프리셋과 동일한 값
+  private SqliteProperties prodPreset() {
+    SqliteProperties properties = new SqliteProperties();
+    properties.setJournalMode(JournalMode.WAL);
+    properties.setSynchronous(SynchronousMode.NORMAL);
+    properties.setCacheSize(-65536);
+    properties.setMmapSize(268435456L);
+    properties.setTempStore(TempStore.MEMORY);
+    return properties;
+  }
+
+  private Result run(String name, SqliteProperties properties) throws Exception {
+    SQLiteDataSource dataSource = new SQLiteDataSource(properties.toSQLiteConfig());
+    dataSource.setUrl("jdbc:sqlite:" + tempDir.resolve(name + ".sqlite"));
+
+    try (Connection connection = dataSource.getConnection()) {
+      ScriptUtils.executeSqlScript(connection, new ClassPathResource("schema/worklogs.sql"));
+
+      LocalDateTime base = LocalDateTime.of(2025, 1, 1, 6, 0);
+
+      long insertStart = System.nanoTime();
+      try (PreparedStatement ps = connection.prepareStatement(
+          "INSERT INTO work_logs (wl_work_datetime, wl_car_model, wl_product_color, wl_product_code,"
+              + " wl_product_name, wl_quantity) VALUES (?, ?, ?, ?, ?, ?)")) {
+        for (int i = 0; i < ROWS; i++) {
+          ps.setString(1, base.plusMinutes(i * 7L).format(DATETIME));
+          ps.setString(2, "LINE-" + (i % 4));
+          ps.setString(3, "C" + (i % 12));
+          ps.setString(4, "PC-" + (i % 300));
+          ps.setString(5, "PRODUCT-" + (i % 300));
+          ps.setInt(6, 1 + i % 10);
+          ps.executeUpdate(); // 자동 커밋: 행마다 트랜잭션
+        }
+      }
+      double insertSeconds = (System.nanoTime() - insertStart) / 1e9;
+
+      int days = Math.max(1, ROWS * 7 / (60 * 24));
+      long queryStart = System.nanoTime();
+      try (PreparedStatement ps = connection.prepareStatement(
+          "SELECT wl_id, wl_work_datetime, wl_car_model, wl_quantity FROM work_logs"
+              + " WHERE wl_work_datetime >= ? AND wl_work_datetime <= ? ORDER BY wl_work_datetime")) {
+        for (int i = 0; i < QUERIES; i++) {
+          LocalDateTime day = base.plusDays(i % days).toLocalDate().atStartOfDay();
+          ps.setString(1, day.format(DATETIME));
+          ps.setString(2, day.plusDays(1).minusSeconds(1).format(DATETIME));
+          try (ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+              rs.getLong(1);
+            }
+          }
+        }
+      }
+      double querySeconds = (System.nanoTime() - queryStart) / 1e9;
+
+      return new Result(name, ROWS / insertSeconds, QUERIES / querySeconds);
+    }
+  }
+
+  private record Result(String name, double insertsPerSecond, double queriesPerSecond) {
+  }
+}
@@ -0,0 +1,97 @@
+package com.calman.global.sqlite;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.sqlite.SQLiteDataSource;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PRAGMA user_version 기반 스키마 마이그레이션 테스트
+ */
+public class SqliteSchemaMigratorTest {
+
+  @TempDir
+  Path tempDir;
+
+  private SQLiteDataSource dataSource;
+  private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  public void setUp() {
+    dataSource = new SQLiteDataSource();
+    dataSource.setUrl("jdbc:sqlite:" + tempDir.resolve("migration.sqlite"));
+    jdbcTemplate = new JdbcTemplate(dataSource);
+
+    // 최초 스키마 (버전 0)
+    new ResourceDatabasePopulator(new ClassPathResource("schema/worklogs.sql")).execute(dataSource);
+  }
+
+  @Test
+  @DisplayName("최초 스키마에 마이그레이션을 순서대로 적용하고 user_version 갱신")
+  public void testMigrate() {
+    // given
+    SqliteSchemaMigrator migrator = new SqliteSchemaMigrator(dataSource);
+
+    // when
+    int version = migrator.migrate(SqliteSchemaMigrator.MAIN_SCHEMA, SqliteSchemaMigrator.MAIN_LOCATION);
+
+    // then
+    assertThat(version).isGreaterThanOrEqualTo(1);
+    assertThat(jdbcTemplate.queryForObject("PRAGMA user_version", Integer.class)).isEqualTo(version);
+    List<String> columns = jdbcTemplate.queryForList("SELECT name FROM pragma_table_info('work_logs')", String.class);
+    assertThat(columns).contains("wl_version");
+    assertThat(jdbcTemplate.queryForObject(
+        "SELECT type FROM pragma_table_info('work_logs') WHERE name = 'wl_work_datetime'", String.class))
+        .isEqualTo("INTEGER");
+    // ID 는 애플리케이션에서 발급하므로 AUTOINCREMENT 를 사용하지 않음
+    assertThat(jdbcTemplate.queryForObject(
+        "SELECT sql FROM sqlite_master WHERE type = 'table' AND name = 'work_logs'", String.class))
+        .doesNotContain("AUTOINCREMENT");
+  }
+
+  @Test
+  @DisplayName("기존 차종/제품 텍스트를 카탈로그 ID 로 옮기고 같은 값은 하나의 항목으로 저장")
+  public void testMigrateToCatalog() {
+    // given
+    jdbcTemplate.update("INSERT INTO work_logs (wl_work_datetime, wl_car_model, wl_product_color, wl_product_code,"
+        + " wl_product_name, wl_quantity) VALUES ('2025-03-15 09:30:00', 'ON SUB', '#FF0000', 'P1', '범퍼', 5),"
+        + " ('2025-03-15 10:30:00', 'ON SUB', '#FF0000', 'P1', '범퍼', 3),"
+        + " ('2025-03-16 09:30:00', 'NX4', '#000000', 'P1', '범퍼', 1)");
+    SqliteSchemaMigrator migrator = new SqliteSchemaMigrator(dataSource);
+
+    // when
+    migrator.migrate(SqliteSchemaMigrator.MAIN_SCHEMA, SqliteSchemaMigrator.MAIN_LOCATION);
+
+    // then
+    assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM car_models", Integer.class)).isEqualTo(2);
+    assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products", Integer.class)).isEqualTo(2);
+    List<String> rows = jdbcTemplate.queryForList(
+        "SELECT cm.cm_name || '/' || pd.pd_code || '/' || pd.pd_color || '/' || wl.wl_quantity FROM work_logs wl"
+            + " JOIN car_models cm ON cm.cm_id = wl.wl_car_model_id JOIN products pd ON pd.pd_id = wl.wl_product_id"
+            + " ORDER BY wl.wl_id", String.class);
+    assertThat(rows).containsExactly("ON SUB/P1/#FF0000/5", "ON SUB/P1/#FF0000/3", "NX4/P1/#000000/1");
+  }
+
+  @Test
+  @DisplayName("이미 적용된 마이그레이션은 다시 실행하지 않음")
+  public void testMigrateIsIdempotent() {
+    // given
+    SqliteSchemaMigrator migrator = new SqliteSchemaMigrator(dataSource);
+    int first = migrator.migrate(SqliteSchemaMigrator.MAIN_SCHEMA, SqliteSchemaMigrator.MAIN_LOCATION);
+
+    // when
+    int second = migrator.migrate(SqliteSchemaMigrator.MAIN_SCHEMA, SqliteSchemaMigrator.MAIN_LOCATION);
+
+    // then
+    assertThat(second).isEqualTo(first);
+  }
+}
@@ -0,0 +1,176 @@
+package com.calman.global.sqlite;
+
+import com.calman.global.mybatis.EpochMillisLocalDateTimeTypeHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.sqlite.SQLiteDataSource;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 작업시간 저장 형식 벤치마크 (DATETIME 텍스트 vs INTEGER epoch millis)
+ * - 실행: ./gradlew test --tests '*SqliteTimestampLayoutBenchmarkTest' -Dbenchmark=true
+ * - 행 수 조정: -Dbenchmark.rows=200000
+ *
+ * 같은 데이터를 두 형식으로 적재한 뒤 작업시간 인덱스 크기, 하루 단위 범위 조회 속도,
+ * 결과 행을 LocalDateTime 으로 변환하는 비용을 비교한다.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class SqliteTimestampLayoutBenchmarkTest {
+
+  private static final int ROWS = Integer.getInteger("benchmark.rows", 50000);
+  private static final int QUERIES = 2000;
+  private static final DateTimeFormatter DATETIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+  private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 6, 0);
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  @DisplayName("텍스트/정수 작업시간의 인덱스 크기와 조회/변환 속도 비교")
+  public void benchmarkTimestampLayout() throws Exception {
+    Result text = run("text", false);
+    Result epoch = run("epoch", true);
+
+    System.out.printf("[benchmark] rows=%d%n", ROWS);
+    for (Result result : new Result[] {text, epoch}) {
+      System.out.printf("[benchmark] %-6s index %,10d bytes, db %,10d bytes, range %,10.0f queries/s, "
+              + "mapping %,12.0f rows/s%n",
+          result.name, result.indexBytes, result.databaseBytes, result.queriesPerSecond, result.rowsMappedPerSecond);
+    }
+    System.out.printf("[benchmark] gain   index x%.2f smaller, range x%.2f, mapping x%.2f%n",
+        (double) text.indexBytes / epoch.indexBytes,
+        epoch.queriesPerSecond / text.queriesPerSecond,
+        epoch.rowsMappedPerSecond / text.rowsMappedPerSecond);
+
+    assertThat(epoch.indexBytes).isPositive();
+    assertThat(epoch.queriesPerSecond).isPositive();
+  }
+
+  private Result run(String name, boolean epochMillis) throws Exception {
+    SQLiteDataSource dataSource = new SQLiteDataSource();
+    dataSource.setUrl("jdbc:sqlite:" + tempDir.resolve(name + ".sqlite"));
+
+    if (epochMillis) {
+      new ResourceDatabasePopulator(new ClassPathResource("schema/worklogs.sql")).execute(dataSource);
+      new SqliteSchemaMigrator(dataSource).migrate(SqliteSchemaMigrator.MAIN_SCHEMA, SqliteSchemaMigrator.MAIN_LOCATION);
+    }
+
+    try (Connection connection = dataSource.getConnection()) {
+      if (!epochMillis) {
+        ScriptUtils.executeSqlScript(connection, new ClassPathResource("schema/worklogs.sql"));
+      }
+      insertRows(connection, epochMillis);
+
+      int days = Math.max(1, ROWS * 7 / (60 * 24));
+      long queryStart = System.nanoTime();
+      try (PreparedStatement ps = connection.prepareStatement(
+          "SELECT wl_id FROM work_logs WHERE wl_work_datetime >= ? AND wl_work_datetime <= ?"
+              + " ORDER BY wl_work_datetime")) {
+        for (int i = 0; i < QUERIES; i++) {
+          LocalDateTime day = BASE.plusDays(i % days).toLocalDate().atStartOfDay();
+          bind(ps, 1, day, epochMillis);
+          bind(ps, 2, day.plusDays(1).minusSeconds(1), epochMillis);
+          try (ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+              rs.getLong(1);
+            }
+          }
+        }
+      }
+      double querySeconds = (System.nanoTime() - queryStart) / 1e9;
+
+      // 결과 매핑 비용: 전체 행의 작업시간/생성일을 LocalDateTime 으로 변환
+      long mapped = 0;
+      long mapStart = System.nanoTime();
+      try (Statement statement = connection.createStatement();
+          ResultSet rs = statement.executeQuery("SELECT wl_work_datetime, wl_created_at FROM work_logs")) {
+        while (rs.next()) {
+          for (int column = 1; column <= 2; column++) {
+            LocalDateTime value = epochMillis
+                ? EpochMillisLocalDateTimeTypeHandler.fromEpochMillis(rs.getLong(column))
+                : LocalDateTime.parse(rs.getString(column), DATETIME);
+            mapped += value.getMinute() >= 0 ? 1 : 0;
+          }
+        }
+      }
+      double mapSeconds = (System.nanoTime() - mapStart) / 1e9;
+
+      long databaseBytes = databaseBytes(connection);
+      return new Result(name, indexBytes(connection), databaseBytes, QUERIES / querySeconds, mapped / mapSeconds);
+    }
+  }
+
+  private static void insertRows(Connection connection, boolean epochMillis) throws SQLException {
+    connection.setAutoCommit(false);
+    try (PreparedStatement ps = connection.prepareStatement(
+        "INSERT INTO work_logs (wl_work_datetime, wl_car_model, wl_product_color, wl_product_code,"
+            + " wl_product_name, wl_quantity) VALUES (?, ?, ?, ?, ?, ?)")) {
+      for (int i = 0; i < ROWS; i++) {
+        bind(ps, 1, BASE.plusMinutes(i * 7L), epochMillis);
+        ps.setString(2, "LINE-" + (i % 4));
+        ps.setString(3, "C" + (i % 12));
+        ps.setString(4, "PC-" + (i % 300));
+        ps.setString(5, "PRODUCT-" + (i % 300));
+        ps.setInt(6, 1 + i % 10);
+        ps.addBatch();
+      }
+      ps.executeBatch();
+    }
+    connection.commit();
+    connection.setAutoCommit(true);
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("VACUUM");
+    }
+  }
+
+  private static void bind(PreparedStatement ps, int index, LocalDateTime value, boolean epochMillis)
+      throws SQLException {
+    if (epochMillis) {
+      ps.setLong(index, EpochMillisLocalDateTimeTypeHandler.toEpochMillis(value));
+    } else {
+      ps.setString(index, value.format(DATETIME));
+    }
+  }
+
+  // dbstat 가상 테이블이 없는 빌드에서는 인덱스를 삭제해 줄어든 페이지 수로 추정
+  private static long indexBytes(Connection connection) throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      try (ResultSet rs = statement.executeQuery(
+          "SELECT SUM(pgsize) FROM dbstat WHERE name = 'idx_wl_work_datetime'")) {
+        return rs.next() ? rs.getLong(1) : 0;
+      } catch (SQLException e) {
+        long before = databaseBytes(connection);
+        statement.execute("DROP INDEX idx_wl_work_datetime");
+        statement.execute("VACUUM");
+        return before - databaseBytes(connection);
+      }
+    }
+  }
+
+  private static long databaseBytes(Connection connection) throws SQLException {
+    try (Statement statement = connection.createStatement();
+        ResultSet rs = statement.executeQuery(
+            "SELECT page_count * page_size FROM pragma_page_count(), pragma_page_size()")) {
+      return rs.next() ? rs.getLong(1) : 0;
+    }
+  }
+
+  private record Result(String name, long indexBytes, long databaseBytes,
+      double queriesPerSecond, double rowsMappedPerSecond) {
+  }
+}